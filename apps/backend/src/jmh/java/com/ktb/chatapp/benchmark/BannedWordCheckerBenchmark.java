@@ -0,0 +1,67 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.util.BannedWordChecker;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 메시지마다 호출되는 금칙어 검사. 사전 크기와 메시지 길이에 비례하는지 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BannedWordCheckerBenchmark {
+
+    @Param({"10000"})
+    int dictionarySize;
+
+    @Param({"80", "400"})
+    int messageLength;
+
+    private BannedWordChecker checker;
+    private List<String> cleanMessages;
+    private String dirtyMessage;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkFixtures.random();
+        Set<String> dictionary = BenchmarkFixtures.bannedWordDictionary(random, dictionarySize);
+        checker = new BannedWordChecker(dictionary);
+
+        cleanMessages = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            cleanMessages.add(BenchmarkFixtures.koreanMessage(random, messageLength));
+        }
+        String banned = new ArrayList<>(dictionary).get(dictionarySize / 2);
+        dirtyMessage = BenchmarkFixtures.koreanMessage(random, messageLength) + " " + banned;
+    }
+
+    /** 대부분의 메시지: 사전 전체를 훑고 통과 */
+    @Benchmark
+    public boolean cleanMessage() {
+        return checker.containsBannedWord(cleanMessages.get(cursor++ & 63));
+    }
+
+    @Benchmark
+    public boolean dirtyMessage() {
+        return checker.containsBannedWord(dirtyMessage);
+    }
+}
@@ -0,0 +1,134 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.FileRepository;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 벤치마크 공용 픽스처. 실행마다 같은 데이터가 나오도록 시드를 고정한다.
+ */
+final class BenchmarkFixtures {
+
+    private static final String[] WORDS = {
+            "오늘", "회의", "자료", "공유", "드립니다", "확인", "부탁드려요", "배포", "일정", "내일",
+            "오전", "오후", "점심", "같이", "드실", "분", "계신가요", "서버", "로그", "에러",
+            "났어요", "고쳤습니다", "리뷰", "해주세요", "감사합니다", "프로젝트", "진행", "상황", "정리", "했어요",
+            "이번", "주", "금요일", "까지", "마감", "입니다", "질문", "있어요", "답변", "기다릴게요"
+    };
+
+    private BenchmarkFixtures() {
+    }
+
+    static Random random() {
+        return new Random(42);
+    }
+
+    /**
+     * 실제 채팅처럼 짧은 한국어 문장. 가끔 숫자와 영문이 섞인다.
+     */
+    static String koreanMessage(Random random, int minLength) {
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < minLength) {
+            if (!builder.isEmpty()) {
+                builder.append(' ');
+            }
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+            if (random.nextInt(10) == 0) {
+                builder.append(random.nextBoolean() ? " v2.3.1" : " PR#" + random.nextInt(1000));
+            }
+        }
+        return builder.append(random.nextBoolean() ? "." : "?").toString();
+    }
+
+    /**
+     * 무작위 음절로 만든 2~4음절 한글 단어 size개. 일반 대화에 우연히 나올 일은 거의 없다.
+     */
+    static Set<String> bannedWordDictionary(Random random, int size) {
+        Set<String> words = new LinkedHashSet<>();
+        while (words.size() < size) {
+            int syllables = 2 + random.nextInt(3);
+            StringBuilder word = new StringBuilder();
+            for (int i = 0; i < syllables; i++) {
+                word.append((char) (0xC000 + random.nextInt(0xD7A3 - 0xC000)));
+            }
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    static Message message(Random random, String roomId, int readerCount) {
+        Message message = Message.builder()
+                .id(hexId(random))
+                .roomId(roomId)
+                .senderId(hexId(random))
+                .type(MessageType.text)
+                .content(koreanMessage(random, 80))
+                .timestamp(LocalDateTime.of(2025, 11, 7, 13, 45, 30))
+                .seq((long) random.nextInt(100_000))
+                .build();
+        Map<String, Set<String>> reactions = new HashMap<>();
+        reactions.put("👍", new LinkedHashSet<>(List.of(hexId(random), hexId(random), hexId(random))));
+        reactions.put("🎉", new LinkedHashSet<>(List.of(hexId(random))));
+        message.setReactions(reactions);
+        List<Message.MessageReader> readers = new ArrayList<>(readerCount);
+        for (int i = 0; i < readerCount; i++) {
+            readers.add(new Message.MessageReader(hexId(random), LocalDateTime.of(2025, 11, 7, 13, 46, i % 60)));
+        }
+        message.setReaders(readers);
+        return message;
+    }
+
+    static Message fileMessage(Random random, String roomId, File file) {
+        Message message = message(random, roomId, 0);
+        message.setType(MessageType.file);
+        message.setFileId(file.getId());
+        message.setMetadata(new HashMap<>(Map.of(
+                "fileType", file.getMimetype(),
+                "fileSize", file.getSize(),
+                "originalName", file.getOriginalname())));
+        return message;
+    }
+
+    static File file(Random random) {
+        return File.builder()
+                .id(hexId(random))
+                .filename("1699364730000_" + hexId(random) + ".png")
+                .originalname("회의록_스크린샷.png")
+                .mimetype("image/png")
+                .size(348_211)
+                .path("uploads/ab/cd/1699364730000.png")
+                .user(hexId(random))
+                .uploadDate(LocalDateTime.of(2025, 11, 7, 13, 40))
+                .build();
+    }
+
+    /**
+     * findById만 답하는 FileRepository. 목 프레임워크의 호출 기록 비용이 측정에 섞이지 않게 한다.
+     */
+    static FileRepository fileRepository(File file) {
+        return (FileRepository) Proxy.newProxyInstance(
+                FileRepository.class.getClassLoader(),
+                new Class<?>[]{FileRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return file != null && file.getId().equals(args[0]) ? Optional.of(file) : Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    static String hexId(Random random) {
+        return String.format("%08x%08x%08x", random.nextInt(), random.nextInt(), random.nextInt());
+    }
+}
@@ -0,0 +1,60 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.websocket.socketio.ai.ChunkData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * AI 스트리밍 토큰마다 실행되는 코드 블록 상태 추적. 한 응답(토큰 청크 여러 개)을 한 번의 연산으로 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChunkDataBenchmark {
+
+    private List<String> chunks;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkFixtures.random();
+        StringBuilder response = new StringBuilder();
+        for (int i = 0; i < 4; i++) {
+            response.append(BenchmarkFixtures.koreanMessage(random, 200)).append("\n\n");
+            response.append("```java\nList<String> result = service.find(\"").append(i)
+                    .append("\");\nresult.forEach(System.out::println);\n```\n\n");
+        }
+        // 모델 토큰처럼 2~6자 단위로 자른다
+        chunks = new ArrayList<>();
+        for (int start = 0; start < response.length(); ) {
+            int end = Math.min(response.length(), start + 2 + random.nextInt(5));
+            chunks.add(response.substring(start, end));
+            start = end;
+        }
+    }
+
+    @Benchmark
+    public boolean streamResponse() {
+        AtomicBoolean codeBlockState = new AtomicBoolean(false);
+        boolean last = false;
+        for (String chunk : chunks) {
+            last = ChunkData.from(chunk).updateCodeBlockState(codeBlockState).codeBlock();
+        }
+        return last;
+    }
+}
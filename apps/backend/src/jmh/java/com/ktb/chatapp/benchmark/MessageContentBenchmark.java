@@ -0,0 +1,54 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.dto.message.MessageContent;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 메시지마다 실행되는 AI 멘션 추출과, 멘션이 있을 때의 질의 문자열 생성(호출마다 정규식 컴파일).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageContentBenchmark {
+
+    private MessageContent plain;
+    private MessageContent mentioned;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkFixtures.random();
+        plain = MessageContent.from(BenchmarkFixtures.koreanMessage(random, 120));
+        mentioned = MessageContent.from("@wayneAI " + BenchmarkFixtures.koreanMessage(random, 120));
+    }
+
+    /** 대부분의 메시지: 멘션 없음 */
+    @Benchmark
+    public List<String> aiMentionsWithoutMention() {
+        return plain.aiMentions();
+    }
+
+    @Benchmark
+    public List<String> aiMentionsWithMention() {
+        return mentioned.aiMentions();
+    }
+
+    @Benchmark
+    public String queryWithoutMention() {
+        return mentioned.getQueryWithoutMention("wayneAI");
+    }
+}
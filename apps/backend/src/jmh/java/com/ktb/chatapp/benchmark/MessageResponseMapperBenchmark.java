@@ -0,0 +1,57 @@
+package com.ktb.chatapp.benchmark;
+
+import com.ktb.chatapp.dto.message.MessageResponse;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.websocket.socketio.handler.MessageResponseMapper;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 메시지 목록 응답(입장, 이전 메시지, 동기화)에서 메시지마다 실행되는 DTO 변환. 저장소 조회는 메모리 스텁이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageResponseMapperBenchmark {
+
+    @Param({"0", "300"})
+    int readerCount;
+
+    private MessageResponseMapper mapper;
+    private Message textMessage;
+    private Message fileMessage;
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkFixtures.random();
+        File file = BenchmarkFixtures.file(random);
+        mapper = new MessageResponseMapper(BenchmarkFixtures.fileRepository(file));
+        textMessage = BenchmarkFixtures.message(random, "room-1", readerCount);
+        fileMessage = BenchmarkFixtures.fileMessage(random, "room-1", file);
+    }
+
+    @Benchmark
+    public MessageResponse textMessage() {
+        return mapper.mapToMessageResponse(textMessage);
+    }
+
+    @Benchmark
+    public MessageResponse fileMessage() {
+        return mapper.mapToMessageResponse(fileMessage);
+    }
+}
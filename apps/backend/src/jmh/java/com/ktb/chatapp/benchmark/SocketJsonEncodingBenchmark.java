@@ -0,0 +1,110 @@
+package com.ktb.chatapp.benchmark;
+
+import com.corundumstudio.socketio.protocol.JacksonJsonSupport;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ktb.chatapp.dto.ActiveStreamResponse;
+import com.ktb.chatapp.dto.message.MessageResponse;
+import com.ktb.chatapp.dto.rooms.JoinRoomSuccessResponse;
+import com.ktb.chatapp.dto.user.UserResponse;
+import com.ktb.chatapp.websocket.socketio.handler.MessageResponseMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Socket.IO 송신 시 페이로드 인코딩. SocketIOConfig와 같은 JacksonJsonSupport 설정을 쓴다.
+ * 버퍼는 재사용하므로 할당량은 직렬화 자체의 몫이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SocketJsonEncodingBenchmark {
+
+    @Param({"0", "300"})
+    int readerCount;
+
+    private JacksonJsonSupport jsonSupport;
+    private ByteBuf buffer;
+    private MessageResponse message;
+    private JoinRoomSuccessResponse joinRoomSuccess;
+
+    @Setup
+    public void setUp() {
+        jsonSupport = new JacksonJsonSupport(new JavaTimeModule());
+        buffer = Unpooled.buffer(1 << 20);
+
+        Random random = BenchmarkFixtures.random();
+        MessageResponseMapper mapper = new MessageResponseMapper(BenchmarkFixtures.fileRepository(null));
+        message = mapper.mapToMessageResponse(BenchmarkFixtures.message(random, "room-1", readerCount));
+
+        // 입장 응답: 참여자 20명, 최근 메시지 30개
+        List<UserResponse> participants = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            participants.add(UserResponse.builder()
+                    .id(BenchmarkFixtures.hexId(random))
+                    .name("사용자" + i)
+                    .email("user" + i + "@example.com")
+                    .build());
+        }
+        List<MessageResponse> messages = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            messages.add(mapper.mapToMessageResponse(BenchmarkFixtures.message(random, "room-1", readerCount)));
+        }
+        joinRoomSuccess = JoinRoomSuccessResponse.builder()
+                .roomId("room-1")
+                .participants(participants)
+                .messages(messages)
+                .hasMore(true)
+                .activeStreams(List.of(ActiveStreamResponse.builder()
+                        .id("wayneAI-1699364730000")
+                        .type("ai")
+                        .aiType("wayneAI")
+                        .content(BenchmarkFixtures.koreanMessage(random, 300))
+                        .timestamp("2025-11-07T13:45:30Z")
+                        .isStreaming(true)
+                        .build()))
+                .syncCursor(123_456)
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        buffer.release();
+    }
+
+    @Benchmark
+    public int message() throws IOException {
+        return encode(message);
+    }
+
+    @Benchmark
+    public int joinRoomSuccess() throws IOException {
+        return encode(joinRoomSuccess);
+    }
+
+    private int encode(Object value) throws IOException {
+        buffer.clear();
+        jsonSupport.writeValue(new ByteBufOutputStream(buffer), value);
+        return buffer.writerIndex();
+    }
+}
@@ -1,5 +1,6 @@
 package com.ktb.chatapp.config;
 
+import com.ktb.chatapp.security.CachingJwtDecoder;
 import com.nimbusds.jose.jwk.source.ImmutableSecret;
 import java.nio.charset.StandardCharsets;
 import javax.crypto.SecretKey;
@@ -20,6 +21,9 @@ public class JwtConfig {
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
+    @Value("${app.jwt.decode-cache.max-entries:10000}")
+    private int decodeCacheMaxEntries;
+
     /**
      * JwtEncoder 빈 생성
      * JWT 토큰 생성을 위한 표준 인코더
@@ -35,7 +39,8 @@ public class JwtConfig {
 
     /**
      * NimbusJwtDecoder 빈 생성
-     * Spring Security 6의 표준 JWT 디코더 사용
+     * Spring Security 6의 표준 JWT 디코더를 검증 결과 캐시로 감싼다.
+     * Security 필터, JwtService, Socket.IO 인증이 같은 캐시를 공유한다.
      */
     @Bean
     public JwtDecoder jwtDecoder() {
@@ -55,7 +60,7 @@ public class JwtConfig {
         // 기본 검증기와 커스텀 검증기를 조합
         decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(defaultValidators, validator));
 
-        return decoder;
+        return new CachingJwtDecoder(decoder, decodeCacheMaxEntries);
     }
 
     /**
@@ -12,9 +12,11 @@ import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 @Configuration
 @RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.file", name = "storage", havingValue = "s3")
 public class S3Config {
 
     @Value("${app.file.s3.access-key}")
@@ -34,16 +36,33 @@ public class S3Config {
 
     @Bean
     public S3Client s3Client() {
-        if (!StringUtils.hasText(accessKey) || !StringUtils.hasText(secretKey)) {
-            throw new IllegalStateException("S3 access-key and secret-key must be configured. Set FILE_S3_ACCESS_KEY and FILE_S3_SECRET_KEY environment variables.");
+        validateConfiguration();
+
+        software.amazon.awssdk.services.s3.S3ClientBuilder builder = S3Client.builder()
+                .credentialsProvider(credentialsProvider())
+                .region(Region.of(region));
+
+        if (StringUtils.hasText(endpoint)) {
+            builder = builder.endpointOverride(URI.create(endpoint));
         }
-        if (!StringUtils.hasText(region)) {
-            throw new IllegalStateException("S3 region must be configured. Set FILE_S3_REGION environment variable.");
+
+        if (pathStyleAccess) {
+            builder = builder.serviceConfiguration(serviceConfiguration());
         }
-        
-        var credentials = AwsBasicCredentials.create(accessKey, secretKey);
-        software.amazon.awssdk.services.s3.S3ClientBuilder builder = S3Client.builder()
-                .credentialsProvider(StaticCredentialsProvider.create(credentials))
+
+        return builder.build();
+    }
+
+    /**
+     * 클라이언트가 백엔드를 거치지 않고 버킷에 직접 올리고 받도록 presigned URL을 서명한다.
+     * 서명만 하므로 네트워크 호출이 없으며, 엔드포인트/경로 방식은 S3Client와 같게 맞춘다.
+     */
+    @Bean
+    public S3Presigner s3Presigner() {
+        validateConfiguration();
+
+        S3Presigner.Builder builder = S3Presigner.builder()
+                .credentialsProvider(credentialsProvider())
                 .region(Region.of(region));
 
         if (StringUtils.hasText(endpoint)) {
@@ -51,10 +70,26 @@ public class S3Config {
         }
 
         if (pathStyleAccess) {
-            builder = builder.serviceConfiguration(
-                    S3Configuration.builder().pathStyleAccessEnabled(true).build());
+            builder = builder.serviceConfiguration(serviceConfiguration());
         }
 
         return builder.build();
     }
+
+    private void validateConfiguration() {
+        if (!StringUtils.hasText(accessKey) || !StringUtils.hasText(secretKey)) {
+            throw new IllegalStateException("S3 access-key and secret-key must be configured. Set FILE_S3_ACCESS_KEY and FILE_S3_SECRET_KEY environment variables.");
+        }
+        if (!StringUtils.hasText(region)) {
+            throw new IllegalStateException("S3 region must be configured. Set FILE_S3_REGION environment variable.");
+        }
+    }
+
+    private StaticCredentialsProvider credentialsProvider() {
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+
+    private S3Configuration serviceConfiguration() {
+        return S3Configuration.builder().pathStyleAccessEnabled(true).build();
+    }
 }
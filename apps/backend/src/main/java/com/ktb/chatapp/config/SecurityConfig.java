@@ -2,6 +2,7 @@ package com.ktb.chatapp.config;
 
 import com.ktb.chatapp.security.CustomBearerTokenResolver;
 import com.ktb.chatapp.security.SessionAwareJwtAuthenticationConverter;
+import jakarta.servlet.DispatcherType;
 import java.time.Duration;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -65,6 +66,8 @@ public class SecurityConfig {
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configurationSource(request -> createCorsConfiguration()))
                 .authorizeHttpRequests(authorize -> authorize
+                        // 스트리밍 응답 완료 후의 ASYNC 디스패치는 최초 요청에서 이미 인가되었다
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/api/health",
                                 "/api/auth/**",
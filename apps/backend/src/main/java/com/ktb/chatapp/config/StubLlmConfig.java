@@ -0,0 +1,34 @@
+package com.ktb.chatapp.config;
+
+import com.ktb.chatapp.websocket.socketio.ai.StubChatModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * stub-llm 프로파일에서 OpenAI 대신 로컬 LLM 대역을 사용한다.
+ * application-stub-llm.properties가 OpenAI 채팅 모델 자동 설정을 끄고 대역 설정값을 제공한다.
+ */
+@Slf4j
+@Configuration
+@Profile("stub-llm")
+public class StubLlmConfig {
+
+    @Bean
+    @Primary
+    public ChatModel stubChatModel(
+            @Value("${app.ai.stub.tokens-per-second:50}") double tokensPerSecond,
+            @Value("${app.ai.stub.mean-tokens:200}") int meanTokens,
+            @Value("${app.ai.stub.stddev-tokens:80}") int stddevTokens,
+            @Value("${app.ai.stub.max-tokens:1000}") int maxTokens,
+            @Value("${app.ai.stub.error-rate:0.0}") double errorRate,
+            @Value("${app.ai.stub.seed:42}") long seed) {
+        log.warn("Stub LLM enabled - tokensPerSecond: {}, meanTokens: {}, errorRate: {}",
+                tokensPerSecond, meanTokens, errorRate);
+        return new StubChatModel(tokensPerSecond, meanTokens, stddevTokens, maxTokens, errorRate, seed);
+    }
+}
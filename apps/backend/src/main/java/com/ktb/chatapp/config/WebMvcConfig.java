@@ -1,8 +1,16 @@
 package com.ktb.chatapp.config;
 
+import com.ktb.chatapp.service.LocalFileService;
+import java.nio.file.Path;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import org.springframework.http.HttpStatus;
@@ -13,11 +21,53 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     private final RateLimitInterceptor rateLimitInterceptor;
 
+    @Value("${app.web.streaming.max-concurrent:1024}")
+    private int streamingMaxConcurrent;
+
+    @Value("${app.web.streaming.timeout-ms:1800000}")
+    private long streamingTimeoutMs;
+
+    @Value("${app.file.storage:s3}")
+    private String fileStorage;
+
+    @Value("${app.file.local.root:./uploads}")
+    private String localFileRoot;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(rateLimitInterceptor); // 변경금지
     }
 
+    /**
+     * StreamingResponseBody(파일 다운로드 등) 전용 실행기.
+     * 느린 클라이언트에게 수십 MB를 보내는 동안 블로킹 I/O로 오래 머무르므로 가상 스레드를 쓰고,
+     * 기본 applicationTaskExecutor(고정 8스레드)를 @Async 작업과 나눠 쓰지 않게 한다.
+     * 동시 스트림 수가 한도에 닿으면 새 스트림은 자리가 날 때까지 요청 스레드에서 대기한다.
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("mvc-stream-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(streamingMaxConcurrent);
+        configurer.setTaskExecutor(executor);
+        configurer.setDefaultTimeout(streamingTimeoutMs);
+    }
+
+    /**
+     * 로컬 저장소의 프로필 이미지는 공개 리소스로 서빙한다. 채팅 첨부(uploads/)는 권한 확인을 거치는 /api/files로만 내려간다.
+     * 파일명이 매번 새로 만들어지므로 오래 캐시해도 된다.
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        if (!"local".equals(fileStorage)) {
+            return;
+        }
+        String profilesLocation = Path.of(localFileRoot).toAbsolutePath().normalize().resolve("profiles").toUri().toString();
+        registry.addResourceHandler(LocalFileService.PUBLIC_PATH_PREFIX + "profiles/**")
+                .addResourceLocations(profilesLocation.endsWith("/") ? profilesLocation : profilesLocation + "/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable());
+    }
+
     @Override
     public void addViewControllers(ViewControllerRegistry registry) {
         registry.addViewController("/favicon{path:[^\\.]*}")
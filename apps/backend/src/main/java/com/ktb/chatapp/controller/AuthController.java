@@ -8,8 +8,10 @@ import com.ktb.chatapp.dto.user.LoginRequest;
 import com.ktb.chatapp.dto.user.LoginResponse;
 import com.ktb.chatapp.dto.user.RegisterRequest;
 import com.ktb.chatapp.event.SessionEndedEvent;
+import com.ktb.chatapp.exception.PasswordHashingRejectedException;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.security.PasswordHashingExecutor;
 import com.ktb.chatapp.service.JwtService;
 import com.ktb.chatapp.service.SessionCreationResult;
 import com.ktb.chatapp.service.SessionMetadata;
@@ -40,6 +42,7 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.JwtException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
@@ -56,6 +59,7 @@ public class AuthController {
     private final JwtService jwtService;
     private final SessionService sessionService;
     private final ApplicationEventPublisher eventPublisher;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     @Operation(summary = "인증 API 상태 확인", description = "인증 API의 사용 가능한 엔드포인트 목록을 반환합니다.")
     @ApiResponses({
@@ -109,7 +113,8 @@ public class AuthController {
             User user = User.builder()
                     .name(registerRequest.getName())
                     .email(registerRequest.getEmail().toLowerCase())
-                    .password(passwordEncoder.encode(registerRequest.getPassword()))
+                    .password(passwordHashingExecutor.execute(
+                            () -> passwordEncoder.encode(registerRequest.getPassword())))
                     .build();
 
             user = userRepository.save(user);
@@ -123,6 +128,8 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(response);
 
+        } catch (PasswordHashingRejectedException e) {
+            return tooManyHashingRequests(e);
         } catch (org.springframework.dao.DuplicateKeyException e) {
             log.error("Register error: ", e);
             return ResponseEntity.status(HttpStatus.CONFLICT)
@@ -144,6 +151,8 @@ public class AuthController {
             content = @Content(schema = @Schema(implementation = LoginResponse.class))),
         @ApiResponse(responseCode = "400", description = "유효하지 않은 입력값",
             content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "429", description = "로그인 요청 폭주 - Retry-After 이후 재시도",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
         @ApiResponse(responseCode = "401", description = "인증 실패 - 이메일 또는 비밀번호가 올바르지 않음",
             content = @Content(schema = @Schema(implementation = StandardResponse.class),
                 examples = @ExampleObject(value = "{\"success\":false,\"message\":\"이메일 또는 비밀번호가 올바르지 않습니다.\"}"))),
@@ -165,10 +174,13 @@ public class AuthController {
             // Authenticate user
             User user = userRepository.findByEmail(loginRequest.getEmail().toLowerCase())
                     .orElseThrow(() -> new UsernameNotFoundException("User not found"));
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            user.getEmail(),
-                            loginRequest.getPassword()
+            // BCrypt 검증은 요청 스레드가 아닌 해싱 전용 스레드에서 수행
+            Authentication authentication = passwordHashingExecutor.execute(
+                    () -> authenticationManager.authenticate(
+                            new UsernamePasswordAuthenticationToken(
+                                    user.getEmail(),
+                                    loginRequest.getPassword()
+                            )
                     )
             );
 
@@ -209,6 +221,8 @@ public class AuthController {
         } catch (UsernameNotFoundException | BadCredentialsException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(StandardResponse.error("이메일 또는 비밀번호가 올바르지 않습니다."));
+        } catch (PasswordHashingRejectedException e) {
+            return tooManyHashingRequests(e);
         } catch (Exception e) {
             log.error("Login error: ", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -295,14 +309,19 @@ public class AuthController {
                         .body(new TokenVerifyResponse(false, "토큰 또는 세션 ID가 필요합니다.", null));
             }
 
-            // 토큰 유효성 검증
-            if (!jwtService.validateToken(token)) {
+            // 토큰 유효성 검증과 사용자 정보 추출을 한 번의 디코딩으로 처리
+            JwtService.TokenClaims claims;
+            try {
+                claims = jwtService.decodeOnce(token);
+            } catch (JwtException e) {
+                claims = null;
+            }
+            if (claims == null || !claims.isNotExpired()) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(new TokenVerifyResponse(false, "유효하지 않은 토큰입니다.", null));
             }
 
-            // 토큰에서 사용자 정보 추출
-            String userId = jwtService.extractUserId(token);
+            String userId = claims.userId();
             
             Optional<User> userOpt = userRepository.findById(userId);
 
@@ -430,6 +449,13 @@ public class AuthController {
         return null;
     }
     
+    private ResponseEntity<?> tooManyHashingRequests(PasswordHashingRejectedException e) {
+        var errorCode = ApiErrorCode.TOO_MANY_REQUESTS;
+        return ResponseEntity.status(errorCode.getHttpStatus())
+                .header("Retry-After", String.valueOf(e.getRetryAfterSeconds()))
+                .body(StandardResponse.error(errorCode, Map.of("retryAfter", e.getRetryAfterSeconds())));
+    }
+
     private ResponseEntity<?> getBindingError(BindingResult bindingResult) {
         if (!bindingResult.hasErrors()) {
             return null;
@@ -1,12 +1,22 @@
 package com.ktb.chatapp.controller;
 
 import com.ktb.chatapp.dto.StandardResponse;
+import com.ktb.chatapp.dto.file.ChunkedUploadRequest;
+import com.ktb.chatapp.dto.file.ChunkedUploadResponse;
+import com.ktb.chatapp.dto.file.DirectUploadRequest;
+import com.ktb.chatapp.dto.file.DirectUploadResponse;
+import com.ktb.chatapp.exception.FileRangeNotSatisfiableException;
 import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.UploadSession;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.FileRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.FileAccessResolver;
+import com.ktb.chatapp.service.FileDownload;
 import com.ktb.chatapp.service.FileService;
 import com.ktb.chatapp.service.FileUploadResult;
+import com.ktb.chatapp.service.S3DirectUploadService;
+import com.ktb.chatapp.service.preview.ImagePreviewService;
+import com.ktb.chatapp.service.upload.ChunkedUploadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,16 +25,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import java.io.IOException;
+import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.security.Principal;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpRange;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.web.bind.annotation.*;
@@ -38,8 +53,12 @@ import org.springframework.web.multipart.MultipartFile;
 public class FileController {
 
     private final FileService fileService;
-    private final FileRepository fileRepository;
+    private final FileAccessResolver fileAccessResolver;
     private final UserRepository userRepository;
+    private final ObjectProvider<S3DirectUploadService> directUploadService;
+    private final FileDownloadResponder downloadResponder;
+    private final ImagePreviewService imagePreviewService;
+    private final ChunkedUploadService chunkedUploadService;
 
     /**
      * 파일 업로드
@@ -67,21 +86,8 @@ public class FileController {
             FileUploadResult result = fileService.uploadFile(file, user.getId());
 
             if (result.isSuccess()) {
-                Map<String, Object> response = new HashMap<>();
-                response.put("success", true);
-                response.put("message", "파일 업로드 성공");
-                
-                Map<String, Object> fileData = new HashMap<>();
-                fileData.put("_id", result.getFile().getId());
-                fileData.put("filename", result.getFile().getFilename());
-                fileData.put("originalname", result.getFile().getOriginalname());
-                fileData.put("mimetype", result.getFile().getMimetype());
-                fileData.put("size", result.getFile().getSize());
-                fileData.put("uploadDate", result.getFile().getUploadDate());
-                
-                response.put("file", fileData);
-
-                return ResponseEntity.ok(response);
+                imagePreviewService.schedule(result.getFile());
+                return ResponseEntity.ok(uploadSuccessResponse(result.getFile()));
             } else {
                 Map<String, Object> errorResponse = new HashMap<>();
                 errorResponse.put("success", false);
@@ -99,18 +105,318 @@ public class FileController {
         }
     }
 
+    /**
+     * 저장소 직접 업로드 URL 발급
+     */
+    @Operation(summary = "직접 업로드 URL 발급",
+            description = "파일 바이트를 백엔드를 거치지 않고 저장소에 직접 PUT 할 수 있는 짧게 유효한 URL을 발급합니다. "
+                    + "업로드 후 /api/files/uploads/{filename}/complete 로 확정해야 파일이 등록됩니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "발급 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 파일",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "401", description = "인증 실패",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "501", description = "직접 업로드를 지원하지 않는 저장소",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @PostMapping("/uploads")
+    public ResponseEntity<?> createDirectUpload(
+            @Valid @RequestBody DirectUploadRequest uploadRequest,
+            Principal principal) {
+        S3DirectUploadService uploadService = directUploadService.getIfAvailable();
+        if (uploadService == null) {
+            return directUploadUnsupported();
+        }
+        User user = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
+        try {
+            DirectUploadResponse upload = uploadService.createUpload(uploadRequest, user.getId());
+
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("upload", upload);
+            return ResponseEntity.ok(response);
+
+        } catch (RuntimeException e) {
+            log.warn("직접 업로드 URL 발급 거절: {}", e.getMessage());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            return ResponseEntity.status(400).body(errorResponse);
+        }
+    }
+
+    /**
+     * 저장소 직접 업로드 확정
+     */
+    @Operation(summary = "직접 업로드 확정",
+            description = "저장소에 올라간 객체의 크기와 MIME 타입을 검증하고 파일을 등록합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "파일 업로드 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 파일",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "403", description = "다른 사용자의 업로드",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "404", description = "업로드된 객체 없음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "409", description = "이미 확정된 업로드",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @PostMapping("/uploads/{filename:.+}/complete")
+    public ResponseEntity<?> completeDirectUpload(
+            @Parameter(description = "발급 시 받은 파일명") @PathVariable String filename,
+            Principal principal) {
+        S3DirectUploadService uploadService = directUploadService.getIfAvailable();
+        if (uploadService == null) {
+            return directUploadUnsupported();
+        }
+        User user = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
+        try {
+            File savedFile = uploadService.confirmUpload(filename, user.getId());
+            imagePreviewService.schedule(savedFile);
+            return ResponseEntity.ok(uploadSuccessResponse(savedFile));
+
+        } catch (IllegalStateException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            return ResponseEntity.status(409).body(errorResponse);
+        } catch (RuntimeException e) {
+            log.warn("직접 업로드 확정 실패: {} - {}", filename, e.getMessage());
+            String errorMessage = e.getMessage();
+            int statusCode = 400;
+            if (errorMessage != null && errorMessage.contains("찾을 수 없습니다")) {
+                statusCode = 404;
+            } else if (errorMessage != null && errorMessage.contains("권한")) {
+                statusCode = 403;
+            }
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", errorMessage);
+            return ResponseEntity.status(statusCode).body(errorResponse);
+        }
+    }
+
+    /**
+     * 조각 업로드 세션 생성
+     */
+    @Operation(summary = "조각 업로드 시작",
+            description = "큰 파일을 고정 크기 조각으로 나눠 올리는 세션을 만듭니다. "
+                    + "조각은 PUT /api/files/chunked/{uploadId}?offset= 으로 순서와 관계없이(동시에) 올리고, "
+                    + "끊기면 세션 상태의 receivedOffsets에 없는 조각만 다시 올린 뒤 확정합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "세션 생성 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 파일",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "401", description = "인증 실패",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "429", description = "진행 중인 업로드가 너무 많음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @PostMapping("/chunked")
+    public ResponseEntity<?> createChunkedUpload(
+            @Valid @RequestBody ChunkedUploadRequest uploadRequest,
+            Principal principal) {
+        User user = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
+        try {
+            return chunkedUploadResponse(chunkedUploadService.create(uploadRequest, user.getId()));
+        } catch (RuntimeException e) {
+            log.warn("조각 업로드 시작 거절: {}", e.getMessage());
+            return chunkedUploadError(e);
+        }
+    }
+
+    /**
+     * 조각 업로드 상태 조회
+     */
+    @Operation(summary = "조각 업로드 상태", description = "받은 조각의 offset 목록을 돌려줍니다. 끊긴 업로드를 이어갈 때 씁니다.")
+    @GetMapping("/chunked/{uploadId}")
+    public ResponseEntity<?> getChunkedUpload(@PathVariable String uploadId, Principal principal) {
+        User user = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
+        try {
+            return chunkedUploadResponse(chunkedUploadService.status(uploadId, user.getId()));
+        } catch (RuntimeException e) {
+            return chunkedUploadError(e);
+        }
+    }
+
+    /**
+     * 조각 하나 업로드. 본문은 조각 바이트 그대로(application/octet-stream)다.
+     */
+    @Operation(summary = "조각 업로드",
+            description = "offset(chunkSize의 배수)에서 시작하는 조각 하나를 요청 본문으로 올립니다. "
+                    + "Content-Length는 해당 조각 크기와 같아야 하며, 같은 조각을 다시 올리면 덮어씁니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "조각 저장 성공"),
+        @ApiResponse(responseCode = "400", description = "잘못된 offset 또는 조각 크기",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "403", description = "다른 사용자의 업로드",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "404", description = "업로드 세션 없음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "409", description = "이미 확정 중인 업로드",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "411", description = "Content-Length 없음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @PutMapping("/chunked/{uploadId}")
+    public ResponseEntity<?> uploadChunk(
+            @PathVariable String uploadId,
+            @Parameter(description = "조각 시작 위치 (바이트)") @RequestParam long offset,
+            HttpServletRequest request,
+            Principal principal) {
+        long length = request.getContentLengthLong();
+        if (length < 0) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "Content-Length가 필요합니다.");
+            return ResponseEntity.status(411).body(errorResponse);
+        }
+        User user = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
+        try {
+            return chunkedUploadResponse(
+                    chunkedUploadService.writePart(uploadId, offset, request.getInputStream(), length, user.getId()));
+        } catch (IOException e) {
+            log.warn("조각 업로드 중 연결 오류: {} - {}", uploadId, e.getMessage());
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "조각을 저장하지 못했습니다. 같은 조각을 다시 올려주세요.");
+            return ResponseEntity.status(500).body(errorResponse);
+        } catch (RuntimeException e) {
+            return chunkedUploadError(e);
+        }
+    }
+
+    /**
+     * 조각 업로드 확정
+     */
+    @Operation(summary = "조각 업로드 확정",
+            description = "모든 조각을 받았으면 파일을 다시 검증하고 하나로 합쳐 등록합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "파일 업로드 성공"),
+        @ApiResponse(responseCode = "400", description = "빠진 조각이 있거나 잘못된 파일",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "403", description = "다른 사용자의 업로드",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "404", description = "업로드 세션 없음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "409", description = "이미 확정 중인 업로드",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @PostMapping("/chunked/{uploadId}/complete")
+    public ResponseEntity<?> completeChunkedUpload(@PathVariable String uploadId, Principal principal) {
+        User user = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
+        try {
+            File savedFile = chunkedUploadService.complete(uploadId, user.getId());
+            imagePreviewService.schedule(savedFile);
+            return ResponseEntity.ok(uploadSuccessResponse(savedFile));
+        } catch (RuntimeException e) {
+            log.warn("조각 업로드 확정 실패: {} - {}", uploadId, e.getMessage());
+            return chunkedUploadError(e);
+        }
+    }
+
+    /**
+     * 조각 업로드 취소
+     */
+    @Operation(summary = "조각 업로드 취소", description = "세션과 지금까지 받은 조각을 지웁니다.")
+    @DeleteMapping("/chunked/{uploadId}")
+    public ResponseEntity<?> abortChunkedUpload(@PathVariable String uploadId, Principal principal) {
+        User user = userRepository.findByEmail(principal.getName())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
+        try {
+            chunkedUploadService.abort(uploadId, user.getId());
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "업로드가 취소되었습니다.");
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            return chunkedUploadError(e);
+        }
+    }
+
+    private ResponseEntity<?> chunkedUploadResponse(UploadSession session) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("upload", ChunkedUploadResponse.from(session));
+        return ResponseEntity.ok(response);
+    }
+
+    private ResponseEntity<?> chunkedUploadError(RuntimeException e) {
+        String errorMessage = e.getMessage();
+        int statusCode = 400;
+        if (e instanceof IllegalStateException) {
+            statusCode = 409;
+        } else if (errorMessage != null && errorMessage.contains("찾을 수 없습니다")) {
+            statusCode = 404;
+        } else if (errorMessage != null && errorMessage.contains("권한")) {
+            statusCode = 403;
+        } else if (errorMessage != null && errorMessage.contains("너무 많습니다")) {
+            statusCode = 429;
+        } else if (errorMessage != null && errorMessage.contains("합치지 못했습니다")) {
+            statusCode = 500;
+        }
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", errorMessage);
+        return ResponseEntity.status(statusCode).body(errorResponse);
+    }
+
+    private Map<String, Object> uploadSuccessResponse(File file) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("message", "파일 업로드 성공");
+
+        Map<String, Object> fileData = new HashMap<>();
+        fileData.put("_id", file.getId());
+        fileData.put("filename", file.getFilename());
+        fileData.put("originalname", file.getOriginalname());
+        fileData.put("mimetype", file.getMimetype());
+        fileData.put("size", file.getSize());
+        fileData.put("uploadDate", file.getUploadDate());
+
+        response.put("file", fileData);
+        return response;
+    }
+
+    private ResponseEntity<?> directUploadUnsupported() {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", "현재 파일 저장소는 직접 업로드를 지원하지 않습니다.");
+        return ResponseEntity.status(501).body(errorResponse);
+    }
+
+    /**
+     * 권한 확인 후 저장소의 서명된 URL로 보낸다. 바이트는 백엔드를 거치지 않는다.
+     */
+    private ResponseEntity<?> presignedRedirect(String url) {
+        return ResponseEntity.status(302)
+                .location(URI.create(url))
+                .header(HttpHeaders.CACHE_CONTROL, "private, no-store")
+                .build();
+    }
+
     /**
      * 보안이 강화된 파일 다운로드
      */
-    @Operation(summary = "파일 다운로드", description = "업로드된 파일을 다운로드합니다. 본인이 업로드한 파일만 다운로드 가능합니다.")
+    @Operation(summary = "파일 다운로드", description = "업로드된 파일을 다운로드합니다. 본인이 업로드한 파일만 다운로드 가능합니다. "
+            + "단일 구간 Range/If-Range 요청을 지원합니다.")
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "파일 다운로드 성공"),
+        @ApiResponse(responseCode = "206", description = "요청한 구간 다운로드 성공"),
         @ApiResponse(responseCode = "401", description = "인증 실패",
             content = @Content(schema = @Schema(implementation = StandardResponse.class))),
         @ApiResponse(responseCode = "403", description = "권한 없음",
             content = @Content(schema = @Schema(implementation = StandardResponse.class))),
         @ApiResponse(responseCode = "404", description = "파일을 찾을 수 없음",
             content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "416", description = "파일 크기를 벗어난 Range"),
         @ApiResponse(responseCode = "500", description = "서버 내부 오류",
             content = @Content(schema = @Schema(implementation = StandardResponse.class)))
     })
@@ -123,13 +429,15 @@ public class FileController {
             User user = userRepository.findByEmail(principal.getName())
                     .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
 
-            Resource resource = fileService.loadFileAsResource(filename, user.getId());
+            Optional<String> presignedUrl = fileService.presignDownloadUrl(filename, null, user.getId(), false);
+            if (presignedUrl.isPresent()) {
+                return presignedRedirect(presignedUrl.get());
+            }
 
-            File fileEntity = fileRepository.findByFilename(filename)
-                    .orElse(null);
+            FileDownload download = fileService.openDownload(
+                    filename, user.getId(), requestedRange(request), request.getHeader(HttpHeaders.IF_RANGE));
 
-            String originalFilename = fileEntity != null ? fileEntity.getOriginalname() : filename;
-            String encodedFilename = URLEncoder.encode(originalFilename, StandardCharsets.UTF_8)
+            String encodedFilename = URLEncoder.encode(download.getFile().getOriginalname(), StandardCharsets.UTF_8)
                     .replaceAll("\\+", "%20");
 
             String contentDisposition = String.format(
@@ -137,22 +445,39 @@ public class FileController {
                     encodedFilename
             );
 
-            long contentLength = fileEntity != null ? fileEntity.getSize() : resource.contentLength();
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(fileEntity.getMimetype()))
-                    .contentLength(contentLength)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                    .header(HttpHeaders.CACHE_CONTROL, "private, no-cache, no-store, must-revalidate")
-                    .header(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "Content-Disposition")
-                    .body(resource);
+            // 같은 파일의 구간 재요청은 ETag로 검증하도록 저장은 허용하되 매번 재검증한다
+            return downloadResponder.respond(download, contentDisposition, "private, no-cache", request);
 
+        } catch (FileRangeNotSatisfiableException e) {
+            return rangeNotSatisfiable(e);
         } catch (Exception e) {
             log.error("파일 다운로드 중 에러 발생: {}", filename, e);
             return handleFileError(e);
         }
     }
 
+    /**
+     * 단일 구간 Range만 구간으로 처리한다. 여러 구간이거나 형식이 잘못되면 전체를 내려준다.
+     */
+    private static HttpRange requestedRange(HttpServletRequest request) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private ResponseEntity<?> rangeNotSatisfiable(FileRangeNotSatisfiableException e) {
+        return ResponseEntity.status(416)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes */" + e.getTotalLength())
+                .build();
+    }
+
     private ResponseEntity<?> handleFileError(Exception e) {
         String errorMessage = e.getMessage();
         int statusCode = 500;
@@ -190,6 +515,8 @@ public class FileController {
     @GetMapping("/view/{filename:.+}")
     public ResponseEntity<?> viewFile(
             @PathVariable String filename,
+            @Parameter(description = "이미지 미리보기 파생본 (thumb, medium). 아직 없으면 원본을 내려준다")
+            @RequestParam(required = false) String variant,
             HttpServletRequest request,
             Principal principal) {
         try {
@@ -204,11 +531,8 @@ public class FileController {
             User user = userRepository.findByEmail(principal.getName())
                     .orElseThrow(() -> new UsernameNotFoundException("User not found: " + principal.getName()));
 
-            File fileEntity = fileRepository.findByFilename(filename)
-                    .orElseThrow(() -> {
-                        log.warn("파일 엔티티를 찾을 수 없음: {} (사용자: {})", filename, user.getId());
-                        return new RuntimeException("파일을 찾을 수 없습니다.");
-                    });
+            // 권한 판정은 캐시되므로 아래 openDownload의 재확인은 조회 없이 끝난다
+            File fileEntity = fileAccessResolver.authorize(filename, user.getId());
 
             if (!fileEntity.isPreviewable()) {
                 Map<String, Object> errorResponse = new HashMap<>();
@@ -217,7 +541,13 @@ public class FileController {
                 return ResponseEntity.status(415).body(errorResponse);
             }
 
-            Resource resource = fileService.loadFileAsResource(filename, user.getId());
+            Optional<String> presignedUrl = fileService.presignDownloadUrl(filename, variant, user.getId(), true);
+            if (presignedUrl.isPresent()) {
+                return presignedRedirect(presignedUrl.get());
+            }
+
+            FileDownload download = fileService.openDownload(
+                    filename, variant, user.getId(), requestedRange(request), request.getHeader(HttpHeaders.IF_RANGE));
 
             String originalFilename = fileEntity.getOriginalname();
             String encodedFilename = URLEncoder.encode(originalFilename, StandardCharsets.UTF_8)
@@ -229,16 +559,14 @@ public class FileController {
                     encodedFilename
             );
 
-            long contentLength = fileEntity.getSize();
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(fileEntity.getMimetype()))
-                    .contentLength(contentLength)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                    .header(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000, immutable")
-                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
-                    .body(resource);
+            // 미리보기가 아직 없어 원본으로 대신한 응답은 같은 URL에 오래 캐시되면 안 된다
+            String cacheControl = variant == null || fileEntity.findPreview(variant).isPresent()
+                    ? "public, max-age=31536000, immutable"
+                    : "private, no-cache";
+            return downloadResponder.respond(download, contentDisposition, cacheControl, request);
 
+        } catch (FileRangeNotSatisfiableException e) {
+            return rangeNotSatisfiable(e);
         } catch (Exception e) {
             log.error("파일 미리보기 중 에러 발생: {} - {}", filename, e.getMessage(), e);
             return handleFileError(e);
@@ -0,0 +1,127 @@
+package com.ktb.chatapp.controller;
+
+import com.ktb.chatapp.service.FileDownload;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * 열린 {@link FileDownload}를 HTTP 응답으로 내보낸다.
+ * 구간 요청이면 206과 Content-Range를, 아니면 200을 돌려주며 항상 ETag와 Accept-Ranges를 싣는다.
+ * 본문은 고정 크기 버퍼로 흘려보내 파일 크기와 무관하게 힙 사용량이 일정하다.
+ * 클라이언트가 중간에 끊으면 저장소 스트림을 abort해 남은 바이트를 받지 않는다.
+ * 로컬 디스크 파일이고 컨테이너가 sendfile을 지원하면(Tomcat NIO, 평문 HTTP) 본문을 쓰지 않고
+ * 컨테이너에 파일 구간을 넘겨 커널에서 소켓으로 바로 복사(zero-copy)하게 한다.
+ */
+@Component
+public class FileDownloadResponder {
+
+    // Tomcat이 요청 속성으로 받는 sendfile 지시 (org.apache.catalina.Globals)
+    static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private final int bufferSize;
+    private final MeterRegistry meterRegistry;
+
+    public FileDownloadResponder(
+            @Value("${app.file.download.buffer-size:65536}") int bufferSize,
+            MeterRegistry meterRegistry) {
+        this.bufferSize = bufferSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * HEAD 요청이면 본문 없이 헤더만 돌려주고 저장소 스트림은 바로 닫는다.
+     */
+    public ResponseEntity<StreamingResponseBody> respond(
+            FileDownload download,
+            String contentDisposition,
+            String cacheControl,
+            HttpServletRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(download.getContentType()));
+        headers.setContentLength(download.getContentLength());
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        headers.set(HttpHeaders.CONTENT_DISPOSITION, contentDisposition);
+        headers.set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        headers.set(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "Content-Disposition, Content-Range, ETag, Accept-Ranges");
+        if (download.getEtag() != null) {
+            headers.setETag(download.getEtag());
+        }
+        if (download.isPartial()) {
+            headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + download.getRangeStart() + "-"
+                    + download.getRangeEnd() + "/" + download.getTotalLength());
+        }
+        HttpStatus status = download.isPartial() ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK;
+
+        if (HttpMethod.HEAD.matches(request.getMethod())) {
+            download.abort();
+            return ResponseEntity.status(status).headers(headers).build();
+        }
+        String range = download.isPartial() ? "partial" : "full";
+        if (download.getLocalPath() != null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // 컨테이너가 파일을 직접 여니 열어둔 채널은 닫는다. end는 배타적 끝
+            download.abort();
+            request.setAttribute(SENDFILE_FILENAME_ATTR, download.getLocalPath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, download.getRangeStart());
+            request.setAttribute(SENDFILE_END_ATTR, download.getRangeEnd() + 1);
+            bytesSummary(range, "sendfile").record(download.getContentLength());
+            return ResponseEntity.status(status).headers(headers).build();
+        }
+        return ResponseEntity.status(status).headers(headers).body(outputStream -> {
+            long startedAt = System.nanoTime();
+            long written = 0;
+            boolean completed = false;
+            InputStream content = download.getContent();
+            try {
+                byte[] buffer = new byte[bufferSize];
+                int read;
+                while ((read = content.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, read);
+                    written += read;
+                }
+                outputStream.flush();
+                completed = true;
+            } finally {
+                if (!completed) {
+                    download.abort();
+                }
+                content.close();
+                record(range, completed, written, System.nanoTime() - startedAt);
+            }
+        });
+    }
+
+    private void record(String range, boolean completed, long bytes, long elapsedNanos) {
+        bytesSummary(range, "stream").record(bytes);
+        Timer.builder("file.download.time")
+                .description("Time to stream a file download response")
+                .tag("range", range)
+                .tag("outcome", completed ? "completed" : "aborted")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private DistributionSummary bytesSummary(String range, String transfer) {
+        return DistributionSummary.builder("file.download.bytes")
+                .description("Bytes written per file download response")
+                .baseUnit("bytes")
+                .tag("range", range)
+                .tag("transfer", transfer)
+                .register(meterRegistry);
+    }
+}
@@ -1,6 +1,14 @@
 package com.ktb.chatapp.controller;
 
 import com.ktb.chatapp.dto.StandardResponse;
+import com.ktb.chatapp.dto.message.ChatMessageBatchRequest;
+import com.ktb.chatapp.dto.message.ChatMessageBatchResponse;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.User;
+import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.MessageBatchService;
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import com.ktb.chatapp.service.export.MessageExportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,16 +19,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.security.Principal;
+import java.time.Duration;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * 메시지 시스템 REST API 컨트롤러
  *
  * - GET /api/message/rooms/:roomId/messages → 500 에러 (미구현)
- * - 모든 메시지 기능은 Socket.IO를 통해 제공됨
+ * - POST /api/message/rooms/:roomId/messages/batch → 일괄 전송 (봇, 일괄 클라이언트)
+ * - GET /api/message/rooms/:roomId/messages/export → 대화 내보내기 (NDJSON/JSON 스트리밍)
+ * - 그 밖의 메시지 기능은 Socket.IO를 통해 제공됨
  */
 @Tag(name = "메시지 (Messages)", description = "메시지 관련 API (주의: 실제 메시지 기능은 Socket.IO를 통해 제공됩니다)")
 @Slf4j
@@ -29,6 +46,13 @@ import java.security.Principal;
 @RequestMapping("/api/message")
 public class MessageController {
 
+    private final MessageBatchService messageBatchService;
+    private final MessageExportService messageExportService;
+    private final UserRepository userRepository;
+
+    @Value("${app.message.export.closed-max-age-seconds:86400}")
+    private long closedExportMaxAgeSeconds;
+
     /**
      * 채팅방 메시지 조회 - 미구현 (500 반환)
      * 실제 메시지 조회는 Socket.IO의 'fetchPreviousMessages' 이벤트를 사용하세요.
@@ -55,4 +79,151 @@ public class MessageController {
                 StandardResponse.error("미구현.")
         );
     }
+
+    /**
+     * 일괄 메시지 전송. Socket.IO의 'chatMessageBatch'와 같은 처리이며 저장된 메시지는 방에 messageBatch로 알려진다.
+     */
+    @Operation(summary = "메시지 일괄 전송", description = "한 채팅방에 여러 메시지를 한 번에 저장합니다. 항목별 결과를 요청 순서대로 반환합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "처리 완료 (항목별 결과 포함)",
+            content = @Content(schema = @Schema(implementation = ChatMessageBatchResponse.class))),
+        @ApiResponse(responseCode = "400", description = "항목이 없거나 최대 개수 초과",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "403", description = "채팅방 접근 권한 없음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "429", description = "전송 횟수 제한 초과",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @PostMapping("/rooms/{roomId}/messages/batch")
+    public ResponseEntity<?> sendMessageBatch(
+            @Parameter(description = "채팅방 ID") @PathVariable String roomId,
+            @RequestBody ChatMessageBatchRequest request,
+            Principal principal) {
+        User user = userRepository.findByEmail(principal.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(401).body(StandardResponse.error("사용자를 찾을 수 없습니다."));
+        }
+
+        // 거절될 요청이 전송 한도를 쓰지 않도록 크기와 권한을 먼저 확인
+        Room room;
+        try {
+            room = messageBatchService.validate(roomId, user.getId(), request.getMessages());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(StandardResponse.error(e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(403).body(StandardResponse.error(e.getMessage()));
+        }
+
+        RateLimitCheckResult rateLimit = messageBatchService.checkRateLimit(user.getId(), request.getMessages().size());
+        if (!rateLimit.allowed()) {
+            return ResponseEntity.status(429)
+                    .header("Retry-After", String.valueOf(rateLimit.retryAfterSeconds()))
+                    .body(StandardResponse.error("메시지 전송 횟수 제한을 초과했습니다. 잠시 후 다시 시도해주세요."));
+        }
+
+        try {
+            ChatMessageBatchResponse response = messageBatchService.ingest(room, user.getId(), request.getMessages());
+            return ResponseEntity.ok(StandardResponse.success(response));
+        } catch (RuntimeException e) {
+            log.error("메시지 일괄 전송 에러", e);
+            return ResponseEntity.status(500).body(StandardResponse.error("메시지 전송 중 오류가 발생했습니다."));
+        }
+    }
+
+    /**
+     * 대화 내보내기. 본문은 Mongo 커서에서 읽는 대로 흘려보낸다.
+     * 닫힌 구간(until이 충분히 과거)은 캐시에 오래 두고, 열린 구간은 매번 ETag로 재검증한다.
+     * 닫힌 구간도 리액션은 바뀔 수 있으므로 immutable로 두지 않고 max-age가 지나면 ETag로 재검증한다.
+     */
+    @Operation(summary = "대화 내보내기", description = "채팅방 메시지를 timestamp 순으로 NDJSON 또는 JSON 배열로 스트리밍합니다. since/until은 epoch 밀리초이며 [since, until) 구간입니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "내보내기 스트림"),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+        @ApiResponse(responseCode = "400", description = "잘못된 구간 또는 형식",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class))),
+        @ApiResponse(responseCode = "403", description = "채팅방 접근 권한 없음",
+            content = @Content(schema = @Schema(implementation = StandardResponse.class)))
+    })
+    @GetMapping("/rooms/{roomId}/messages/export")
+    public ResponseEntity<?> exportMessages(
+            @Parameter(description = "채팅방 ID") @PathVariable String roomId,
+            @Parameter(description = "시작 시각 (epoch ms, 포함)") @RequestParam(required = false) Long since,
+            @Parameter(description = "끝 시각 (epoch ms, 제외)") @RequestParam(required = false) Long until,
+            @Parameter(description = "형식 (ndjson/json)", example = "ndjson") @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            Principal principal) {
+        User user = userRepository.findByEmail(principal.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(401).body(StandardResponse.error("사용자를 찾을 수 없습니다."));
+        }
+
+        MessageExportService.Format exportFormat;
+        try {
+            exportFormat = MessageExportService.Format.from(format);
+            if (since != null && until != null && since >= until) {
+                throw new IllegalArgumentException("since는 until보다 앞서야 합니다.");
+            }
+            messageExportService.checkAccess(roomId, user.getId());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(400).body(StandardResponse.error(e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(403).body(StandardResponse.error(e.getMessage()));
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String etag = messageExportService.etag(roomId, since, until, exportFormat, gzip);
+        CacheControl cacheControl = messageExportService.isClosed(until)
+                ? CacheControl.maxAge(Duration.ofSeconds(closedExportMaxAgeSeconds)).cachePrivate()
+                : CacheControl.noCache().cachePrivate();
+
+        if (matchesEtag(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONTENT_TYPE, exportFormat.getContentType() + ";charset=UTF-8");
+        headers.set(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"room-" + roomId + "." + exportFormat.getExtension() + "\"");
+        headers.set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        headers.set(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "Content-Disposition, ETag");
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                // syncFlush: 배치마다 flush한 내용이 압축기에 묶이지 않고 바로 나가게 한다
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 8192, true);
+                messageExportService.write(roomId, since, until, exportFormat, gzipStream);
+                gzipStream.finish();
+            } else {
+                messageExportService.write(roomId, since, until, exportFormat, outputStream);
+            }
+        };
+        return ResponseEntity.ok()
+                .headers(headers)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(body);
+    }
+
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -6,9 +6,10 @@ import com.ktb.chatapp.dto.rooms.*;
 import com.ktb.chatapp.dto.user.UserResponse;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.RoomDirectoryPage;
 import com.ktb.chatapp.service.RoomService;
+import com.ktb.chatapp.service.activity.RoomActivityCounter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,7 +21,6 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.security.Principal;
-import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +29,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -41,7 +42,7 @@ import org.springframework.web.bind.annotation.*;
 public class RoomController {
 
     private final UserRepository userRepository;
-    private final MessageRepository messageRepository;
+    private final RoomActivityCounter roomActivityCounter;
     private final RoomService roomService;
 
     @Value("${spring.profiles.active:production}")
@@ -88,6 +89,7 @@ public class RoomController {
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "채팅방 목록 조회 성공",
             content = @Content(schema = @Schema(implementation = RoomsResponse.class))),
+        @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
         @ApiResponse(responseCode = "401", description = "인증 실패",
             content = @Content(schema = @Schema(implementation = StandardResponse.class))),
         @ApiResponse(responseCode = "429", description = "요청 한도 초과",
@@ -101,9 +103,11 @@ public class RoomController {
     public ResponseEntity<?> getAllRooms(
             @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기 (최대 50)", example = "10") @RequestParam(defaultValue = "10") int pageSize,
-            @Parameter(description = "정렬 필드", example = "createdAt") @RequestParam(defaultValue = "createdAt") String sortField,
+            @Parameter(description = "정렬 필드 (createdAt/name/participantsCount/recentActivity)", example = "createdAt") @RequestParam(defaultValue = "createdAt") String sortField,
             @Parameter(description = "정렬 순서 (asc/desc)", example = "desc") @RequestParam(defaultValue = "desc") String sortOrder,
             @Parameter(description = "검색어 (채팅방 이름)", example = "프로젝트") @RequestParam(required = false) String search,
+            @Parameter(description = "이전 응답의 metadata.nextCursor (createdAt/name 정렬에서 page 대신 사용)") @RequestParam(required = false) String cursor,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
             Principal principal) {
 
         try {
@@ -114,15 +118,30 @@ public class RoomController {
             pageRequest.setSortField(sortField);
             pageRequest.setSortOrder(sortOrder);
             pageRequest.setSearch(search);
+            pageRequest.setCursor(cursor);
 
             // 서비스에서 페이지네이션 처리
-            RoomsResponse response = roomService.getAllRoomsWithPagination(pageRequest, principal.getName());
+            RoomDirectoryPage directoryPage = roomService.getRoomDirectoryPage(pageRequest, principal.getName());
+            String etag = directoryPage.etag();
+
+            // 응답이 사용자별(isCreator)이므로 private 캐시 + ETag 재검증
+            CacheControl cacheControl = CacheControl.noCache().cachePrivate();
+            if (etag == null) {
+                return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .body(directoryPage.response());
+            }
+            if (matchesEtag(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .build();
+            }
 
-            // 캐시 설정
             return ResponseEntity.ok()
-                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(10)))
-                .header("Last-Modified", java.time.Instant.now().toString())
-                .body(response);
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(directoryPage.response());
 
         } catch (Exception e) {
             log.error("방 목록 조회 에러", e);
@@ -283,6 +302,22 @@ public class RoomController {
         }
     }
 
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if ("*".equals(value) || etag.equals(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private RoomResponse mapToRoomResponse(Room room, String name) {
         User creator = userRepository.findById(room.getCreator()).orElse(null);
         if (creator == null) {
@@ -304,8 +339,7 @@ public class RoomController {
         boolean isCreator = room.getCreator().equals(name);
 
         // 최근 10분간 메시지 수 조회
-        LocalDateTime tenMinutesAgo = LocalDateTime.now().minusMinutes(10);
-        long recentMessageCount = messageRepository.countRecentMessagesByRoomId(room.getId(), tenMinutesAgo);
+        long recentMessageCount = roomActivityCounter.getRecentCount(room.getId());
 
         return RoomResponse.builder()
                 .id(room.getId())
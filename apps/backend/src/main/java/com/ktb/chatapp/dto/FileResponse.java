@@ -2,12 +2,14 @@ package com.ktb.chatapp.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.FilePreview;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @Builder
@@ -22,6 +24,8 @@ public class FileResponse {
     private long size;
     private String user;
     private LocalDateTime uploadDate;
+    // 이미지 미리보기 파생본. 만들어지기 전이면 비어 있고 클라이언트는 원본을 쓴다
+    private List<Preview> previews;
 
     // File 엔티티에서 FileResponse로 변환하는 정적 메서드
     public static FileResponse from(File file) {
@@ -33,6 +37,39 @@ public class FileResponse {
                 .size(file.getSize())
                 .user(file.getUser())
                 .uploadDate(file.getUploadDate())
+                .previews(previewsOf(file))
                 .build();
     }
+
+    private static List<Preview> previewsOf(File file) {
+        if (file.getPreviews() == null) {
+            return List.of();
+        }
+        return file.getPreviews().stream()
+                .map(preview -> Preview.from(file, preview))
+                .toList();
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Preview {
+        private String variant;
+        // 원본 미리보기와 같이 인증 토큰을 붙여 요청한다
+        private String url;
+        private String mimetype;
+        private int width;
+        private int height;
+
+        static Preview from(File file, FilePreview preview) {
+            return Preview.builder()
+                    .variant(preview.getVariant())
+                    .url("/api/files/view/" + file.getFilename() + "?variant=" + preview.getVariant())
+                    .mimetype(preview.getMimetype())
+                    .width(preview.getWidth())
+                    .height(preview.getHeight())
+                    .build();
+        }
+    }
 }
@@ -1,5 +1,6 @@
 package com.ktb.chatapp.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,6 +19,10 @@ public class PageMetadata {
     private int currentCount;
     private SortInfo sort;
 
+    // 다음 페이지 키셋 커서 (createdAt/name 정렬에서만 제공)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
     @Data
     @Builder
     @NoArgsConstructor
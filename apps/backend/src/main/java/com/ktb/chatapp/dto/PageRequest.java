@@ -16,11 +16,18 @@ public class PageRequest {
     private String sortField = "createdAt";
     private String sortOrder = "desc";
     private String search;
+    // 이전 응답의 metadata.nextCursor. 지정되면 page 대신 키셋 방식으로 조회한다.
+    private String cursor;
+
+    public boolean supportsCursor() {
+        return "createdAt".equals(sortField) || "name".equals(sortField);
+    }
 
     public boolean isValidSortField() {
         return "createdAt".equals(sortField) ||
                "name".equals(sortField) ||
-               "participantsCount".equals(sortField);
+               "participantsCount".equals(sortField) ||
+               "recentActivity".equals(sortField);
     }
 
     public boolean isValidSortOrder() {
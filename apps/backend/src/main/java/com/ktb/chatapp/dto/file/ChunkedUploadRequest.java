@@ -0,0 +1,27 @@
+package com.ktb.chatapp.dto.file;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조각 업로드 세션 생성 요청 DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkedUploadRequest {
+
+    @NotBlank
+    private String filename;
+
+    @NotBlank
+    private String mimetype;
+
+    @Positive
+    private long size;
+}
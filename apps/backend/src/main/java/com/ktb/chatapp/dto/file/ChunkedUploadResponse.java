@@ -0,0 +1,39 @@
+package com.ktb.chatapp.dto.file;
+
+import com.ktb.chatapp.model.UploadSession;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조각 업로드 세션 상태 응답 DTO.
+ * 클라이언트는 receivedOffsets에 없는 offset의 조각만 PUT 한 뒤 세션을 확정한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChunkedUploadResponse {
+    private String uploadId;
+    private String originalname;
+    private long size;
+    private long chunkSize;
+    private int partCount;
+    private List<Long> receivedOffsets;
+    private LocalDateTime expiresAt;
+
+    public static ChunkedUploadResponse from(UploadSession session) {
+        return ChunkedUploadResponse.builder()
+                .uploadId(session.getId())
+                .originalname(session.getOriginalname())
+                .size(session.getSize())
+                .chunkSize(session.getChunkSize())
+                .partCount(session.getPartCount())
+                .receivedOffsets(session.receivedOffsets())
+                .expiresAt(session.getExpiresAt())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.ktb.chatapp.dto.file;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장소 직접 업로드 URL 발급 요청 DTO.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectUploadRequest {
+
+    @NotBlank
+    private String filename;
+
+    @NotBlank
+    private String mimetype;
+
+    @Positive
+    private long size;
+}
@@ -0,0 +1,24 @@
+package com.ktb.chatapp.dto.file;
+
+import java.time.Instant;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 저장소 직접 업로드 URL 발급 응답 DTO.
+ * 클라이언트는 uploadUrl로 headers를 그대로 붙여 PUT 한 뒤, filename으로 업로드를 확정한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DirectUploadResponse {
+    private String filename;
+    private String uploadUrl;
+    private String method;
+    private Map<String, String> headers;
+    private Instant expiresAt;
+}
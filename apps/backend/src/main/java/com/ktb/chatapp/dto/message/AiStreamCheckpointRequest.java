@@ -0,0 +1,11 @@
+package com.ktb.chatapp.dto.message;
+
+import lombok.Data;
+
+/**
+ * aiStreamCheckpoint 이벤트 요청 DTO.
+ */
+@Data
+public class AiStreamCheckpointRequest {
+    private String messageId;
+}
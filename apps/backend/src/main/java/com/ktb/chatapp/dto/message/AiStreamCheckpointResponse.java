@@ -0,0 +1,21 @@
+package com.ktb.chatapp.dto.message;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * aiMessageCheckpoint 응답 DTO.
+ * seq 프레임까지의 전체 내용으로, 이후에는 seq보다 큰 델타만 이어 붙이면 된다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AiStreamCheckpointResponse {
+    private String messageId;
+    private int seq;
+    private String content;
+    @JsonProperty("isCodeBlock")
+    private boolean codeBlock;
+}
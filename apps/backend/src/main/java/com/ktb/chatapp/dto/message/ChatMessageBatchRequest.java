@@ -0,0 +1,21 @@
+package com.ktb.chatapp.dto.message;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한 방에 여러 메시지를 한 번에 보내는 요청.
+ * 각 항목은 chatMessage와 같은 형식이며, 항목의 room은 무시하고 요청의 room을 쓴다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageBatchRequest {
+
+    private String room;
+    private List<ChatMessageRequest> messages;
+}
@@ -0,0 +1,45 @@
+package com.ktb.chatapp.dto.message;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 전송 결과. results는 요청 항목과 같은 순서다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessageBatchResponse {
+
+    private String roomId;
+    private int accepted;
+    private int rejected;
+    private List<ItemResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class ItemResult {
+        private int index;
+        private boolean accepted;
+        private String messageId;
+        private Long seq;
+        private String code;
+        private String message;
+
+        public static ItemResult accepted(int index, String messageId, Long seq) {
+            return ItemResult.builder().index(index).accepted(true).messageId(messageId).seq(seq).build();
+        }
+
+        public static ItemResult rejected(int index, String code, String message) {
+            return ItemResult.builder().index(index).accepted(false).code(code).message(message).build();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.ktb.chatapp.dto.message;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ktb.chatapp.model.Message;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이미 받은 메시지의 바뀐 상태(리액션, 읽음). 클라이언트는 같은 id의 메시지에 덮어쓴다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageDeltaResponse {
+    @JsonProperty("_id")
+    private String id;
+
+    private Map<String, Set<String>> reactions;
+
+    private List<Message.MessageReader> readers;
+
+    public static MessageDeltaResponse from(Message message) {
+        return MessageDeltaResponse.builder()
+                .id(message.getId())
+                .reactions(message.getReactions() != null ? message.getReactions() : new HashMap<>())
+                .readers(message.getReaders() != null ? message.getReaders() : new ArrayList<>())
+                .build();
+    }
+}
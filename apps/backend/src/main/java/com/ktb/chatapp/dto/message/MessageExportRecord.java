@@ -0,0 +1,68 @@
+package com.ktb.chatapp.dto.message;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.ktb.chatapp.model.AiType;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대화 내보내기의 메시지 한 건. 파일은 id와 metadata만 싣고, 읽음 목록은 싣지 않는다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class MessageExportRecord {
+    @JsonProperty("_id")
+    private String id;
+
+    @JsonProperty("room")
+    private String roomId;
+
+    private Long seq;
+
+    private String senderId;
+
+    private MessageType type;
+
+    private AiType aiType;
+
+    private String content;
+
+    @JsonProperty("file")
+    private String fileId;
+
+    private Map<String, Object> metadata;
+
+    private List<String> mentions;
+
+    private Map<String, Set<String>> reactions;
+
+    private long timestamp;
+
+    public static MessageExportRecord from(Message message) {
+        return MessageExportRecord.builder()
+                .id(message.getId())
+                .roomId(message.getRoomId())
+                .seq(message.getSeq())
+                .senderId(message.getSenderId())
+                .type(message.getType())
+                .aiType(message.getAiType())
+                .content(message.getContent())
+                .fileId(message.getFileId())
+                .metadata(message.getMetadata() == null || message.getMetadata().isEmpty() ? null : message.getMetadata())
+                .mentions(message.getMentions() == null || message.getMentions().isEmpty() ? null : message.getMentions())
+                .reactions(message.getReactions() == null || message.getReactions().isEmpty() ? null : message.getReactions())
+                .timestamp(message.toTimestampMillis())
+                .build();
+    }
+}
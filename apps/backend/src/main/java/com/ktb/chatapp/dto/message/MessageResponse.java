@@ -39,6 +39,9 @@ public class MessageResponse {
     private AiType aiType;
     
     private long timestamp;
+
+    /** 방 안의 메시지 번호. 시퀀스 도입 이전 메시지는 비어 있다. */
+    private Long seq;
     
     private Map<String, Set<String>> reactions;
     
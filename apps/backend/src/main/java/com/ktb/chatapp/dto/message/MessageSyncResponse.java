@@ -0,0 +1,24 @@
+package com.ktb.chatapp.dto.message;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * messagesSynced 이벤트 응답 DTO.
+ * messages는 커서 이후 새 메시지(seq 순), deltas는 이미 받은 메시지의 변경분이다.
+ * hasMore면 cursor로 다시 요청한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MessageSyncResponse {
+    private String roomId;
+    private List<MessageResponse> messages;
+    private List<MessageDeltaResponse> deltas;
+    private long cursor;
+    private boolean hasMore;
+}
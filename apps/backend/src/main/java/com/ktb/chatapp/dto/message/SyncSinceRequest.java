@@ -0,0 +1,14 @@
+package com.ktb.chatapp.dto.message;
+
+/**
+ * syncSince 요청. since는 마지막으로 받은 동기화 커서(joinRoomSuccess의 syncCursor 또는 이전 messagesSynced의 cursor)다.
+ */
+public record SyncSinceRequest(String roomId, Long since, Integer limit) {
+    public long sinceOrZero() {
+        return since != null && since > 0 ? since : 0;
+    }
+
+    public int limit(int defaultLimit) {
+        return limit != null && limit > 0 ? limit : defaultLimit;
+    }
+}
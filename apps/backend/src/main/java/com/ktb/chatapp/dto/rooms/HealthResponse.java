@@ -43,5 +43,9 @@ public class HealthResponse {
     public static class ServiceHealth {
         private boolean connected;
         private long latency;
+        // 최근 샘플 기준 백분위 지연 시간 (ms)
+        private Long p50;
+        private Long p95;
+        private Long p99;
     }
 }
@@ -23,4 +23,6 @@ public class JoinRoomSuccessResponse {
     private List<MessageResponse> messages;
     private boolean hasMore;
     private List<ActiveStreamResponse> activeStreams;
+    /** 재연결 후 syncSince에 넘길 커서 */
+    private long syncCursor;
 }
@@ -0,0 +1,48 @@
+package com.ktb.chatapp.dto.rooms;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * roomListDiff 이벤트 응답 DTO.
+ * 일정 주기 동안 발생한 채팅방 목록 변경을 방 단위로 합쳐서 전달한다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RoomListDiffResponse {
+    // 클라이언트가 누락 여부를 판단할 수 있는 단조 증가 번호
+    private long seq;
+    private List<RoomSummary> created;
+    private List<RoomSummary> updated;
+    private List<CountChange> countChanged;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class RoomSummary {
+        @JsonProperty("_id")
+        private String id;
+        private String name;
+        private boolean hasPassword;
+        private int participantsCount;
+        private String createdAt;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CountChange {
+        @JsonProperty("_id")
+        private String id;
+        private int participantsCount;
+    }
+}
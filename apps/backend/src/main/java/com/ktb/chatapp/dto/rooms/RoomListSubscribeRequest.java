@@ -0,0 +1,16 @@
+package com.ktb.chatapp.dto.rooms;
+
+import lombok.Data;
+
+/**
+ * joinRoomList 이벤트 요청 DTO.
+ * scope가 firstPage이면 첫 페이지(최신순)에 영향을 주는 변경만 받는다.
+ */
+@Data
+public class RoomListSubscribeRequest {
+    private String scope;
+
+    public boolean isFirstPageOnly() {
+        return "firstPage".equals(scope);
+    }
+}
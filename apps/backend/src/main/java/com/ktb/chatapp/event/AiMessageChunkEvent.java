@@ -5,21 +5,29 @@ import org.springframework.context.ApplicationEvent;
 
 /**
  * AI 메시지 청크 이벤트
+ * 누적 내용 대신 offset부터 시작하는 델타를 담고, 주기적으로 checkpoint에 전체 내용을 담는다.
  */
 @Getter
-public class AiMessageChunkEvent extends ApplicationEvent {
+public class AiMessageChunkEvent extends ApplicationEvent implements RoomScopedEvent {
     
     private final String roomId;
     private final String messageId;
-    private final String fullContent;
+    private final int seq;
+    private final int offset;
+    private final String delta;
     private final boolean isCodeBlock;
+    private final String checkpoint;
     
     public AiMessageChunkEvent(Object source, String roomId, String messageId,
-                               String fullContent, boolean isCodeBlock) {
+                               int seq, int offset, String delta,
+                               boolean isCodeBlock, String checkpoint) {
         super(source);
         this.roomId = roomId;
         this.messageId = messageId;
-        this.fullContent = fullContent;
+        this.seq = seq;
+        this.offset = offset;
+        this.delta = delta;
         this.isCodeBlock = isCodeBlock;
+        this.checkpoint = checkpoint;
     }
 }
@@ -11,7 +11,7 @@ import org.springframework.context.ApplicationEvent;
  * AI 메시지 완료 이벤트
  */
 @Getter
-public class AiMessageCompleteEvent extends ApplicationEvent {
+public class AiMessageCompleteEvent extends ApplicationEvent implements RoomScopedEvent {
     
     private final String roomId;
     private final String messageId;
@@ -8,7 +8,7 @@ import org.springframework.context.ApplicationEvent;
  * AI 메시지 완료 이벤트
  */
 @Getter
-public class AiMessageSavedEvent extends ApplicationEvent {
+public class AiMessageSavedEvent extends ApplicationEvent implements RoomScopedEvent {
     
     private final String roomId;
     private final String content;
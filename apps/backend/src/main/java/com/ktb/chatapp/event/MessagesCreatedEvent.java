@@ -0,0 +1,22 @@
+package com.ktb.chatapp.event;
+
+import com.ktb.chatapp.dto.message.MessageResponse;
+import java.util.List;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 한 방에 여러 메시지가 한 번에 저장된 이벤트 (일괄 전송)
+ */
+@Getter
+public class MessagesCreatedEvent extends ApplicationEvent implements RoomScopedEvent {
+
+    private final String roomId;
+    private final List<MessageResponse> messages;
+
+    public MessagesCreatedEvent(Object source, String roomId, List<MessageResponse> messages) {
+        super(source);
+        this.roomId = roomId;
+        this.messages = messages;
+    }
+}
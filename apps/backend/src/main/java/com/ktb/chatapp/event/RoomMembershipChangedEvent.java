@@ -0,0 +1,18 @@
+package com.ktb.chatapp.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class RoomMembershipChangedEvent extends ApplicationEvent implements RoomScopedEvent {
+    private final String roomId;
+    private final String userId;
+    private final boolean joined;
+
+    public RoomMembershipChangedEvent(Object source, String roomId, String userId, boolean joined) {
+        super(source);
+        this.roomId = roomId;
+        this.userId = userId;
+        this.joined = joined;
+    }
+}
@@ -0,0 +1,10 @@
+package com.ktb.chatapp.event;
+
+/**
+ * 특정 채팅방에 속한 이벤트.
+ * 이벤트 버스는 같은 방의 이벤트를 같은 레인에서 발행 순서대로 처리한다.
+ */
+public interface RoomScopedEvent {
+
+    String getRoomId();
+}
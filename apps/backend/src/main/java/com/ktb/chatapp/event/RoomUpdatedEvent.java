@@ -5,7 +5,7 @@ import lombok.Getter;
 import org.springframework.context.ApplicationEvent;
 
 @Getter
-public class RoomUpdatedEvent extends ApplicationEvent {
+public class RoomUpdatedEvent extends ApplicationEvent implements RoomScopedEvent {
     private final String roomId;
     private final RoomResponse roomResponse;
 
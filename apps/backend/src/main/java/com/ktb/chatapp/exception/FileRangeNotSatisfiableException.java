@@ -0,0 +1,17 @@
+package com.ktb.chatapp.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청한 Range가 파일 크기를 벗어나 돌려줄 수 없을 때 발생한다.
+ */
+@Getter
+public class FileRangeNotSatisfiableException extends RuntimeException {
+
+    private final long totalLength;
+
+    public FileRangeNotSatisfiableException(long totalLength) {
+        super("Requested range not satisfiable");
+        this.totalLength = totalLength;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ktb.chatapp.exception;
+
+import lombok.Getter;
+
+/**
+ * 비밀번호 해싱 대기열이 가득 차 요청을 받을 수 없을 때 발생한다.
+ */
+@Getter
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PasswordHashingRejectedException(long retryAfterSeconds) {
+        super("Password hashing queue is full");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
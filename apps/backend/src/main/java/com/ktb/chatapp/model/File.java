@@ -3,6 +3,7 @@ package com.ktb.chatapp.model;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -23,7 +24,8 @@ public class File {
     @Id
     private String id;
 
-    @Indexed
+    // 저장 파일명은 업로드마다 새로 만들므로 고유하다. 직접 업로드 확정의 중복 저장도 이 인덱스가 막는다
+    @Indexed(unique = true)
     private String filename;
 
     private String originalname;
@@ -34,6 +36,13 @@ public class File {
 
     private String path;
 
+    /**
+     * 내용의 SHA-256. 같은 내용의 업로드는 path가 같은 {@link FileBlob}을 가리킨다.
+     * 중복 제거 이전에 올라온 파일은 비어 있고 path를 혼자 쓴다.
+     */
+    @Indexed(sparse = true)
+    private String contentHash;
+
     @Field("user")
     @Indexed
     private String user;
@@ -43,6 +52,20 @@ public class File {
     @Indexed
     private LocalDateTime uploadDate;
 
+    /**
+     * 백그라운드에서 만든 이미지 미리보기. 아직 만들지 않았거나 이미지가 아니면 비어 있다.
+     */
+    private List<FilePreview> previews;
+
+    public Optional<FilePreview> findPreview(String variant) {
+        if (variant == null || previews == null) {
+            return Optional.empty();
+        }
+        return previews.stream()
+                .filter(preview -> variant.equals(preview.getVariant()))
+                .findFirst();
+    }
+
     /**
      * 미리보기 지원 여부 확인
      */
@@ -0,0 +1,34 @@
+package com.ktb.chatapp.model;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 내용(SHA-256)이 같은 업로드가 함께 쓰는 저장소 객체.
+ * refCount는 이 객체를 가리키는 File 문서 수이며 0이 되면 객체를 지운다.
+ * path에는 임의 접미사가 붙어 있어, 지워지는 중인 객체와 같은 내용을 다시 올려도 다른 경로에 저장된다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "file_blobs")
+public class FileBlob {
+
+    /** 내용의 SHA-256 (hex) */
+    @Id
+    private String hash;
+
+    private String path;
+
+    private long size;
+
+    private long refCount;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,29 @@
+package com.ktb.chatapp.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 이미지 첨부에서 만든 축소 파생본. 원본 옆 저장소 경로에 메타데이터 없이 다시 인코딩되어 있다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FilePreview {
+
+    /** 파생본 이름 (thumb, medium) */
+    private String variant;
+
+    private String path;
+
+    private String mimetype;
+
+    private int width;
+
+    private int height;
+
+    private long size;
+}
@@ -31,7 +31,8 @@ import java.util.Set;
 @Document(collection = "messages")
 @CompoundIndexes({
     @CompoundIndex(name = "readers_userId_idx", def = "{'readers.userId': 1}"),
-    @CompoundIndex(name = "room_isDeleted_timestamp_idx", def = "{'room': 1, 'isDeleted': 1, 'timestamp': -1}")
+    @CompoundIndex(name = "room_isDeleted_timestamp_idx", def = "{'room': 1, 'isDeleted': 1, 'timestamp': -1}"),
+    @CompoundIndex(name = "room_changeSeq_idx", def = "{'room': 1, 'changeSeq': 1}")
 })
 public class Message {
 
@@ -52,7 +53,8 @@ public class Message {
 
     private MessageType type;
 
-    // Mongo 문서 필드명 "file" 사용
+    // Mongo 문서 필드명 "file" 사용. 파일 권한 확인용 조회 인덱스이며 첨부 없는 메시지는 제외한다
+    @Indexed(sparse = true)
     @Field("file")
     private String fileId;
 
@@ -64,6 +66,24 @@ public class Message {
     @CreatedDate
     private LocalDateTime timestamp;
 
+    /**
+     * 방 안에서 단조 증가하는 메시지 번호. 저장될 때 방 시퀀스에서 할당한다.
+     * 시퀀스 도입 이전 메시지는 비어 있다.
+     */
+    private Long seq;
+
+    /**
+     * 마지막 변경(생성, 리액션, 읽음)의 방 시퀀스 번호. seq와 같은 번호 공간을 쓰며 증분 동기화 커서가 된다.
+     */
+    private Long changeSeq;
+
+    /**
+     * 내보내기에 실리는 내용(생성, 리액션, 수정)이 마지막으로 바뀐 방 시퀀스 번호. 읽음 변경에는 올라가지 않는다.
+     */
+    private Long contentSeq;
+
+    private LocalDateTime changedAt;
+
     @Builder.Default
     private Map<String, Set<String>> reactions = new HashMap<>();
 
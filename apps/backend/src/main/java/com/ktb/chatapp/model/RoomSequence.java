@@ -0,0 +1,24 @@
+package com.ktb.chatapp.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 방별 메시지 시퀀스 카운터. value는 지금까지 할당된(블록으로 예약된) 가장 큰 번호다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "room_sequences")
+public class RoomSequence {
+
+    @Id
+    private String roomId;
+
+    private long value;
+}
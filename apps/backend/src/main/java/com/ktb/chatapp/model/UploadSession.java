@@ -0,0 +1,94 @@
+package com.ktb.chatapp.model;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 이어받기 가능한 조각 업로드 세션.
+ * 파일을 chunkSize 크기 조각으로 나눠 받으며, 조각 i는 offset i * chunkSize에서 시작한다(마지막 조각만 짧다).
+ * 받은 조각은 parts에 원자적으로 기록되므로 여러 조각을 동시에 올릴 수 있고, 끊긴 뒤에는 빠진 조각만 다시 올린다.
+ * expiresAt까지 조각이 오지 않으면 정리 작업이 저장소 쪽 업로드와 함께 지운다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "upload_sessions")
+public class UploadSession {
+
+    @Id
+    private String id;
+
+    @Indexed
+    private String user;
+
+    /** 확정 후 File 문서의 filename */
+    private String filename;
+
+    private String originalname;
+
+    private String mimetype;
+
+    private long size;
+
+    private long chunkSize;
+
+    private int partCount;
+
+    /** 조립된 파일이 저장될 저장소 경로 */
+    private String storageKey;
+
+    /** 저장소 쪽 업로드 ID (S3 multipart upload ID) */
+    private String storageUploadId;
+
+    /** 받은 조각 번호 → 저장소가 돌려준 조각 식별자(S3 ETag) */
+    @Builder.Default
+    private Map<String, String> parts = new HashMap<>();
+
+    private Status status;
+
+    private LocalDateTime createdAt;
+
+    @Indexed
+    private LocalDateTime expiresAt;
+
+    public enum Status {
+        UPLOADING,
+        COMPLETING
+    }
+
+    public long offsetOf(int index) {
+        return index * chunkSize;
+    }
+
+    /**
+     * 조각 index가 담아야 하는 바이트 수.
+     */
+    public long partLength(int index) {
+        return Math.min(chunkSize, size - offsetOf(index));
+    }
+
+    public boolean isComplete() {
+        return parts != null && parts.size() == partCount;
+    }
+
+    public List<Long> receivedOffsets() {
+        if (parts == null) {
+            return List.of();
+        }
+        return parts.keySet().stream()
+                .map(Integer::parseInt)
+                .sorted()
+                .map(this::offsetOf)
+                .toList();
+    }
+}
@@ -9,4 +9,9 @@ import java.util.Optional;
 @Repository
 public interface FileRepository extends MongoRepository<File, String> {
     Optional<File> findByFilename(String filename);
+
+    /**
+     * 같은 내용의 다른 업로드에서 이미 만든 미리보기를 재사용하기 위한 조회
+     */
+    Optional<File> findFirstByContentHashAndPreviewsIsNotNull(String contentHash);
 }
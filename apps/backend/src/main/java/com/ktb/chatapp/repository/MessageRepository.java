@@ -28,6 +28,18 @@ public interface MessageRepository extends MongoRepository<Message, String> {
     })
     List<RoomMessageCount> countRecentMessagesByRoomIds(Collection<String> roomIds, LocalDateTime since);
 
+    /**
+     * 특정 시간 이후의 메시지 수를 방/분 단위로 집계 (활동 카운터 초기화용)
+     * minute 값은 분 단위로 절삭된 epoch milliseconds
+     */
+    @Aggregation(pipeline = {
+        "{ '$match': { 'isDeleted': false, 'timestamp': { $gte: ?0 } } }",
+        "{ '$project': { 'room': 1, 'ts': { '$toLong': '$timestamp' } } }",
+        "{ '$group': { '_id': { 'room': '$room', 'minute': { '$subtract': ['$ts', { '$mod': ['$ts', 60000] }] } }, 'count': { '$sum': 1 } } }",
+        "{ '$project': { '_id': 0, 'roomId': '$_id.room', 'minute': '$_id.minute', 'count': 1 } }"
+    })
+    List<RoomMinuteCount> countMessagesPerMinuteSince(LocalDateTime since);
+
     /**
      * fileId로 메시지 조회 (파일 권한 검증용)
      */
@@ -37,4 +49,10 @@ public interface MessageRepository extends MongoRepository<Message, String> {
         String getId();
         long getCount();
     }
+
+    interface RoomMinuteCount {
+        String getRoomId();
+        long getMinute();
+        long getCount();
+    }
 }
@@ -0,0 +1,107 @@
+package com.ktb.chatapp.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * 검증이 끝난 JWT를 토큰 다이제스트 기준으로 캐시하는 JwtDecoder.
+ * 같은 토큰이 반복해서 들어오면 JWS 파싱과 HS256 서명 검증을 다시 하지 않는다.
+ * 캐시 항목은 토큰의 exp 시점에 만료되며, 만료 이후에는 위임 디코더가 다시 판단한다.
+ * 검증에 실패한 토큰은 캐시하지 않는다.
+ * 캐시가 가득 차면 가장 오래 쓰이지 않은 항목 하나를 밀어내므로 삽입 비용이 항목 수와 무관하다.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final int maxEntries;
+    private final Clock clock;
+
+    // 접근 순서 LRU, cache 자체로 동기화
+    private final LinkedHashMap<String, Jwt> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    public CachingJwtDecoder(JwtDecoder delegate, int maxEntries) {
+        this(delegate, maxEntries, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, int maxEntries, Clock clock) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Jwt> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        if (token == null) {
+            return delegate.decode(null);
+        }
+        String key = digest(token);
+        Instant now = clock.instant();
+
+        synchronized (cache) {
+            Jwt cached = cache.get(key);
+            if (cached != null) {
+                if (isLive(cached, now)) {
+                    hits.incrementAndGet();
+                    return cached;
+                }
+                cache.remove(key);
+            }
+        }
+
+        // 서명 검증은 락 밖에서 한다
+        misses.incrementAndGet();
+        Jwt jwt = delegate.decode(token);
+        if (isLive(jwt, now)) {
+            synchronized (cache) {
+                cache.put(key, jwt);
+            }
+        }
+        return jwt;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static boolean isLive(Jwt jwt, Instant now) {
+        return jwt.getExpiresAt() != null && jwt.getExpiresAt().isAfter(now);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
+import com.ktb.chatapp.event.RoomUpdatedEvent;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 첨부 파일의 접근 권한 판정.
+ * 파일 → 파일을 담은 메시지 → 메시지의 방 참여자 순서로 확인한다. 저장소 구현과 무관하게 같은 규칙을 쓴다.
+ * 업로드 후 바뀌지 않는 파일 문서와 소속 방은 파일명 단위로, 방 참여자 목록은 방 단위로 캐시해
+ * 같은 방의 첨부를 여러 클라이언트가 받을 때 요청마다 Mongo를 세 번 조회하지 않게 한다.
+ * 캐시된 참여자 목록에 없으면 저장소에서 다시 읽어 판정하므로 막 참여한 사용자는 거부되지 않는다.
+ * 퇴장과 방 변경 이벤트는 해당 방의 참여자 캐시를 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FileAccessResolver {
+
+    private final FileRepository fileRepository;
+    private final MessageRepository messageRepository;
+    private final RoomRepository roomRepository;
+
+    @Value("${app.file.access-cache.grant-ttl-ms:600000}")
+    private long grantTtlMs;
+
+    @Value("${app.file.access-cache.membership-ttl-ms:30000}")
+    private long membershipTtlMs;
+
+    @Value("${app.file.access-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<String, Grant> grants = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Membership> memberships = new ConcurrentHashMap<>();
+    private final AtomicLong membershipVersion = new AtomicLong();
+
+    /**
+     * 요청자가 파일이 공유된 방의 참여자이면 파일 문서를 돌려준다.
+     * 돌려준 문서는 캐시와 공유되므로 수정하지 않는다.
+     */
+    public File authorize(String fileName, String requesterId) {
+        Grant grant = grant(fileName);
+        if (!isParticipant(grant.roomId(), requesterId)) {
+            throw new RuntimeException("파일에 접근할 권한이 없습니다");
+        }
+        return grant.file();
+    }
+
+    /**
+     * 삭제된 파일의 판정 결과를 지운다.
+     */
+    public void evict(String fileName) {
+        if (fileName != null) {
+            grants.remove(fileName);
+        }
+    }
+
+    @EventListener
+    public void onRoomMembershipChanged(RoomMembershipChangedEvent event) {
+        invalidateRoom(event.getRoomId());
+    }
+
+    @EventListener
+    public void onRoomUpdated(RoomUpdatedEvent event) {
+        invalidateRoom(event.getRoomId());
+    }
+
+    private Grant grant(String fileName) {
+        long now = System.currentTimeMillis();
+        Grant cached = grants.get(fileName);
+        if (cached != null && now - cached.loadedAt() < grantTtlMs) {
+            return cached;
+        }
+
+        File fileEntity = fileRepository.findByFilename(fileName)
+                .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileName));
+
+        // 메시지가 아직 없는 업로드는 캐시하지 않는다
+        Message message = messageRepository.findByFileId(fileEntity.getId())
+                .orElseThrow(() -> new RuntimeException("파일과 연결된 메시지를 찾을 수 없습니다"));
+
+        Grant grant = new Grant(fileEntity, message.getRoomId(), now);
+        put(grants, fileName, grant, grantTtlMs, now);
+        return grant;
+    }
+
+    private boolean isParticipant(String roomId, String userId) {
+        long now = System.currentTimeMillis();
+        Membership cached = memberships.get(roomId);
+        if (cached != null && now - cached.loadedAt() < membershipTtlMs
+                && cached.participantIds().contains(userId)) {
+            return true;
+        }
+
+        long currentVersion = membershipVersion.get();
+        Room room = roomRepository.findById(roomId)
+                .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
+        Set<String> participantIds = room.getParticipantIds() != null
+                ? Set.copyOf(room.getParticipantIds())
+                : Set.of();
+
+        // 읽는 도중 퇴장 이벤트가 지나갔으면 읽은 목록을 저장하지 않는다
+        if (membershipVersion.get() == currentVersion) {
+            put(memberships, roomId, new Membership(participantIds, now), membershipTtlMs, now);
+        }
+        return participantIds.contains(userId);
+    }
+
+    private void invalidateRoom(String roomId) {
+        membershipVersion.incrementAndGet();
+        if (roomId != null) {
+            memberships.remove(roomId);
+        }
+    }
+
+    private <V extends Expiring> void put(Map<String, V> cache, String key, V value, long ttlMs, long now) {
+        if (cache.size() >= maxEntries && !cache.containsKey(key)) {
+            cache.values().removeIf(entry -> now - entry.loadedAt() >= ttlMs);
+            if (cache.size() >= maxEntries) {
+                return;
+            }
+        }
+        cache.put(key, value);
+    }
+
+    private interface Expiring {
+        long loadedAt();
+    }
+
+    private record Grant(File file, String roomId, long loadedAt) implements Expiring {
+    }
+
+    private record Membership(Set<String> participantIds, long loadedAt) implements Expiring {
+    }
+}
@@ -0,0 +1,176 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.FileBlob;
+import com.ktb.chatapp.model.FilePreview;
+import com.ktb.chatapp.repository.FileRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+/**
+ * 내용 주소 기반 업로드 중복 제거.
+ * 업로드 내용의 SHA-256으로 {@link FileBlob}을 찾아, 있으면 참조 수만 올리고 저장소 업로드를 건너뛴다.
+ * 참조 수 증감은 Mongo 원자 연산으로 하며, 마지막 참조가 빠질 때만 저장소 객체를 지우도록 호출자에게 알려준다.
+ */
+@Slf4j
+@Service
+public class FileBlobService {
+
+    private static final int REGISTER_ATTEMPTS = 3;
+
+    private final MongoTemplate mongoTemplate;
+    private final FileRepository fileRepository;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bytesSavedCounter;
+
+    public FileBlobService(MongoTemplate mongoTemplate, FileRepository fileRepository, MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.fileRepository = fileRepository;
+        this.hitCounter = Counter.builder("file.dedup.lookups")
+                .description("Upload content lookups against existing blobs")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("file.dedup.lookups")
+                .description("Upload content lookups against existing blobs")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.bytesSavedCounter = Counter.builder("file.dedup.bytes.saved")
+                .description("Bytes not stored because identical content already existed")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 같은 내용의 blob이 있으면 참조 수를 올리고 돌려준다. 조회 결과는 적중률 지표에 반영된다.
+     */
+    public Optional<FileBlob> lookup(String hash, long size) {
+        Optional<FileBlob> blob = acquire(hash);
+        if (blob.isPresent()) {
+            hitCounter.increment();
+            bytesSavedCounter.increment(size);
+        } else {
+            missCounter.increment();
+        }
+        return blob;
+    }
+
+    /**
+     * 새로 저장한 객체를 참조 수 1로 등록한다.
+     * 같은 내용이 동시에 먼저 등록됐으면 그 blob의 참조를 얻고 created=false를 돌려주며,
+     * 호출자는 방금 저장한 객체를 지운다.
+     */
+    public Registration register(String hash, String path, long size) {
+        for (int attempt = 0; attempt < REGISTER_ATTEMPTS; attempt++) {
+            try {
+                FileBlob blob = mongoTemplate.insert(FileBlob.builder()
+                        .hash(hash)
+                        .path(path)
+                        .size(size)
+                        .refCount(1)
+                        .createdAt(LocalDateTime.now())
+                        .build());
+                return new Registration(blob, true);
+            } catch (DuplicateKeyException e) {
+                Optional<FileBlob> existing = acquire(hash);
+                if (existing.isPresent()) {
+                    return new Registration(existing.get(), false);
+                }
+                // 그 사이 마지막 참조가 지워졌으면 다시 등록한다
+            }
+        }
+        throw new IllegalStateException("파일 내용을 등록할 수 없습니다: " + hash);
+    }
+
+    /**
+     * 참조 수를 내린다. 마지막 참조였으면 blob 문서를 지우고 돌려주며, 호출자가 저장소 객체를 지운다.
+     * 감소와 삭제 사이에 다른 업로드가 참조를 얻으면 refCount 조건 때문에 지우지 않는다.
+     */
+    public Optional<FileBlob> release(String hash) {
+        FileBlob blob = mongoTemplate.findAndModify(
+                byHash(hash),
+                new Update().inc("refCount", -1),
+                FindAndModifyOptions.options().returnNew(true),
+                FileBlob.class);
+        if (blob == null || blob.getRefCount() > 0) {
+            return Optional.empty();
+        }
+        long deleted = mongoTemplate.remove(
+                Query.query(Criteria.where("_id").is(hash).and("refCount").lte(0)),
+                FileBlob.class).getDeletedCount();
+        return deleted > 0 ? Optional.of(blob) : Optional.empty();
+    }
+
+    /**
+     * 같은 내용의 다른 업로드에서 이미 만든 미리보기. 파생본 경로는 blob 경로에서 나오므로 그대로 쓸 수 있다.
+     */
+    public List<FilePreview> sharedPreviews(String hash) {
+        return fileRepository.findFirstByContentHashAndPreviewsIsNotNull(hash)
+                .map(File::getPreviews)
+                .orElse(null);
+    }
+
+    /**
+     * 저장소 객체 경로. 내용 해시 뒤에 임의 접미사를 붙여 blob마다 다른 경로가 되게 한다.
+     */
+    public static String blobName(String hash) {
+        return hash + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 본문을 끝까지 읽으며 SHA-256을 계산한다.
+     */
+    public static String sha256(InputStream content) throws IOException {
+        DigestInputStream in = digesting(content);
+        try (in) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return hex(in.getMessageDigest());
+    }
+
+    public static DigestInputStream digesting(InputStream content) {
+        try {
+            return new DigestInputStream(content, MessageDigest.getInstance("SHA-256"));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public static String hex(MessageDigest digest) {
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private Optional<FileBlob> acquire(String hash) {
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                byHash(hash),
+                new Update().inc("refCount", 1),
+                FindAndModifyOptions.options().returnNew(true),
+                FileBlob.class));
+    }
+
+    private static Query byHash(String hash) {
+        return Query.query(Criteria.where("_id").is(hash));
+    }
+
+    public record Registration(FileBlob blob, boolean created) {
+    }
+}
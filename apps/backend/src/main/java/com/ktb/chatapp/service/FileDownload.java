@@ -0,0 +1,73 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.exception.FileRangeNotSatisfiableException;
+import com.ktb.chatapp.model.File;
+import java.io.InputStream;
+import java.nio.file.Path;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.http.HttpRange;
+
+/**
+ * 열린 다운로드 본문과 응답 헤더에 필요한 정보.
+ * partial이면 [rangeStart, rangeEnd] 구간만 담고 있다.
+ * 본문을 끝까지 읽지 못하고 멈출 때는 {@link #abort()}로 저장소 연결을 끊는다.
+ * 로컬 디스크의 파일이면 localPath가 있어 서블릿 컨테이너가 직접(sendfile) 보낼 수 있다.
+ * 미리보기 파생본이면 contentType이 원본 파일의 mimetype과 다르다.
+ */
+@Getter
+@Builder
+public class FileDownload {
+
+    private final File file;
+    private final String contentType;
+    private final InputStream content;
+    private final long rangeStart;
+    private final long rangeEnd;
+    private final long totalLength;
+    private final String etag;
+    private final boolean partial;
+    private final Runnable aborter;
+    private final Path localPath;
+
+    public String getContentType() {
+        return contentType != null ? contentType : file.getMimetype();
+    }
+
+    public long getContentLength() {
+        return rangeEnd - rangeStart + 1;
+    }
+
+    /**
+     * 남은 본문을 읽지 않고 버린다. 저장소 연결을 재사용하려고 남은 바이트를 끝까지 받는 것을 막는다.
+     */
+    public void abort() {
+        if (aborter != null) {
+            aborter.run();
+        }
+    }
+
+    /**
+     * 파일 크기에 맞춰 해석한 바이트 구간 [start, end].
+     */
+    public record Span(long start, long end) {
+
+        /**
+         * @throws FileRangeNotSatisfiableException 구간이 파일 크기를 벗어난 경우
+         */
+        public static Span resolve(HttpRange range, long size) {
+            long start;
+            long end;
+            try {
+                start = range.getRangeStart(size);
+                end = range.getRangeEnd(size);
+            } catch (IllegalArgumentException e) {
+                throw new FileRangeNotSatisfiableException(size);
+            }
+            if (start >= size || start > end) {
+                throw new FileRangeNotSatisfiableException(size);
+            }
+            return new Span(start, end);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.ktb.chatapp.service;
 
-import org.springframework.core.io.Resource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+import org.springframework.http.HttpRange;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface FileService {
@@ -9,9 +12,43 @@ public interface FileService {
 
     String storeFile(MultipartFile file, String subDirectory);
 
-    Resource loadFileAsResource(String fileName, String requesterId);
+    /**
+     * 접근 권한을 확인하고 파일 본문을 연다.
+     * range가 있으면 해당 구간만 저장소에서 읽는다. ifRange(ETag 또는 HTTP 날짜)가 현재 파일과 맞지 않으면
+     * range를 무시하고 전체를 연다.
+     *
+     * @throws com.ktb.chatapp.exception.FileRangeNotSatisfiableException range가 파일 크기를 벗어난 경우
+     */
+    default FileDownload openDownload(String fileName, String requesterId, HttpRange range, String ifRange) {
+        return openDownload(fileName, null, requesterId, range, ifRange);
+    }
+
+    /**
+     * variant가 있으면 해당 이미지 미리보기 파생본을 연다. 아직 만들어지지 않았으면 원본을 연다.
+     */
+    FileDownload openDownload(String fileName, String variant, String requesterId, HttpRange range, String ifRange);
+
+    /**
+     * 저장소가 서명된 직접 다운로드 URL을 지원하면, 접근 권한을 확인한 뒤 짧게 유효한 URL을 돌려준다.
+     * 지원하지 않으면 비어 있고, 호출자는 {@link #openDownload}로 내려보낸다. variant는 openDownload와 같다.
+     */
+    default Optional<String> presignDownloadUrl(String fileName, String variant, String requesterId, boolean inline) {
+        return Optional.empty();
+    }
 
     boolean deleteFile(String fileId, String requesterId);
 
+    /**
+     * 저장소 경로의 객체를 권한 확인 없이 읽는다. 서버 내부 작업(미리보기 생성)용이다.
+     */
+    InputStream openStored(String path) throws IOException;
+
+    /**
+     * 서버가 만든 바이트(미리보기, 정규화한 프로필 이미지)를 저장소 경로에 쓴다.
+     *
+     * @return publicRead이면 공개 URL, 아니면 저장소 경로
+     */
+    String writeStored(String path, byte[] content, String contentType, boolean publicRead) throws IOException;
+
     void deleteStoredFile(String storedPath);
 }
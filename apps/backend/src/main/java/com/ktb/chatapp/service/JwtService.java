@@ -55,15 +55,27 @@ public class JwtService {
         return jwtEncoder.encode(JwtEncoderParameters.from(defaultJwsHeader, claims)).getTokenValue();
     }
 
+    /**
+     * 토큰을 한 번 디코딩해 필요한 클레임을 함께 반환한다.
+     * 같은 토큰의 검증 결과는 JwtDecoder 캐시에서 재사용된다.
+     * @throws JwtException 서명, 만료, 필수 클레임 검증 실패 시
+     */
+    public TokenClaims decodeOnce(String token) {
+        Jwt jwt = jwtDecoder.decode(token);
+        return new TokenClaims(
+                jwt.getClaimAsString("userId"),
+                jwt.getClaimAsString("sessionId"),
+                jwt.getSubject(),
+                jwt.getExpiresAt());
+    }
+
     /**
      * 토큰 유효성 검증 (UserDetails 포함)
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
         try {
-            Jwt jwt = jwtDecoder.decode(token);
-            return jwt.getSubject().equals(userDetails.getUsername()) &&
-                   jwt.getExpiresAt() != null &&
-                   jwt.getExpiresAt().isAfter(Instant.now());
+            TokenClaims claims = decodeOnce(token);
+            return claims.email().equals(userDetails.getUsername()) && claims.isNotExpired();
         } catch (JwtException e) {
             log.debug("Token validation failed: {}", e.getMessage());
             return false;
@@ -75,8 +87,7 @@ public class JwtService {
      */
     public Boolean validateToken(String token) {
         try {
-            Jwt jwt = jwtDecoder.decode(token);
-            return jwt.getExpiresAt() != null && jwt.getExpiresAt().isAfter(Instant.now());
+            return decodeOnce(token).isNotExpired();
         } catch (JwtException e) {
             log.debug("Token validation failed: {}", e.getMessage());
             return false;
@@ -88,7 +99,7 @@ public class JwtService {
      */
     public String extractEmail(String token) {
         try {
-            return jwtDecoder.decode(token).getSubject();
+            return decodeOnce(token).email();
         } catch (JwtException e) {
             log.error("Failed to extract email from token: {}", e.getMessage());
             throw e;
@@ -100,7 +111,7 @@ public class JwtService {
      */
     public String extractUserId(String token) {
         try {
-            return jwtDecoder.decode(token).getClaim("userId");
+            return decodeOnce(token).userId();
         } catch (JwtException e) {
             log.error("Failed to extract userId from token: {}", e.getMessage());
             throw e;
@@ -112,7 +123,7 @@ public class JwtService {
      */
     public String extractSessionId(String token) {
         try {
-            return jwtDecoder.decode(token).getClaim("sessionId");
+            return decodeOnce(token).sessionId();
         } catch (JwtException e) {
             log.error("Failed to extract sessionId from token: {}", e.getMessage());
             throw e;
@@ -124,7 +135,7 @@ public class JwtService {
      */
     public Instant extractExpiration(String token) {
         try {
-            return jwtDecoder.decode(token).getExpiresAt();
+            return decodeOnce(token).expiresAt();
         } catch (JwtException e) {
             log.error("Failed to extract expiration from token: {}", e.getMessage());
             throw e;
@@ -167,4 +178,14 @@ public class JwtService {
             return null;
         }
     }
+
+    /**
+     * 검증된 토큰의 클레임 묶음
+     */
+    public record TokenClaims(String userId, String sessionId, String email, Instant expiresAt) {
+
+        public boolean isNotExpired() {
+            return expiresAt != null && expiresAt.isAfter(Instant.now());
+        }
+    }
 }
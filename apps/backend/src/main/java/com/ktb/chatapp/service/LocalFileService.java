@@ -0,0 +1,368 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.FileBlob;
+import com.ktb.chatapp.model.FilePreview;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.service.preview.ImagePreviewService;
+import com.ktb.chatapp.util.FileUtil;
+import jakarta.annotation.PostConstruct;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 로컬 파일 시스템 FileService 구현. 단일 노드, 개발, CI, 온프레미스 배포용.
+ * 채팅 첨부는 uploads/{xx}/{yy}/ 아래에 이름 해시로 나눠 저장해 한 디렉터리에 파일이 몰리지 않게 한다.
+ * 업로드는 SHA-256을 계산하며 FileChannel로 임시 파일에 흘려 쓰고, 같은 내용이 이미 있으면 임시 파일을 버리고
+ * 기존 blob을 가리킨다. 새 내용이면 임시 파일을 원자적으로 옮긴다.
+ * 다운로드는 localPath를 넘겨 컨테이너가 sendfile로 보내게 한다.
+ * 프로필 이미지는 공개 경로 /uploads/{subDirectory}/ 아래에서 정적 리소스로 서빙된다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.file", name = "storage", havingValue = "local")
+public class LocalFileService implements FileService {
+
+    public static final String PUBLIC_PATH_PREFIX = "/uploads/";
+
+    private static final String ATTACHMENT_DIRECTORY = "uploads";
+    private static final long TRANSFER_CHUNK_BYTES = 1024 * 1024;
+
+    private final FileRepository fileRepository;
+    private final FileAccessResolver fileAccessResolver;
+    private final FileBlobService fileBlobService;
+    private final Path root;
+
+    public LocalFileService(
+            FileRepository fileRepository,
+            FileAccessResolver fileAccessResolver,
+            FileBlobService fileBlobService,
+            @Value("${app.file.local.root:./uploads}") String root) {
+        this.fileRepository = fileRepository;
+        this.fileAccessResolver = fileAccessResolver;
+        this.fileBlobService = fileBlobService;
+        this.root = Path.of(root).toAbsolutePath().normalize();
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(root);
+        log.info("LocalFileService initialized with root: {}", root);
+    }
+
+    @Override
+    public FileUploadResult uploadFile(MultipartFile file, String uploaderId) {
+        try {
+            FileUtil.validateFile(file);
+            String originalFilename = originalFilename(file);
+            String safeFileName = FileUtil.generateSafeFileName(originalFilename);
+
+            DigestInputStream content = FileBlobService.digesting(file.getInputStream());
+            Path temp = writeTemp(content, resolve(ATTACHMENT_DIRECTORY));
+            String hash = FileBlobService.hex(content.getMessageDigest());
+            Optional<FileBlob> existing;
+            FileBlob blob;
+            try {
+                existing = fileBlobService.lookup(hash, file.getSize());
+                blob = existing.isPresent() ? existing.get() : storeBlob(temp, hash, file.getSize());
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+
+            // 여기까지 blob 참조 수를 하나 올렸으므로, 메타데이터 저장에 실패하면 되돌린다
+            File savedFile;
+            try {
+                savedFile = fileRepository.save(File.builder()
+                        .filename(safeFileName)
+                        .originalname(FileUtil.normalizeOriginalFilename(originalFilename))
+                        .mimetype(file.getContentType())
+                        .size(file.getSize())
+                        .path(blob.getPath())
+                        .contentHash(hash)
+                        .previews(existing.isPresent() ? fileBlobService.sharedPreviews(hash) : null)
+                        .user(uploaderId)
+                        .uploadDate(LocalDateTime.now())
+                        .build());
+            } catch (RuntimeException e) {
+                releaseBlob(hash);
+                throw e;
+            }
+
+            return FileUploadResult.builder()
+                    .success(true)
+                    .file(savedFile)
+                    .build();
+
+        } catch (Exception e) {
+            log.error("Local file upload failed", e);
+            throw new RuntimeException("파일 업로드에 실패했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public String storeFile(MultipartFile file, String subDirectory) {
+        try {
+            FileUtil.validateFile(file);
+            String safeFileName = FileUtil.generateSafeFileName(originalFilename(file));
+            String relativePath = StringUtils.hasText(subDirectory)
+                    ? subDirectory + "/" + safeFileName
+                    : safeFileName;
+
+            write(file.getInputStream(), resolve(relativePath));
+
+            return PUBLIC_PATH_PREFIX + relativePath;
+        } catch (IOException e) {
+            throw new RuntimeException("프로필 이미지를 저장할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public FileDownload openDownload(String fileName, String variant, String requesterId, HttpRange range, String ifRange) {
+        File fileEntity = fileAccessResolver.authorize(fileName, requesterId);
+        FilePreview preview = fileEntity.findPreview(variant).orElse(null);
+        Path path = resolve(preview != null ? preview.getPath() : fileEntity.getPath());
+
+        try {
+            long size = Files.size(path);
+            long lastModified = Files.getLastModifiedTime(path).toMillis();
+            String etag = "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+
+            FileDownload.Span span = range != null && ifRangeMatches(ifRange, etag, lastModified)
+                    ? FileDownload.Span.resolve(range, size)
+                    : null;
+            long start = span != null ? span.start() : 0;
+            long end = span != null ? span.end() : size - 1;
+
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+            channel.position(start);
+            return FileDownload.builder()
+                    .file(fileEntity)
+                    .contentType(preview != null ? preview.getMimetype() : fileEntity.getMimetype())
+                    .content(new BoundedInputStream(Channels.newInputStream(channel), end - start + 1))
+                    .rangeStart(start)
+                    .rangeEnd(end)
+                    .totalLength(size)
+                    .etag(etag)
+                    .partial(span != null)
+                    .aborter(() -> closeQuietly(channel))
+                    .localPath(path)
+                    .build();
+        } catch (IOException e) {
+            log.error("Local load file error: {}", fileName, e);
+            throw new RuntimeException("파일을 불러올 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public boolean deleteFile(String fileId, String requesterId) {
+        try {
+            File fileEntity = fileRepository.findById(fileId)
+                    .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다."));
+
+            if (!fileEntity.getUser().equals(requesterId)) {
+                throw new RuntimeException("파일을 삭제할 권한이 없습니다.");
+            }
+
+            // 참조 수를 먼저 내린다. 문서를 먼저 지우면 release가 실패했을 때 참조 수가 영영 남는다
+            Optional<FileBlob> released = fileEntity.getContentHash() == null
+                    ? Optional.empty()
+                    : fileBlobService.release(fileEntity.getContentHash());
+            fileRepository.delete(fileEntity);
+            fileAccessResolver.evict(fileEntity.getFilename());
+
+            // 같은 내용을 다른 업로드가 아직 참조하면 디스크의 파일은 남긴다
+            if (fileEntity.getContentHash() == null || released.isPresent()) {
+                String blobPath = released.map(FileBlob::getPath).orElse(fileEntity.getPath());
+                Files.deleteIfExists(resolve(blobPath));
+                for (String previewPath : ImagePreviewService.previewPaths(blobPath)) {
+                    Files.deleteIfExists(resolve(previewPath));
+                }
+            }
+            log.info("Local file deleted: {}", fileEntity.getPath());
+            return true;
+        } catch (Exception e) {
+            log.error("Local delete file error: {}", fileId, e);
+            throw new RuntimeException("파일 삭제 중 오류가 발생했습니다.", e);
+        }
+    }
+
+    @Override
+    public InputStream openStored(String path) throws IOException {
+        return Files.newInputStream(resolve(path));
+    }
+
+    @Override
+    public String writeStored(String path, byte[] content, String contentType, boolean publicRead) throws IOException {
+        write(new ByteArrayInputStream(content), resolve(path));
+        return publicRead ? PUBLIC_PATH_PREFIX + path : path;
+    }
+
+    @Override
+    public void deleteStoredFile(String storedPath) {
+        if (!StringUtils.hasText(storedPath) || !storedPath.startsWith(PUBLIC_PATH_PREFIX)) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(resolve(storedPath.substring(PUBLIC_PATH_PREFIX.length())));
+        } catch (IOException e) {
+            log.warn("Failed to delete stored file: {}", storedPath, e);
+        }
+    }
+
+    /**
+     * 이름 해시로 고른 2단계 디렉터리. 디렉터리당 파일 수를 1/65536로 줄인다.
+     */
+    public static String shardedPath(String name) {
+        int hash = name.hashCode();
+        return String.format("%s/%02x/%02x/%s", ATTACHMENT_DIRECTORY, (hash >>> 8) & 0xff, hash & 0xff, name);
+    }
+
+    /**
+     * 업로드 실패로 쓰이지 않게 된 blob 참조를 돌려준다. 마지막 참조였으면 디스크의 파일도 지운다.
+     */
+    private void releaseBlob(String hash) {
+        try {
+            Optional<FileBlob> released = fileBlobService.release(hash);
+            if (released.isPresent()) {
+                Files.deleteIfExists(resolve(released.get().getPath()));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to release blob reference after upload failure - hash: {}", hash, e);
+        }
+    }
+
+    private FileBlob storeBlob(Path temp, String hash, long size) throws IOException {
+        String relativePath = shardedPath(FileBlobService.blobName(hash));
+        Path target = resolve(relativePath);
+        Files.createDirectories(target.getParent());
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        FileBlobService.Registration registration = fileBlobService.register(hash, relativePath, size);
+        if (!registration.created()) {
+            Files.deleteIfExists(target);
+        }
+        return registration.blob();
+    }
+
+    private Path resolve(String relativePath) {
+        Path path = root.resolve(relativePath).normalize();
+        FileUtil.validatePath(path, root);
+        return path;
+    }
+
+    /**
+     * 멀티파트 본문을 버퍼에 모으지 않고 FileChannel로 흘려 쓴다.
+     * 같은 디렉터리의 임시 파일에 쓴 뒤 옮기므로 쓰는 도중의 파일이 다운로드되지 않는다.
+     */
+    private static void write(InputStream content, Path target) throws IOException {
+        Path temp = writeTemp(content, target.getParent());
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Path writeTemp(InputStream content, Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, ".upload-", ".tmp");
+        try (ReadableByteChannel in = Channels.newChannel(content);
+             FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long transferred;
+            while ((transferred = out.transferFrom(in, position, TRANSFER_CHUNK_BYTES)) > 0) {
+                position += transferred;
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return temp;
+    }
+
+    private static boolean ifRangeMatches(String ifRange, String etag, long lastModifiedMillis) {
+        if (!StringUtils.hasText(ifRange)) {
+            return true;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(etag);
+        }
+        if (ifRange.startsWith("W/")) {
+            return false;
+        }
+        try {
+            long since = ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            // HTTP 날짜는 초 단위
+            return lastModifiedMillis / 1000 <= since / 1000;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static String originalFilename(MultipartFile file) {
+        String originalFilename = file.getOriginalFilename();
+        return StringUtils.cleanPath(originalFilename != null ? originalFilename : "file");
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close file channel", e);
+        }
+    }
+
+    /**
+     * 구간 끝에서 멈추는 입력 스트림.
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+
+        private long remaining;
+
+        private BoundedInputStream(InputStream in, long length) {
+            super(in);
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int b = super.read();
+            if (b != -1) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (remaining <= 0) {
+                return -1;
+            }
+            int read = super.read(b, off, (int) Math.min(len, remaining));
+            if (read > 0) {
+                remaining -= read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.message.ChatMessageBatchResponse;
+import com.ktb.chatapp.dto.message.ChatMessageBatchResponse.ItemResult;
+import com.ktb.chatapp.dto.message.ChatMessageRequest;
+import com.ktb.chatapp.dto.message.MessageContent;
+import com.ktb.chatapp.dto.message.MessageResponse;
+import com.ktb.chatapp.event.MessagesCreatedEvent;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.util.BannedWordChecker;
+import com.ktb.chatapp.websocket.socketio.ai.AiService;
+import com.ktb.chatapp.websocket.socketio.handler.MessageResponseMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 한 방에 여러 메시지를 한 번에 저장한다 (봇, 부하 생성기 같은 일괄 클라이언트용).
+ * 권한과 전송 한도는 요청당 한 번만 확인하고, 금칙어/파일 검사는 항목마다 한다.
+ * 통과한 항목은 한 번의 bulk insert로 저장하고 messageBatch 프레임 하나로 방에 알린다.
+ * 거절된 항목은 나머지 저장을 막지 않으며 결과에 사유가 남는다.
+ */
+@Slf4j
+@Service
+public class MessageBatchService {
+
+    /** chatMessage와 같은 사용자별 전송 한도. 일괄 전송은 메시지 수만큼 한도를 쓴다. */
+    public static final int MESSAGE_RATE_LIMIT = 10000;
+    public static final Duration MESSAGE_RATE_WINDOW = Duration.ofMinutes(1);
+
+    private final MongoTemplate mongoTemplate;
+    private final RoomRepository roomRepository;
+    private final FileRepository fileRepository;
+    private final BannedWordChecker bannedWordChecker;
+    private final RateLimitService rateLimitService;
+    private final MessageResponseMapper messageResponseMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<AiService> aiServiceProvider;
+    private final int maxItems;
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSizeSummary;
+
+    public MessageBatchService(
+            MongoTemplate mongoTemplate,
+            RoomRepository roomRepository,
+            FileRepository fileRepository,
+            BannedWordChecker bannedWordChecker,
+            RateLimitService rateLimitService,
+            MessageResponseMapper messageResponseMapper,
+            ApplicationEventPublisher eventPublisher,
+            ObjectProvider<AiService> aiServiceProvider,
+            MeterRegistry meterRegistry,
+            @Value("${app.message.batch.max-items:50}") int maxItems) {
+        this.mongoTemplate = mongoTemplate;
+        this.roomRepository = roomRepository;
+        this.fileRepository = fileRepository;
+        this.bannedWordChecker = bannedWordChecker;
+        this.rateLimitService = rateLimitService;
+        this.messageResponseMapper = messageResponseMapper;
+        this.eventPublisher = eventPublisher;
+        this.aiServiceProvider = aiServiceProvider;
+        this.meterRegistry = meterRegistry;
+        this.maxItems = maxItems;
+        this.batchSizeSummary = DistributionSummary.builder("messages.batch.size")
+                .description("Messages per batch request")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 항목 수만큼 전송 한도를 한 번에 쓴다.
+     */
+    public RateLimitCheckResult checkRateLimit(String senderId, int itemCount) {
+        return rateLimitService.checkRateLimit(senderId, MESSAGE_RATE_LIMIT, MESSAGE_RATE_WINDOW, Math.max(1, itemCount));
+    }
+
+    /**
+     * 요청 크기와 방 참여 여부를 확인한다. 전송 한도를 쓰기 전에 호출해, 거절될 요청이 한도를 쓰지 않게 한다.
+     *
+     * @throws IllegalArgumentException 항목이 없거나 최대 개수를 넘은 요청
+     * @throws RuntimeException 방이 없거나 참여자가 아닌 경우
+     */
+    public Room validate(String roomId, String senderId, List<ChatMessageRequest> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("보낼 메시지가 없습니다.");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("한 번에 보낼 수 있는 메시지는 최대 " + maxItems + "개입니다.");
+        }
+        Room room = roomRepository.findById(roomId).orElse(null);
+        if (room == null || !room.getParticipantIds().contains(senderId)) {
+            throw new RuntimeException("채팅방 접근 권한이 없습니다.");
+        }
+        return room;
+    }
+
+    /**
+     * 항목을 검사해 통과한 메시지만 한 번에 저장하고 방에 알린다.
+     *
+     * @throws IllegalArgumentException 항목이 없거나 최대 개수를 넘은 요청
+     * @throws RuntimeException 방이 없거나 참여자가 아닌 경우
+     */
+    public ChatMessageBatchResponse ingest(String roomId, String senderId, List<ChatMessageRequest> items) {
+        return ingest(validate(roomId, senderId, items), senderId, items);
+    }
+
+    /**
+     * {@link #validate}를 통과한 요청을 저장한다.
+     */
+    public ChatMessageBatchResponse ingest(Room room, String senderId, List<ChatMessageRequest> items) {
+        String roomId = room.getId();
+        batchSizeSummary.record(items.size());
+
+        Map<String, File> files = loadOwnedFiles(items, senderId);
+        ItemResult[] results = new ItemResult[items.size()];
+        List<Message> messages = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        List<MessageContent> contents = new ArrayList<>();
+        // 기존 메시지 조회가 timestamp 커서를 쓰므로 같은 요청의 메시지도 서로 다른 시각을 받게 한다
+        LocalDateTime baseTime = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+
+        for (int i = 0; i < items.size(); i++) {
+            ChatMessageRequest item = items.get(i);
+            if (item == null) {
+                results[i] = ItemResult.rejected(i, "INVALID_MESSAGE", "메시지 데이터가 없습니다.");
+                continue;
+            }
+            MessageContent content = item.getParsedContent();
+            if (bannedWordChecker.containsBannedWord(content.getTrimmedContent())) {
+                results[i] = ItemResult.rejected(i, "MESSAGE_REJECTED", "금칙어가 포함된 메시지는 전송할 수 없습니다.");
+                continue;
+            }
+
+            Message message = new Message();
+            message.setRoomId(roomId);
+            message.setSenderId(senderId);
+            message.setContent(content.getTrimmedContent());
+            message.setTimestamp(baseTime.plus(messages.size(), ChronoUnit.MILLIS));
+            message.setMentions(content.aiMentions());
+
+            switch (item.getMessageType()) {
+                case "text" -> {
+                    if (content.isEmpty()) {
+                        results[i] = ItemResult.rejected(i, "EMPTY_MESSAGE", "빈 메시지는 보낼 수 없습니다.");
+                        continue;
+                    }
+                    message.setType(MessageType.text);
+                }
+                case "file" -> {
+                    File file = files.get(fileIdOf(item));
+                    if (file == null) {
+                        results[i] = ItemResult.rejected(i, "FILE_ERROR", "파일을 찾을 수 없거나 접근 권한이 없습니다.");
+                        continue;
+                    }
+                    message.setType(MessageType.file);
+                    message.setFileId(file.getId());
+                    Map<String, Object> metadata = new HashMap<>();
+                    metadata.put("fileType", file.getMimetype());
+                    metadata.put("fileSize", file.getSize());
+                    metadata.put("originalName", file.getOriginalname());
+                    message.setMetadata(metadata);
+                }
+                default -> {
+                    results[i] = ItemResult.rejected(i, "UNSUPPORTED_TYPE", "지원하지 않는 메시지 타입입니다: " + item.getMessageType());
+                    continue;
+                }
+            }
+            messages.add(message);
+            indexes.add(i);
+            contents.add(content);
+        }
+
+        if (!messages.isEmpty()) {
+            // insert 전에 BeforeConvert 리스너가 목록 순서대로 seq를 붙인다
+            List<Message> saved = new ArrayList<>(mongoTemplate.insert(messages, Message.class));
+            List<MessageResponse> responses = new ArrayList<>(saved.size());
+            for (int j = 0; j < saved.size(); j++) {
+                Message message = saved.get(j);
+                results[indexes.get(j)] = ItemResult.accepted(indexes.get(j), message.getId(), message.getSeq());
+                responses.add(messageResponseMapper.mapToMessageResponse(
+                        message, message.getFileId() != null ? files.get(message.getFileId()) : null));
+            }
+            eventPublisher.publishEvent(new MessagesCreatedEvent(this, roomId, responses));
+            aiServiceProvider.ifAvailable(aiService ->
+                    contents.forEach(content -> aiService.handleAIMentions(roomId, senderId, content)));
+        }
+
+        int accepted = messages.size();
+        int rejected = items.size() - accepted;
+        countItems("accepted", accepted);
+        countItems("rejected", rejected);
+        log.debug("Message batch processed - room: {}, sender: {}, accepted: {}, rejected: {}",
+                roomId, senderId, accepted, rejected);
+
+        return ChatMessageBatchResponse.builder()
+                .roomId(roomId)
+                .accepted(accepted)
+                .rejected(rejected)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    /**
+     * 파일 항목이 가리키는 파일을 한 번에 조회한다. 보낸 사람의 파일만 남긴다.
+     */
+    private Map<String, File> loadOwnedFiles(List<ChatMessageRequest> items, String senderId) {
+        Set<String> fileIds = new HashSet<>();
+        for (ChatMessageRequest item : items) {
+            if (item != null && "file".equals(item.getMessageType()) && fileIdOf(item) != null) {
+                fileIds.add(fileIdOf(item));
+            }
+        }
+        Map<String, File> files = new HashMap<>();
+        if (fileIds.isEmpty()) {
+            return files;
+        }
+        for (File file : fileRepository.findAllById(fileIds)) {
+            if (senderId.equals(file.getUser())) {
+                files.put(file.getId(), file);
+            }
+        }
+        return files;
+    }
+
+    private static String fileIdOf(ChatMessageRequest item) {
+        Map<String, Object> fileData = item.getFileData();
+        return fileData != null && fileData.get("_id") instanceof String id ? id : null;
+    }
+
+    private void countItems(String outcome, int count) {
+        if (count == 0) {
+            return;
+        }
+        Counter.builder("messages.batch.items")
+                .description("Batched chat messages by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment(count);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.service.sync.MessageSequenceAllocator;
 import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -21,29 +22,46 @@ import org.springframework.stereotype.Service;
 public class MessageReadStatusService {
 
     private final MongoTemplate mongoTemplate;
+    private final MessageSequenceAllocator sequenceAllocator;
 
     /**
      * 메시지 읽음 상태 업데이트
      *
+     * 새로 읽힌 메시지는 증분 동기화에 잡히도록 방 시퀀스에서 changeSeq를 새로 받는다.
+     * 이미 읽은 메시지에는 번호를 쓰지 않도록 아직 읽지 않은 메시지만 먼저 골라 번호를 받는다.
+     * 동시에 다른 경로가 더 큰 changeSeq를 기록했을 수 있으므로 $max로만 올린다.
+     *
+     * @param roomId 메시지가 속한 방 ID
      * @param messageIds 읽음 상태를 업데이트할 메시지 리스트
      * @param userId 읽은 사용자 ID
      */
-    public void updateReadStatus(List<String> messageIds, String userId) {
+    public void updateReadStatus(String roomId, List<String> messageIds, String userId) {
         if (messageIds.isEmpty()) {
             return;
         }
         
         try {
+            LocalDateTime now = LocalDateTime.now();
             Message.MessageReader readerInfo = Message.MessageReader.builder()
                     .userId(userId)
-                    .readAt(LocalDateTime.now())
+                    .readAt(now)
                     .build();
 
+            Query unreadQuery = new Query(Criteria.where("_id").in(messageIds)
+                    .and("readers.userId").ne(userId));
+            unreadQuery.fields().include("_id");
+            List<Message> unread = mongoTemplate.find(unreadQuery, Message.class);
+            if (unread.isEmpty()) {
+                return;
+            }
+
             BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Message.class);
-            for (String messageId : messageIds) {
-                Query query = new Query(Criteria.where("_id").is(messageId)
+            for (Message message : unread) {
+                Query query = new Query(Criteria.where("_id").is(message.getId())
                         .and("readers.userId").ne(userId));
-                Update update = new Update().addToSet("readers", readerInfo);
+                Update update = new Update().addToSet("readers", readerInfo)
+                        .max("changeSeq", sequenceAllocator.next(roomId))
+                        .set("changedAt", now);
                 ops.updateOne(query, update);
             }
 
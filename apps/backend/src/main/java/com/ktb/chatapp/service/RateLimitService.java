@@ -41,6 +41,14 @@ public class RateLimitService {
     
     @Transactional
     public RateLimitCheckResult checkRateLimit(String _clientId, int maxRequests, Duration window) {
+        return checkRateLimit(_clientId, maxRequests, window, 1);
+    }
+
+    /**
+     * 요청 하나가 permits건으로 계산되는 검사. 일괄 전송은 한 번만 검사하되 메시지 수만큼 한도를 쓴다.
+     */
+    @Transactional
+    public RateLimitCheckResult checkRateLimit(String _clientId, int maxRequests, Duration window, int permits) {
         String actualClientId = hostName + ":" + _clientId;
         long windowSeconds = Math.max(1L, window.getSeconds());
         Instant now = Instant.now();
@@ -51,10 +59,11 @@ public class RateLimitService {
             RateLimit rateLimit = rateLimitStore.findByClientId(actualClientId).orElse(null);
             int currentCount = rateLimit != null ? rateLimit.getCount() : 0;
 
-            if (rateLimit != null && currentCount >= maxRequests) {
-                long retryAfterSeconds = Math.max(1L,
-                    rateLimit.getExpiresAt().getEpochSecond() - nowEpochSeconds);
-                long resetEpochSeconds = rateLimit.getExpiresAt().getEpochSecond();
+            if (currentCount + permits > maxRequests) {
+                long resetEpochSeconds = rateLimit != null
+                        ? rateLimit.getExpiresAt().getEpochSecond()
+                        : expiresAt.getEpochSecond();
+                long retryAfterSeconds = Math.max(1L, resetEpochSeconds - nowEpochSeconds);
                 return RateLimitCheckResult.rejected(
                         maxRequests, windowSeconds, resetEpochSeconds, retryAfterSeconds);
             }
@@ -63,15 +72,15 @@ public class RateLimitService {
             if (rateLimit == null) {
                 rateLimit = RateLimit.builder()
                         .clientId(actualClientId)
-                        .count(1)
+                        .count(permits)
                         .expiresAt(expiresAt)
                         .build();
             } else {
-                rateLimit.setCount(currentCount + 1);
+                rateLimit.setCount(currentCount + permits);
             }
             rateLimitStore.save(rateLimit);
 
-            int newCount = currentCount + 1;
+            int newCount = currentCount + permits;
             int remaining = Math.max(0, maxRequests - newCount);
             long ttlSeconds = Math.max(1L, rateLimit.getExpiresAt().getEpochSecond() - nowEpochSeconds);
             long resetEpochSeconds = rateLimit.getExpiresAt().getEpochSecond();
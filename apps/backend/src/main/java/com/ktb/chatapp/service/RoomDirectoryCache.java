@@ -0,0 +1,109 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.PageMetadata;
+import com.ktb.chatapp.dto.rooms.RoomResponse;
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
+import com.ktb.chatapp.event.RoomUpdatedEvent;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방 목록 페이지 공유 캐시.
+ * 요청자와 무관한 부분(방, 참여자, 페이지 메타데이터)만 저장하고 isCreator·최근 메시지 수는 조회 시점에 덧씌운다.
+ * 방 생성/수정/참여자 변경 이벤트가 발생하면 전체 캐시를 무효화한다.
+ */
+@Slf4j
+@Component
+public class RoomDirectoryCache {
+
+    @Value("${app.room-directory.cache-ttl-ms:30000}")
+    private long ttlMs;
+
+    @Value("${app.room-directory.cache-max-entries:1000}")
+    private int maxEntries;
+
+    private final ConcurrentHashMap<PageKey, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * 캐시된 페이지를 반환하고, 없거나 만료되었으면 loader로 다시 생성한다.
+     * 생성 도중 무효화가 일어난 결과는 저장하지 않는다.
+     */
+    public SharedPage get(PageKey key, Supplier<SharedPage> loader) {
+        long currentVersion = version.get();
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.version() == currentVersion && now - entry.loadedAt() < ttlMs) {
+            return entry.page();
+        }
+
+        SharedPage page = loader.get();
+        if (page != null && version.get() == currentVersion
+                && (entries.size() < maxEntries || entries.containsKey(key))) {
+            entries.put(key, new Entry(page, currentVersion, now));
+        }
+        return page;
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+        entries.clear();
+    }
+
+    @EventListener
+    public void onRoomCreated(RoomCreatedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onRoomUpdated(RoomUpdatedEvent event) {
+        invalidate();
+    }
+
+    @EventListener
+    public void onRoomMembershipChanged(RoomMembershipChangedEvent event) {
+        invalidate();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    public record PageKey(
+            String sortField,
+            String sortOrder,
+            int page,
+            int pageSize,
+            String search,
+            String cursor) {
+
+        public static PageKey from(com.ktb.chatapp.dto.PageRequest pageRequest) {
+            String search = pageRequest.getSearch() != null ? pageRequest.getSearch().trim() : "";
+            String cursor = pageRequest.getCursor() != null ? pageRequest.getCursor() : "";
+            return new PageKey(
+                pageRequest.getSortField(),
+                pageRequest.getSortOrder(),
+                cursor.isEmpty() ? pageRequest.getPage() : 0,
+                pageRequest.getPageSize(),
+                search.toLowerCase(),
+                cursor);
+        }
+    }
+
+    /**
+     * 요청자와 무관한 페이지 내용.
+     * rooms의 isCreator/recentMessageCount는 비어 있으며 contentHash는 직렬화된 내용의 해시다.
+     */
+    public record SharedPage(List<RoomResponse> rooms, PageMetadata metadata, String contentHash) {
+    }
+
+    private record Entry(SharedPage page, long version, long loadedAt) {
+    }
+}
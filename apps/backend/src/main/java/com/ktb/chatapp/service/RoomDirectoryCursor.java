@@ -0,0 +1,52 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.Room;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * 채팅방 목록 키셋 커서.
+ * 마지막 방의 정렬 값과 id를 "정렬필드|정렬순서|값|id" 형태로 인코딩한다.
+ */
+public record RoomDirectoryCursor(String sortField, String sortOrder, Object value, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static String encode(String sortField, String sortOrder, Room lastRoom) {
+        if (lastRoom == null || lastRoom.getId() == null) {
+            return null;
+        }
+        String value = "name".equals(sortField)
+            ? lastRoom.getName()
+            : (lastRoom.getCreatedAt() != null ? lastRoom.getCreatedAt().toString() : null);
+        if (value == null) {
+            return null;
+        }
+        String raw = String.join(SEPARATOR, sortField, sortOrder, lastRoom.getId(), value);
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서를 해석한다. 형식이 잘못되었거나 정렬 조건이 다르면 비어 있는 결과를 반환한다.
+     */
+    public static Optional<RoomDirectoryCursor> decode(String cursor, String sortField, String sortOrder) {
+        if (cursor == null || cursor.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            // 이름에 구분자가 포함될 수 있으므로 값은 마지막 필드로 둔다
+            String[] parts = raw.split("\\|", 4);
+            if (parts.length != 4 || !parts[0].equals(sortField) || !parts[1].equals(sortOrder)) {
+                return Optional.empty();
+            }
+            Object value = "createdAt".equals(sortField) ? LocalDateTime.parse(parts[3]) : parts[3];
+            return Optional.of(new RoomDirectoryCursor(parts[0], parts[1], value, parts[2]));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.rooms.RoomsResponse;
+
+/**
+ * 요청자 기준으로 완성된 채팅방 목록 응답과 그 strong ETag.
+ * 조회에 실패한 경우 etag는 null이다.
+ */
+public record RoomDirectoryPage(RoomsResponse response, String etag) {
+}
@@ -1,5 +1,7 @@
 package com.ktb.chatapp.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ktb.chatapp.dto.*;
 import com.ktb.chatapp.dto.rooms.CreateRoomRequest;
 import com.ktb.chatapp.dto.rooms.HealthResponse;
@@ -10,25 +12,37 @@ import com.ktb.chatapp.event.RoomCreatedEvent;
 import com.ktb.chatapp.event.RoomUpdatedEvent;
 import com.ktb.chatapp.model.Room;
 import com.ktb.chatapp.model.User;
-import com.ktb.chatapp.repository.MessageRepository;
 import com.ktb.chatapp.repository.RoomRepository;
 import com.ktb.chatapp.repository.UserRepository;
-import java.time.LocalDateTime;
+import com.ktb.chatapp.service.activity.RoomActivityCounter;
+import com.ktb.chatapp.service.health.HealthSampler;
+import com.ktb.chatapp.service.health.HealthSnapshot;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -39,12 +53,25 @@ public class RoomService {
 
     private final RoomRepository roomRepository;
     private final UserRepository userRepository;
-    private final MessageRepository messageRepository;
     private final PasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher eventPublisher;
+    private final RoomActivityCounter roomActivityCounter;
+    private final MongoTemplate mongoTemplate;
+    private final RoomDirectoryCache roomDirectoryCache;
+    private final ObjectMapper objectMapper;
+    private final HealthSampler healthSampler;
 
     public RoomsResponse getAllRoomsWithPagination(
             com.ktb.chatapp.dto.PageRequest pageRequest, String name) {
+        return getRoomDirectoryPage(pageRequest, name).response();
+    }
+
+    /**
+     * 채팅방 목록 페이지를 조회한다.
+     * 요청자와 무관한 부분은 RoomDirectoryCache에서 공유하고, isCreator와 최근 메시지 수만 요청마다 덧씌운다.
+     */
+    public RoomDirectoryPage getRoomDirectoryPage(
+            com.ktb.chatapp.dto.PageRequest pageRequest, String name) {
 
         try {
             // 정렬 설정 검증
@@ -55,106 +82,166 @@ public class RoomService {
                 pageRequest.setSortOrder("desc");
             }
 
-            // 정렬 방향 설정
-            Sort.Direction direction = "desc".equals(pageRequest.getSortOrder())
-                ? Sort.Direction.DESC
-                : Sort.Direction.ASC;
-
-            // 정렬 필드 매핑 (participantsCount는 특별 처리 필요)
-            String sortField = pageRequest.getSortField();
-            if ("participantsCount".equals(sortField)) {
-                sortField = "participantIds"; // MongoDB 필드명으로 변경
+            RoomDirectoryCache.SharedPage sharedPage;
+            if ("recentActivity".equals(pageRequest.getSortField())) {
+                // 최근 활동순은 카운터에 따라 순서가 계속 바뀌므로 캐시하지 않음
+                sharedPage = loadSharedPage(pageRequest);
+            } else {
+                sharedPage = roomDirectoryCache.get(
+                    RoomDirectoryCache.PageKey.from(pageRequest),
+                    () -> loadSharedPage(pageRequest));
             }
 
-            // Pageable 객체 생성
+            return applyRequesterOverlay(sharedPage, name);
+
+        } catch (Exception e) {
+            log.error("방 목록 조회 에러", e);
+            return new RoomDirectoryPage(RoomsResponse.builder()
+                .success(false)
+                .data(List.of())
+                .build(), null);
+        }
+    }
+
+    private RoomDirectoryCache.SharedPage loadSharedPage(com.ktb.chatapp.dto.PageRequest pageRequest) {
+        // 정렬 방향 설정
+        Sort.Direction direction = "desc".equals(pageRequest.getSortOrder())
+            ? Sort.Direction.DESC
+            : Sort.Direction.ASC;
+
+        // 정렬 필드 매핑 (participantsCount는 특별 처리 필요)
+        String sortField = pageRequest.getSortField();
+        if ("participantsCount".equals(sortField)) {
+            sortField = "participantIds"; // MongoDB 필드명으로 변경
+        }
+
+        Optional<RoomDirectoryCursor> cursor = pageRequest.supportsCursor()
+            ? RoomDirectoryCursor.decode(pageRequest.getCursor(), pageRequest.getSortField(), pageRequest.getSortOrder())
+            : Optional.empty();
+
+        Page<Room> roomPage;
+        if ("recentActivity".equals(sortField)) {
+            // 최근 활동은 DB 필드가 아니므로 메모리 카운터 기준으로 정렬
+            roomPage = findRoomsByRecentActivity(pageRequest, direction);
+        } else if (cursor.isPresent()) {
+            roomPage = findRoomsAfterCursor(pageRequest, direction, cursor.get());
+        } else {
+            // Pageable 객체 생성 (동일 정렬 값은 id로 순서 고정)
             PageRequest springPageRequest = PageRequest.of(
                 pageRequest.getPage(),
                 pageRequest.getPageSize(),
-                Sort.by(direction, sortField)
+                Sort.by(direction, sortField).and(Sort.by(direction, "_id"))
             );
 
             // 검색어가 있는 경우와 없는 경우 분리
-            Page<Room> roomPage;
             if (pageRequest.getSearch() != null && !pageRequest.getSearch().trim().isEmpty()) {
                 roomPage = roomRepository.findByNameContainingIgnoreCase(
                     pageRequest.getSearch().trim(), springPageRequest);
             } else {
                 roomPage = roomRepository.findAll(springPageRequest);
             }
+        }
 
-            // Room을 RoomResponse로 변환
-            List<Room> rooms = roomPage.getContent();
-            Map<String, User> usersById = loadUsersForRooms(rooms);
-            Map<String, Long> recentCounts = loadRecentMessageCounts(rooms);
-
-            List<RoomResponse> roomResponses = rooms.stream()
-                .map(room -> mapToRoomResponse(room, name, usersById, recentCounts))
-                .collect(Collectors.toList());
-
-            // 메타데이터 생성
-            PageMetadata metadata = PageMetadata.builder()
-                .total(roomPage.getTotalElements())
-                .page(pageRequest.getPage())
-                .pageSize(pageRequest.getPageSize())
-                .totalPages(roomPage.getTotalPages())
-                .hasMore(roomPage.hasNext())
-                .currentCount(roomResponses.size())
-                .sort(PageMetadata.SortInfo.builder()
-                    .field(pageRequest.getSortField())
-                    .order(pageRequest.getSortOrder())
-                    .build())
-                .build();
+        // Room을 RoomResponse로 변환 (요청자별 필드는 overlay에서 채움)
+        List<Room> rooms = roomPage.getContent();
+        Map<String, User> usersById = loadUsersForRooms(rooms);
+
+        List<RoomResponse> roomResponses = rooms.stream()
+            .map(room -> mapToRoomResponse(room, null, usersById, Collections.emptyMap()))
+            .collect(Collectors.toList());
+
+        String nextCursor = pageRequest.supportsCursor() && roomPage.hasNext() && !rooms.isEmpty()
+            ? RoomDirectoryCursor.encode(pageRequest.getSortField(), pageRequest.getSortOrder(), rooms.getLast())
+            : null;
+
+        // 메타데이터 생성
+        PageMetadata metadata = PageMetadata.builder()
+            .total(roomPage.getTotalElements())
+            .page(pageRequest.getPage())
+            .pageSize(pageRequest.getPageSize())
+            .totalPages(roomPage.getTotalPages())
+            .hasMore(roomPage.hasNext())
+            .currentCount(roomResponses.size())
+            .sort(PageMetadata.SortInfo.builder()
+                .field(pageRequest.getSortField())
+                .order(pageRequest.getSortOrder())
+                .build())
+            .nextCursor(nextCursor)
+            .build();
 
-            return RoomsResponse.builder()
+        String contentHash;
+        try {
+            contentHash = digest(objectMapper.writeValueAsString(RoomsResponse.builder()
                 .success(true)
                 .data(roomResponses)
                 .metadata(metadata)
-                .build();
+                .build()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방 목록 직렬화 실패", e);
+        }
 
-        } catch (Exception e) {
-            log.error("방 목록 조회 에러", e);
-            return RoomsResponse.builder()
-                .success(false)
-                .data(List.of())
-                .build();
+        return new RoomDirectoryCache.SharedPage(List.copyOf(roomResponses), metadata, contentHash);
+    }
+
+    /**
+     * 공유 페이지에 요청자별 isCreator와 최근 메시지 수를 적용하고 strong ETag를 계산한다.
+     */
+    private RoomDirectoryPage applyRequesterOverlay(RoomDirectoryCache.SharedPage sharedPage, String requesterIdentity) {
+        List<String> roomIds = sharedPage.rooms().stream().map(RoomResponse::getId).toList();
+        Map<String, Long> recentCounts = roomActivityCounter.getRecentCounts(roomIds);
+
+        StringBuilder overlay = new StringBuilder(sharedPage.contentHash());
+        List<RoomResponse> roomResponses = new ArrayList<>(sharedPage.rooms().size());
+        for (RoomResponse shared : sharedPage.rooms()) {
+            boolean isCreator = shared.getCreator() != null && shared.getCreator().getEmail() != null
+                && shared.getCreator().getEmail().equalsIgnoreCase(requesterIdentity);
+            int recentMessageCount = recentCounts.getOrDefault(shared.getId(), 0L).intValue();
+            roomResponses.add(shared.toBuilder()
+                .isCreator(isCreator)
+                .recentMessageCount(recentMessageCount)
+                .build());
+            overlay.append('|').append(isCreator ? 1 : 0).append(':').append(recentMessageCount);
         }
+
+        RoomsResponse response = RoomsResponse.builder()
+            .success(true)
+            .data(roomResponses)
+            .metadata(sharedPage.metadata())
+            .build();
+        return new RoomDirectoryPage(response, "\"" + digest(overlay.toString()) + "\"");
     }
 
-    public HealthResponse getHealthStatus() {
+    private static String digest(String value) {
         try {
-            long startTime = System.currentTimeMillis();
-
-            // MongoDB 연결 상태 확인
-            boolean isMongoConnected = false;
-            long latency = 0;
-
-            try {
-                // 간단한 쿼리로 연결 상태 및 지연 시간 측정
-                roomRepository.findOneForHealthCheck();
-                long endTime = System.currentTimeMillis();
-                latency = endTime - startTime;
-                isMongoConnected = true;
-            } catch (Exception e) {
-                log.warn("MongoDB 연결 확인 실패", e);
-                isMongoConnected = false;
-            }
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 
-            // 최근 활동 조회
-            LocalDateTime lastActivity = roomRepository.findMostRecentRoom()
-                    .map(Room::getCreatedAt)
-                    .orElse(null);
+    public HealthResponse getHealthStatus() {
+        try {
+            // 요청마다 DB를 조회하지 않고 백그라운드 샘플링 결과를 사용
+            HealthSnapshot snapshot = healthSampler.getSnapshot();
 
             // 서비스 상태 정보 구성
             Map<String, HealthResponse.ServiceHealth> services = new HashMap<>();
-            services.put("database", HealthResponse.ServiceHealth.builder()
-                .connected(isMongoConnected)
-                .latency(latency)
-                .build());
+            snapshot.components().forEach((name, component) ->
+                services.put(name, HealthResponse.ServiceHealth.builder()
+                    .connected(component.up())
+                    .latency(component.latency())
+                    .p50(component.p50())
+                    .p95(component.p95())
+                    .p99(component.p99())
+                    .build()));
 
             return HealthResponse.builder()
-                .success(true)
+                .success(snapshot.isUp(HealthSampler.MONGO) && !healthSampler.isStale(snapshot))
+                .timestamp(snapshot.sampledAt().toString())
                 .services(services)
-                .lastActivity(lastActivity)
+                .lastActivity(snapshot.lastActivity())
                 .build();
 
         } catch (Exception e) {
@@ -308,14 +395,123 @@ public class RoomService {
             .map(Room::getId)
             .filter(java.util.Objects::nonNull)
             .toList();
-        if (roomIds.isEmpty()) {
-            return Collections.emptyMap();
+        return roomActivityCounter.getRecentCounts(roomIds);
+    }
+
+    /**
+     * 최근 활동순 페이지 조회.
+     * 활동 중인 방은 카운터 스냅샷으로 정렬하고, 나머지 방은 생성일 역순으로 이어 붙인다.
+     * desc는 활동 중인 방이 먼저, asc는 활동 없는 방이 먼저 온다.
+     */
+    private Page<Room> findRoomsByRecentActivity(
+            com.ktb.chatapp.dto.PageRequest pageRequest, Sort.Direction direction) {
+        String search = pageRequest.getSearch() != null && !pageRequest.getSearch().trim().isEmpty()
+            ? pageRequest.getSearch().trim()
+            : null;
+
+        Map<String, Long> activity = roomActivityCounter.snapshot();
+        List<Room> activeRooms = new ArrayList<>();
+        if (!activity.isEmpty()) {
+            for (Room room : roomRepository.findAllById(activity.keySet())) {
+                if (search == null || (room.getName() != null
+                        && room.getName().toLowerCase().contains(search.toLowerCase()))) {
+                    activeRooms.add(room);
+                }
+            }
         }
-        LocalDateTime tenMinutesAgo = LocalDateTime.now().minusMinutes(10);
-        List<MessageRepository.RoomMessageCount> counts =
-            messageRepository.countRecentMessagesByRoomIds(roomIds, tenMinutesAgo);
-        Map<String, Long> result = new HashMap<>();
-        counts.forEach(count -> result.put(count.getId(), count.getCount()));
-        return result;
+        Comparator<Room> byActivity = Comparator
+            .comparingLong((Room room) -> activity.getOrDefault(room.getId(), 0L))
+            .thenComparing(Room::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+        activeRooms.sort(direction == Sort.Direction.DESC ? byActivity.reversed() : byActivity);
+
+        Query inactiveQuery = new Query();
+        if (!activity.isEmpty()) {
+            inactiveQuery.addCriteria(Criteria.where("id").nin(activity.keySet()));
+        }
+        if (search != null) {
+            inactiveQuery.addCriteria(Criteria.where("name").regex(Pattern.quote(search), "i"));
+        }
+        long inactiveTotal = mongoTemplate.count(inactiveQuery, Room.class);
+
+        int pageSize = pageRequest.getPageSize();
+        long offset = (long) pageRequest.getPage() * pageSize;
+        boolean activeFirst = direction == Sort.Direction.DESC;
+        long firstSize = activeFirst ? activeRooms.size() : inactiveTotal;
+
+        List<Room> content = new ArrayList<>(pageSize);
+        // 첫 번째 구간
+        if (offset < firstSize) {
+            int limit = (int) Math.min(pageSize, firstSize - offset);
+            content.addAll(activeFirst
+                ? activeRooms.subList((int) offset, (int) offset + limit)
+                : findInactiveRooms(inactiveQuery, offset, limit));
+        }
+        // 두 번째 구간
+        int remaining = pageSize - content.size();
+        if (remaining > 0) {
+            long secondOffset = Math.max(0, offset - firstSize);
+            long secondSize = activeFirst ? inactiveTotal : activeRooms.size();
+            if (secondOffset < secondSize) {
+                int limit = (int) Math.min(remaining, secondSize - secondOffset);
+                content.addAll(activeFirst
+                    ? findInactiveRooms(inactiveQuery, secondOffset, limit)
+                    : activeRooms.subList((int) secondOffset, (int) secondOffset + limit));
+            }
+        }
+
+        return new PageImpl<>(
+            content,
+            PageRequest.of(pageRequest.getPage(), pageSize),
+            activeRooms.size() + inactiveTotal);
+    }
+
+    /**
+     * 키셋 커서 이후의 방을 조회한다. skip 없이 (정렬 값, id) 기준으로 이어서 읽는다.
+     */
+    private Page<Room> findRoomsAfterCursor(
+            com.ktb.chatapp.dto.PageRequest pageRequest,
+            Sort.Direction direction,
+            RoomDirectoryCursor cursor) {
+        String field = pageRequest.getSortField();
+        boolean desc = direction == Sort.Direction.DESC;
+
+        Query filter = new Query();
+        if (pageRequest.getSearch() != null && !pageRequest.getSearch().trim().isEmpty()) {
+            filter.addCriteria(Criteria.where("name")
+                .regex(Pattern.quote(pageRequest.getSearch().trim()), "i"));
+        }
+        long total = mongoTemplate.count(filter, Room.class);
+
+        Criteria after = desc
+            ? Criteria.where(field).lt(cursor.value())
+            : Criteria.where(field).gt(cursor.value());
+        Criteria tie = desc
+            ? Criteria.where(field).is(cursor.value()).and("id").lt(cursor.id())
+            : Criteria.where(field).is(cursor.value()).and("id").gt(cursor.id());
+
+        int pageSize = pageRequest.getPageSize();
+        Query query = Query.of(filter)
+            .addCriteria(new Criteria().orOperator(after, tie))
+            .with(Sort.by(direction, field).and(Sort.by(direction, "_id")))
+            .limit(pageSize + 1);
+        List<Room> rooms = mongoTemplate.find(query, Room.class);
+
+        boolean hasNext = rooms.size() > pageSize;
+        List<Room> content = hasNext ? rooms.subList(0, pageSize) : rooms;
+        // 커서 조회는 offset이 없으므로 hasNext만 정확히 맞추고 total은 전체 개수를 사용
+        return new PageImpl<>(content, PageRequest.of(0, pageSize), total) {
+            @Override
+            public boolean hasNext() {
+                return hasNext;
+            }
+        };
+    }
+
+    private List<Room> findInactiveRooms(Query inactiveQuery, long skip, int limit) {
+        Query query = Query.of(inactiveQuery)
+            .with(Sort.by(Sort.Direction.DESC, "createdAt"))
+            .skip(skip)
+            .limit(limit);
+        return mongoTemplate.find(query, Room.class);
     }
 }
@@ -0,0 +1,183 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.file.DirectUploadRequest;
+import com.ktb.chatapp.dto.file.DirectUploadResponse;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.util.FileUtil;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+/**
+ * 2단계 직접 업로드.
+ * 1) 업로드 URL 발급: 파일명/MIME/크기를 먼저 검증하고, 업로더와 원본 파일명을 객체 메타데이터로 묶은 presigned PUT을 발급한다.
+ * 2) 업로드 확정: 버킷의 객체 메타데이터(HEAD)로 업로더, MIME, 크기를 다시 검증한 뒤 File 문서를 만든다.
+ * 파일 바이트는 백엔드를 거치지 않는다. 메타데이터와 Content-Type이 서명에 포함되므로
+ * 클라이언트가 발급받은 헤더를 바꾸면 저장소가 업로드를 거절한다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "app.file", name = "storage", havingValue = "s3")
+public class S3DirectUploadService {
+
+    static final String UPLOADER_METADATA = "uploader";
+    static final String ORIGINAL_NAME_METADATA = "originalname";
+
+    // 브라우저가 직접 채우는 헤더라 클라이언트에 돌려주지 않는다
+    private static final Set<String> BROWSER_MANAGED_HEADERS = Set.of("host", "content-length");
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final FileRepository fileRepository;
+    private final String bucketName;
+    private final Duration uploadTtl;
+
+    public S3DirectUploadService(
+            S3Client s3Client,
+            S3Presigner s3Presigner,
+            FileRepository fileRepository,
+            @Value("${app.file.s3.bucket}") String bucketName,
+            @Value("${app.file.s3.presign.upload-ttl-seconds:300}") long uploadTtlSeconds) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.fileRepository = fileRepository;
+        this.bucketName = bucketName;
+        this.uploadTtl = Duration.ofSeconds(uploadTtlSeconds);
+    }
+
+    /**
+     * 업로드 URL을 발급한다. 저장소에는 아직 아무것도 만들지 않는다.
+     */
+    public DirectUploadResponse createUpload(DirectUploadRequest request, String uploaderId) {
+        String originalFilename = StringUtils.cleanPath(request.getFilename());
+        FileUtil.validateFileMetadata(originalFilename, request.getMimetype(), request.getSize());
+
+        String safeFileName = FileUtil.generateSafeFileName(originalFilename);
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(objectKey(safeFileName))
+                .contentType(request.getMimetype())
+                .contentLength(request.getSize())
+                .metadata(Map.of(
+                        UPLOADER_METADATA, uploaderId,
+                        ORIGINAL_NAME_METADATA, encodeMetadata(FileUtil.normalizeOriginalFilename(originalFilename))))
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(uploadTtl)
+                .putObjectRequest(putObjectRequest)
+                .build());
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> header : presigned.signedHeaders().entrySet()) {
+            String name = header.getKey().toLowerCase();
+            if (!BROWSER_MANAGED_HEADERS.contains(name)) {
+                headers.put(name, String.join(",", header.getValue()));
+            }
+        }
+
+        log.debug("Direct upload URL issued - filename: {}, uploader: {}", safeFileName, uploaderId);
+        return DirectUploadResponse.builder()
+                .filename(safeFileName)
+                .uploadUrl(presigned.url().toString())
+                .method(presigned.httpRequest().method().name())
+                .headers(headers)
+                .expiresAt(presigned.expiration())
+                .build();
+    }
+
+    /**
+     * 직접 업로드된 객체를 검증하고 File 문서를 만든다.
+     * 검증에 실패한 객체는 버킷에서 지운다.
+     */
+    public File confirmUpload(String filename, String uploaderId) {
+        if (!StringUtils.hasText(filename) || filename.contains("/") || filename.contains("..")) {
+            throw new RuntimeException("잘못된 파일명입니다.");
+        }
+        // 빠른 거절용 조회. 동시 확정은 filename 고유 인덱스가 막는다
+        if (fileRepository.findByFilename(filename).isPresent()) {
+            throw new IllegalStateException("이미 확정된 업로드입니다.");
+        }
+
+        String key = objectKey(filename);
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new RuntimeException("업로드된 파일을 찾을 수 없습니다.");
+        }
+
+        Map<String, String> metadata = head.metadata();
+        if (!uploaderId.equals(metadata.get(UPLOADER_METADATA))) {
+            throw new RuntimeException("업로드를 확정할 권한이 없습니다.");
+        }
+
+        String originalName = decodeMetadata(metadata.get(ORIGINAL_NAME_METADATA));
+        try {
+            FileUtil.validateFileMetadata(originalName, head.contentType(), head.contentLength());
+        } catch (RuntimeException e) {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+            log.warn("Direct upload rejected - key: {}, reason: {}", key, e.getMessage());
+            throw e;
+        }
+
+        File savedFile;
+        try {
+            savedFile = fileRepository.save(File.builder()
+                    .filename(filename)
+                    .originalname(originalName)
+                    .mimetype(head.contentType())
+                    .size(head.contentLength())
+                    .path(key)
+                    .user(uploaderId)
+                    .uploadDate(LocalDateTime.now())
+                    .build());
+        } catch (DuplicateKeyException e) {
+            // 위의 조회와 저장 사이에 같은 업로드가 먼저 확정됨 (filename 고유 인덱스)
+            throw new IllegalStateException("이미 확정된 업로드입니다.");
+        }
+        log.info("Direct upload confirmed - key: {}, size: {}", key, head.contentLength());
+        return savedFile;
+    }
+
+    private static String objectKey(String safeFileName) {
+        return "uploads/" + safeFileName;
+    }
+
+    // S3 사용자 메타데이터는 ASCII만 허용하므로 한글 파일명은 인코딩해 담는다
+    private static String encodeMetadata(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static String decodeMetadata(String value) {
+        return value != null ? URLDecoder.decode(value, StandardCharsets.UTF_8) : null;
+    }
+}
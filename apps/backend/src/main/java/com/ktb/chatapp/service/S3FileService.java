@@ -1,22 +1,29 @@
 package com.ktb.chatapp.service;
 
+import com.ktb.chatapp.exception.FileRangeNotSatisfiableException;
 import com.ktb.chatapp.model.File;
-import com.ktb.chatapp.model.Message;
-import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.model.FileBlob;
+import com.ktb.chatapp.model.FilePreview;
 import com.ktb.chatapp.repository.FileRepository;
-import com.ktb.chatapp.repository.MessageRepository;
-import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.service.preview.ImagePreviewService;
 import com.ktb.chatapp.util.FileUtil;
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.core.io.InputStreamResource;
-import org.springframework.core.io.Resource;
+import org.springframework.http.HttpRange;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
@@ -28,6 +35,9 @@ import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
 /**
  * S3-backed FileService implementation.
@@ -39,9 +49,10 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 public class S3FileService implements FileService {
 
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
     private final FileRepository fileRepository;
-    private final MessageRepository messageRepository;
-    private final RoomRepository roomRepository;
+    private final FileAccessResolver fileAccessResolver;
+    private final FileBlobService fileBlobService;
 
     @Value("${app.file.s3.bucket}")
     private String bucketName;
@@ -49,6 +60,12 @@ public class S3FileService implements FileService {
     @Value("${app.file.public-base-url:}")
     private String publicBaseUrl;
 
+    @Value("${app.file.s3.presign.download-enabled:false}")
+    private boolean presignedDownloadEnabled;
+
+    @Value("${app.file.s3.presign.download-ttl-seconds:60}")
+    private long downloadTtlSeconds;
+
     @PostConstruct
     public void validateConfiguration() {
         if (!StringUtils.hasText(bucketName)) {
@@ -67,19 +84,33 @@ public class S3FileService implements FileService {
             }
             originalFilename = StringUtils.cleanPath(originalFilename);
             String safeFileName = FileUtil.generateSafeFileName(originalFilename);
-            String key = "uploads/" + safeFileName;
 
-            uploadToS3(file, key, false);
+            // 멀티파트 임시 파일을 먼저 해시해, 같은 내용이 이미 있으면 S3 업로드 자체를 건너뛴다
+            String hash;
+            try (InputStream content = file.getInputStream()) {
+                hash = FileBlobService.sha256(content);
+            }
+            Optional<FileBlob> existing = fileBlobService.lookup(hash, file.getSize());
+            FileBlob blob = existing.isPresent() ? existing.get() : storeBlob(file, hash);
 
-            File savedFile = fileRepository.save(File.builder()
-                    .filename(safeFileName)
-                    .originalname(FileUtil.normalizeOriginalFilename(originalFilename))
-                    .mimetype(file.getContentType())
-                    .size(file.getSize())
-                    .path(key)
-                    .user(uploaderId)
-                    .uploadDate(LocalDateTime.now())
-                    .build());
+            // 여기까지 blob 참조 수를 하나 올렸으므로, 메타데이터 저장에 실패하면 되돌린다
+            File savedFile;
+            try {
+                savedFile = fileRepository.save(File.builder()
+                        .filename(safeFileName)
+                        .originalname(FileUtil.normalizeOriginalFilename(originalFilename))
+                        .mimetype(file.getContentType())
+                        .size(file.getSize())
+                        .path(blob.getPath())
+                        .contentHash(hash)
+                        .previews(existing.isPresent() ? fileBlobService.sharedPreviews(hash) : null)
+                        .user(uploaderId)
+                        .uploadDate(LocalDateTime.now())
+                        .build());
+            } catch (RuntimeException e) {
+                releaseBlob(hash);
+                throw e;
+            }
 
             return FileUploadResult.builder()
                     .success(true)
@@ -115,42 +146,63 @@ public class S3FileService implements FileService {
     }
 
     @Override
-    public Resource loadFileAsResource(String fileName, String requesterId) {
-        try {
-            File fileEntity = fileRepository.findByFilename(fileName)
-                    .orElseThrow(() -> new RuntimeException("파일을 찾을 수 없습니다: " + fileName));
-
-            Message message = messageRepository.findByFileId(fileEntity.getId())
-                    .orElseThrow(() -> new RuntimeException("파일과 연결된 메시지를 찾을 수 없습니다"));
+    public FileDownload openDownload(String fileName, String variant, String requesterId, HttpRange range, String ifRange) {
+        File fileEntity = fileAccessResolver.authorize(fileName, requesterId);
+        FilePreview preview = fileEntity.findPreview(variant).orElse(null);
+        String key = preview != null ? preview.getPath() : fileEntity.getPath();
+        long size = preview != null ? preview.getSize() : fileEntity.getSize();
+        String contentType = preview != null ? preview.getMimetype() : fileEntity.getMimetype();
 
-            Room room = roomRepository.findById(message.getRoomId())
-                    .orElseThrow(() -> new RuntimeException("방을 찾을 수 없습니다"));
+        GetObjectRequest.Builder request = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key);
+        boolean ranged = range != null && applyIfRange(request, ifRange);
+        if (ranged) {
+            FileDownload.Span span = FileDownload.Span.resolve(range, size);
+            request.range("bytes=" + span.start() + "-" + span.end());
+        }
 
-            if (!room.getParticipantIds().contains(requesterId)) {
-                throw new RuntimeException("파일에 접근할 권한이 없습니다");
+        try {
+            return toDownload(fileEntity, contentType, s3Client.getObject(request.build()));
+        } catch (S3Exception e) {
+            if (ranged && e.statusCode() == 412) {
+                // If-Range가 가리키는 버전이 아니면 구간 대신 전체를 내려준다
+                return toDownload(fileEntity, contentType, s3Client.getObject(GetObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .build()));
             }
+            if (ranged && e.statusCode() == 416) {
+                throw new FileRangeNotSatisfiableException(size);
+            }
+            log.error("S3 get object error: {}", fileName, e);
+            throw new RuntimeException("파일을 불러올 수 없습니다: " + e.getMessage(), e);
+        }
+    }
 
-            ResponseInputStream<GetObjectResponse> s3Object = s3Client.getObject(GetObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(fileEntity.getPath())
-                    .build());
-
-            return new InputStreamResource(s3Object) {
-                @Override
-                public long contentLength() throws IOException {
-                    return s3Object.response().contentLength();
-                }
+    @Override
+    public Optional<String> presignDownloadUrl(String fileName, String variant, String requesterId, boolean inline) {
+        if (!presignedDownloadEnabled) {
+            return Optional.empty();
+        }
+        File fileEntity = fileAccessResolver.authorize(fileName, requesterId);
+        Optional<FilePreview> preview = fileEntity.findPreview(variant);
 
-                @Override
-                public String getFilename() {
-                    return fileEntity.getOriginalname();
-                }
-            };
+        String encodedFilename = URLEncoder.encode(fileEntity.getOriginalname(), StandardCharsets.UTF_8)
+                .replaceAll("\\+", "%20");
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(preview.map(FilePreview::getPath).orElse(fileEntity.getPath()))
+                .responseContentType(preview.map(FilePreview::getMimetype).orElse(fileEntity.getMimetype()))
+                .responseContentDisposition((inline ? "inline" : "attachment") + "; filename*=UTF-8''" + encodedFilename)
+                .build();
 
-        } catch (Exception e) {
-            log.error("S3 load file error: {}", fileName, e);
-            throw new RuntimeException("파일을 불러올 수 없습니다: " + e.getMessage(), e);
-        }
+        return Optional.of(s3Presigner.presignGetObject(GetObjectPresignRequest.builder()
+                        .signatureDuration(Duration.ofSeconds(downloadTtlSeconds))
+                        .getObjectRequest(getObjectRequest)
+                        .build())
+                .url()
+                .toString());
     }
 
     @Override
@@ -163,8 +215,19 @@ public class S3FileService implements FileService {
                 throw new RuntimeException("파일을 삭제할 권한이 없습니다.");
             }
 
-            deleteObject(fileEntity.getPath());
+            // 참조 수를 먼저 내린다. 문서를 먼저 지우면 release가 실패했을 때 참조 수가 영영 남는다
+            Optional<FileBlob> released = fileEntity.getContentHash() == null
+                    ? Optional.empty()
+                    : fileBlobService.release(fileEntity.getContentHash());
             fileRepository.delete(fileEntity);
+            fileAccessResolver.evict(fileEntity.getFilename());
+
+            // 같은 내용을 다른 업로드가 아직 참조하면 저장소 객체는 남긴다
+            if (fileEntity.getContentHash() == null || released.isPresent()) {
+                String blobPath = released.map(FileBlob::getPath).orElse(fileEntity.getPath());
+                deleteObject(blobPath);
+                ImagePreviewService.previewPaths(blobPath).forEach(this::deleteObject);
+            }
             log.info("S3 file deleted: {}", fileEntity.getPath());
             return true;
         } catch (Exception e) {
@@ -173,6 +236,27 @@ public class S3FileService implements FileService {
         }
     }
 
+    @Override
+    public InputStream openStored(String path) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(path)
+                .build());
+    }
+
+    @Override
+    public String writeStored(String path, byte[] content, String contentType, boolean publicRead) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(path)
+                        .contentType(contentType)
+                        .acl(publicRead ? ObjectCannedACL.PUBLIC_READ : ObjectCannedACL.PRIVATE)
+                        .build(),
+                RequestBody.fromBytes(content));
+        log.debug("Wrote object to S3: {}/{}", bucketName, path);
+        return publicRead ? buildPublicUrl(path) : path;
+    }
+
     @Override
     public void deleteStoredFile(String storedPath) {
         String key = extractKeyFromUrl(storedPath);
@@ -182,6 +266,81 @@ public class S3FileService implements FileService {
         deleteObject(key);
     }
 
+    /**
+     * If-Range를 S3 조건부 요청으로 옮긴다. 강한 ETag는 If-Match, HTTP 날짜는 If-Unmodified-Since가 된다.
+     * 약한 ETag나 해석할 수 없는 값이면 구간 요청을 할 수 없으므로 false.
+     */
+    private static boolean applyIfRange(GetObjectRequest.Builder request, String ifRange) {
+        if (!StringUtils.hasText(ifRange)) {
+            return true;
+        }
+        if (ifRange.startsWith("W/")) {
+            return false;
+        }
+        if (ifRange.startsWith("\"")) {
+            request.ifMatch(ifRange);
+            return true;
+        }
+        try {
+            request.ifUnmodifiedSince(ZonedDateTime.parse(ifRange, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant());
+            return true;
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    private static FileDownload toDownload(
+            File fileEntity, String contentType, ResponseInputStream<GetObjectResponse> s3Object) {
+        GetObjectResponse response = s3Object.response();
+        FileDownload.FileDownloadBuilder download = FileDownload.builder()
+                .file(fileEntity)
+                .contentType(contentType)
+                .content(s3Object)
+                .etag(response.eTag())
+                .aborter(s3Object::abort);
+
+        // "bytes 0-1023/52428800"
+        String contentRange = response.contentRange();
+        if (contentRange != null && contentRange.startsWith("bytes ")) {
+            int dash = contentRange.indexOf('-');
+            int slash = contentRange.indexOf('/');
+            return download
+                    .partial(true)
+                    .rangeStart(Long.parseLong(contentRange.substring(6, dash)))
+                    .rangeEnd(Long.parseLong(contentRange.substring(dash + 1, slash)))
+                    .totalLength(Long.parseLong(contentRange.substring(slash + 1)))
+                    .build();
+        }
+        long length = response.contentLength();
+        return download
+                .partial(false)
+                .rangeStart(0)
+                .rangeEnd(length - 1)
+                .totalLength(length)
+                .build();
+    }
+
+    /**
+     * 업로드 실패로 쓰이지 않게 된 blob 참조를 돌려준다. 마지막 참조였으면 저장소 객체도 지운다.
+     */
+    private void releaseBlob(String hash) {
+        try {
+            fileBlobService.release(hash).ifPresent(blob -> deleteObject(blob.getPath()));
+        } catch (Exception e) {
+            log.warn("Failed to release blob reference after upload failure - hash: {}", hash, e);
+        }
+    }
+
+    private FileBlob storeBlob(MultipartFile file, String hash) throws IOException {
+        String key = "uploads/" + FileBlobService.blobName(hash);
+        uploadToS3(file, key, false);
+        FileBlobService.Registration registration = fileBlobService.register(hash, key, file.getSize());
+        if (!registration.created()) {
+            deleteObject(key);
+        }
+        return registration.blob();
+    }
+
     private void uploadToS3(MultipartFile file, String key, boolean publicRead) throws IOException {
         PutObjectRequest request = PutObjectRequest.builder()
                 .bucket(bucketName)
@@ -1,6 +1,7 @@
 package com.ktb.chatapp.service;
 
 import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.session.SessionActivity;
 import com.ktb.chatapp.service.session.SessionStore;
 import java.time.Instant;
 import java.util.UUID;
@@ -74,33 +75,31 @@ public class SessionService {
                 return SessionValidationResult.invalid("INVALID_PARAMETERS", "유효하지 않은 세션 파라미터");
             }
 
-            Session session = sessionStore.findByUserId(userId).orElse(null);
+            // 검증 경로는 sessionId/lastActivity만 읽고 같은 연산에서 갱신한다.
+            // 메타데이터가 필요한 호출자만 getSession()으로 전체 세션을 읽는다
+            long now = Instant.now().toEpochMilli();
+            SessionActivity activity = sessionStore.validateAndTouch(
+                    userId, sessionId, now, SESSION_TIMEOUT, Instant.now().plusSeconds(SESSION_TTL_SEC))
+                    .orElse(null);
             
-            if (session == null) {
+            if (activity == null) {
                 log.warn("No session found for userId: {}", userId);
                 return SessionValidationResult.invalid("INVALID_SESSION", "세션을 찾을 수 없습니다.");
             }
 
-            if (!sessionId.equals(session.getSessionId())) {
-                log.warn("Session ID mismatch for userId: {}. Provided: {}, Expected: {}", userId, sessionId, session.getSessionId());
+            if (!sessionId.equals(activity.sessionId())) {
+                log.warn("Session ID mismatch for userId: {}. Provided: {}, Expected: {}", userId, sessionId, activity.sessionId());
                 return SessionValidationResult.invalid("INVALID_SESSION", "잘못된 세션 ID입니다.");
             }
 
             // Check if session has timed out
-            long now = Instant.now().toEpochMilli();
-            if (now - session.getLastActivity() > SESSION_TIMEOUT) {
+            if (now - activity.lastActivity() > SESSION_TIMEOUT) {
                 log.warn("Session timed out for userId: {}, sessionId: {}", userId, sessionId);
                 removeSession(userId, sessionId);
                 return SessionValidationResult.invalid("SESSION_EXPIRED", "세션이 만료되었습니다.");
             }
 
-            // Update last activity
-            session.setLastActivity(now);
-            session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
-            session = sessionStore.save(session);
-
-            SessionData sessionData = toSessionData(session);
-            return SessionValidationResult.valid(sessionData);
+            return SessionValidationResult.validWithLoader(() -> getActiveSession(userId));
 
         } catch (Exception e) {
             log.error("Session validation error for userId: {}, sessionId: {}", userId, sessionId, e);
@@ -115,15 +114,7 @@ public class SessionService {
                 return;
             }
 
-            Session session = sessionStore.findByUserId(userId).orElse(null);
-            if (session == null) {
-                log.debug("No session found to update last activity for user: {}", userId);
-                return;
-            }
-
-            session.setLastActivity(Instant.now().toEpochMilli());
-            session.setExpiresAt(Instant.now().plusSeconds(SESSION_TTL_SEC));
-            sessionStore.save(session);
+            sessionStore.touch(userId, Instant.now().toEpochMilli(), Instant.now().plusSeconds(SESSION_TTL_SEC));
             
         } catch (Exception e) {
             log.error("Failed to update session activity for user: {}", userId, e);
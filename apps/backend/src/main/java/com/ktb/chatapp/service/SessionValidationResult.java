@@ -1,5 +1,7 @@
 package com.ktb.chatapp.service;
 
+import java.util.function.Supplier;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -12,6 +14,9 @@ public class SessionValidationResult {
     private String error;
     private String message;
     private SessionData session;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private Supplier<SessionData> sessionLoader;
     
     public static SessionValidationResult valid(SessionData session) {
         SessionValidationResult result = new SessionValidationResult();
@@ -19,6 +24,16 @@ public class SessionValidationResult {
         result.session = session;
         return result;
     }
+
+    /**
+     * 검증은 sessionId/lastActivity만 읽으므로, 메타데이터를 포함한 세션은 처음 요청될 때 읽는다.
+     */
+    public static SessionValidationResult validWithLoader(Supplier<SessionData> sessionLoader) {
+        SessionValidationResult result = new SessionValidationResult();
+        result.isValid = true;
+        result.sessionLoader = sessionLoader;
+        return result;
+    }
     
     public static SessionValidationResult invalid(String error, String message) {
         SessionValidationResult result = new SessionValidationResult();
@@ -27,4 +42,12 @@ public class SessionValidationResult {
         result.message = message;
         return result;
     }
+
+    public SessionData getSession() {
+        if (session == null && sessionLoader != null) {
+            session = sessionLoader.get();
+            sessionLoader = null;
+        }
+        return session;
+    }
 }
@@ -5,6 +5,7 @@ import com.ktb.chatapp.dto.user.UpdateProfileRequest;
 import com.ktb.chatapp.dto.user.UserResponse;
 import com.ktb.chatapp.model.User;
 import com.ktb.chatapp.repository.UserRepository;
+import com.ktb.chatapp.service.preview.ImagePreviewService;
 import com.ktb.chatapp.util.FileUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,6 +25,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final FileService fileService;
+    private final ImagePreviewService imagePreviewService;
 
     @Value("${app.profile.image.max-size:5242880}") // 5MB
     private long maxProfileImageSize;
@@ -77,8 +79,9 @@ public class UserService {
             deleteOldProfileImage(user.getProfileImage());
         }
 
-        // 새 파일 저장 (보안 검증 포함)
-        String profileImageUrl = fileService.storeFile(file, "profiles");
+        // 축소·메타데이터 제거한 이미지를 저장하고, 정규화할 수 없으면 원본을 저장 (보안 검증 포함)
+        String profileImageUrl = imagePreviewService.storeNormalizedProfileImage(file, "profiles")
+                .orElseGet(() -> fileService.storeFile(file, "profiles"));
 
         // 사용자 프로필 이미지 URL 업데이트
         user.setProfileImage(profileImageUrl);
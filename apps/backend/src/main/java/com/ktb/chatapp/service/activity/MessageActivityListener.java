@@ -0,0 +1,26 @@
+package com.ktb.chatapp.service.activity;
+
+import com.ktb.chatapp.model.Message;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * 새 메시지가 저장될 때 방 활동 카운터를 증가시킨다.
+ * 사용자/시스템/AI 메시지 저장 경로를 한 곳에서 처리하며, 이미 id가 있는 메시지(반응, 읽음 갱신)는 제외한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MessageActivityListener extends AbstractMongoEventListener<Message> {
+
+    private final RoomActivityCounter roomActivityCounter;
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Message> event) {
+        Message message = event.getSource();
+        if (message.getId() == null && !Boolean.TRUE.equals(message.getIsDeleted())) {
+            roomActivityCounter.record(message.getRoomId());
+        }
+    }
+}
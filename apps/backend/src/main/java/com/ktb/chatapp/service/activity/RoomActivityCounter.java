@@ -0,0 +1,235 @@
+package com.ktb.chatapp.service.activity;
+
+import com.ktb.chatapp.repository.MessageRepository;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별 최근 메시지 수를 분 단위 링 버퍼로 집계한다.
+ * 방 목록 조회 시 매번 메시지 컬렉션을 카운트하지 않도록 메모리에서 최근 {@value #WINDOW_MINUTES}분 합계를 제공한다.
+ * 기동 시 한 번의 집계 쿼리로 초기값을 채우고, 이후에는 메시지 저장 경로에서 증가시킨다.
+ */
+@Slf4j
+@Component
+public class RoomActivityCounter {
+
+    public static final int WINDOW_MINUTES = 10;
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    private final MessageRepository messageRepository;
+    private final boolean clusterSync;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<String, MinuteRing> rings = new ConcurrentHashMap<>();
+    // 다른 노드로 전파되지 않은 로컬 증가분 ("roomId|epochMinute" -> count)
+    private final ConcurrentHashMap<String, Long> pendingDeltas = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RoomActivityCounter(
+            MessageRepository messageRepository,
+            @Value("${app.room-activity.cluster-sync:false}") boolean clusterSync) {
+        this(messageRepository, clusterSync, Clock.systemUTC());
+    }
+
+    RoomActivityCounter(MessageRepository messageRepository, boolean clusterSync, Clock clock) {
+        this.messageRepository = messageRepository;
+        this.clusterSync = clusterSync;
+        this.clock = clock;
+    }
+
+    /**
+     * 현재 분에 메시지 1건을 기록한다.
+     */
+    public void record(String roomId) {
+        if (roomId == null) {
+            return;
+        }
+        long minute = currentMinute();
+        ringFor(roomId).add(minute, 1, minute);
+        if (clusterSync) {
+            pendingDeltas.merge(roomId + "|" + minute, 1L, Long::sum);
+        }
+    }
+
+    /**
+     * 다른 노드 또는 초기 집계에서 전달된 분 단위 카운트를 병합한다.
+     */
+    public void merge(String roomId, long epochMinute, long count) {
+        if (roomId == null || count <= 0) {
+            return;
+        }
+        long now = currentMinute();
+        if (!isInWindow(epochMinute, now)) {
+            return;
+        }
+        ringFor(roomId).add(epochMinute, count, now);
+    }
+
+    public long getRecentCount(String roomId) {
+        if (roomId == null) {
+            return 0L;
+        }
+        MinuteRing ring = rings.get(roomId);
+        return ring != null ? ring.sum(currentMinute()) : 0L;
+    }
+
+    public Map<String, Long> getRecentCounts(Collection<String> roomIds) {
+        if (roomIds == null || roomIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        long now = currentMinute();
+        Map<String, Long> result = new HashMap<>();
+        for (String roomId : roomIds) {
+            MinuteRing ring = roomId != null ? rings.get(roomId) : null;
+            if (ring != null) {
+                long count = ring.sum(now);
+                if (count > 0) {
+                    result.put(roomId, count);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 최근 활동이 있는 모든 방의 카운트. 최근 활동순 정렬에 사용한다.
+     */
+    public Map<String, Long> snapshot() {
+        long now = currentMinute();
+        Map<String, Long> result = new HashMap<>();
+        rings.forEach((roomId, ring) -> {
+            long count = ring.sum(now);
+            if (count > 0) {
+                result.put(roomId, count);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 아직 전파되지 않은 로컬 증가분을 꺼낸다.
+     */
+    public List<MinuteDelta> drainPendingDeltas() {
+        if (pendingDeltas.isEmpty()) {
+            return List.of();
+        }
+        List<MinuteDelta> deltas = new ArrayList<>();
+        for (String key : pendingDeltas.keySet()) {
+            Long count = pendingDeltas.remove(key);
+            if (count == null || count <= 0) {
+                continue;
+            }
+            int separator = key.lastIndexOf('|');
+            deltas.add(new MinuteDelta(
+                key.substring(0, separator),
+                Long.parseLong(key.substring(separator + 1)),
+                count));
+        }
+        return deltas;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedFromDatabase() {
+        try {
+            long now = currentMinute();
+            // 메시지 timestamp는 시스템 시간대의 LocalDateTime으로 저장되므로 같은 시간대로 맞춘다
+            LocalDateTime since = LocalDateTime.ofInstant(clock.instant(), ZoneId.systemDefault())
+                .minusMinutes(WINDOW_MINUTES);
+            List<MessageRepository.RoomMinuteCount> counts =
+                messageRepository.countMessagesPerMinuteSince(since);
+            for (MessageRepository.RoomMinuteCount count : counts) {
+                long minute = count.getMinute() / MILLIS_PER_MINUTE;
+                if (count.getRoomId() != null && isInWindow(minute, now)) {
+                    ringFor(count.getRoomId()).add(minute, count.getCount(), now);
+                }
+            }
+            log.info("Room activity counters seeded - rooms: {}", rings.size());
+        } catch (Exception e) {
+            log.warn("Room activity counter seeding failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.room-activity.evict-interval-ms:60000}")
+    public void evictIdleRooms() {
+        long now = currentMinute();
+        rings.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+    }
+
+    private MinuteRing ringFor(String roomId) {
+        return rings.computeIfAbsent(roomId, id -> new MinuteRing());
+    }
+
+    private long currentMinute() {
+        return clock.millis() / MILLIS_PER_MINUTE;
+    }
+
+    private static boolean isInWindow(long minute, long now) {
+        return minute <= now && minute > now - WINDOW_MINUTES;
+    }
+
+    public record MinuteDelta(String roomId, long epochMinute, long count) {
+    }
+
+    /**
+     * 분 단위 슬롯 {@value #WINDOW_MINUTES}개로 구성된 링 버퍼.
+     * 슬롯에 기록된 분이 현재 분과 다르면 해당 슬롯을 재사용한다.
+     */
+    static final class MinuteRing {
+        private final long[] minutes = new long[WINDOW_MINUTES];
+        private final long[] counts = new long[WINDOW_MINUTES];
+
+        MinuteRing() {
+            Arrays.fill(minutes, Long.MIN_VALUE);
+        }
+
+        synchronized void add(long minute, long delta, long now) {
+            if (!isInWindow(minute, now)) {
+                return;
+            }
+            int slot = (int) Math.floorMod(minute, (long) WINDOW_MINUTES);
+            if (minutes[slot] != minute) {
+                if (minutes[slot] > minute) {
+                    return;
+                }
+                minutes[slot] = minute;
+                counts[slot] = 0;
+            }
+            counts[slot] += delta;
+        }
+
+        synchronized long sum(long now) {
+            long total = 0;
+            for (int i = 0; i < WINDOW_MINUTES; i++) {
+                if (isInWindow(minutes[i], now)) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+
+        synchronized boolean isIdle(long now) {
+            for (long minute : minutes) {
+                if (isInWindow(minute, now)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
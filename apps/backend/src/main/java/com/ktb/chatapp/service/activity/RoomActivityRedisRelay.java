@@ -0,0 +1,88 @@
+package com.ktb.chatapp.service.activity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 노드로 배포된 경우 방 활동 카운터를 Redis pub/sub으로 병합한다.
+ * 각 노드는 주기적으로 로컬 증가분을 발행하고, 다른 노드가 발행한 증가분을 자신의 카운터에 더한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.room-activity", name = "cluster-sync", havingValue = "true")
+public class RoomActivityRedisRelay implements MessageListener {
+
+    private static final String CHANNEL = "room-activity";
+
+    private final RoomActivityCounter roomActivityCounter;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private RedisMessageListenerContainer container;
+
+    @PostConstruct
+    void subscribe() {
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(this, new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @PreDestroy
+    void unsubscribe() throws Exception {
+        if (container != null) {
+            container.destroy();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.room-activity.cluster-sync-interval-ms:1000}")
+    public void publishPendingDeltas() {
+        List<RoomActivityCounter.MinuteDelta> deltas = roomActivityCounter.drainPendingDeltas();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            String payload = objectMapper.writeValueAsString(new DeltaBatch(nodeId, deltas));
+            redisTemplate.convertAndSend(CHANNEL, payload);
+        } catch (Exception e) {
+            log.warn("Room activity delta publish failed - deltas: {}, error: {}", deltas.size(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            DeltaBatch batch = objectMapper.readValue(
+                new String(message.getBody(), StandardCharsets.UTF_8), DeltaBatch.class);
+            if (nodeId.equals(batch.nodeId()) || batch.deltas() == null) {
+                return;
+            }
+            batch.deltas().forEach(delta ->
+                roomActivityCounter.merge(delta.roomId(), delta.epochMinute(), delta.count()));
+        } catch (Exception e) {
+            log.warn("Room activity delta merge failed: {}", e.getMessage());
+        }
+    }
+
+    record DeltaBatch(String nodeId, List<RoomActivityCounter.MinuteDelta> deltas) {
+    }
+}
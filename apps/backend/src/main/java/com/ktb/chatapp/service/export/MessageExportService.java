@@ -0,0 +1,216 @@
+package com.ktb.chatapp.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ktb.chatapp.dto.message.MessageExportRecord;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * 채팅방 대화 내보내기.
+ * Mongo 커서를 batchSize 단위로 읽으면서 한 건씩 바로 응답 스트림에 쓰므로 방 크기와 무관하게 메모리 사용량이 일정하다.
+ * [since, until) 구간을 timestamp 오름차순으로 내보내며 형식은 NDJSON(한 줄에 한 건) 또는 JSON 배열이다.
+ *
+ * <p>ETag는 구간의 메시지 수와 가장 큰 contentSeq로 만든다. 메시지가 추가되거나 리액션이 바뀌면 contentSeq가 올라가므로
+ * 본문을 만들지 않고도 내용이 같은지 알 수 있다. 읽음 목록은 내보내지 않으므로 읽음 변경(changeSeq만 증가)은 ETag를 바꾸지 않는다.
+ * until이 closedAfter보다 과거인 구간은 새 메시지가 들어오지 않는 닫힌 구간이지만, 리액션은 계속 바뀔 수 있다.
+ */
+@Slf4j
+@Service
+public class MessageExportService {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        JSON("application/json", "json");
+
+        @Getter
+        private final String contentType;
+        @Getter
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank() || "ndjson".equalsIgnoreCase(value)) {
+                return NDJSON;
+            }
+            if ("json".equalsIgnoreCase(value)) {
+                return JSON;
+            }
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final RoomRepository roomRepository;
+    private final ObjectMapper objectMapper;
+    // 건마다 flush하지 않도록 한다. flush는 배치 단위로 직접 한다
+    private final ObjectWriter recordWriter;
+    private final int batchSize;
+    private final Duration closedAfter;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter recordsCounter;
+
+    public MessageExportService(
+            MongoTemplate mongoTemplate,
+            RoomRepository roomRepository,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${app.message.export.batch-size:500}") int batchSize,
+            @Value("${app.message.export.closed-after-ms:60000}") long closedAfterMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.roomRepository = roomRepository;
+        this.objectMapper = objectMapper;
+        this.recordWriter = objectMapper.writerFor(MessageExportRecord.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.meterRegistry = meterRegistry;
+        this.batchSize = Math.max(1, batchSize);
+        this.closedAfter = Duration.ofMillis(closedAfterMs);
+        this.recordsCounter = Counter.builder("message.export.records")
+                .description("Messages written by room history exports")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @throws RuntimeException 방이 없거나 참여자가 아닌 경우
+     */
+    public void checkAccess(String roomId, String userId) {
+        Room room = roomRepository.findById(roomId).orElse(null);
+        if (room == null || !room.getParticipantIds().contains(userId)) {
+            throw new RuntimeException("채팅방 접근 권한이 없습니다.");
+        }
+    }
+
+    /**
+     * until이 지나고 closedAfter만큼 더 지난 구간. 이 구간에는 새 메시지가 들어오지 않는다.
+     */
+    public boolean isClosed(Long untilMillis) {
+        return untilMillis != null && untilMillis < System.currentTimeMillis() - closedAfter.toMillis();
+    }
+
+    /**
+     * 구간 내용에 대한 strong ETag. 인코딩(gzip)마다 표현이 다르므로 함께 넣는다.
+     */
+    public String etag(String roomId, Long sinceMillis, Long untilMillis, Format format, boolean gzip) {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(rangeCriteria(roomId, sinceMillis, untilMillis)),
+                Aggregation.group()
+                        .count().as("count")
+                        .max("contentSeq").as("lastContentSeq")
+                        .max("timestamp").as("lastTimestamp"));
+        Document summary = mongoTemplate.aggregate(aggregation, Message.class, Document.class).getUniqueMappedResult();
+        String value = String.join("|", roomId, String.valueOf(sinceMillis), String.valueOf(untilMillis),
+                format.name(), gzip ? "gzip" : "identity",
+                summary != null ? String.valueOf(summary.get("count")) : "0",
+                summary != null ? String.valueOf(summary.get("lastContentSeq")) : "-",
+                summary != null ? String.valueOf(summary.get("lastTimestamp")) : "-");
+        return "\"" + digest(value) + "\"";
+    }
+
+    /**
+     * 구간의 메시지를 out에 쓴다. batchSize건마다 flush해 클라이언트가 받는 대로 처리할 수 있게 한다.
+     *
+     * @return 쓴 메시지 수
+     */
+    public long write(String roomId, Long sinceMillis, Long untilMillis, Format format, OutputStream out)
+            throws IOException {
+        long startedAt = System.nanoTime();
+        long written = 0;
+        boolean completed = false;
+        Query query = Query.query(rangeCriteria(roomId, sinceMillis, untilMillis))
+                .with(Sort.by(Sort.Direction.ASC, "timestamp"))
+                .cursorBatchSize(batchSize);
+        query.fields().exclude("readers");
+
+        try (JsonGenerator generator = objectMapper.createGenerator(out);
+             Stream<Message> messages = mongoTemplate.stream(query, Message.class)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            if (format == Format.JSON) {
+                generator.writeStartArray();
+            }
+            var iterator = messages.iterator();
+            while (iterator.hasNext()) {
+                recordWriter.writeValue(generator, MessageExportRecord.from(iterator.next()));
+                if (format == Format.NDJSON) {
+                    generator.writeRaw('\n');
+                }
+                if (++written % batchSize == 0) {
+                    generator.flush();
+                    recordsCounter.increment(batchSize);
+                }
+            }
+            if (format == Format.JSON) {
+                generator.writeEndArray();
+            }
+            generator.flush();
+            recordsCounter.increment(written % batchSize);
+            completed = true;
+        } finally {
+            Timer.builder("message.export.time")
+                    .description("Time to stream a room history export")
+                    .tag("format", format.getExtension())
+                    .tag("outcome", completed ? "completed" : "aborted")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.debug("Room export {} - room: {}, records: {}", completed ? "completed" : "aborted", roomId, written);
+        }
+        return written;
+    }
+
+    private Criteria rangeCriteria(String roomId, Long sinceMillis, Long untilMillis) {
+        Criteria criteria = Criteria.where("room").is(roomId).and("isDeleted").is(false);
+        if (sinceMillis != null && untilMillis != null) {
+            criteria = criteria.and("timestamp").gte(toDateTime(sinceMillis)).lt(toDateTime(untilMillis));
+        } else if (sinceMillis != null) {
+            criteria = criteria.and("timestamp").gte(toDateTime(sinceMillis));
+        } else if (untilMillis != null) {
+            criteria = criteria.and("timestamp").lt(toDateTime(untilMillis));
+        }
+        return criteria;
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
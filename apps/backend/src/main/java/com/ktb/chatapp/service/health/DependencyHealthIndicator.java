@@ -0,0 +1,52 @@
+package com.ktb.chatapp.service.health;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * HealthSampler 스냅샷 기반 actuator 헬스 인디케이터.
+ * MongoDB/Redis 장애 시 DOWN, S3/Socket.IO 이벤트 루프 상태는 상세 정보로만 노출한다.
+ */
+@Component("dependencies")
+@RequiredArgsConstructor
+public class DependencyHealthIndicator implements HealthIndicator {
+
+    private final HealthSampler healthSampler;
+
+    @Override
+    public Health health() {
+        HealthSnapshot snapshot = healthSampler.getSnapshot();
+        if (snapshot == null) {
+            return Health.unknown().build();
+        }
+
+        Map<String, Object> details = new LinkedHashMap<>();
+        snapshot.components().forEach((name, component) -> {
+            Map<String, Object> detail = new LinkedHashMap<>();
+            detail.put("up", component.up());
+            detail.put("latencyMs", component.latency());
+            detail.put("p50Ms", component.p50());
+            detail.put("p95Ms", component.p95());
+            detail.put("p99Ms", component.p99());
+            if (component.error() != null) {
+                detail.put("error", component.error());
+            }
+            details.put(name, detail);
+        });
+        details.put("sampledAt", snapshot.sampledAt().toString());
+
+        boolean critical = snapshot.isUp(HealthSampler.MONGO)
+                && (!snapshot.components().containsKey(HealthSampler.REDIS) || snapshot.isUp(HealthSampler.REDIS));
+        Health.Builder builder;
+        if (healthSampler.isStale(snapshot)) {
+            builder = Health.unknown().withDetail("stale", true);
+        } else {
+            builder = critical ? Health.up() : Health.down();
+        }
+        return builder.withDetails(details).build();
+    }
+}
@@ -0,0 +1,316 @@
+package com.ktb.chatapp.service.health;
+
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import jakarta.annotation.PreDestroy;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+import software.amazon.awssdk.services.s3.S3Client;
+
+/**
+ * MongoDB, Redis, S3, Socket.IO 이벤트 루프 상태를 주기적으로 측정한다.
+ * 측정값은 컴포넌트별 최근 지연 시간 윈도우와 Prometheus 히스토그램에 기록되고,
+ * 헬스체크 응답은 마지막 스냅샷으로 만든다.
+ * 프로브는 블로킹 I/O이므로 공용 @Scheduled 스레드가 아닌 전용 스레드에서 돌리고,
+ * 프로브마다 타임아웃을 둬서 응답 없는 의존성이 샘플링 전체를 붙잡지 않게 한다.
+ */
+@Slf4j
+@Component
+public class HealthSampler {
+
+    public static final String MONGO = "database";
+    public static final String REDIS = "redis";
+    public static final String S3 = "s3";
+    public static final String SOCKET_EVENT_LOOP = "socketio";
+
+    private static final int PROBE_THREADS = 4;
+    private static final int PROBE_QUEUE_CAPACITY = 16;
+
+    private final MongoTemplate mongoTemplate;
+    private final RoomRepository roomRepository;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectProvider<S3Client> s3ClientProvider;
+    private final ObjectProvider<SocketIOServer> socketIOServerProvider;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.file.storage:s3}")
+    private String fileStorage;
+
+    @Value("${app.file.s3.bucket:}")
+    private String bucket;
+
+    @Value("${app.health.window-size:120}")
+    private int windowSize;
+
+    @Value("${app.health.sample-interval-ms:5000}")
+    private long sampleIntervalMs;
+
+    @Value("${app.health.probe-timeout-ms:2000}")
+    private long probeTimeoutMs;
+
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private volatile HealthSnapshot snapshot;
+    private volatile EventLoopGroup socketWorkerGroup;
+    private volatile boolean socketProbeUnavailable;
+
+    private final ScheduledExecutorService sampleScheduler;
+    private final ThreadPoolExecutor probeExecutor;
+
+    public HealthSampler(
+            MongoTemplate mongoTemplate,
+            RoomRepository roomRepository,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            ObjectProvider<S3Client> s3ClientProvider,
+            ObjectProvider<SocketIOServer> socketIOServerProvider,
+            MeterRegistry meterRegistry) {
+        this.mongoTemplate = mongoTemplate;
+        this.roomRepository = roomRepository;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.s3ClientProvider = s3ClientProvider;
+        this.socketIOServerProvider = socketIOServerProvider;
+        this.meterRegistry = meterRegistry;
+
+        this.sampleScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "health-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.probeExecutor = new ThreadPoolExecutor(
+                PROBE_THREADS,
+                PROBE_THREADS,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(PROBE_QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "health-probe-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 마지막 스냅샷. 아직 측정 전이면 즉시 한 번 측정한다.
+     */
+    public HealthSnapshot getSnapshot() {
+        HealthSnapshot current = snapshot;
+        if (current == null) {
+            sample();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    /**
+     * 스냅샷이 샘플링 주기의 3배 이상 갱신되지 않았는지 여부.
+     */
+    public boolean isStale(HealthSnapshot target) {
+        return target == null
+                || Duration.between(target.sampledAt(), Instant.now()).toMillis() > sampleIntervalMs * 3;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void sampleOnStartup() {
+        sampleScheduler.scheduleWithFixedDelay(this::sampleSafely, 0, sampleIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sampleScheduler.shutdownNow();
+        probeExecutor.shutdownNow();
+    }
+
+    private void sampleSafely() {
+        try {
+            sample();
+        } catch (Exception e) {
+            log.error("Health sampling 실패", e);
+        }
+    }
+
+    public synchronized void sample() {
+        // 프로브를 동시에 시작해 가장 느린 프로브 하나만큼만 기다린다
+        Map<String, ProbeTask> tasks = new LinkedHashMap<>();
+
+        tasks.put(MONGO, submitProbe(MONGO, () -> mongoTemplate.executeCommand(new Document("ping", 1))));
+
+        StringRedisTemplate redisTemplate = redisTemplateProvider.getIfAvailable();
+        if (redisTemplate != null) {
+            tasks.put(REDIS, submitProbe(REDIS, () -> redisTemplate.execute(connection -> connection.ping(), true)));
+        }
+
+        S3Client s3Client = "s3".equals(fileStorage) ? s3ClientProvider.getIfAvailable() : null;
+        if (s3Client != null && !bucket.isEmpty()) {
+            tasks.put(S3, submitProbe(S3, () -> s3Client.headBucket(request -> request.bucket(bucket))));
+        }
+
+        EventLoopGroup workerGroup = resolveSocketWorkerGroup();
+        if (workerGroup != null) {
+            tasks.put(SOCKET_EVENT_LOOP, submitProbe(SOCKET_EVENT_LOOP, () -> awaitEventLoops(workerGroup)));
+        }
+
+        Map<String, HealthSnapshot.ComponentHealth> components = new LinkedHashMap<>();
+        tasks.forEach((component, task) -> components.put(component, await(component, task)));
+
+        LocalDateTime lastActivity = null;
+        if (components.get(MONGO).up()) {
+            try {
+                lastActivity = roomRepository.findMostRecentRoom().map(Room::getCreatedAt).orElse(null);
+            } catch (Exception e) {
+                log.debug("최근 활동 조회 실패: {}", e.getMessage());
+            }
+        }
+
+        snapshot = new HealthSnapshot(Map.copyOf(components), lastActivity, Instant.now());
+    }
+
+    private ProbeTask submitProbe(String component, Runnable check) {
+        long start = System.nanoTime();
+        try {
+            Future<Long> future = probeExecutor.submit(() -> {
+                long probeStart = System.nanoTime();
+                check.run();
+                return System.nanoTime() - probeStart;
+            });
+            return new ProbeTask(future, start);
+        } catch (RejectedExecutionException e) {
+            // 이전 프로브들이 아직 멈춰 있어 큐가 가득 찬 경우
+            log.warn("Health probe 대기열 초과 - component: {}", component);
+            return new ProbeTask(null, start);
+        }
+    }
+
+    private HealthSnapshot.ComponentHealth await(String component, ProbeTask task) {
+        long elapsedNanos;
+        String error = null;
+        if (task.future() == null) {
+            elapsedNanos = System.nanoTime() - task.submittedAt();
+            error = "RejectedExecutionException: probe executor is saturated";
+        } else {
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(probeTimeoutMs) - (System.nanoTime() - task.submittedAt());
+            try {
+                elapsedNanos = task.future().get(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                task.future().cancel(true);
+                elapsedNanos = System.nanoTime() - task.submittedAt();
+                error = "TimeoutException: no response within " + probeTimeoutMs + "ms";
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                task.future().cancel(true);
+                elapsedNanos = System.nanoTime() - task.submittedAt();
+                error = "InterruptedException: " + e.getMessage();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                elapsedNanos = System.nanoTime() - task.submittedAt();
+                error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+            }
+        }
+        if (error != null) {
+            log.warn("Health probe 실패 - component: {}, error: {}", component, error);
+        }
+        long latency = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+
+        LatencyWindow window = windows.computeIfAbsent(component, key -> new LatencyWindow(windowSize));
+        if (error == null) {
+            window.record(latency);
+            timerFor(component).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+
+        return new HealthSnapshot.ComponentHealth(
+                error == null,
+                latency,
+                window.percentile(50),
+                window.percentile(95),
+                window.percentile(99),
+                error);
+    }
+
+    private Timer timerFor(String component) {
+        return timers.computeIfAbsent(component, key -> Timer.builder("health.probe.latency")
+                .description("Background health probe latency")
+                .tag("component", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    /**
+     * 모든 워커 이벤트 루프에 빈 작업을 동시에 넣고 전부 실행될 때까지의 지연을 측정한다.
+     * 전체 대기 시간은 프로브 타임아웃으로 제한된다.
+     */
+    private void awaitEventLoops(EventLoopGroup workerGroup) {
+        List<Future<?>> pending = new ArrayList<>();
+        for (EventExecutor executor : workerGroup) {
+            pending.add(executor.submit(() -> { }));
+        }
+        for (Future<?> future : pending) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("event loop probe interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("event loop probe failed", e.getCause());
+            }
+        }
+    }
+
+    private record ProbeTask(Future<Long> future, long submittedAt) {
+    }
+
+    /**
+     * netty-socketio가 워커 그룹을 공개하지 않으므로 서버 시작 후 필드에서 한 번 읽어 둔다.
+     */
+    private EventLoopGroup resolveSocketWorkerGroup() {
+        if (socketWorkerGroup != null || socketProbeUnavailable) {
+            return socketWorkerGroup;
+        }
+        SocketIOServer server = socketIOServerProvider.getIfAvailable();
+        if (server == null) {
+            socketProbeUnavailable = true;
+            return null;
+        }
+        Field field = ReflectionUtils.findField(SocketIOServer.class, "workerGroup");
+        if (field == null) {
+            log.warn("Socket.IO worker group을 찾을 수 없어 이벤트 루프 지연 측정을 생략합니다.");
+            socketProbeUnavailable = true;
+            return null;
+        }
+        ReflectionUtils.makeAccessible(field);
+        socketWorkerGroup = (EventLoopGroup) ReflectionUtils.getField(field, server);
+        return socketWorkerGroup;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ktb.chatapp.service.health;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 백그라운드 샘플링 결과의 불변 스냅샷.
+ * 헬스체크 요청은 DB를 조회하지 않고 이 스냅샷만 읽는다.
+ */
+public record HealthSnapshot(
+        Map<String, ComponentHealth> components,
+        LocalDateTime lastActivity,
+        Instant sampledAt) {
+
+    public record ComponentHealth(
+            boolean up,
+            long latency,
+            long p50,
+            long p95,
+            long p99,
+            String error) {
+    }
+
+    public boolean isUp(String component) {
+        ComponentHealth health = components.get(component);
+        return health != null && health.up();
+    }
+}
@@ -0,0 +1,45 @@
+package com.ktb.chatapp.service.health;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N개의 지연 시간 샘플을 보관하고 백분위수를 계산하는 링 버퍼.
+ */
+public class LatencyWindow {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    public LatencyWindow(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        this.samples = new long[capacity];
+    }
+
+    public synchronized void record(long latencyMillis) {
+        samples[next] = latencyMillis;
+        next = (next + 1) % samples.length;
+        if (size < samples.length) {
+            size++;
+        }
+    }
+
+    /**
+     * nearest-rank 방식 백분위수. 샘플이 없으면 -1.
+     */
+    public synchronized long percentile(double percentile) {
+        if (size == 0) {
+            return -1L;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * size);
+        return sorted[Math.min(Math.max(rank, 1), size) - 1];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+}
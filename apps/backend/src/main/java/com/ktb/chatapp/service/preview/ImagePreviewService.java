@@ -0,0 +1,280 @@
+package com.ktb.chatapp.service.preview;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.FilePreview;
+import com.ktb.chatapp.service.FileAccessResolver;
+import com.ktb.chatapp.service.FileService;
+import com.ktb.chatapp.util.FileUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 이미지 첨부의 미리보기 파생본(thumb, medium)을 업로드 뒤 백그라운드에서 만든다.
+ * 고정 스레드와 고정 크기 대기열로 디코딩 동시성을 제한하며, 대기열이 차면 해당 파일은 건너뛴다.
+ * 파생본은 원본 옆 경로에 저장하고 File 문서의 previews에 기록한다.
+ * 미리보기가 아직 없으면 클라이언트는 원본을 받는다.
+ * 프로필 이미지는 별도의 작은 실행기에서 정규화(축소, 메타데이터 제거)한 뒤 저장한다.
+ * 요청 스레드가 기다리는 작업이므로 미리보기 대기열 뒤에 줄 서지 않게 분리하고, 바쁘면 원본 저장으로 넘어간다.
+ */
+@Slf4j
+@Service
+public class ImagePreviewService {
+
+    public static final String THUMB = "thumb";
+    public static final String MEDIUM = "medium";
+
+    private static final Set<String> PREVIEW_SOURCE_TYPES = Set.of("image/jpeg", "image/png", "image/gif");
+    // 애니메이션 GIF는 첫 프레임만 남으므로 프로필은 그대로 둔다
+    private static final Set<String> PROFILE_SOURCE_TYPES = Set.of("image/jpeg", "image/png");
+
+    private final FileService fileService;
+    private final MongoTemplate mongoTemplate;
+    private final FileAccessResolver fileAccessResolver;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor profileExecutor;
+    private final boolean enabled;
+    private final int thumbSize;
+    private final int mediumSize;
+    private final int profileSize;
+    private final long maxPixels;
+    private final long profileTimeoutMs;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+    private final Map<String, Counter> profileFallbackCounters = new ConcurrentHashMap<>();
+
+    public ImagePreviewService(
+            FileService fileService,
+            MongoTemplate mongoTemplate,
+            FileAccessResolver fileAccessResolver,
+            MeterRegistry meterRegistry,
+            @Value("${app.file.preview.enabled:true}") boolean enabled,
+            @Value("${app.file.preview.threads:2}") int threads,
+            @Value("${app.file.preview.queue-capacity:256}") int queueCapacity,
+            @Value("${app.file.preview.thumb-size:320}") int thumbSize,
+            @Value("${app.file.preview.medium-size:1280}") int mediumSize,
+            @Value("${app.file.preview.profile-size:512}") int profileSize,
+            @Value("${app.file.preview.max-pixels:50000000}") long maxPixels,
+            @Value("${app.file.preview.profile-timeout-ms:5000}") long profileTimeoutMs,
+            @Value("${app.file.preview.profile-threads:2}") int profileThreads,
+            @Value("${app.file.preview.profile-queue-capacity:4}") int profileQueueCapacity) {
+        this.fileService = fileService;
+        this.mongoTemplate = mongoTemplate;
+        this.fileAccessResolver = fileAccessResolver;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.thumbSize = thumbSize;
+        this.mediumSize = mediumSize;
+        this.profileSize = profileSize;
+        this.maxPixels = maxPixels;
+        this.profileTimeoutMs = profileTimeoutMs;
+
+        this.executor = boundedExecutor("image-preview-", threads, queueCapacity);
+        this.profileExecutor = boundedExecutor("profile-image-", profileThreads, profileQueueCapacity);
+
+        this.rejectedCounter = Counter.builder("file.preview.rejected")
+                .description("Image preview tasks dropped because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("file.preview.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Image preview tasks waiting for a worker")
+                .register(meterRegistry);
+
+        log.info("Image preview service initialized - enabled: {}, threads: {}, queueCapacity: {}",
+                enabled, threads, queueCapacity);
+    }
+
+    /**
+     * 미리보기를 만들 수 있는 이미지면 백그라운드 작업을 등록한다. 요청 스레드를 막지 않는다.
+     */
+    public void schedule(File file) {
+        if (!enabled || file == null || !PREVIEW_SOURCE_TYPES.contains(file.getMimetype())) {
+            return;
+        }
+        // 같은 내용의 이전 업로드에서 물려받은 미리보기가 있으면 다시 만들지 않는다
+        if (file.getPreviews() != null && !file.getPreviews().isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> generate(file));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.debug("Image preview queue full, skipping: {}", file.getFilename());
+        }
+    }
+
+    /**
+     * 프로필 이미지를 축소·재인코딩해 공개 경로에 저장하고 URL을 돌려준다.
+     * 정규화할 수 없는 형식이거나 실행기가 바쁘면 비어 있고, 호출자는 원본을 저장한다.
+     */
+    public Optional<String> storeNormalizedProfileImage(MultipartFile file, String subDirectory) {
+        if (!enabled || !PROFILE_SOURCE_TYPES.contains(file.getContentType())) {
+            return Optional.empty();
+        }
+        Future<Optional<List<ImageRenderer.Rendition>>> future;
+        try {
+            future = profileExecutor.submit(() -> {
+                try (InputStream in = file.getInputStream()) {
+                    return ImageRenderer.render(in, List.of(profileSize), maxPixels);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            countProfileFallback("busy");
+            return Optional.empty();
+        }
+
+        Optional<ImageRenderer.Rendition> rendition;
+        try {
+            rendition = future.get(profileTimeoutMs, TimeUnit.MILLISECONDS).map(renditions -> renditions.get(0));
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            countProfileFallback("timeout");
+            log.warn("Profile image normalization timed out after {}ms", profileTimeoutMs);
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            countProfileFallback("interrupted");
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            countProfileFallback("failed");
+            log.warn("Profile image normalization failed: {}", e.getCause().getMessage());
+            return Optional.empty();
+        }
+        if (rendition.isEmpty()) {
+            countProfileFallback("unsupported");
+            return Optional.empty();
+        }
+
+        ImageRenderer.Rendition normalized = rendition.get();
+        String path = subDirectory + "/" + FileUtil.generateSafeFileName("profile." + normalized.extension());
+        try {
+            return Optional.of(fileService.writeStored(path, normalized.content(), normalized.mimetype(), true));
+        } catch (IOException e) {
+            throw new RuntimeException("프로필 이미지를 저장할 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    void generate(File file) {
+        long startedAt = System.nanoTime();
+        String outcome = "failed";
+        try (InputStream in = fileService.openStored(file.getPath())) {
+            Optional<List<ImageRenderer.Rendition>> rendered =
+                    ImageRenderer.render(in, List.of(thumbSize, mediumSize), maxPixels);
+            if (rendered.isEmpty()) {
+                outcome = "skipped";
+                return;
+            }
+
+            List<FilePreview> previews = new ArrayList<>(2);
+            previews.add(store(file, THUMB, rendered.get().get(0)));
+            ImageRenderer.Rendition medium = rendered.get().get(1);
+            // 원본이 썸네일보다 작으면 medium은 thumb와 같으니 만들지 않는다
+            if (Math.max(medium.width(), medium.height()) > thumbSize) {
+                previews.add(store(file, MEDIUM, medium));
+            }
+
+            mongoTemplate.updateFirst(
+                    Query.query(Criteria.where("_id").is(file.getId())),
+                    Update.update("previews", previews),
+                    File.class);
+            fileAccessResolver.evict(file.getFilename());
+            outcome = "completed";
+        } catch (Exception e) {
+            log.warn("Image preview generation failed: {} - {}", file.getFilename(), e.getMessage());
+        } finally {
+            Timer.builder("file.preview.time")
+                    .description("Time to render and store image previews for one upload")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 저장소 경로에서 나올 수 있는 모든 미리보기 경로.
+     * 파생본 경로는 blob 경로만으로 정해지므로, File의 previews가 비어 있어도 마지막 참조를 지울 때 남김없이 지울 수 있다.
+     */
+    public static List<String> previewPaths(String path) {
+        List<String> paths = new ArrayList<>(4);
+        for (String variant : List.of(THUMB, MEDIUM)) {
+            for (String extension : List.of("jpg", "png")) {
+                paths.add(previewPath(path, variant, extension));
+            }
+        }
+        return paths;
+    }
+
+    private static String previewPath(String path, String variant, String extension) {
+        return path + "." + variant + "." + extension;
+    }
+
+    private FilePreview store(File file, String variant, ImageRenderer.Rendition rendition) throws IOException {
+        String path = previewPath(file.getPath(), variant, rendition.extension());
+        fileService.writeStored(path, rendition.content(), rendition.mimetype(), false);
+        return FilePreview.builder()
+                .variant(variant)
+                .path(path)
+                .mimetype(rendition.mimetype())
+                .width(rendition.width())
+                .height(rendition.height())
+                .size(rendition.content().length)
+                .build();
+    }
+
+    private void countProfileFallback(String reason) {
+        profileFallbackCounters.computeIfAbsent(reason, key -> Counter.builder("file.preview.profile.fallback")
+                        .description("Profile images stored unnormalized because rendering was skipped")
+                        .tag("reason", key)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private static ThreadPoolExecutor boundedExecutor(String threadPrefix, int threads, int queueCapacity) {
+        AtomicInteger threadIndex = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadPrefix + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        profileExecutor.shutdown();
+    }
+}
@@ -0,0 +1,281 @@
+package com.ktb.chatapp.service.preview;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.metadata.IIOMetadata;
+import javax.imageio.metadata.IIOMetadataNode;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import org.w3c.dom.NodeList;
+
+/**
+ * 이미지를 한 번 디코딩해 여러 크기의 축소본으로 다시 인코딩한다.
+ * 다시 인코딩하므로 EXIF(위치, 기기 정보) 등 원본 메타데이터는 남지 않는다.
+ * 대신 JPEG의 EXIF Orientation은 디코딩 후 픽셀에 직접 적용해 회전 정보가 사라져도 바르게 보이게 한다.
+ * 큰 원본은 가장 큰 목표 크기의 2배 근처까지 디코더에서 서브샘플링해 픽셀 버퍼를 줄이고,
+ * 나머지는 절반씩 줄여 가며 보간한다.
+ * JDK ImageIO는 WebP를 쓰지 못하므로 불투명 이미지는 JPEG, 투명 이미지는 PNG로 만든다.
+ */
+public final class ImageRenderer {
+
+    public static final String JPEG = "image/jpeg";
+    public static final String PNG = "image/png";
+
+    private static final float JPEG_QUALITY = 0.82f;
+
+    private static final String JPEG_METADATA_FORMAT = "javax_imageio_jpeg_image_1.0";
+    private static final int APP1_MARKER = 0xE1;
+    private static final int ORIENTATION_TAG = 0x0112;
+    private static final byte[] EXIF_HEADER = "Exif\0\0".getBytes(StandardCharsets.US_ASCII);
+
+    private ImageRenderer() {
+    }
+
+    /**
+     * @param maxDimensions 각 축소본의 긴 변 최대 길이. 원본이 더 작으면 원본 크기로 다시 인코딩한다.
+     * @param maxPixels     이보다 픽셀 수가 많은 원본은 디코딩하지 않는다 (압축 폭탄 방지)
+     * @return 읽을 수 없는 형식이거나 너무 크면 비어 있다
+     */
+    public static Optional<List<Rendition>> render(InputStream source, List<Integer> maxDimensions, long maxPixels)
+            throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source)) {
+            if (input == null) {
+                return Optional.empty();
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return Optional.empty();
+            }
+            ImageReader reader = readers.next();
+            try {
+                // Orientation을 읽기 위해 메타데이터는 무시하지 않는다
+                reader.setInput(input, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    return Optional.empty();
+                }
+
+                int largest = maxDimensions.stream().mapToInt(Integer::intValue).max().orElse(width);
+                int subsampling = Math.max(1, Math.max(width, height) / (largest * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                BufferedImage decoded = applyOrientation(reader.read(0, param), readOrientation(reader));
+
+                boolean alpha = decoded.getColorModel().hasAlpha();
+                List<Rendition> renditions = new ArrayList<>(maxDimensions.size());
+                for (int maxDimension : maxDimensions) {
+                    BufferedImage scaled = scaleToFit(decoded, maxDimension, alpha);
+                    renditions.add(new Rendition(
+                            encode(scaled, alpha),
+                            alpha ? PNG : JPEG,
+                            scaled.getWidth(),
+                            scaled.getHeight()));
+                }
+                return Optional.of(renditions);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * JPEG APP1(Exif) 세그먼트의 IFD0에서 Orientation 값을 읽는다. 없거나 읽을 수 없으면 1(정방향).
+     */
+    static int readOrientation(ImageReader reader) {
+        try {
+            IIOMetadata metadata = reader.getImageMetadata(0);
+            if (metadata == null || !JPEG_METADATA_FORMAT.equals(metadata.getNativeMetadataFormatName())) {
+                return 1;
+            }
+            IIOMetadataNode root = (IIOMetadataNode) metadata.getAsTree(JPEG_METADATA_FORMAT);
+            NodeList unknown = root.getElementsByTagName("unknown");
+            for (int i = 0; i < unknown.getLength(); i++) {
+                IIOMetadataNode node = (IIOMetadataNode) unknown.item(i);
+                if (Integer.toString(APP1_MARKER).equals(node.getAttribute("MarkerTag"))
+                        && node.getUserObject() instanceof byte[] payload) {
+                    int orientation = parseExifOrientation(payload);
+                    if (orientation > 0) {
+                        return orientation;
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // 손상된 메타데이터는 무시하고 원본 방향으로 처리
+        }
+        return 1;
+    }
+
+    /**
+     * "Exif\0\0" 뒤의 TIFF 헤더와 IFD0 항목을 따라가 Orientation(0x0112) 값을 찾는다.
+     *
+     * @return 1~8, Exif가 아니거나 태그가 없으면 0
+     */
+    static int parseExifOrientation(byte[] payload) {
+        if (payload.length < EXIF_HEADER.length + 8
+                || !Arrays.equals(payload, 0, EXIF_HEADER.length, EXIF_HEADER, 0, EXIF_HEADER.length)) {
+            return 0;
+        }
+        int tiff = EXIF_HEADER.length;
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        if (payload[tiff] == 'I' && payload[tiff + 1] == 'I') {
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (payload[tiff] != 'M' || payload[tiff + 1] != 'M') {
+            return 0;
+        }
+        long ifdOffset = Integer.toUnsignedLong(buffer.getInt(tiff + 4));
+        long ifd = tiff + ifdOffset;
+        if (ifd + 2 > payload.length) {
+            return 0;
+        }
+        int entries = Short.toUnsignedInt(buffer.getShort((int) ifd));
+        for (int i = 0; i < entries; i++) {
+            int entry = (int) ifd + 2 + i * 12;
+            if (entry + 12 > payload.length) {
+                return 0;
+            }
+            if (Short.toUnsignedInt(buffer.getShort(entry)) == ORIENTATION_TAG) {
+                int value = Short.toUnsignedInt(buffer.getShort(entry + 8));
+                return value >= 1 && value <= 8 ? value : 0;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * EXIF Orientation(1~8)에 맞게 이미지를 뒤집거나 회전한다. 5~8은 가로세로가 바뀐다.
+     */
+    static BufferedImage applyOrientation(BufferedImage source, int orientation) {
+        if (orientation <= 1 || orientation > 8) {
+            return source;
+        }
+        int width = source.getWidth();
+        int height = source.getHeight();
+        boolean swap = orientation >= 5;
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> {
+                transform.translate(width, 0);
+                transform.scale(-1, 1);
+            }
+            case 3 -> {
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 4 -> {
+                transform.translate(0, height);
+                transform.scale(1, -1);
+            }
+            case 5 -> {
+                transform.rotate(-Math.PI / 2);
+                transform.scale(-1, 1);
+            }
+            case 6 -> {
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 7 -> {
+                transform.translate(height, width);
+                transform.rotate(Math.PI / 2);
+                transform.scale(-1, 1);
+            }
+            default -> {
+                transform.translate(0, width);
+                transform.rotate(-Math.PI / 2);
+            }
+        }
+
+        boolean alpha = source.getColorModel().hasAlpha();
+        BufferedImage target = new BufferedImage(swap ? height : width, swap ? width : height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.drawImage(source, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static BufferedImage scaleToFit(BufferedImage source, int maxDimension, boolean alpha) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage current = source;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            // 한 번에 크게 줄이면 bilinear 보간이 픽셀을 건너뛰어 계단 현상이 생긴다
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+            current = draw(current, currentWidth, currentHeight, alpha);
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height, boolean alpha) {
+        BufferedImage target = new BufferedImage(width, height,
+                alpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image, boolean alpha) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        if (alpha) {
+            ImageIO.write(image, "png", bytes);
+            return bytes.toByteArray();
+        }
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * 다시 인코딩한 축소본.
+     */
+    public record Rendition(byte[] content, String mimetype, int width, int height) {
+
+        public String extension() {
+            return PNG.equals(mimetype) ? "png" : "jpg";
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.ktb.chatapp.service.session;
+
+/**
+ * Minimal session state needed to validate a request.
+ *
+ * @param sessionId the current session identifier
+ * @param lastActivity last activity time in epoch millis
+ */
+public record SessionActivity(String sessionId, long lastActivity) {
+}
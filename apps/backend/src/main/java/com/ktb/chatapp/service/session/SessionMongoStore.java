@@ -2,14 +2,22 @@ package com.ktb.chatapp.service.session;
 
 import com.ktb.chatapp.model.Session;
 import com.ktb.chatapp.repository.SessionRepository;
+import java.time.Instant;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
 /**
  * MongoDB implementation of SessionStore.
  * Uses SessionRepository for persistence.
+ * Validation and activity refresh update only lastActivity/expiresAt in place
+ * and project sessionId/lastActivity, so metadata is never read on that path.
  */
 @Component
 @ConditionalOnProperty(prefix = "app.session", name = "store", havingValue = "mongo", matchIfMissing = true)
@@ -17,6 +25,7 @@ import org.springframework.stereotype.Component;
 public class SessionMongoStore implements SessionStore {
     
     private final SessionRepository sessionRepository;
+    private final MongoTemplate mongoTemplate;
     
     @Override
     public Optional<Session> findByUserId(String userId) {
@@ -40,4 +49,51 @@ public class SessionMongoStore implements SessionStore {
     public void deleteAll(String userId) {
         sessionRepository.deleteByUserId(userId);
     }
+
+    @Override
+    public Optional<SessionActivity> validateAndTouch(
+            String userId, String sessionId, long now, long timeoutMillis, Instant expiresAt) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        // 일치하고 만료 전인 세션만 갱신한다. 갱신 전 값을 받아 호출자에게 돌려준다
+        Query match = activityQuery(Criteria.where("userId").is(userId)
+                .and("sessionId").is(sessionId)
+                .and("lastActivity").gte(now - timeoutMillis));
+        Session previous = mongoTemplate.findAndModify(
+                match,
+                activityUpdate(now, expiresAt),
+                FindAndModifyOptions.options().returnNew(false),
+                Session.class);
+        if (previous != null) {
+            return Optional.of(new SessionActivity(previous.getSessionId(), previous.getLastActivity()));
+        }
+        // 실패 경로에서만 불일치/만료를 구분하기 위해 한 번 더 읽는다
+        Session current = mongoTemplate.findOne(activityQuery(Criteria.where("userId").is(userId)), Session.class);
+        return Optional.ofNullable(current)
+                .map(session -> new SessionActivity(session.getSessionId(), session.getLastActivity()));
+    }
+
+    @Override
+    public void touch(String userId, long lastActivity, Instant expiresAt) {
+        if (userId == null) {
+            return;
+        }
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("userId").is(userId)),
+                activityUpdate(lastActivity, expiresAt),
+                Session.class);
+    }
+
+    private static Query activityQuery(Criteria criteria) {
+        Query query = Query.query(criteria);
+        query.fields().include("sessionId").include("lastActivity");
+        return query;
+    }
+
+    private static Update activityUpdate(long lastActivity, Instant expiresAt) {
+        return new Update()
+                .set("lastActivity", lastActivity)
+                .set("expiresAt", expiresAt);
+    }
 }
@@ -0,0 +1,225 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis hash implementation of SessionStore.
+ * Stores each session field as a hash field so that validation reads only
+ * sessionId/lastActivity (HMGET) and refreshes lastActivity/expiresAt with a
+ * TTL extension in one script, without JSON (de)serialization of the whole session.
+ * Metadata is read with HGETALL only through findByUserId.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.session", name = "store", havingValue = "redis-hash")
+@RequiredArgsConstructor
+public class SessionRedisHashStore implements SessionStore {
+
+    // JSON 저장소(session:)와 키가 겹치지 않도록 별도 prefix 사용
+    private static final String KEY_PREFIX = "session:h:";
+
+    static final String USER_ID = "userId";
+    static final String SESSION_ID = "sessionId";
+    static final String CREATED_AT = "createdAt";
+    static final String LAST_ACTIVITY = "lastActivity";
+    static final String EXPIRES_AT = "expiresAt";
+    static final String USER_AGENT = "userAgent";
+    static final String IP_ADDRESS = "ipAddress";
+    static final String DEVICE_INFO = "deviceInfo";
+
+    /**
+     * 세션이 남아 있을 때만 lastActivity/expiresAt을 갱신하고 TTL을 연장한다.
+     * 만료와 동시에 갱신되어 필드 일부만 남은 해시가 생기는 것을 막는다.
+     */
+    private static final RedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then "
+                    + "redis.call('HSET', KEYS[1], 'lastActivity', ARGV[1], 'expiresAt', ARGV[2]) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[3]) "
+                    + "return 1 end "
+                    + "return 0",
+            Long.class);
+
+    /**
+     * sessionId/lastActivity만 읽고, 세션이 일치하며 타임아웃 전이면 같은 스크립트 안에서 갱신한다.
+     * 갱신 전 값을 돌려줘 호출자가 불일치/만료를 구분할 수 있게 한다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> VALIDATE_TOUCH_SCRIPT = new DefaultRedisScript<>(
+            "local values = redis.call('HMGET', KEYS[1], 'sessionId', 'lastActivity') "
+                    + "if not values[1] then return nil end "
+                    + "local last = tonumber(values[2]) or 0 "
+                    + "if values[1] == ARGV[1] and tonumber(ARGV[2]) - last <= tonumber(ARGV[3]) then "
+                    + "redis.call('HSET', KEYS[1], 'lastActivity', ARGV[2], 'expiresAt', ARGV[4]) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[5]) "
+                    + "end "
+                    + "return {values[1], values[2] or '0'}",
+            List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public Optional<Session> findByUserId(String userId) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(buildKey(userId));
+        if (fields.isEmpty() || fields.get(SESSION_ID) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(toSession(userId, fields));
+    }
+
+    @Override
+    public Session save(Session session) {
+        if (session.getUserId() == null) {
+            throw new IllegalArgumentException("Session userId cannot be null");
+        }
+        String key = buildKey(session.getUserId());
+        Map<String, String> fields = toFields(session);
+        long ttlSeconds = computeTtlSeconds(session.getExpiresAt());
+
+        // 이전 세션의 메타데이터 필드가 남지 않도록 삭제 후 다시 기록
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.del(key);
+            stringConnection.hMSet(key, fields);
+            stringConnection.expire(key, ttlSeconds);
+            return null;
+        });
+        return session;
+    }
+
+    @Override
+    public Optional<SessionActivity> validateAndTouch(
+            String userId, String sessionId, long now, long timeoutMillis, Instant expiresAt) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        List<?> result = redisTemplate.execute(
+                VALIDATE_TOUCH_SCRIPT,
+                List.of(buildKey(userId)),
+                sessionId,
+                Long.toString(now),
+                Long.toString(timeoutMillis),
+                Long.toString(expiresAt.toEpochMilli()),
+                Long.toString(computeTtlSeconds(expiresAt)));
+        if (result == null || result.size() < 2) {
+            return Optional.empty();
+        }
+        return Optional.of(new SessionActivity(String.valueOf(result.get(0)), parseLong(result.get(1))));
+    }
+
+    @Override
+    public void touch(String userId, long lastActivity, Instant expiresAt) {
+        if (userId == null) {
+            return;
+        }
+        redisTemplate.execute(
+                TOUCH_SCRIPT,
+                List.of(buildKey(userId)),
+                Long.toString(lastActivity),
+                Long.toString(expiresAt.toEpochMilli()),
+                Long.toString(computeTtlSeconds(expiresAt)));
+    }
+
+    @Override
+    public void deleteAll(String userId) {
+        if (userId == null) {
+            return;
+        }
+        redisTemplate.delete(buildKey(userId));
+    }
+
+    @Override
+    public void delete(String userId, String sessionId) {
+        if (userId == null || sessionId == null) {
+            return;
+        }
+        Object current = redisTemplate.opsForHash().get(buildKey(userId), SESSION_ID);
+        if (sessionId.equals(current)) {
+            deleteAll(userId);
+        }
+    }
+
+    static Map<String, String> toFields(Session session) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(USER_ID, session.getUserId());
+        fields.put(SESSION_ID, session.getSessionId());
+        fields.put(CREATED_AT, Long.toString(session.getCreatedAt()));
+        fields.put(LAST_ACTIVITY, Long.toString(session.getLastActivity()));
+        if (session.getExpiresAt() != null) {
+            fields.put(EXPIRES_AT, Long.toString(session.getExpiresAt().toEpochMilli()));
+        }
+        SessionMetadata metadata = session.getMetadata();
+        if (metadata != null) {
+            putIfNotNull(fields, USER_AGENT, metadata.userAgent());
+            putIfNotNull(fields, IP_ADDRESS, metadata.ipAddress());
+            putIfNotNull(fields, DEVICE_INFO, metadata.deviceInfo());
+        }
+        return fields;
+    }
+
+    static Session toSession(String userId, Map<Object, Object> fields) {
+        SessionMetadata metadata = null;
+        if (fields.containsKey(USER_AGENT) || fields.containsKey(IP_ADDRESS) || fields.containsKey(DEVICE_INFO)) {
+            metadata = new SessionMetadata(
+                    (String) fields.get(USER_AGENT),
+                    (String) fields.get(IP_ADDRESS),
+                    (String) fields.get(DEVICE_INFO));
+        }
+        Object expiresAt = fields.get(EXPIRES_AT);
+        return Session.builder()
+                .userId(userId)
+                .sessionId((String) fields.get(SESSION_ID))
+                .createdAt(parseLong(fields.get(CREATED_AT)))
+                .lastActivity(parseLong(fields.get(LAST_ACTIVITY)))
+                .expiresAt(expiresAt != null ? Instant.ofEpochMilli(parseLong(expiresAt)) : null)
+                .metadata(metadata)
+                .build();
+    }
+
+    private static void putIfNotNull(Map<String, String> fields, String field, String value) {
+        if (value != null) {
+            fields.put(field, value);
+        }
+    }
+
+    private static long parseLong(Object value) {
+        if (value == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(value.toString());
+        } catch (NumberFormatException e) {
+            log.warn("Invalid numeric session field value: {}", value);
+            return 0L;
+        }
+    }
+
+    private long computeTtlSeconds(Instant expiresAt) {
+        if (expiresAt == null) {
+            return 1800L; // default 30 minutes
+        }
+        long ttl = expiresAt.getEpochSecond() - Instant.now().getEpochSecond();
+        return Math.max(1L, ttl);
+    }
+
+    private String buildKey(String userId) {
+        return KEY_PREFIX + userId;
+    }
+}
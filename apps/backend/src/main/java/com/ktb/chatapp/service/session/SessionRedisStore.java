@@ -5,16 +5,21 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ktb.chatapp.model.Session;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 /**
  * Redis implementation of SessionStore.
  * Stores session state as JSON with per-user keys.
+ * Validation and activity refresh patch lastActivity/expiresAt inside the stored JSON
+ * with a Lua script, so they cost one round trip and never deserialize the metadata.
  */
 @Slf4j
 @Component
@@ -23,6 +28,44 @@ import org.springframework.stereotype.Component;
 public class SessionRedisStore implements SessionStore {
 
     private static final String KEY_PREFIX = "session:";
+
+    // Jackson이 공백 없이 쓴 JSON이므로 최상위 필드를 패턴으로 찾을 수 있다.
+    // 문자열 값 안의 따옴표는 이스케이프되어 있어 메타데이터 값과 겹치지 않는다.
+    private static final String PATCH_ACTIVITY_LUA =
+            "local function patch(value) "
+                    + "value = string.gsub(value, '\"lastActivity\":%-?%d+', '\"lastActivity\":' .. ARGV[2], 1) "
+                    + "value = string.gsub(value, '\"expiresAt\":[^,}]+', '\"expiresAt\":' .. ARGV[4], 1) "
+                    + "redis.call('SET', KEYS[1], value, 'EX', ARGV[5]) "
+                    + "end ";
+
+    /**
+     * sessionId/lastActivity만 꺼내 보고, 세션이 일치하며 타임아웃 전이면 같은 스크립트 안에서 갱신한다.
+     * 갱신 전 값을 돌려줘 호출자가 불일치/만료를 구분할 수 있게 한다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> VALIDATE_TOUCH_SCRIPT = new DefaultRedisScript<>(
+            PATCH_ACTIVITY_LUA
+                    + "local value = redis.call('GET', KEYS[1]) "
+                    + "if not value then return nil end "
+                    + "local sid = string.match(value, '\"sessionId\":\"([^\"]*)\"') or '' "
+                    + "local last = string.match(value, '\"lastActivity\":(%-?%d+)') or '0' "
+                    + "if sid == ARGV[1] and tonumber(ARGV[2]) - tonumber(last) <= tonumber(ARGV[3]) then "
+                    + "patch(value) "
+                    + "end "
+                    + "return {sid, last}",
+            List.class);
+
+    /**
+     * 세션이 남아 있을 때만 lastActivity/expiresAt을 갱신하고 TTL을 연장한다.
+     */
+    private static final RedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>(
+            PATCH_ACTIVITY_LUA
+                    + "local value = redis.call('GET', KEYS[1]) "
+                    + "if not value then return 0 end "
+                    + "patch(value) "
+                    + "return 1",
+            Long.class);
+
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
 
@@ -61,6 +104,42 @@ public class SessionRedisStore implements SessionStore {
         }
     }
 
+    @Override
+    public Optional<SessionActivity> validateAndTouch(
+            String userId, String sessionId, long now, long timeoutMillis, Instant expiresAt) {
+        if (userId == null) {
+            return Optional.empty();
+        }
+        List<?> result = redisTemplate.execute(
+                VALIDATE_TOUCH_SCRIPT,
+                List.of(buildKey(userId)),
+                sessionId,
+                Long.toString(now),
+                Long.toString(timeoutMillis),
+                toJson(expiresAt),
+                Long.toString(computeTtlSeconds(expiresAt)));
+        if (result == null || result.size() < 2) {
+            return Optional.empty();
+        }
+        return Optional.of(new SessionActivity(String.valueOf(result.get(0)), Long.parseLong(String.valueOf(result.get(1)))));
+    }
+
+    @Override
+    public void touch(String userId, long lastActivity, Instant expiresAt) {
+        if (userId == null) {
+            return;
+        }
+        // 스크립트 인자 위치를 validateAndTouch와 맞추기 위해 1, 3번은 비워 둔다
+        redisTemplate.execute(
+                TOUCH_SCRIPT,
+                List.of(buildKey(userId)),
+                "",
+                Long.toString(lastActivity),
+                "",
+                toJson(expiresAt),
+                Long.toString(computeTtlSeconds(expiresAt)));
+    }
+
     @Override
     public void deleteAll(String userId) {
         if (userId == null) {
@@ -82,7 +161,10 @@ public class SessionRedisStore implements SessionStore {
     }
 
     private long computeTtlSeconds(Session session) {
-        Instant expiresAt = session.getExpiresAt();
+        return computeTtlSeconds(session.getExpiresAt());
+    }
+
+    private long computeTtlSeconds(Instant expiresAt) {
         if (expiresAt == null) {
             return 1800L; // default 30 minutes
         }
@@ -90,6 +172,17 @@ public class SessionRedisStore implements SessionStore {
         return Math.max(1L, ttl);
     }
 
+    /**
+     * save()와 같은 ObjectMapper로 직렬화해 저장된 JSON과 형식을 맞춘다.
+     */
+    private String toJson(Instant expiresAt) {
+        try {
+            return objectMapper.writeValueAsString(expiresAt);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize session expiration", e);
+        }
+    }
+
     private String buildKey(String userId) {
         return KEY_PREFIX + userId;
     }
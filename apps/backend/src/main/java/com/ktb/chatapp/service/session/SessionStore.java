@@ -1,6 +1,7 @@
 package com.ktb.chatapp.service.session;
 
 import com.ktb.chatapp.model.Session;
+import java.time.Instant;
 import java.util.Optional;
 
 /**
@@ -33,4 +34,28 @@ public interface SessionStore {
     void deleteAll(String userId);
     
     void delete(String userId, String sessionId);
+
+    /**
+     * Read only the fields needed to validate a request and, when the stored session
+     * matches {@code sessionId} and has not timed out, refresh its last activity and
+     * expiration in the same atomic operation. Metadata is neither read nor rewritten.
+     *
+     * @param userId the user identifier
+     * @param sessionId the session identifier presented by the client
+     * @param now current time in epoch millis, stored as the new last activity
+     * @param timeoutMillis maximum allowed idle time since the stored last activity
+     * @param expiresAt new expiration time
+     * @return the stored session activity as it was before the refresh, empty if no session exists
+     */
+    Optional<SessionActivity> validateAndTouch(String userId, String sessionId, long now, long timeoutMillis, Instant expiresAt);
+
+    /**
+     * Refresh last activity and extend expiration of an existing session.
+     * Does nothing if the session no longer exists.
+     *
+     * @param userId the user identifier
+     * @param lastActivity new last activity time in epoch millis
+     * @param expiresAt new expiration time
+     */
+    void touch(String userId, long lastActivity, Instant expiresAt);
 }
@@ -0,0 +1,115 @@
+package com.ktb.chatapp.service.sync;
+
+import com.ktb.chatapp.model.RoomSequence;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 방별 단조 증가 번호 할당기.
+ * Mongo 카운터를 $inc로 blockSize만큼 한 번에 올려 번호 블록을 예약하고, 블록 안의 번호는 메모리에서 나눠 준다.
+ * 블록은 blockLease 동안만 쓴다. 남은 번호는 버려지므로 번호에 빈칸이 생길 수 있지만,
+ * 블록이 오래 살아 있지 않으므로 "예약됐지만 아직 저장되지 않은" 번호는 lease 안에 저장되거나 영영 쓰이지 않는다.
+ * 증분 동기화 커서가 이 성질에 기대므로 lease를 길게 잡으면 안 된다.
+ */
+@Slf4j
+@Service
+public class MessageSequenceAllocator {
+
+    private final MongoTemplate mongoTemplate;
+    private final int blockSize;
+    @Getter
+    private final Duration blockLease;
+    private final Counter blockCounter;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    public MessageSequenceAllocator(
+            MongoTemplate mongoTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${app.message.seq.block-size:32}") int blockSize,
+            @Value("${app.message.seq.block-lease-ms:1000}") long blockLeaseMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.blockSize = Math.max(1, blockSize);
+        this.blockLease = Duration.ofMillis(blockLeaseMs);
+        this.blockCounter = Counter.builder("message.seq.blocks")
+                .description("Sequence blocks reserved from the room counter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 방의 다음 번호. 같은 노드 안에서는 호출 순서대로 증가하며, 노드 간에는 블록 예약 순서를 따른다.
+     */
+    public long next(String roomId) {
+        while (true) {
+            Block block = blocks.get(roomId);
+            if (block != null) {
+                long value = block.take(System.currentTimeMillis());
+                if (value > 0) {
+                    return value;
+                }
+            }
+            // 다 쓴 블록을 본 스레드 하나만 새 블록을 예약한다
+            blocks.compute(roomId, (id, current) -> current != block ? current : reserve(id));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.message.seq.evict-interval-ms:60000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        blocks.values().removeIf(block -> block.isExpired(now));
+    }
+
+    private Block reserve(String roomId) {
+        RoomSequence sequence = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(roomId)),
+                new Update().inc("value", blockSize),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                RoomSequence.class);
+        blockCounter.increment();
+        long end = sequence.getValue();
+        log.trace("Reserved sequence block {}..{} for room {}", end - blockSize + 1, end, roomId);
+        return new Block(end - blockSize + 1, end, System.currentTimeMillis() + blockLease.toMillis());
+    }
+
+    private static final class Block {
+
+        private final AtomicLong next;
+        private final long end;
+        private final long expiresAt;
+
+        private Block(long start, long end, long expiresAt) {
+            this.next = new AtomicLong(start);
+            this.end = end;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * @return 블록의 다음 번호, 다 썼거나 lease가 지났으면 0
+         */
+        long take(long now) {
+            if (isExpired(now)) {
+                return 0;
+            }
+            long value = next.getAndIncrement();
+            return value <= end ? value : 0;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.ktb.chatapp.service.sync;
+
+import com.ktb.chatapp.model.Message;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.BeforeConvertEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지가 저장될 때 방 시퀀스 번호를 붙인다.
+ * 새 메시지(사용자/시스템/AI, 일괄 저장 포함)는 seq와 changeSeq를 함께 받고,
+ * 이미 id가 있는 메시지를 다시 저장하면(리액션 변경) changeSeq만 새로 받는다.
+ * 문서 저장은 내보내기 내용이 바뀌는 경로이므로 contentSeq도 같은 번호로 맞춘다.
+ * 읽음 상태처럼 문서를 저장하지 않고 갱신하는 경로는 {@link MessageSequenceAllocator}를 직접 쓰고 contentSeq는 건드리지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MessageSequenceListener extends AbstractMongoEventListener<Message> {
+
+    private final MessageSequenceAllocator allocator;
+
+    @Override
+    public void onBeforeConvert(BeforeConvertEvent<Message> event) {
+        Message message = event.getSource();
+        if (message.getRoomId() == null) {
+            return;
+        }
+        long value = allocator.next(message.getRoomId());
+        if (message.getId() == null && message.getSeq() == null) {
+            message.setSeq(value);
+        }
+        message.setChangeSeq(value);
+        message.setContentSeq(value);
+        message.setChangedAt(LocalDateTime.now());
+    }
+}
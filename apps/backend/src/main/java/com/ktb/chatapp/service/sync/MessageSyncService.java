@@ -0,0 +1,98 @@
+package com.ktb.chatapp.service.sync;
+
+import com.ktb.chatapp.model.Message;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+/**
+ * changeSeq 기반 증분 동기화.
+ * 클라이언트가 받은 커서 이후에 바뀐 메시지만 돌려준다. seq가 커서보다 크면 새 메시지, 아니면 리액션/읽음 변경분이다.
+ *
+ * <p>번호는 할당된 순서와 저장되는 순서가 다를 수 있다(동시 저장, 노드별 블록).
+ * 그래서 돌려주는 커서는 "이 번호 이하는 모두 저장이 끝났다"고 말할 수 있는 값으로만 전진한다.
+ * 블록 lease + settle보다 오래전에 바뀐 메시지의 번호 이하로 할당된 번호는 이미 저장됐거나 버려진 번호다.
+ * 커서 뒤의 최근 변경도 함께 내려주므로 클라이언트는 다음 동기화에서 같은 메시지를 다시 받을 수 있고, id로 덮어쓴다.
+ */
+@Service
+public class MessageSyncService {
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration settleWindow;
+    private final int maxBatch;
+
+    public MessageSyncService(
+            MongoTemplate mongoTemplate,
+            MessageSequenceAllocator allocator,
+            @Value("${app.message.sync.settle-ms:5000}") long settleMs,
+            @Value("${app.message.sync.max-batch:200}") int maxBatch) {
+        this.mongoTemplate = mongoTemplate;
+        this.settleWindow = allocator.getBlockLease().plusMillis(settleMs);
+        this.maxBatch = maxBatch;
+    }
+
+    /**
+     * since 이후에 바뀐 메시지를 changeSeq 순으로 limit개까지 돌려준다.
+     * 최근 변경만으로 한 묶음이 차면 커서가 전진하지 않으므로, 클라이언트는 잠시 뒤 같은 커서로 다시 요청한다.
+     */
+    public MessageSync syncSince(String roomId, long since, int limit) {
+        int batch = limit > 0 ? Math.min(limit, maxBatch) : maxBatch;
+        Query query = Query.query(Criteria.where("room").is(roomId)
+                        .and("isDeleted").is(false)
+                        .and("changeSeq").gt(since))
+                .with(Sort.by(Sort.Direction.ASC, "changeSeq"))
+                .limit(batch + 1);
+        List<Message> changed = mongoTemplate.find(query, Message.class);
+
+        boolean hasMore = changed.size() > batch;
+        if (hasMore) {
+            changed = changed.subList(0, batch);
+        }
+
+        LocalDateTime settledBefore = LocalDateTime.now().minus(settleWindow);
+        long cursor = since;
+        List<Message> created = new ArrayList<>();
+        List<Message> updated = new ArrayList<>();
+        for (Message message : changed) {
+            if (message.getSeq() != null && message.getSeq() > since) {
+                created.add(message);
+            } else {
+                updated.add(message);
+            }
+            if (message.getChangedAt() != null && message.getChangedAt().isBefore(settledBefore)) {
+                cursor = message.getChangeSeq();
+            }
+        }
+        created.sort((a, b) -> Long.compare(a.getSeq(), b.getSeq()));
+        return new MessageSync(created, updated, cursor, hasMore);
+    }
+
+    /**
+     * 지금 시점에 안전하게 쓸 수 있는 방의 동기화 커서. 방 입장 응답에 실어 보낸다.
+     */
+    public long currentCursor(String roomId) {
+        Query query = Query.query(Criteria.where("room").is(roomId)
+                        .and("changeSeq").exists(true)
+                        .and("changedAt").lt(LocalDateTime.now().minus(settleWindow)))
+                .with(Sort.by(Sort.Direction.DESC, "changeSeq"))
+                .limit(1);
+        query.fields().include("changeSeq");
+        Message latest = mongoTemplate.findOne(query, Message.class);
+        return latest != null ? latest.getChangeSeq() : 0;
+    }
+
+    /**
+     * @param created since 이후 새로 저장된 메시지 (seq 순)
+     * @param updated since 이전 메시지 중 리액션이나 읽음이 바뀐 메시지
+     * @param cursor 다음 동기화에 넘길 번호
+     */
+    public record MessageSync(List<Message> created, List<Message> updated, long cursor, boolean hasMore) {
+    }
+}
@@ -0,0 +1,277 @@
+package com.ktb.chatapp.service.upload;
+
+import com.ktb.chatapp.dto.file.ChunkedUploadRequest;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.UploadSession;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.util.FileUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+/**
+ * 이어받기 가능한 조각 업로드.
+ * 1) 세션 생성: 파일명/MIME/크기를 검증하고 저장소 쪽 업로드를 시작한다.
+ * 2) 조각 PUT: 조각 하나를 요청 본문에서 저장소로 바로 흘려 쓰고, 세션 문서에 원자적으로 기록한다.
+ * 3) 확정: 모든 조각이 있으면 다시 검증한 뒤 저장소에서 합치고 File 문서를 만든다.
+ * 요청 하나가 조각 하나라 연결이 끊겨도 해당 조각만 다시 보내면 되고, 멀티파트 본문을 통째로 스풀하지 않는다.
+ * 조각이 expiresAt까지 오지 않은 세션은 주기적으로 저장소 쪽 업로드와 함께 지운다.
+ * 확정 중(COMPLETING)으로 넘어가면 expiresAt을 completingTimeout만큼 새로 잡아, 합치는 동안 정리 작업에 지워지지 않게 한다.
+ */
+@Slf4j
+@Service
+public class ChunkedUploadService {
+
+    private static final int CLEANUP_BATCH_SIZE = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final FileRepository fileRepository;
+    private final ChunkedUploadStorage storage;
+    private final long chunkSize;
+    private final Duration sessionTtl;
+    private final Duration completingTimeout;
+    private final int maxActivePerUser;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter partsCounter;
+
+    public ChunkedUploadService(
+            MongoTemplate mongoTemplate,
+            FileRepository fileRepository,
+            ChunkedUploadStorage storage,
+            MeterRegistry meterRegistry,
+            @Value("${app.file.chunked.chunk-size:8388608}") long chunkSize,
+            @Value("${app.file.chunked.session-ttl-ms:86400000}") long sessionTtlMs,
+            @Value("${app.file.chunked.max-active-per-user:5}") int maxActivePerUser,
+            @Value("${app.file.chunked.completing-timeout-ms:3600000}") long completingTimeoutMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.fileRepository = fileRepository;
+        this.storage = storage;
+        this.meterRegistry = meterRegistry;
+        this.chunkSize = Math.max(chunkSize, storage.minChunkSize());
+        this.sessionTtl = Duration.ofMillis(sessionTtlMs);
+        this.completingTimeout = Duration.ofMillis(completingTimeoutMs);
+        this.maxActivePerUser = maxActivePerUser;
+        this.partsCounter = Counter.builder("file.chunked.parts")
+                .description("Chunks received for resumable uploads")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 세션을 만든다. 허용되지 않는 파일은 조각을 받기 전에 거절한다.
+     */
+    public UploadSession create(ChunkedUploadRequest request, String uploaderId) {
+        String originalFilename = StringUtils.cleanPath(request.getFilename());
+        FileUtil.validateFileMetadata(originalFilename, request.getMimetype(), request.getSize());
+
+        long active = mongoTemplate.count(Query.query(Criteria.where("user").is(uploaderId)), UploadSession.class);
+        if (active >= maxActivePerUser) {
+            throw new RuntimeException("진행 중인 업로드가 너무 많습니다.");
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+        String safeFileName = FileUtil.generateSafeFileName(originalFilename);
+        ChunkedUploadStorage.Started started = storage.begin(uploadId, safeFileName, request.getMimetype());
+
+        LocalDateTime now = LocalDateTime.now();
+        UploadSession session = mongoTemplate.insert(UploadSession.builder()
+                .id(uploadId)
+                .user(uploaderId)
+                .filename(safeFileName)
+                .originalname(FileUtil.normalizeOriginalFilename(originalFilename))
+                .mimetype(request.getMimetype())
+                .size(request.getSize())
+                .chunkSize(chunkSize)
+                .partCount((int) ((request.getSize() + chunkSize - 1) / chunkSize))
+                .storageKey(started.storageKey())
+                .storageUploadId(started.storageUploadId())
+                .status(UploadSession.Status.UPLOADING)
+                .createdAt(now)
+                .expiresAt(now.plus(sessionTtl))
+                .build());
+        log.debug("Chunked upload started - id: {}, size: {}, parts: {}", uploadId, session.getSize(), session.getPartCount());
+        return session;
+    }
+
+    public UploadSession status(String uploadId, String requesterId) {
+        return load(uploadId, requesterId);
+    }
+
+    /**
+     * offset에서 시작하는 조각을 받는다. offset은 chunkSize의 배수여야 하고 length는 그 조각의 크기와 같아야 한다.
+     * 받은 조각이 있으면 덮어쓰므로 실패한 조각은 그대로 다시 보내면 된다.
+     *
+     * @throws IllegalStateException 확정 중이거나 사라진 세션
+     */
+    public UploadSession writePart(String uploadId, long offset, InputStream content, long length, String requesterId)
+            throws IOException {
+        UploadSession session = load(uploadId, requesterId);
+        if (session.getStatus() != UploadSession.Status.UPLOADING) {
+            throw new IllegalStateException("이미 확정 중인 업로드입니다.");
+        }
+        if (offset < 0 || offset >= session.getSize() || offset % session.getChunkSize() != 0) {
+            throw new IllegalArgumentException("잘못된 조각 위치입니다.");
+        }
+        int index = (int) (offset / session.getChunkSize());
+        if (length != session.partLength(index)) {
+            throw new IllegalArgumentException("조각 크기가 올바르지 않습니다: " + session.partLength(index) + "바이트여야 합니다.");
+        }
+
+        String partId = storage.writePart(session, index, content, length);
+        partsCounter.increment();
+
+        UploadSession updated = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(uploadId).and("status").is(UploadSession.Status.UPLOADING)),
+                new Update()
+                        .set("parts." + index, partId)
+                        .set("expiresAt", LocalDateTime.now().plus(sessionTtl)),
+                FindAndModifyOptions.options().returnNew(true),
+                UploadSession.class);
+        if (updated == null) {
+            throw new IllegalStateException("이미 확정 중인 업로드입니다.");
+        }
+        return updated;
+    }
+
+    /**
+     * 모든 조각이 있으면 저장소에서 합치고 File 문서를 만든다.
+     * 검증에 실패한 업로드는 버린다. 저장소 오류면 세션을 되돌려 다시 확정할 수 있게 한다.
+     */
+    public File complete(String uploadId, String requesterId) {
+        load(uploadId, requesterId);
+        UploadSession session = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(uploadId).and("status").is(UploadSession.Status.UPLOADING)),
+                new Update()
+                        .set("status", UploadSession.Status.COMPLETING)
+                        .set("expiresAt", LocalDateTime.now().plus(completingTimeout)),
+                FindAndModifyOptions.options().returnNew(true),
+                UploadSession.class);
+        if (session == null) {
+            throw new IllegalStateException("이미 확정 중인 업로드입니다.");
+        }
+        if (!session.isComplete()) {
+            release(session);
+            int missing = session.getPartCount() - session.getParts().size();
+            throw new IllegalArgumentException("아직 받지 않은 조각이 " + missing + "개 있습니다.");
+        }
+
+        try {
+            FileUtil.validateFileMetadata(session.getOriginalname(), session.getMimetype(), session.getSize());
+        } catch (RuntimeException e) {
+            discard(session, "rejected");
+            throw e;
+        }
+
+        long storedSize;
+        try {
+            storedSize = storage.complete(session);
+        } catch (IOException | RuntimeException e) {
+            release(session);
+            log.error("Chunked upload assembly failed - id: {}", uploadId, e);
+            throw new RuntimeException("파일을 합치지 못했습니다: " + e.getMessage(), e);
+        }
+        if (storedSize != session.getSize()) {
+            discard(session, "rejected");
+            throw new IllegalArgumentException("업로드된 파일 크기가 올바르지 않습니다.");
+        }
+
+        // 세션을 먼저 지워, 만든 File이 정리 작업에 지워지지 않게 한다
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(uploadId)), UploadSession.class);
+        try {
+            File savedFile = fileRepository.save(File.builder()
+                    .filename(session.getFilename())
+                    .originalname(session.getOriginalname())
+                    .mimetype(session.getMimetype())
+                    .size(storedSize)
+                    .path(session.getStorageKey())
+                    .user(session.getUser())
+                    .uploadDate(LocalDateTime.now())
+                    .build());
+            countOutcome("completed");
+            log.info("Chunked upload completed - id: {}, path: {}, size: {}", uploadId, session.getStorageKey(), storedSize);
+            return savedFile;
+        } catch (RuntimeException e) {
+            storage.abort(session);
+            throw e;
+        }
+    }
+
+    public void abort(String uploadId, String requesterId) {
+        discard(load(uploadId, requesterId), "aborted");
+    }
+
+    /**
+     * 버려진 세션의 조각과 저장소 쪽 업로드를 지운다. 같은 세션을 여러 노드가 동시에 지우지 않도록 문서 삭제를 먼저 한다.
+     */
+    @Scheduled(fixedDelayString = "${app.file.chunked.cleanup-interval-ms:300000}")
+    public void cleanupExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        List<UploadSession> expired = mongoTemplate.find(
+                Query.query(Criteria.where("expiresAt").lt(now)).limit(CLEANUP_BATCH_SIZE),
+                UploadSession.class);
+        for (UploadSession session : expired) {
+            UploadSession removed = mongoTemplate.findAndRemove(
+                    Query.query(Criteria.where("_id").is(session.getId()).and("expiresAt").lt(now)),
+                    UploadSession.class);
+            if (removed == null) {
+                continue;
+            }
+            try {
+                storage.abort(removed);
+                countOutcome("expired");
+            } catch (RuntimeException e) {
+                log.warn("Failed to clean up expired upload: {} - {}", removed.getId(), e.getMessage());
+            }
+        }
+        if (!expired.isEmpty()) {
+            log.info("Cleaned up {} expired chunked uploads", expired.size());
+        }
+    }
+
+    private UploadSession load(String uploadId, String requesterId) {
+        UploadSession session = mongoTemplate.findById(uploadId, UploadSession.class);
+        if (session == null) {
+            throw new RuntimeException("업로드를 찾을 수 없습니다.");
+        }
+        if (!session.getUser().equals(requesterId)) {
+            throw new RuntimeException("업로드에 접근할 권한이 없습니다.");
+        }
+        return session;
+    }
+
+    private void release(UploadSession session) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(session.getId())),
+                Update.update("status", UploadSession.Status.UPLOADING),
+                UploadSession.class);
+    }
+
+    private void discard(UploadSession session, String outcome) {
+        mongoTemplate.remove(Query.query(Criteria.where("_id").is(session.getId())), UploadSession.class);
+        storage.abort(session);
+        countOutcome(outcome);
+    }
+
+    private void countOutcome(String outcome) {
+        Counter.builder("file.chunked.uploads")
+                .description("Resumable uploads by final outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,50 @@
+package com.ktb.chatapp.service.upload;
+
+import com.ktb.chatapp.model.UploadSession;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 조각 업로드의 저장소 쪽 구현. S3는 multipart upload, 로컬은 조각 파일로 받는다.
+ * 조각은 서로 독립이라 어떤 순서로, 동시에 써도 된다.
+ */
+public interface ChunkedUploadStorage {
+
+    /**
+     * 마지막 조각을 제외한 조각의 최소 크기.
+     */
+    default long minChunkSize() {
+        return 1;
+    }
+
+    /**
+     * 저장소 쪽 업로드를 시작한다.
+     *
+     * @param uploadId 세션 ID
+     * @param filename 확정 후 파일명
+     */
+    Started begin(String uploadId, String filename, String mimetype);
+
+    /**
+     * 조각 하나를 끝까지 흘려 쓴다. 같은 조각을 다시 쓰면 덮어쓴다.
+     *
+     * @return 확정 때 넘겨줄 조각 식별자
+     * @throws IllegalArgumentException 본문 길이가 length와 다른 경우
+     */
+    String writePart(UploadSession session, int index, InputStream content, long length) throws IOException;
+
+    /**
+     * 받은 조각을 storageKey의 파일 하나로 합친다.
+     *
+     * @return 합친 파일 크기
+     */
+    long complete(UploadSession session) throws IOException;
+
+    /**
+     * 받은 조각과 (있으면) 합친 파일을 지운다. 이미 지워졌으면 아무것도 하지 않는다.
+     */
+    void abort(UploadSession session);
+
+    record Started(String storageKey, String storageUploadId) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.ktb.chatapp.service.upload;
+
+import com.ktb.chatapp.model.UploadSession;
+import com.ktb.chatapp.service.LocalFileService;
+import com.ktb.chatapp.util.FileUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 파일 시스템 조각 업로드. 조각은 .chunks/{uploadId}/{index} 파일로 받고,
+ * 확정 때 FileChannel.transferTo로 이어 붙여 첨부 디렉터리로 원자적으로 옮긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.file", name = "storage", havingValue = "local")
+public class LocalChunkedUploadStorage implements ChunkedUploadStorage {
+
+    private static final String CHUNK_DIRECTORY = ".chunks";
+    private static final long TRANSFER_CHUNK_BYTES = 1024 * 1024;
+
+    private final Path root;
+
+    public LocalChunkedUploadStorage(@Value("${app.file.local.root:./uploads}") String root) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public Started begin(String uploadId, String filename, String mimetype) {
+        try {
+            Files.createDirectories(partsDirectory(uploadId));
+        } catch (IOException e) {
+            throw new RuntimeException("업로드를 시작할 수 없습니다: " + e.getMessage(), e);
+        }
+        return new Started(LocalFileService.shardedPath(filename), null);
+    }
+
+    @Override
+    public String writePart(UploadSession session, int index, InputStream content, long length) throws IOException {
+        Path directory = partsDirectory(session.getId());
+        Path temp = Files.createTempFile(directory, ".part-", ".tmp");
+        try {
+            long written;
+            try (ReadableByteChannel in = Channels.newChannel(content);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                written = 0;
+                long transferred;
+                while (written <= length
+                        && (transferred = out.transferFrom(in, written, TRANSFER_CHUNK_BYTES)) > 0) {
+                    written += transferred;
+                }
+            }
+            if (written != length) {
+                throw new IllegalArgumentException("조각 크기가 올바르지 않습니다: " + written + " / " + length);
+            }
+            Path part = directory.resolve(Integer.toString(index));
+            Files.move(temp, part, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return part.getFileName().toString();
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public long complete(UploadSession session) throws IOException {
+        Path directory = partsDirectory(session.getId());
+        Path target = resolve(session.getStorageKey());
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            long size = 0;
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                for (int index = 0; index < session.getPartCount(); index++) {
+                    try (FileChannel in = FileChannel.open(directory.resolve(Integer.toString(index)),
+                            StandardOpenOption.READ)) {
+                        long partSize = in.size();
+                        long position = 0;
+                        while (position < partSize) {
+                            position += in.transferTo(position, partSize - position, out);
+                        }
+                        size += partSize;
+                    }
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            deleteDirectory(directory);
+            return size;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public void abort(UploadSession session) {
+        try {
+            deleteDirectory(partsDirectory(session.getId()));
+            if (session.getStorageKey() != null) {
+                Files.deleteIfExists(resolve(session.getStorageKey()));
+            }
+        } catch (IOException e) {
+            log.warn("Failed to discard chunked upload: {}", session.getId(), e);
+        }
+    }
+
+    private Path partsDirectory(String uploadId) {
+        return resolve(CHUNK_DIRECTORY + "/" + uploadId);
+    }
+
+    private Path resolve(String relativePath) {
+        Path path = root.resolve(relativePath).normalize();
+        FileUtil.validatePath(path, root);
+        return path;
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
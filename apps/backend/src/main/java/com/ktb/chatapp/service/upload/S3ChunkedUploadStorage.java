@@ -0,0 +1,117 @@
+package com.ktb.chatapp.service.upload;
+
+import com.ktb.chatapp.model.UploadSession;
+import java.io.InputStream;
+import java.util.Comparator;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * S3 multipart upload로 조각을 받는다. 조각 i는 part number i + 1이 되고, 확정 때 S3가 객체 하나로 합친다.
+ * 조각 바이트는 요청 스레드에서 S3로 바로 흘려 보내며 디스크에 남기지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.file", name = "storage", havingValue = "s3")
+public class S3ChunkedUploadStorage implements ChunkedUploadStorage {
+
+    // S3는 마지막을 제외한 part가 5MiB 이상이어야 한다
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final String bucketName;
+
+    public S3ChunkedUploadStorage(S3Client s3Client, @Value("${app.file.s3.bucket}") String bucketName) {
+        this.s3Client = s3Client;
+        this.bucketName = bucketName;
+    }
+
+    @Override
+    public long minChunkSize() {
+        return MIN_PART_SIZE;
+    }
+
+    @Override
+    public Started begin(String uploadId, String filename, String mimetype) {
+        String key = "uploads/" + filename;
+        String multipartUploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(mimetype)
+                        .acl(ObjectCannedACL.PRIVATE)
+                        .build())
+                .uploadId();
+        return new Started(key, multipartUploadId);
+    }
+
+    @Override
+    public String writePart(UploadSession session, int index, InputStream content, long length) {
+        return s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(session.getStorageKey())
+                                .uploadId(session.getStorageUploadId())
+                                .partNumber(index + 1)
+                                .contentLength(length)
+                                .build(),
+                        RequestBody.fromInputStream(content, length))
+                .eTag();
+    }
+
+    @Override
+    public long complete(UploadSession session) {
+        List<CompletedPart> parts = session.getParts().entrySet().stream()
+                .map(part -> CompletedPart.builder()
+                        .partNumber(Integer.parseInt(part.getKey()) + 1)
+                        .eTag(part.getValue())
+                        .build())
+                .sorted(Comparator.comparing(CompletedPart::partNumber))
+                .toList();
+
+        s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucketName)
+                .key(session.getStorageKey())
+                .uploadId(session.getStorageUploadId())
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+        log.info("Completed S3 multipart upload: {}/{} ({} parts)", bucketName, session.getStorageKey(), parts.size());
+
+        return s3Client.headObject(HeadObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(session.getStorageKey())
+                        .build())
+                .contentLength();
+    }
+
+    @Override
+    public void abort(UploadSession session) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(session.getStorageKey())
+                    .uploadId(session.getStorageUploadId())
+                    .build());
+        } catch (NoSuchUploadException e) {
+            // 이미 합쳐졌거나 중단된 업로드
+        }
+        s3Client.deleteObject(DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(session.getStorageKey())
+                .build());
+        log.info("Aborted S3 multipart upload: {}/{}", bucketName, session.getStorageKey());
+    }
+}
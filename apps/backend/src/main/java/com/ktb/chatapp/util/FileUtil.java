@@ -48,7 +48,18 @@ public class FileUtil {
             throw new RuntimeException("파일이 비어있습니다.");
         }
 
-        String originalFilename = file.getOriginalFilename();
+        validateFileMetadata(file.getOriginalFilename(), file.getContentType(), file.getSize());
+    }
+
+    /**
+     * 파일 내용 없이 파일명, MIME 타입, 크기만으로 유효성 검증.
+     * 저장소에 직접 업로드된 파일을 확정할 때 객체 메타데이터로 검증하는 데 쓴다.
+     */
+    public static void validateFileMetadata(String originalFilename, String contentType, long size) {
+        if (size <= 0) {
+            throw new RuntimeException("파일이 비어있습니다.");
+        }
+
         if (originalFilename == null || originalFilename.trim().isEmpty()) {
             throw new RuntimeException("파일명이 올바르지 않습니다.");
         }
@@ -60,7 +71,6 @@ public class FileUtil {
         }
 
         // MIME 타입 검증
-        String contentType = file.getContentType();
         if (contentType == null || !ALLOWED_TYPES.containsKey(contentType)) {
             throw new RuntimeException("지원하지 않는 파일 형식입니다.");
         }
@@ -77,7 +87,7 @@ public class FileUtil {
         String type = contentType.split("/")[0];
         long limit = FILE_SIZE_LIMITS.getOrDefault(type, FILE_SIZE_LIMITS.get("application"));
         
-        if (file.getSize() > limit) {
+        if (size > limit) {
             int limitInMB = (int) (limit / 1024 / 1024);
             String fileType = getFileType(contentType);
             throw new RuntimeException(fileType + " 파일은 " + limitInMB + "MB를 초과할 수 없습니다.");
@@ -31,6 +31,7 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
     private final SessionService sessionService;
     private final UserRepository userRepository;
     private final ObjectProvider<ConnectionLoginHandler> socketIOChatHandlerProvider;
+    private final ConnectionAdmissionGovernor admissionGovernor;
 
     @Override
     public AuthTokenResult getAuthTokenResult(Object _authToken, SocketIOClient client) {
@@ -45,37 +46,53 @@ public class AuthTokenListenerImpl implements AuthTokenListener {
                 return new AuthTokenResult(false, "Authentication error");
             }
 
-            String userId;
+            // 재연결 폭주 시 인증 진입 제한, 거절된 클라이언트에는 재시도 시점을 안내
+            ConnectionAdmissionGovernor.Admission admission = admissionGovernor.tryAdmit();
+            if (!admission.admitted()) {
+                log.debug("Socket.IO handshake {} - retryAfterMs: {}", admission.outcome(), admission.retryAfterMs());
+                return new AuthTokenResult(false, Map.of(
+                        "message", "Server busy",
+                        "data", Map.of("retryAfterMs", admission.retryAfterMs())));
+            }
             try {
-                userId = jwtService.extractUserId(token);
-            } catch (JwtException e) {
-                return new AuthTokenResult(false, Map.of("message", "Invalid token"));
+                return authenticate(token, sessionId, client);
+            } finally {
+                admissionGovernor.release();
             }
+        } catch (Exception e) {
+            log.error("Socket.IO authentication error: {}", e.getMessage(), e);
+            return new AuthTokenResult(false, Map.of("message", e.getMessage()));
+        }
+    }
 
-            // Validate session using SessionService
-            SessionValidationResult validationResult =
-                    sessionService.validateSession(userId, sessionId);
+    private AuthTokenResult authenticate(String token, String sessionId, SocketIOClient client) {
+        String userId;
+        try {
+            userId = jwtService.decodeOnce(token).userId();
+        } catch (JwtException e) {
+            return new AuthTokenResult(false, Map.of("message", "Invalid token"));
+        }
 
-            if (!validationResult.isValid()) {
-                log.error("Session validation failed: {}", validationResult.getMessage());
-                return new AuthTokenResult(false, Map.of("message", "Invalid session"));
-            }
+        // Validate session using SessionService
+        SessionValidationResult validationResult =
+                sessionService.validateSession(userId, sessionId);
 
-            // Load user from database
-            User user = userRepository.findById(userId).orElse(null);
-            if (user == null) {
-                log.error("User not found: {}", userId);
-                return new AuthTokenResult(false, Map.of("message", "User not found"));
-            }
+        if (!validationResult.isValid()) {
+            log.error("Session validation failed: {}", validationResult.getMessage());
+            return new AuthTokenResult(false, Map.of("message", "Invalid session"));
+        }
 
-            log.info("Socket.IO connection authorized for user: {} ({})", user.getName(), userId);
-            
-            var socketUser = new SocketUser(user.getId(), user.getName(), sessionId, client.getSessionId().toString());
-            socketIOChatHandlerProvider.getObject().onConnect(client, socketUser);
-            return AuthTokenResult.AuthTokenResultSuccess;
-        } catch (Exception e) {
-            log.error("Socket.IO authentication error: {}", e.getMessage(), e);
-            return new AuthTokenResult(false, Map.of("message", e.getMessage()));
+        // Load user from database
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null) {
+            log.error("User not found: {}", userId);
+            return new AuthTokenResult(false, Map.of("message", "User not found"));
         }
+
+        log.info("Socket.IO connection authorized for user: {} ({})", user.getName(), userId);
+        
+        var socketUser = new SocketUser(user.getId(), user.getName(), sessionId, client.getSessionId().toString());
+        socketIOChatHandlerProvider.getObject().onConnect(client, socketUser);
+        return AuthTokenResult.AuthTokenResultSuccess;
     }
 }
@@ -0,0 +1,169 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Socket.IO 핸드셰이크 인증 진입을 제한한다.
+ * 노드 재시작 직후 수천 개 클라이언트가 동시에 재연결할 때,
+ * 토큰 버킷으로 초당 인증 시작 수를, 동시 진행 한도로 처리 중인 인증 수를 묶는다.
+ * 인증 리스너는 netty 이벤트 루프에서 실행되므로 대기하지 않고 즉시 판정하며,
+ * 거절 시 지터가 섞인 재시도 시점을 함께 돌려줘 재연결을 분산시킨다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionAdmissionGovernor {
+
+    public enum Outcome { ADMITTED, DEFERRED, REJECTED }
+
+    /**
+     * 판정 결과. 승인되지 않았으면 retryAfterMs 후 재시도하도록 안내한다.
+     */
+    public record Admission(Outcome outcome, long retryAfterMs) {
+        public boolean admitted() {
+            return outcome == Outcome.ADMITTED;
+        }
+    }
+
+    private final double ratePerSecond;
+    private final int burst;
+    private final int maxInFlight;
+    private final long minRetryMs;
+    private final long maxRetryMs;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private double tokens;
+    private long lastRefillNanos;
+    // 최근 1초 동안 미뤄진 연결 수, 재시도 시점을 이 수만큼의 구간에 흩뿌린다
+    private int recentDeferred;
+    private long deferredWindowStart;
+
+    private final Counter admittedCounter;
+    private final Counter deferredCounter;
+    private final Counter rejectedCounter;
+
+    @Autowired
+    public ConnectionAdmissionGovernor(
+            @Value("${socketio.connect.rate-per-second:100}") double ratePerSecond,
+            @Value("${socketio.connect.burst:200}") int burst,
+            @Value("${socketio.connect.max-in-flight:64}") int maxInFlight,
+            @Value("${socketio.connect.min-retry-ms:500}") long minRetryMs,
+            @Value("${socketio.connect.max-retry-ms:15000}") long maxRetryMs,
+            MeterRegistry meterRegistry) {
+        this(ratePerSecond, burst, maxInFlight, minRetryMs, maxRetryMs, meterRegistry, System::nanoTime);
+    }
+
+    ConnectionAdmissionGovernor(
+            double ratePerSecond,
+            int burst,
+            int maxInFlight,
+            long minRetryMs,
+            long maxRetryMs,
+            MeterRegistry meterRegistry,
+            LongSupplier nanoClock) {
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.maxInFlight = maxInFlight;
+        this.minRetryMs = minRetryMs;
+        this.maxRetryMs = maxRetryMs;
+        this.nanoClock = nanoClock;
+        this.tokens = burst;
+        this.lastRefillNanos = nanoClock.getAsLong();
+        this.deferredWindowStart = lastRefillNanos;
+
+        this.admittedCounter = connectCounter(meterRegistry, "admitted");
+        this.deferredCounter = connectCounter(meterRegistry, "deferred");
+        this.rejectedCounter = connectCounter(meterRegistry, "rejected");
+        Gauge.builder("socketio.connect.in_flight", inFlight, AtomicInteger::get)
+                .description("Socket.IO handshakes currently being authenticated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 핸드셰이크 인증을 시작해도 되는지 판정한다.
+     * 승인된 경우 인증이 끝나면 반드시 {@link #release()}를 호출해야 한다.
+     * <ul>
+     *   <li>DEFERRED: 초당 한도 초과. 미뤄진 연결 수를 초당 한도로 나눈 구간 안에서 재시도 시점을 고른다.</li>
+     *   <li>REJECTED: 처리 중인 인증이 한도에 도달. 노드가 바쁘므로 더 긴 구간에서 재시도 시점을 고른다.</li>
+     * </ul>
+     */
+    public Admission tryAdmit() {
+        if (inFlight.incrementAndGet() > maxInFlight) {
+            inFlight.decrementAndGet();
+            rejectedCounter.increment();
+            long base = Math.max(minRetryMs, Math.min(maxRetryMs / 2, (long) (maxInFlight * 1000 / ratePerSecond)));
+            return new Admission(Outcome.REJECTED, jitter(base, base * 2));
+        }
+
+        long spreadMs;
+        synchronized (this) {
+            long now = nanoClock.getAsLong();
+            refill(now);
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                spreadMs = -1;
+            } else {
+                if (now - deferredWindowStart > 1_000_000_000L) {
+                    deferredWindowStart = now;
+                    recentDeferred = 0;
+                }
+                recentDeferred++;
+                spreadMs = (long) (recentDeferred * 1000 / ratePerSecond);
+            }
+        }
+
+        if (spreadMs < 0) {
+            admittedCounter.increment();
+            return new Admission(Outcome.ADMITTED, 0);
+        }
+        inFlight.decrementAndGet();
+        deferredCounter.increment();
+        return new Admission(Outcome.DEFERRED, jitter(minRetryMs, minRetryMs + spreadMs));
+    }
+
+    /**
+     * 승인된 핸드셰이크 인증이 끝났음을 알린다.
+     */
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void refill(long now) {
+        double elapsedSeconds = (now - lastRefillNanos) / 1_000_000_000.0;
+        if (elapsedSeconds > 0) {
+            tokens = Math.min(burst, tokens + elapsedSeconds * ratePerSecond);
+            lastRefillNanos = now;
+        }
+    }
+
+    private long jitter(long lowerMs, long upperMs) {
+        long upper = Math.min(maxRetryMs, upperMs);
+        long lower = Math.min(lowerMs, upper);
+        if (upper <= lower) {
+            return lower;
+        }
+        return ThreadLocalRandom.current().nextLong(lower, upper + 1);
+    }
+
+    private static Counter connectCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("socketio.connect.admission")
+                .description("Socket.IO handshake admission decisions")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,208 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.rooms.RoomListDiffResponse;
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
+import com.ktb.chatapp.event.RoomUpdatedEvent;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.ROOM_LIST_DIFF;
+
+/**
+ * 채팅방 목록 변경을 짧은 주기로 모아서 roomListDiff 한 번으로 전송한다.
+ * 방 생성/수정/참여자 변경마다 전체 RoomResponse를 모든 사용자에게 보내는 대신,
+ * 주기 동안 변경된 방 id를 합쳐 최소 필드만 담는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class RoomListDiffPublisher {
+
+    public static final String ROOM_LIST = "room-list";
+    public static final String FIRST_PAGE_ROOM_LIST = "room-list:first-page";
+
+    static final int CREATED = 1;
+    static final int UPDATED = 1 << 1;
+    static final int COUNT_CHANGED = 1 << 2;
+
+    private final SocketIOServer socketIOServer;
+    private final RoomRepository roomRepository;
+    private final Counter batchCounter;
+    private final Counter coalescedEventCounter;
+
+    @Value("${socketio.room-list.first-page-size:10}")
+    private int firstPageSize;
+
+    // roomId -> 변경 종류 비트 플래그
+    private final ConcurrentHashMap<String, Integer> pending = new ConcurrentHashMap<>();
+    private final AtomicLong allSequence = new AtomicLong();
+    private final AtomicLong firstPageSequence = new AtomicLong();
+
+    public RoomListDiffPublisher(
+            SocketIOServer socketIOServer,
+            RoomRepository roomRepository,
+            MeterRegistry meterRegistry) {
+        this.socketIOServer = socketIOServer;
+        this.roomRepository = roomRepository;
+        this.batchCounter = Counter.builder("socketio.room_list.diff.batches")
+                .description("Room list diff batches sent")
+                .register(meterRegistry);
+        this.coalescedEventCounter = Counter.builder("socketio.room_list.diff.events")
+                .description("Room directory events coalesced into diff batches")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onRoomCreated(RoomCreatedEvent event) {
+        if (event.getRoomResponse() != null) {
+            mark(event.getRoomResponse().getId(), CREATED);
+        }
+    }
+
+    @EventListener
+    public void onRoomUpdated(RoomUpdatedEvent event) {
+        mark(event.getRoomId(), UPDATED);
+    }
+
+    @EventListener
+    public void onRoomMembershipChanged(RoomMembershipChangedEvent event) {
+        mark(event.getRoomId(), COUNT_CHANGED);
+    }
+
+    @Scheduled(fixedDelayString = "${socketio.room-list.flush-interval-ms:500}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Integer> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            // 변경된 방의 최신 상태를 한 번에 조회
+            Map<String, Room> roomsById = new HashMap<>();
+            roomRepository.findAllById(batch.keySet()).forEach(room -> roomsById.put(room.getId(), room));
+
+            BroadcastOperations allOperations = socketIOServer.getRoomOperations(ROOM_LIST);
+            if (!allOperations.getClients().isEmpty()) {
+                allOperations.sendEvent(ROOM_LIST_DIFF,
+                        buildDiff(allSequence.incrementAndGet(), batch, roomsById, null));
+            }
+
+            BroadcastOperations firstPageOperations = socketIOServer.getRoomOperations(FIRST_PAGE_ROOM_LIST);
+            if (!firstPageOperations.getClients().isEmpty()) {
+                Set<String> firstPageIds = loadFirstPageIds();
+                boolean relevant = batch.keySet().stream().anyMatch(firstPageIds::contains);
+                if (relevant) {
+                    firstPageOperations.sendEvent(ROOM_LIST_DIFF,
+                            buildDiff(firstPageSequence.incrementAndGet(), batch, roomsById, firstPageIds));
+                }
+            }
+
+            batchCounter.increment();
+            log.debug("roomListDiff 발송: rooms={}", batch.size());
+        } catch (Exception e) {
+            log.error("roomListDiff 발송 실패", e);
+        }
+    }
+
+    private void mark(String roomId, int flag) {
+        if (roomId == null) {
+            return;
+        }
+        pending.merge(roomId, flag, (existing, added) -> existing | added);
+        coalescedEventCounter.increment();
+    }
+
+    private Map<String, Integer> drain() {
+        Map<String, Integer> batch = new HashMap<>();
+        for (String roomId : pending.keySet()) {
+            Integer flags = pending.remove(roomId);
+            if (flags != null) {
+                batch.put(roomId, flags);
+            }
+        }
+        return batch;
+    }
+
+    private Set<String> loadFirstPageIds() {
+        return roomRepository.findRecentRoomIds(
+                        PageRequest.of(0, firstPageSize, Sort.by(Sort.Direction.DESC, "createdAt")))
+                .stream()
+                .map(Room::getId)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 변경 묶음을 응답으로 변환한다. includeOnly가 주어지면 해당 방만 포함한다.
+     * 생성된 방은 created에만, 이름 등 정보가 바뀐 방은 updated에만, 참여자 수만 바뀐 방은 countChanged에 담긴다.
+     */
+    static RoomListDiffResponse buildDiff(
+            long seq,
+            Map<String, Integer> batch,
+            Map<String, Room> roomsById,
+            Set<String> includeOnly) {
+        List<RoomListDiffResponse.RoomSummary> created = new ArrayList<>();
+        List<RoomListDiffResponse.RoomSummary> updated = new ArrayList<>();
+        List<RoomListDiffResponse.CountChange> countChanged = new ArrayList<>();
+
+        batch.forEach((roomId, flags) -> {
+            Room room = roomsById.get(roomId);
+            if (room == null || (includeOnly != null && !includeOnly.contains(roomId))) {
+                return;
+            }
+            if ((flags & CREATED) != 0) {
+                created.add(toSummary(room));
+            } else if ((flags & UPDATED) != 0) {
+                updated.add(toSummary(room));
+            } else {
+                countChanged.add(RoomListDiffResponse.CountChange.builder()
+                        .id(room.getId())
+                        .participantsCount(room.getParticipantCount())
+                        .build());
+            }
+        });
+
+        return RoomListDiffResponse.builder()
+                .seq(seq)
+                .created(created)
+                .updated(updated)
+                .countChanged(countChanged)
+                .build();
+    }
+
+    private static RoomListDiffResponse.RoomSummary toSummary(Room room) {
+        return RoomListDiffResponse.RoomSummary.builder()
+                .id(room.getId())
+                .name(room.getName())
+                .hasPassword(room.isHasPassword())
+                .participantsCount(room.getParticipantCount())
+                .createdAt(room.getCreatedAt() != null
+                        ? room.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toString()
+                        : null)
+                .build();
+    }
+}
@@ -0,0 +1,358 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.corundumstudio.socketio.handler.ClientHead;
+import com.corundumstudio.socketio.handler.TransportState;
+import com.corundumstudio.socketio.transport.NamespaceClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOutboundBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.lang.reflect.Field;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 느린 클라이언트에 대한 송신 백프레셔.
+ * 채널이 쓰기 가능한 동안은 바로 보내고, 밀리기 시작한 클라이언트만 클라이언트별 대기열에 쌓아
+ * 주기적으로 흘려보낸다. 대기열 예산을 넘으면 설정된 정책 순서대로
+ * 일시적 이벤트 폐기 → 같은 방의 상태성 이벤트 병합 → session_ended 후 연결 종료를 적용한다.
+ * flush 주기가 다른 @Scheduled 작업에 밀리지 않도록 전용 스케줄러 스레드에서 돈다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class SlowConsumerGuard {
+
+    public enum Policy { DROP_EPHEMERAL, COALESCE, DISCONNECT }
+
+    // 놓쳐도 이후 이벤트(aiMessageComplete, 다음 읽음 처리)로 복구되는 이벤트
+    static final Set<String> EPHEMERAL_EVENTS = Set.of(AI_MESSAGE_CHUNK, MESSAGES_READ);
+    // 방 단위로 마지막 값만 의미가 있는 이벤트
+    static final Set<String> COALESCIBLE_EVENTS = Set.of(PARTICIPANTS_UPDATE, ROOM_UPDATE);
+
+    private static final Field CHANNELS_FIELD = resolveChannelsField();
+
+    private final SocketIOServer socketIOServer;
+    private final EnumSet<Policy> policies;
+    private final int maxQueuedEvents;
+    private final long maxBufferedBytes;
+
+    private final Map<UUID, ClientBacklog> backlogs = new ConcurrentHashMap<>();
+
+    @Value("${socketio.outbound.flush-interval-ms:100}")
+    private long flushIntervalMs;
+
+    private ScheduledExecutorService flushScheduler;
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> droppedCounters = new ConcurrentHashMap<>();
+    private final DistributionSummary bufferedBytesSummary;
+    private final DistributionSummary droppedPerClientSummary;
+    private final Counter coalescedCounter;
+    private final Counter disconnectCounter;
+
+    public SlowConsumerGuard(
+            SocketIOServer socketIOServer,
+            MeterRegistry meterRegistry,
+            @Value("${socketio.outbound.policy:drop-ephemeral,coalesce,disconnect}") String policy,
+            @Value("${socketio.outbound.max-queued-events:256}") int maxQueuedEvents,
+            @Value("${socketio.outbound.max-buffered-bytes:1048576}") long maxBufferedBytes) {
+        this.socketIOServer = socketIOServer;
+        this.meterRegistry = meterRegistry;
+        this.policies = parsePolicies(policy);
+        this.maxQueuedEvents = maxQueuedEvents;
+        this.maxBufferedBytes = maxBufferedBytes;
+
+        this.bufferedBytesSummary = DistributionSummary.builder("socketio.outbound.buffered_bytes")
+                .description("Outbound bytes buffered per backpressured client")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.droppedPerClientSummary = DistributionSummary.builder("socketio.outbound.dropped_per_client")
+                .description("Events dropped per backpressured client per flush")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("socketio.outbound.coalesced")
+                .description("Outbound events replaced by a newer event of the same kind")
+                .register(meterRegistry);
+        this.disconnectCounter = Counter.builder("socketio.outbound.slow_consumer.disconnects")
+                .description("Clients disconnected for exceeding the outbound budget")
+                .register(meterRegistry);
+        Gauge.builder("socketio.outbound.backpressured_clients", backlogs, Map::size)
+                .description("Clients whose outbound events are currently queued")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "socketio-outbound-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flushScheduler.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (flushScheduler != null) {
+            flushScheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 방의 모든 클라이언트에게 이벤트를 보낸다.
+     */
+    public void broadcast(String room, String event, Object data) {
+        for (SocketIOClient client : socketIOServer.getRoomOperations(room).getClients()) {
+            send(client, room, event, data);
+        }
+    }
+
+    /**
+     * 한 클라이언트에게 이벤트를 보낸다.
+     * 채널이 high watermark를 넘어 쓰기 불가능하거나 이미 대기 중인 이벤트가 있으면
+     * 순서를 지키기 위해 대기열에 넣고, 정책에 따라 일시적 이벤트는 버리고 상태성 이벤트는 병합한다.
+     */
+    public void send(SocketIOClient client, String room, String event, Object data) {
+        UUID sessionId = client.getSessionId();
+        while (true) {
+            ClientBacklog backlog = backlogs.get(sessionId);
+            if (backlog == null) {
+                if (client.isWritable()) {
+                    client.sendEvent(event, data);
+                    return;
+                }
+                backlog = backlogs.computeIfAbsent(sessionId, id -> new ClientBacklog(client));
+            }
+
+            boolean overBudget;
+            synchronized (backlog) {
+                if (backlog.closed) {
+                    // flush가 방금 비워서 제거한 대기열이면 다시 판단
+                    continue;
+                }
+                if (policies.contains(Policy.DROP_EPHEMERAL) && EPHEMERAL_EVENTS.contains(event)) {
+                    backlog.drop(event);
+                    return;
+                }
+                if (policies.contains(Policy.COALESCE) && COALESCIBLE_EVENTS.contains(event)) {
+                    if (backlog.coalesce(event + "|" + room, event, data)) {
+                        coalescedCounter.increment();
+                    }
+                    return;
+                }
+                backlog.queue.addLast(new PendingEvent(event, data, null));
+                overBudget = backlog.size() > maxQueuedEvents;
+                if (overBudget && !policies.contains(Policy.DISCONNECT)) {
+                    // 연결을 끊지 않는 정책이면 가장 오래된 이벤트를 버려 예산을 유지
+                    backlog.drop(backlog.poll().event);
+                    overBudget = false;
+                }
+            }
+            if (overBudget) {
+                disconnectSlowConsumer(client, backlog);
+            }
+            return;
+        }
+    }
+
+    /**
+     * 밀린 클라이언트의 대기열을 채널이 쓰기 가능한 만큼 흘려보낸다.
+     */
+    public void flush() {
+        for (ClientBacklog backlog : backlogs.values()) {
+            SocketIOClient client = backlog.client;
+            if (!client.isChannelOpen()) {
+                close(backlog);
+                continue;
+            }
+
+            long bufferedBytes = bufferedBytes(client);
+            bufferedBytesSummary.record(bufferedBytes);
+            if (policies.contains(Policy.DISCONNECT) && bufferedBytes > maxBufferedBytes) {
+                disconnectSlowConsumer(client, backlog);
+                continue;
+            }
+
+            synchronized (backlog) {
+                while (client.isWritable() && !backlog.isEmpty()) {
+                    PendingEvent pending = backlog.poll();
+                    client.sendEvent(pending.event, pending.data);
+                }
+                if (backlog.dropped > 0) {
+                    droppedPerClientSummary.record(backlog.dropped);
+                    backlog.dropped = 0;
+                }
+                if (backlog.isEmpty()) {
+                    close(backlog);
+                }
+            }
+        }
+    }
+
+    private void flushSafely() {
+        // 예외가 나면 scheduleWithFixedDelay가 이후 실행을 멈추므로 여기서 삼킨다
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Outbound flush failed", e);
+        }
+    }
+
+    /**
+     * 클라이언트 채널의 netty 송신 버퍼에 쌓여 있는 바이트 수.
+     */
+    public long bufferedBytes(SocketIOClient client) {
+        if (CHANNELS_FIELD == null || !(client instanceof NamespaceClient namespaceClient)) {
+            return 0L;
+        }
+        try {
+            ClientHead head = namespaceClient.getBaseClient();
+            @SuppressWarnings("unchecked")
+            Map<?, TransportState> channels = (Map<?, TransportState>) ReflectionUtils.getField(CHANNELS_FIELD, head);
+            TransportState state = channels != null ? channels.get(head.getCurrentTransport()) : null;
+            Channel channel = state != null ? state.getChannel() : null;
+            ChannelOutboundBuffer buffer = channel != null ? channel.unsafe().outboundBuffer() : null;
+            return buffer != null ? buffer.totalPendingWriteBytes() : 0L;
+        } catch (RuntimeException e) {
+            return 0L;
+        }
+    }
+
+    int backpressuredClientCount() {
+        return backlogs.size();
+    }
+
+    private boolean close(ClientBacklog backlog) {
+        synchronized (backlog) {
+            backlog.closed = true;
+        }
+        return backlogs.remove(backlog.client.getSessionId(), backlog);
+    }
+
+    private void disconnectSlowConsumer(SocketIOClient client, ClientBacklog backlog) {
+        if (close(backlog)) {
+            disconnectCounter.increment();
+            log.warn("Slow consumer disconnected - sessionId: {}, queued: {}", client.getSessionId(), backlog.size());
+            client.sendEvent(SESSION_ENDED, Map.of(
+                    "reason", "slow_consumer",
+                    "message", "네트워크가 느려 연결이 종료되었습니다. 다시 연결해주세요."));
+            client.disconnect();
+        }
+    }
+
+    private Counter droppedCounter(String event) {
+        return droppedCounters.computeIfAbsent(event, key -> Counter.builder("socketio.outbound.dropped")
+                .description("Outbound events dropped for backpressured clients")
+                .tag("event", key)
+                .register(meterRegistry));
+    }
+
+    static EnumSet<Policy> parsePolicies(String value) {
+        EnumSet<Policy> result = EnumSet.noneOf(Policy.class);
+        Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(token -> !token.isEmpty())
+                .map(token -> Policy.valueOf(token.toUpperCase().replace('-', '_')))
+                .forEach(result::add);
+        return result;
+    }
+
+    private static Field resolveChannelsField() {
+        Field field = ReflectionUtils.findField(ClientHead.class, "channels");
+        if (field == null) {
+            log.warn("ClientHead.channels 필드를 찾을 수 없어 송신 버퍼 크기 측정을 생략합니다.");
+            return null;
+        }
+        ReflectionUtils.makeAccessible(field);
+        return field;
+    }
+
+    /**
+     * 대기 중인 이벤트. 병합 가능한 이벤트는 처음 들어온 자리를 지키고 데이터만 최신 값으로 바뀐다.
+     */
+    private static final class PendingEvent {
+        private final String event;
+        private final String coalesceKey;
+        private Object data;
+
+        private PendingEvent(String event, Object data, String coalesceKey) {
+            this.event = event;
+            this.data = data;
+            this.coalesceKey = coalesceKey;
+        }
+    }
+
+    private final class ClientBacklog {
+        private final SocketIOClient client;
+        private final Deque<PendingEvent> queue = new ArrayDeque<>();
+        // 병합 키 → 대기열 안의 같은 이벤트
+        private final Map<String, PendingEvent> coalesced = new HashMap<>();
+        private int dropped;
+        private boolean closed;
+
+        private ClientBacklog(SocketIOClient client) {
+            this.client = client;
+        }
+
+        private void drop(String event) {
+            dropped++;
+            droppedCounter(event).increment();
+        }
+
+        /**
+         * @return 이미 대기 중인 같은 이벤트의 데이터를 바꿨으면 true
+         */
+        private boolean coalesce(String key, String event, Object data) {
+            PendingEvent pending = coalesced.get(key);
+            if (pending != null) {
+                pending.data = data;
+                return true;
+            }
+            pending = new PendingEvent(event, data, key);
+            queue.addLast(pending);
+            coalesced.put(key, pending);
+            return false;
+        }
+
+        private PendingEvent poll() {
+            PendingEvent next = queue.pollFirst();
+            if (next != null && next.coalesceKey != null) {
+                coalesced.remove(next.coalesceKey);
+            }
+            return next;
+        }
+
+        private int size() {
+            return queue.size();
+        }
+
+        private boolean isEmpty() {
+            return queue.isEmpty();
+        }
+    }
+}
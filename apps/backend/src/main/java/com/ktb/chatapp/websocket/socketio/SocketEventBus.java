@@ -0,0 +1,296 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.event.AiMessageChunkEvent;
+import com.ktb.chatapp.event.RoomScopedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소켓 이벤트 전용 비동기 이벤트 버스.
+ * 토픽마다 고정 개수의 레인을 두고, 각 레인은 고정 크기 링 버퍼(ArrayBlockingQueue) 하나와
+ * 이를 묶음으로 비우는 전용 스레드 하나로 구성된다.
+ * 같은 방의 이벤트는 항상 같은 레인으로 가므로 토픽 안에서 방 단위 발행 순서가 유지된다.
+ * 발행자는 대기하지 않고, 처리기도 발행 스레드에서 실행하지 않는다. 레인이 가득 차면 버려도 되는
+ * 이벤트(AI 청크)는 버리고, 나머지는 레인의 넘침 대기열에 넣어 같은 워커가 링 버퍼 다음에 처리한다.
+ * 넘침 대기열이 비기 전까지는 새 이벤트도 넘침 대기열 뒤에 붙으므로 방 단위 순서가 유지된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class SocketEventBus {
+
+    /** 소켓 브로드캐스트 */
+    public static final String SOCKET_TOPIC = "socket";
+    /** Mongo 저장처럼 블로킹 I/O가 있는 처리 */
+    public static final String PERSISTENCE_TOPIC = "persistence";
+
+    // 다음 청크/체크포인트로 복구되는 이벤트
+    private static final Set<Class<?>> DROPPABLE_EVENTS = Set.of(AiMessageChunkEvent.class);
+
+    private final boolean direct;
+    private final int lanes;
+    private final int capacity;
+    private final int batchSize;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    @Autowired
+    public SocketEventBus(
+            @Value("${socketio.event-bus.mode:async}") String mode,
+            @Value("${socketio.event-bus.lanes:4}") int lanes,
+            @Value("${socketio.event-bus.capacity:4096}") int capacity,
+            @Value("${socketio.event-bus.batch-size:64}") int batchSize,
+            MeterRegistry meterRegistry) {
+        this("direct".equalsIgnoreCase(mode), lanes, capacity, batchSize, meterRegistry);
+    }
+
+    SocketEventBus(boolean direct, int lanes, int capacity, int batchSize, MeterRegistry meterRegistry) {
+        this.direct = direct;
+        this.lanes = lanes;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.meterRegistry = meterRegistry;
+        log.info("Socket event bus initialized - mode: {}, lanes: {}, capacity: {}",
+                direct ? "direct" : "async", lanes, capacity);
+    }
+
+    /**
+     * 발행 스레드에서 바로 처리하는 결정적 모드의 버스. 테스트용.
+     */
+    public static SocketEventBus direct(MeterRegistry meterRegistry) {
+        return new SocketEventBus(true, 1, 1, 1, meterRegistry);
+    }
+
+    /**
+     * 토픽에 이벤트 타입별 처리기를 등록한다. 애플리케이션 시작 시 호출한다.
+     */
+    public <E> void subscribe(String topic, Class<E> type, Consumer<? super E> handler) {
+        topics.computeIfAbsent(topic, Topic::new)
+                .subscriptions.add(new Subscription(type, event -> handler.accept(type.cast(event))));
+    }
+
+    /**
+     * 이벤트를 등록된 토픽의 레인에 넣는다. 대기하지 않는다.
+     */
+    public void publish(Object event) {
+        for (Topic topic : topics.values()) {
+            List<Consumer<Object>> handlers = topic.handlersFor(event);
+            if (!handlers.isEmpty()) {
+                topic.enqueue(new Envelope(event, handlers, System.nanoTime()));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        topics.values().forEach(Topic::stop);
+    }
+
+    int depth(String topic) {
+        Topic t = topics.get(topic);
+        return t != null ? t.depth() : 0;
+    }
+
+    private static void dispatch(Envelope envelope) {
+        for (Consumer<Object> handler : envelope.handlers()) {
+            try {
+                handler.accept(envelope.event());
+            } catch (Exception e) {
+                log.error("Event handler failed - event: {}", envelope.event().getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+    private static int laneKey(Object event) {
+        if (event instanceof RoomScopedEvent roomScoped && roomScoped.getRoomId() != null) {
+            return roomScoped.getRoomId().hashCode();
+        }
+        return 0;
+    }
+
+    private record Envelope(Object event, List<Consumer<Object>> handlers, long enqueuedAt) {
+    }
+
+    // 넘침 대기열에 이벤트를 넣은 뒤 링 버퍼에서 잠든 워커를 깨우는 표식
+    private static final Envelope WAKE_UP = new Envelope(null, List.of(), 0L);
+
+    private record Subscription(Class<?> type, Consumer<Object> handler) {
+    }
+
+    /**
+     * 레인 하나의 링 버퍼와 넘침 대기열. 둘 다 같은 워커 스레드가 비운다.
+     */
+    private static final class Lane {
+        private final BlockingQueue<Envelope> ring;
+        private final ConcurrentLinkedQueue<Envelope> spill = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger spillSize = new AtomicInteger();
+
+        private Lane(BlockingQueue<Envelope> ring) {
+            this.ring = ring;
+        }
+    }
+
+    private final class Topic {
+        private final String name;
+        private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+        private final List<Lane> lanesByIndex = new ArrayList<>();
+        private final List<Thread> workers = new ArrayList<>();
+
+        private final Timer lagTimer;
+        private final Counter dispatchedCounter;
+        private final Counter droppedCounter;
+        private final Counter overflowCounter;
+        private final DistributionSummary batchSummary;
+
+        private Topic(String name) {
+            this.name = name;
+            this.lagTimer = Timer.builder("socketio.event_bus.lag")
+                    .description("Time events wait in the bus before being handled")
+                    .tag("topic", name)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.dispatchedCounter = topicCounter("socketio.event_bus.dispatched", "Events handled by bus workers");
+            this.droppedCounter = topicCounter("socketio.event_bus.dropped", "Droppable events discarded because a lane was full");
+            this.overflowCounter = topicCounter("socketio.event_bus.overflow", "Events moved to a lane's spill queue because its ring buffer was full");
+            this.batchSummary = DistributionSummary.builder("socketio.event_bus.batch_size")
+                    .description("Events drained per worker batch")
+                    .tag("topic", name)
+                    .register(meterRegistry);
+            Gauge.builder("socketio.event_bus.depth", this, Topic::depth)
+                    .description("Events waiting in the bus")
+                    .tag("topic", name)
+                    .register(meterRegistry);
+
+            if (!direct) {
+                for (int i = 0; i < lanes; i++) {
+                    Lane lane = new Lane(new ArrayBlockingQueue<>(capacity));
+                    Thread worker = new Thread(() -> drain(lane), "event-bus-" + name + "-" + i);
+                    worker.setDaemon(true);
+                    lanesByIndex.add(lane);
+                    workers.add(worker);
+                    worker.start();
+                }
+            }
+        }
+
+        private List<Consumer<Object>> handlersFor(Object event) {
+            List<Consumer<Object>> handlers = new ArrayList<>(1);
+            for (Subscription subscription : subscriptions) {
+                if (subscription.type().isInstance(event)) {
+                    handlers.add(subscription.handler());
+                }
+            }
+            return handlers;
+        }
+
+        private void enqueue(Envelope envelope) {
+            if (direct) {
+                dispatch(envelope);
+                dispatchedCounter.increment();
+                return;
+            }
+            Lane lane = lanesByIndex.get(Math.floorMod(laneKey(envelope.event()), lanes));
+            // 넘침 대기열이 남아 있으면 링 버퍼로 새치기하지 않도록 뒤에 붙인다
+            if (lane.spillSize.get() == 0 && lane.ring.offer(envelope)) {
+                return;
+            }
+            if (DROPPABLE_EVENTS.contains(envelope.event().getClass())) {
+                droppedCounter.increment();
+                return;
+            }
+            overflowCounter.increment();
+            lane.spillSize.incrementAndGet();
+            lane.spill.add(envelope);
+            if (lane.ring.isEmpty()) {
+                // 워커가 빈 링 버퍼에서 잠들어 있을 수 있다. 가득 차 있으면 워커가 곧 넘침 대기열을 확인한다
+                lane.ring.offer(WAKE_UP);
+            }
+        }
+
+        private void drain(Lane lane) {
+            List<Envelope> batch = new ArrayList<>(batchSize);
+            while (running) {
+                try {
+                    batch.add(lane.ring.take());
+                    lane.ring.drainTo(batch, batchSize - 1);
+                    process(batch);
+                    // 링 버퍼에 먼저 들어온 이벤트를 모두 처리한 뒤에만 넘침 대기열을 비운다
+                    while (lane.ring.isEmpty() && lane.spillSize.get() > 0) {
+                        Envelope spilled;
+                        while (batch.size() < batchSize && (spilled = lane.spill.poll()) != null) {
+                            lane.spillSize.decrementAndGet();
+                            batch.add(spilled);
+                        }
+                        process(batch);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        private void process(List<Envelope> batch) {
+            long now = System.nanoTime();
+            int handled = 0;
+            for (Envelope envelope : batch) {
+                if (envelope == WAKE_UP) {
+                    continue;
+                }
+                lagTimer.record(now - envelope.enqueuedAt(), TimeUnit.NANOSECONDS);
+                dispatch(envelope);
+                handled++;
+            }
+            if (handled > 0) {
+                batchSummary.record(handled);
+                dispatchedCounter.increment(handled);
+            }
+            batch.clear();
+        }
+
+        private int depth() {
+            int depth = 0;
+            for (Lane lane : lanesByIndex) {
+                depth += lane.ring.size() + lane.spillSize.get();
+            }
+            return depth;
+        }
+
+        private void stop() {
+            workers.forEach(Thread::interrupt);
+        }
+
+        private Counter topicCounter(String meterName, String description) {
+            return Counter.builder(meterName)
+                    .description(description)
+                    .tag("topic", name)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.ktb.chatapp.websocket.socketio;
 
-import com.corundumstudio.socketio.SocketIOServer;
 import com.ktb.chatapp.event.*;
+import jakarta.annotation.PostConstruct;
+import java.util.HashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,43 +18,72 @@ import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
 @RequiredArgsConstructor
 public class SocketIOEventListener {
 
-    private final SocketIOServer socketIOServer;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final SocketEventBus eventBus;
 
+    /**
+     * 브로드캐스트는 이벤트 버스 워커에서 실행해 AI 스트림 스레드와 요청 스레드가 소켓 I/O를 기다리지 않게 한다.
+     */
+    @PostConstruct
+    void subscribe() {
+        eventBus.subscribe(SocketEventBus.SOCKET_TOPIC, SessionEndedEvent.class, this::handleSessionEndedEvent);
+        eventBus.subscribe(SocketEventBus.SOCKET_TOPIC, RoomUpdatedEvent.class, this::handleRoomUpdatedEvent);
+        eventBus.subscribe(SocketEventBus.SOCKET_TOPIC, MessagesCreatedEvent.class, this::handleMessagesCreatedEvent);
+        eventBus.subscribe(SocketEventBus.SOCKET_TOPIC, AiMessageStartEvent.class, this::handleAiMessageStartEvent);
+        eventBus.subscribe(SocketEventBus.SOCKET_TOPIC, AiMessageChunkEvent.class, this::handleAiMessageChunkEvent);
+        eventBus.subscribe(SocketEventBus.SOCKET_TOPIC, AiMessageSavedEvent.class, this::handleAiMessageCompleteEvent);
+        eventBus.subscribe(SocketEventBus.SOCKET_TOPIC, AiMessageErrorEvent.class, this::handleAiMessageErrorEvent);
+    }
+
+    // REST 요청에서 Spring 이벤트로 발행되는 이벤트는 버스로 넘김
     @EventListener
+    public void onSessionEndedEvent(SessionEndedEvent event) {
+        eventBus.publish(event);
+    }
+
+    @EventListener
+    public void onRoomUpdatedEvent(RoomUpdatedEvent event) {
+        eventBus.publish(event);
+    }
+
+    @EventListener
+    public void onMessagesCreatedEvent(MessagesCreatedEvent event) {
+        eventBus.publish(event);
+    }
+
     public void handleSessionEndedEvent(SessionEndedEvent event) {
         try {
-            socketIOServer.getRoomOperations("user:" + event.getUserId())
-                    .sendEvent("session_ended", Map.of(
-                            "reason", event.getReason(),
-                            "message", event.getMessage()
-                    ));
+            slowConsumerGuard.broadcast("user:" + event.getUserId(), "session_ended", Map.of(
+                    "reason", event.getReason(),
+                    "message", event.getMessage()
+            ));
             log.info("session_ended 이벤트 발송: userId={}, reason={}", event.getUserId(), event.getReason());
         } catch (Exception e) {
             log.error("session_ended 이벤트 발송 실패: userId={}", event.getUserId(), e);
         }
     }
 
-    @EventListener
-    public void handleRoomCreatedEvent(RoomCreatedEvent event) {
+    public void handleRoomUpdatedEvent(RoomUpdatedEvent event) {
         try {
-            socketIOServer.getRoomOperations("room-list").sendEvent(ROOM_CREATED, event.getRoomResponse());
-            log.info("roomCreated 이벤트 발송: roomId={}", event.getRoomResponse().getId());
+            slowConsumerGuard.broadcast(event.getRoomId(), ROOM_UPDATE, event.getRoomResponse());
+            log.info("roomUpdate 이벤트 발송: roomId={}", event.getRoomId());
         } catch (Exception e) {
-            log.error("roomCreated 이벤트 발송 실패", e);
+            log.error("roomUpdate 이벤트 발송 실패: roomId={}", event.getRoomId(), e);
         }
     }
 
-    @EventListener
-    public void handleRoomUpdatedEvent(RoomUpdatedEvent event) {
+    public void handleMessagesCreatedEvent(MessagesCreatedEvent event) {
         try {
-            socketIOServer.getRoomOperations(event.getRoomId()).sendEvent(ROOM_UPDATE, event.getRoomResponse());
-            log.info("roomUpdate 이벤트 발송: roomId={}", event.getRoomId());
+            slowConsumerGuard.broadcast(event.getRoomId(), MESSAGE_BATCH, Map.of(
+                    "roomId", event.getRoomId(),
+                    "messages", event.getMessages()
+            ));
+            log.debug("messageBatch 이벤트 발송: roomId={}, count={}", event.getRoomId(), event.getMessages().size());
         } catch (Exception e) {
-            log.error("roomUpdate 이벤트 발송 실패: roomId={}", event.getRoomId(), e);
+            log.error("messageBatch 이벤트 발송 실패: roomId={}", event.getRoomId(), e);
         }
     }
 
-    @EventListener
     public void handleAiMessageStartEvent(AiMessageStartEvent event) {
         try {
             Map<String, Object> data = Map.of(
@@ -61,8 +91,7 @@ public class SocketIOEventListener {
                 "aiType", event.getAiType(),
                 "timestamp", event.getStartTime()
             );
-            socketIOServer.getRoomOperations(event.getRoomId())
-                    .sendEvent(AI_MESSAGE_START, data);
+            slowConsumerGuard.broadcast(event.getRoomId(), AI_MESSAGE_START, data);
             log.info("aiMessageStart 이벤트 발송: roomId={}, messageId={}",
                     event.getRoomId(), event.getMessageId());
         } catch (Exception e) {
@@ -70,23 +99,24 @@ public class SocketIOEventListener {
         }
     }
 
-    @EventListener
     public void handleAiMessageChunkEvent(AiMessageChunkEvent event) {
         try {
-            Map<String, Object> data = Map.of(
-                "messageId", event.getMessageId(),
-                "fullContent", event.getFullContent(),
-                "isCodeBlock", event.isCodeBlock(),
-                "isComplete", false
-            );
-            socketIOServer.getRoomOperations(event.getRoomId())
-                    .sendEvent(AI_MESSAGE_CHUNK, data);
+            Map<String, Object> data = new HashMap<>();
+            data.put("messageId", event.getMessageId());
+            data.put("seq", event.getSeq());
+            data.put("offset", event.getOffset());
+            data.put("delta", event.getDelta());
+            data.put("isCodeBlock", event.isCodeBlock());
+            data.put("isComplete", false);
+            if (event.getCheckpoint() != null) {
+                data.put("fullContent", event.getCheckpoint());
+            }
+            slowConsumerGuard.broadcast(event.getRoomId(), AI_MESSAGE_CHUNK, data);
         } catch (Exception e) {
             log.error("aiMessageChunk 이벤트 발송 실패: roomId={}", event.getRoomId(), e);
         }
     }
 
-    @EventListener
     public void handleAiMessageCompleteEvent(AiMessageSavedEvent event) {
         
         try {
@@ -96,8 +126,7 @@ public class SocketIOEventListener {
                 "aiType", event.getAiType(),
                 "timestamp", event.getStartTime()
             );
-            socketIOServer.getRoomOperations(event.getRoomId())
-                    .sendEvent(AI_MESSAGE_COMPLETE, data);
+            slowConsumerGuard.broadcast(event.getRoomId(), AI_MESSAGE_COMPLETE, data);
             log.info("aiMessageComplete 이벤트 발송: roomId={}, messageId={}",
                     event.getRoomId(), event.getSavedMessageId());
         } catch (Exception e) {
@@ -105,7 +134,6 @@ public class SocketIOEventListener {
         }
     }
 
-    @EventListener
     public void handleAiMessageErrorEvent(AiMessageErrorEvent event) {
         try {
             Map<String, Object> data = Map.of(
@@ -113,8 +141,7 @@ public class SocketIOEventListener {
                 "error", event.getErrorMessage(),
                 "aiType", event.getAiType()
             );
-            socketIOServer.getRoomOperations(event.getRoomId())
-                    .sendEvent(AI_MESSAGE_ERROR, data);
+            slowConsumerGuard.broadcast(event.getRoomId(), AI_MESSAGE_ERROR, data);
             log.error("aiMessageError 이벤트 발송: roomId={}, messageId={}, error={}",
                     event.getRoomId(), event.getMessageId(), event.getErrorMessage());
         } catch (Exception e) {
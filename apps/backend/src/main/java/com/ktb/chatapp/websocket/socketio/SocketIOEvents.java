@@ -46,6 +46,36 @@ public final class SocketIOEvents {
      * Payload: { messageId, reaction, type }
      */
     public static final String MESSAGE_REACTION = "messageReaction";
+
+    /**
+     * 채팅방 목록 변경 구독
+     * Payload: { scope: "all" | "firstPage" } (생략 시 all)
+     */
+    public static final String JOIN_ROOM_LIST = "joinRoomList";
+
+    /**
+     * 채팅방 목록 변경 구독 해제
+     * Payload: 없음
+     */
+    public static final String LEAVE_ROOM_LIST = "leaveRoomList";
+
+    /**
+     * 진행 중인 AI 스트리밍의 체크포인트 요청 (스트리밍 도중 입장한 경우)
+     * Payload: { messageId }
+     */
+    public static final String AI_STREAM_CHECKPOINT = "aiStreamCheckpoint";
+
+    /**
+     * 커서 이후 바뀐 메시지만 요청 (재연결 후 증분 동기화)
+     * Payload: { roomId, since, limit }
+     */
+    public static final String SYNC_SINCE = "syncSince";
+
+    /**
+     * 한 방에 여러 메시지를 한 번에 전송 (봇, 일괄 클라이언트)
+     * Payload: ChatMessageBatchRequest { room, messages: [{ type, content, fileData }] }
+     */
+    public static final String CHAT_MESSAGE_BATCH = "chatMessageBatch";
     
     // ============================================
     // Server → Client Events (전송 이벤트)
@@ -57,6 +87,18 @@ public final class SocketIOEvents {
      */
     public static final String MESSAGE = "message";
 
+    /**
+     * 일괄 전송으로 저장된 메시지 브로드캐스트 (seq 순)
+     * Payload: { roomId, messages: MessageResponse[] }
+     */
+    public static final String MESSAGE_BATCH = "messageBatch";
+
+    /**
+     * 일괄 전송 결과 (보낸 클라이언트에게만)
+     * Payload: ChatMessageBatchResponse { roomId, accepted, rejected, results }
+     */
+    public static final String CHAT_MESSAGE_BATCH_RESULT = "chatMessageBatchResult";
+
     /**
      * 에러 알림
      * Payload: { code, message }
@@ -81,6 +123,12 @@ public final class SocketIOEvents {
      */
     public static final String PREVIOUS_MESSAGES_LOADED = "previousMessagesLoaded";
 
+    /**
+     * 증분 동기화 결과
+     * Payload: MessageSyncResponse { roomId, messages, deltas, cursor, hasMore }
+     */
+    public static final String MESSAGES_SYNCED = "messagesSynced";
+
     /**
      * 메시지 로드 시작
      */
@@ -103,6 +151,12 @@ public final class SocketIOEvents {
      * Payload: RoomResponse
      */
     public static final String ROOM_UPDATE = "roomUpdated";
+
+    /**
+     * 채팅방 목록 변경 묶음 (짧은 주기로 모아서 전송)
+     * Payload: RoomListDiffResponse { seq, created, updated, countChanged }
+     */
+    public static final String ROOM_LIST_DIFF = "roomListDiff";
     
     /**
      * 채팅방 정보 업데이트
@@ -152,11 +206,18 @@ public final class SocketIOEvents {
     public static final String AI_MESSAGE_START = "aiMessageStart";
 
     /**
-     * AI 스트리밍 청크
-     * Payload: { messageId, currentChunk, fullContent, isCodeBlock, timestamp, aiType, isComplete }
+     * AI 스트리밍 청크 (델타)
+     * Payload: { messageId, seq, offset, delta, isCodeBlock, isComplete, fullContent? }
+     * seq는 1부터 증가하며, fullContent는 체크포인트 프레임에만 포함된다 (seq까지의 전체 내용).
      */
     public static final String AI_MESSAGE_CHUNK = "aiMessageChunk";
 
+    /**
+     * AI 스트리밍 체크포인트 응답
+     * Payload: { messageId, seq, content, isCodeBlock }
+     */
+    public static final String AI_MESSAGE_CHECKPOINT = "aiMessageCheckpoint";
+
     /**
      * AI 스트리밍 완료
      * Payload: { messageId, _id, content, aiType, timestamp, isComplete, query, reactions }
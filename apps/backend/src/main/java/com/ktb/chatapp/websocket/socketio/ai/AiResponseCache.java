@@ -0,0 +1,222 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.model.AiType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * AI 응답 캐시.
+ * (AI 타입, 정규화된 질문)이 같은 요청은 업스트림을 한 번만 호출한다.
+ * <ul>
+ *   <li>완료된 응답은 TTL/최대 개수 안에서 청크 단위로 보관하고, 일정 간격으로 다시 흘려 보내 스트리밍처럼 보이게 한다.</li>
+ *   <li>진행 중인 동일 요청은 재생 가능한 공유 스트림에 합류해, 앞서 받은 청크부터 이어서 받는다.</li>
+ * </ul>
+ * 오류나 취소로 끝난 응답은 캐시하지 않는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class AiResponseCache {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final Duration replayInterval;
+    private final LongSupplier clock;
+
+    // 접근 순서 LRU, completed 자체로 동기화
+    private final LinkedHashMap<String, CachedResponse> completed = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Flux<ChunkData>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter sharedCounter;
+    private final Counter missCounter;
+    private final Counter savedCounter;
+
+    @Autowired
+    public AiResponseCache(
+            @Value("${app.ai.cache.enabled:true}") boolean enabled,
+            @Value("${app.ai.cache.ttl-seconds:600}") long ttlSeconds,
+            @Value("${app.ai.cache.max-entries:500}") int maxEntries,
+            @Value("${app.ai.cache.replay-interval-ms:20}") long replayIntervalMs,
+            MeterRegistry meterRegistry) {
+        this(enabled, ttlSeconds, maxEntries, replayIntervalMs, meterRegistry, System::currentTimeMillis);
+    }
+
+    AiResponseCache(
+            boolean enabled,
+            long ttlSeconds,
+            int maxEntries,
+            long replayIntervalMs,
+            MeterRegistry meterRegistry,
+            LongSupplier clock) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+        this.replayInterval = Duration.ofMillis(replayIntervalMs);
+        this.clock = clock;
+
+        this.hitCounter = requestCounter(meterRegistry, "hit");
+        this.sharedCounter = requestCounter(meterRegistry, "shared");
+        this.missCounter = requestCounter(meterRegistry, "miss");
+        this.savedCounter = Counter.builder("ai.upstream.calls.saved")
+                .description("Upstream AI calls avoided by cache hits or in-flight sharing")
+                .register(meterRegistry);
+        Gauge.builder("ai.cache.size", this, AiResponseCache::size)
+                .description("Completed AI responses held in the cache")
+                .register(meterRegistry);
+        Gauge.builder("ai.cache.hit_ratio", this, AiResponseCache::hitRatio)
+                .description("Fraction of AI requests served without a new upstream call")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 업스트림 호출 없이 응답할 수 있으면 캐시 재생 스트림이나 진행 중인 공유 스트림을 돌려준다.
+     * 업스트림 슬롯을 잡기 전에 확인해, 캐시 적중/합류 요청이 슬롯을 차지하지 않게 한다.
+     */
+    public Optional<Flux<ChunkData>> findReusable(AiType aiType, String query) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String key = key(aiType, query);
+
+        CachedResponse cached = lookup(key);
+        if (cached != null) {
+            hitCounter.increment();
+            savedCounter.increment();
+            log.debug("AI response cache hit - aiType: {}, chunks: {}", aiType, cached.chunks().size());
+            return Optional.of(replay(cached.chunks()));
+        }
+
+        Flux<ChunkData> shared = inFlight.get(key);
+        if (shared != null) {
+            sharedCounter.increment();
+            savedCounter.increment();
+            log.debug("AI response shared with in-flight request - aiType: {}", aiType);
+            return Optional.of(shared);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 캐시된 응답, 진행 중인 동일 요청, 새 업스트림 호출 순으로 청크 스트림을 돌려준다.
+     */
+    public Flux<ChunkData> stream(AiType aiType, String query, Supplier<Flux<ChunkData>> upstream) {
+        if (!enabled) {
+            return upstream.get();
+        }
+        Optional<Flux<ChunkData>> reusable = findReusable(aiType, query);
+        if (reusable.isPresent()) {
+            return reusable.get();
+        }
+
+        boolean[] created = new boolean[1];
+        Flux<ChunkData> shared = inFlight.computeIfAbsent(key(aiType, query), k -> {
+            created[0] = true;
+            return share(k, upstream.get());
+        });
+        if (created[0]) {
+            missCounter.increment();
+        } else {
+            sharedCounter.increment();
+            savedCounter.increment();
+            log.debug("AI response shared with in-flight request - aiType: {}", aiType);
+        }
+        return shared;
+    }
+
+    int size() {
+        synchronized (completed) {
+            return completed.size();
+        }
+    }
+
+    static String key(AiType aiType, String query) {
+        String normalized = query == null ? "" : WHITESPACE.matcher(query.strip()).replaceAll(" ").toLowerCase(Locale.ROOT);
+        return aiType.name() + "|" + normalized;
+    }
+
+    private Flux<ChunkData> share(String key, Flux<ChunkData> source) {
+        List<ChunkData> chunks = new ArrayList<>();
+        AtomicReference<Flux<ChunkData>> self = new AtomicReference<>();
+        Flux<ChunkData> shared = source
+                .doOnNext(chunks::add)
+                .doOnComplete(() -> store(key, List.copyOf(chunks)))
+                // 완료/오류/취소 후에는 새 요청이 공유 스트림에 붙지 않도록 제거
+                .doFinally(signal -> inFlight.remove(key, self.get()))
+                .replay()
+                .refCount();
+        self.set(shared);
+        return shared;
+    }
+
+    private Flux<ChunkData> replay(List<ChunkData> chunks) {
+        Flux<ChunkData> flux = Flux.fromIterable(chunks);
+        return replayInterval.isZero() ? flux : flux.delayElements(replayInterval);
+    }
+
+    private CachedResponse lookup(String key) {
+        synchronized (completed) {
+            CachedResponse cached = completed.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAt() <= clock.getAsLong()) {
+                completed.remove(key);
+                return null;
+            }
+            return cached;
+        }
+    }
+
+    private void store(String key, List<ChunkData> chunks) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+        synchronized (completed) {
+            completed.put(key, new CachedResponse(chunks, clock.getAsLong() + ttlMillis));
+            // 가장 오래 사용되지 않은 항목부터 제거
+            var iterator = completed.entrySet().iterator();
+            while (completed.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    private double hitRatio() {
+        double total = hitCounter.count() + sharedCounter.count() + missCounter.count();
+        return total == 0 ? 0.0 : (hitCounter.count() + sharedCounter.count()) / total;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("ai.cache.requests")
+                .description("AI requests by cache outcome")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedResponse(List<ChunkData> chunks, long expiresAt) {
+    }
+}
@@ -2,20 +2,23 @@ package com.ktb.chatapp.websocket.socketio.ai;
 
 import com.ktb.chatapp.dto.message.MessageContent;
 import com.ktb.chatapp.event.AiMessageCompleteEvent;
+import com.ktb.chatapp.event.AiMessageErrorEvent;
 import com.ktb.chatapp.event.AiMessageSavedEvent;
 import com.ktb.chatapp.event.AiMessageStartEvent;
 import com.ktb.chatapp.model.AiType;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.model.MessageType;
 import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.websocket.socketio.SocketEventBus;
 import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import jakarta.annotation.PostConstruct;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.ai.chat.client.ChatClient;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 
@@ -29,16 +32,31 @@ import reactor.core.publisher.Flux;
 public class AiService {
 
     private final ChatClient chatClient;
-    private final ApplicationEventPublisher eventPublisher;
+    private final SocketEventBus eventBus;
     private final MessageRepository messageRepository;
+    private final AiStreamManager streamManager;
+    private final AiResponseCache responseCache;
+    private final AtomicLong messageSequence = new AtomicLong();
 
     public AiService(
             ChatClient.Builder chatClientBuilder,
-            ApplicationEventPublisher eventPublisher,
-            MessageRepository messageRepository) {
+            SocketEventBus eventBus,
+            MessageRepository messageRepository,
+            AiStreamManager streamManager,
+            AiResponseCache responseCache) {
         this.chatClient = chatClientBuilder.build();
-        this.eventPublisher = eventPublisher;
+        this.eventBus = eventBus;
         this.messageRepository = messageRepository;
+        this.streamManager = streamManager;
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * AI 메시지 저장은 Mongo I/O가 있으므로 소켓 브로드캐스트와 다른 토픽에서 처리한다.
+     */
+    @PostConstruct
+    void subscribe() {
+        eventBus.subscribe(SocketEventBus.PERSISTENCE_TOPIC, AiMessageCompleteEvent.class, this::onAiMessageCompleteEvent);
     }
 
     public void handleAIMentions(String roomId, String userId, MessageContent messageContent) {
@@ -50,15 +68,15 @@ public class AiService {
 
     private void startStreaming(String roomId, String userId, String aiType, String query) {
         
-        // AI 스트리밍 세션 생성 - messageId는 타입과 타임스탬프 조합
+        // AI 스트리밍 세션 생성 - 같은 밀리초에 생성돼도 겹치지 않도록 타입, 타임스탬프, 순번 조합
         var timestamp = System.currentTimeMillis();
-        String messageId = aiType + "-" + timestamp;
+        String messageId = aiType + "-" + timestamp + "-" + messageSequence.incrementAndGet();
 
         log.info("AI response started - messageId: {}, room: {}, aiType: {}, query: {}",
             messageId, roomId, aiType, query);
         
         // AI 스트리밍 시작 이벤트 발행
-        eventPublisher.publishEvent(new AiMessageStartEvent(
+        eventBus.publish(new AiMessageStartEvent(
             this, roomId, messageId, aiType, timestamp
         ));
         
@@ -71,10 +89,24 @@ public class AiService {
             .timestamp(timestamp)
             .query(query)
             .build();
-        
-        
-        streamResponse(session)
-                .subscribe(new AiStreamHandler(session, eventPublisher));
+
+        // 캐시 적중이나 진행 중인 동일 요청 합류는 업스트림 슬롯 없이 바로 시작
+        AiType type = session.aiTypeEnum();
+        if (type != null) {
+            Optional<Flux<ChunkData>> reusable = responseCache.findReusable(type, query);
+            if (reusable.isPresent()) {
+                streamManager.attach(session, reusable.get());
+                return;
+            }
+        }
+
+        // 슬롯이 없으면 대기열에서 순서를 기다림
+        if (!streamManager.submit(session, streamResponse(session))) {
+            eventBus.publish(new AiMessageErrorEvent(
+                this, roomId, messageId,
+                "AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", session.aiTypeEnum()
+            ));
+        }
     }
 
     Flux<ChunkData> streamResponse(StreamingSession session) {
@@ -85,25 +117,29 @@ public class AiService {
                 return Flux.error(new IllegalArgumentException("Unknown AI persona"));
             }
 
-            Flux<String> contentStream = chatClient.prompt()
-                    .system(aiType.getSystemPrompt())
-                    .user(query)
-                    .stream()
-                    .content();
-
-            AtomicBoolean codeBlockState = new AtomicBoolean(false);
-
-            return contentStream
-                    .filter(chunk -> chunk != null && !chunk.isBlank())
-                    .map(chunk -> ChunkData.from(chunk).updateCodeBlockState(codeBlockState))
-                    .doOnSubscribe(subscription -> log.info(
-                            "Starting AI streaming response - aiType: {}, query: {}",
-                            aiType, query))
-                    .doOnError(error -> log.error("Streaming error received from Spring AI", error));
+            // 같은 질문은 캐시된 응답을 재생하거나 진행 중인 스트림에 합류
+            return responseCache.stream(aiType, query, () -> upstream(aiType, query));
         });
     }
 
-    @EventListener
+    private Flux<ChunkData> upstream(AiType aiType, String query) {
+        Flux<String> contentStream = chatClient.prompt()
+                .system(aiType.getSystemPrompt())
+                .user(query)
+                .stream()
+                .content();
+
+        AtomicBoolean codeBlockState = new AtomicBoolean(false);
+
+        return contentStream
+                .filter(chunk -> chunk != null && !chunk.isBlank())
+                .map(chunk -> ChunkData.from(chunk).updateCodeBlockState(codeBlockState))
+                .doOnSubscribe(subscription -> log.info(
+                        "Starting AI streaming response - aiType: {}, query: {}",
+                        aiType, query))
+                .doOnError(error -> log.error("Streaming error received from Spring AI", error));
+    }
+
     public void onAiMessageCompleteEvent(AiMessageCompleteEvent event) {
         try {
             // 메시지 저장
@@ -112,7 +148,7 @@ public class AiService {
                 event.getMessageId(), savedMessage.getId(), event.getRoomId());
 
             // savedMessageId를 포함한 새로운 이벤트 발행
-            eventPublisher.publishEvent(new AiMessageSavedEvent(
+            eventBus.publish(new AiMessageSavedEvent(
                 this, event, savedMessage.getId()
             ));
         } catch (Exception e) {
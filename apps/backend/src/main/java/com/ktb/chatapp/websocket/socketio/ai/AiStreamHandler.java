@@ -11,34 +11,42 @@ import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 import org.springframework.context.ApplicationEventPublisher;
 
+/**
+ * AI 스트리밍 구독자.
+ * 토큰을 세션 버퍼에 모으고 frameIntervalMs마다 한 번씩 델타 프레임으로 내보낸다.
+ * checkpointEvery 프레임마다 전체 내용을 함께 실어 누락된 델타를 복구할 수 있게 한다.
+ */
 @Slf4j
 @RequiredArgsConstructor
 public class AiStreamHandler implements Subscriber<ChunkData> {
     private final StreamingSession session;
     private final ApplicationEventPublisher eventPublisher;
-    private Subscription subscription;
+    private final long frameIntervalMs;
+    private final int checkpointEvery;
+    private volatile Subscription subscription;
+    private volatile boolean cancelled;
+    private long lastFrameAt;
 
     @Override
     public void onSubscribe(Subscription subscription) {
         this.subscription = subscription;
+        // 구독 전에 취소된 경우 업스트림 호출 없이 바로 종료
+        if (cancelled) {
+            subscription.cancel();
+            return;
+        }
         subscription.request(Long.MAX_VALUE);
     }
 
     @Override
     public void onNext(ChunkData chunk) {
-        session.appendContent(chunk.currentChunk());
-        
-        String messageId = session.getMessageId();
-        String roomId = session.getRoomId();
-        if (roomId == null) {
-            log.warn("Room id missing while processing AI chunk - messageId: {}", messageId);
-            return;
-        }
+        session.appendContent(chunk.currentChunk(), chunk.codeBlock());
 
-        eventPublisher.publishEvent(new AiMessageChunkEvent(
-            this, roomId, messageId,
-            session.getContent(), chunk.codeBlock()
-        ));
+        long now = System.currentTimeMillis();
+        if (now - lastFrameAt >= frameIntervalMs) {
+            lastFrameAt = now;
+            publishFrame();
+        }
     }
 
     @Override
@@ -57,6 +65,8 @@ public class AiStreamHandler implements Subscriber<ChunkData> {
         String messageId = session.getMessageId();
 
         try {
+            // 프레임 주기 안에 남아 있던 토큰을 먼저 내보냄
+            publishFrame();
             sendCompletionEvent();
             log.debug("AI streaming completed for messageId: {}", messageId);
         } catch (Exception e) {
@@ -71,11 +81,34 @@ public class AiStreamHandler implements Subscriber<ChunkData> {
     }
 
     public void cancel() {
+        cancelled = true;
+        Subscription subscription = this.subscription;
         if (subscription != null) {
             subscription.cancel();
         }
     }
 
+    private void publishFrame() {
+        String roomId = session.getRoomId();
+        if (roomId == null) {
+            log.warn("Room id missing while processing AI chunk - messageId: {}", session.getMessageId());
+            return;
+        }
+        StreamingSession.Frame frame = session.nextFrame();
+        if (frame == null) {
+            return;
+        }
+        String checkpoint = checkpointEvery > 0 && frame.seq() % checkpointEvery == 0
+            ? session.checkpoint().content()
+            : null;
+
+        eventPublisher.publishEvent(new AiMessageChunkEvent(
+            this, roomId, session.getMessageId(),
+            frame.seq(), frame.offset(), frame.content(),
+            frame.codeBlock(), checkpoint
+        ));
+    }
+
     private void sendCompletionEvent() {
         eventPublisher.publishEvent(new AiMessageCompleteEvent(
             this, session.getRoomId(), session.getMessageId(),
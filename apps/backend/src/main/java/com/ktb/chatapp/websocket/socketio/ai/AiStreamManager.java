@@ -0,0 +1,264 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.dto.ActiveStreamResponse;
+import com.ktb.chatapp.event.AiMessageErrorEvent;
+import com.ktb.chatapp.websocket.socketio.SocketEventBus;
+import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+/**
+ * AI 업스트림 스트림 동시 실행 관리자.
+ * 전체/방별 동시 스트림 수를 제한하고, 넘치는 요청은 대기열에 넣었다가 슬롯이 비면 순서대로 시작한다.
+ * 방별 한도가 찬 요청은 건너뛰고 다른 방의 요청을 먼저 시작해 한 방이 전체 슬롯을 막지 않게 한다.
+ * 진행 중/대기 중인 스트림을 등록해 두어 입장 시 activeStreams와 체크포인트 요청에 사용한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+public class AiStreamManager {
+
+    private final SocketEventBus eventBus;
+    private final int maxConcurrent;
+    private final int maxPerRoom;
+    private final int maxQueued;
+    private final long frameIntervalMs;
+    private final int checkpointEvery;
+
+    // 진행 중 + 대기 중 스트림 (messageId 기준)
+    private final Map<String, ActiveStream> streams = new ConcurrentHashMap<>();
+    // 아래 필드는 lock으로 보호
+    private final Object lock = new Object();
+    private final Deque<ActiveStream> pending = new ArrayDeque<>();
+    private final Map<String, Integer> runningPerRoom = new HashMap<>();
+    private int running;
+
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+    private final Counter cancelledCounter;
+
+    public AiStreamManager(
+            SocketEventBus eventBus,
+            MeterRegistry meterRegistry,
+            @Value("${app.ai.stream.max-concurrent:32}") int maxConcurrent,
+            @Value("${app.ai.stream.max-per-room:4}") int maxPerRoom,
+            @Value("${app.ai.stream.max-queued:128}") int maxQueued,
+            @Value("${app.ai.stream.frame-interval-ms:50}") long frameIntervalMs,
+            @Value("${app.ai.stream.checkpoint-every:20}") int checkpointEvery) {
+        this.eventBus = eventBus;
+        this.maxConcurrent = maxConcurrent;
+        this.maxPerRoom = maxPerRoom;
+        this.maxQueued = maxQueued;
+        this.frameIntervalMs = frameIntervalMs;
+        this.checkpointEvery = checkpointEvery;
+
+        this.queueWaitTimer = Timer.builder("ai.stream.queue.wait")
+                .description("Time AI stream requests wait for an upstream slot")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("ai.stream.rejected")
+                .description("AI stream requests rejected because the queue was full")
+                .register(meterRegistry);
+        this.cancelledCounter = Counter.builder("ai.stream.cancelled")
+                .description("AI streams cancelled because the requester left the room")
+                .register(meterRegistry);
+        Gauge.builder("ai.stream.active", this, AiStreamManager::runningCount)
+                .description("Upstream AI streams currently running")
+                .register(meterRegistry);
+        Gauge.builder("ai.stream.slots.utilization", this, manager -> (double) manager.runningCount() / maxConcurrent)
+                .description("Fraction of global AI stream slots in use")
+                .register(meterRegistry);
+        Gauge.builder("ai.stream.queue.size", this, AiStreamManager::queuedCount)
+                .description("AI stream requests waiting for a slot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스트림을 시작하거나 대기열에 넣는다.
+     * stream은 구독 시점에 업스트림 호출을 시작하는 지연 Flux여야 한다.
+     *
+     * @return 대기열까지 가득 차 거절된 경우 false
+     */
+    public boolean submit(StreamingSession session, Flux<ChunkData> stream) {
+        ActiveStream activeStream = new ActiveStream(session, stream,
+                new AiStreamHandler(session, eventBus::publish, frameIntervalMs, checkpointEvery));
+        boolean startNow;
+        synchronized (lock) {
+            if (hasSlot(session.getRoomId())) {
+                reserve(activeStream);
+                startNow = true;
+            } else if (pending.size() < maxQueued) {
+                pending.addLast(activeStream);
+                startNow = false;
+            } else {
+                rejectedCounter.increment();
+                log.warn("AI stream rejected, queue full - messageId: {}, roomId: {}",
+                        session.getMessageId(), session.getRoomId());
+                return false;
+            }
+            streams.put(session.getMessageId(), activeStream);
+        }
+
+        if (startNow) {
+            start(activeStream);
+        } else {
+            log.debug("AI stream queued - messageId: {}, roomId: {}", session.getMessageId(), session.getRoomId());
+        }
+        return true;
+    }
+
+    /**
+     * 업스트림 호출이 필요 없는 스트림(캐시 재생, 진행 중인 스트림 합류)을 슬롯 없이 바로 시작한다.
+     * 취소와 activeStreams 조회를 위해 등록은 똑같이 한다.
+     */
+    public void attach(StreamingSession session, Flux<ChunkData> stream) {
+        ActiveStream activeStream = new ActiveStream(session, stream,
+                new AiStreamHandler(session, eventBus::publish, frameIntervalMs, checkpointEvery));
+        activeStream.started = true;
+        streams.put(session.getMessageId(), activeStream);
+        activeStream.flux
+                .doFinally(signal -> streams.remove(session.getMessageId(), activeStream))
+                .subscribe(activeStream.handler);
+    }
+
+    /**
+     * 사용자가 방을 나가거나 연결이 끊기면 그 사용자가 요청한 스트림을 취소한다.
+     */
+    public void cancel(String roomId, String userId) {
+        List<ActiveStream> cancelled = new ArrayList<>();
+        synchronized (lock) {
+            pending.removeIf(stream -> {
+                if (stream.matches(roomId, userId)) {
+                    streams.remove(stream.session.getMessageId(), stream);
+                    cancelled.add(stream);
+                    return true;
+                }
+                return false;
+            });
+            streams.values().stream()
+                    .filter(stream -> stream.started && stream.matches(roomId, userId))
+                    .forEach(cancelled::add);
+        }
+
+        for (ActiveStream stream : cancelled) {
+            cancelledCounter.increment();
+            // 진행 중이면 doFinally에서 슬롯을 반납 (attach로 시작한 스트림은 등록만 해제)
+            stream.handler.cancel();
+            eventBus.publish(new AiMessageErrorEvent(
+                    this, roomId, stream.session.getMessageId(),
+                    "AI 응답이 취소되었습니다.", stream.session.aiTypeEnum()));
+            log.info("AI stream cancelled - messageId: {}, roomId: {}, userId: {}",
+                    stream.session.getMessageId(), roomId, userId);
+        }
+    }
+
+    /**
+     * 방에서 진행 중/대기 중인 스트림의 현재 내용.
+     */
+    public List<ActiveStreamResponse> snapshot(String roomId) {
+        return streams.values().stream()
+                .filter(stream -> Objects.equals(roomId, stream.session.getRoomId()))
+                .map(stream -> ActiveStreamResponse.builder()
+                        .id(stream.session.getMessageId())
+                        .type("ai")
+                        .aiType(stream.session.getAiType())
+                        .content(stream.session.checkpoint().content())
+                        .timestamp(Instant.ofEpochMilli(stream.session.getTimestamp()).toString())
+                        .isStreaming(true)
+                        .build())
+                .toList();
+    }
+
+    public Optional<StreamingSession> find(String messageId) {
+        if (messageId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(streams.get(messageId)).map(stream -> stream.session);
+    }
+
+    int runningCount() {
+        synchronized (lock) {
+            return running;
+        }
+    }
+
+    int queuedCount() {
+        synchronized (lock) {
+            return pending.size();
+        }
+    }
+
+    private void start(ActiveStream stream) {
+        queueWaitTimer.record(System.nanoTime() - stream.submittedAt, TimeUnit.NANOSECONDS);
+        stream.flux
+                .doFinally(signal -> release(stream))
+                .subscribe(stream.handler);
+    }
+
+    private void release(ActiveStream stream) {
+        List<ActiveStream> next = new ArrayList<>();
+        synchronized (lock) {
+            streams.remove(stream.session.getMessageId(), stream);
+            running--;
+            runningPerRoom.computeIfPresent(stream.session.getRoomId(), (room, count) -> count > 1 ? count - 1 : null);
+
+            Iterator<ActiveStream> iterator = pending.iterator();
+            while (running < maxConcurrent && iterator.hasNext()) {
+                ActiveStream candidate = iterator.next();
+                if (hasSlot(candidate.session.getRoomId())) {
+                    iterator.remove();
+                    reserve(candidate);
+                    next.add(candidate);
+                }
+            }
+        }
+        next.forEach(this::start);
+    }
+
+    private boolean hasSlot(String roomId) {
+        return running < maxConcurrent && runningPerRoom.getOrDefault(roomId, 0) < maxPerRoom;
+    }
+
+    private void reserve(ActiveStream stream) {
+        running++;
+        runningPerRoom.merge(stream.session.getRoomId(), 1, Integer::sum);
+        stream.started = true;
+    }
+
+    private static final class ActiveStream {
+        private final StreamingSession session;
+        private final Flux<ChunkData> flux;
+        private final AiStreamHandler handler;
+        private final long submittedAt = System.nanoTime();
+        private boolean started;
+
+        private ActiveStream(StreamingSession session, Flux<ChunkData> flux, AiStreamHandler handler) {
+            this.session = session;
+            this.flux = flux;
+            this.handler = handler;
+        }
+
+        private boolean matches(String roomId, String userId) {
+            return handler.matches(roomId, userId);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.springframework.ai.chat.messages.AssistantMessage;
+import org.springframework.ai.chat.model.ChatModel;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.model.Generation;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.core.publisher.Flux;
+
+/**
+ * 부하 테스트용 로컬 LLM 대역.
+ * 같은 프롬프트와 seed에는 항상 같은 토큰열을 만들고, 설정한 초당 토큰 수로 흘려 보낸다.
+ * 응답 길이는 평균/표준편차를 따르는 정규분포(최소 1, 최대 maxTokens)이며,
+ * errorRate 확률로 응답 도중 오류를 낸다. 긴 응답에는 코드 블록을 섞어 코드 블록 상태 처리도 거치게 한다.
+ */
+public class StubChatModel implements ChatModel {
+
+    private static final String[] VOCABULARY = {
+            "자바는", "객체", "지향", "언어입니다.", "스트림", "처리", "에서", "중요한", "것은",
+            "backpressure", "latency", "throughput", "token", "the", "model", "returns",
+            "비동기", "이벤트", "루프", "가비지", "컬렉션", "메모리", "스레드", "그리고", "결과는"
+    };
+
+    private final double tokensPerSecond;
+    private final int meanTokens;
+    private final int stddevTokens;
+    private final int maxTokens;
+    private final double errorRate;
+    private final long seed;
+
+    public StubChatModel(
+            double tokensPerSecond,
+            int meanTokens,
+            int stddevTokens,
+            int maxTokens,
+            double errorRate,
+            long seed) {
+        this.tokensPerSecond = tokensPerSecond;
+        this.meanTokens = meanTokens;
+        this.stddevTokens = stddevTokens;
+        this.maxTokens = maxTokens;
+        this.errorRate = errorRate;
+        this.seed = seed;
+    }
+
+    @Override
+    public ChatResponse call(Prompt prompt) {
+        Script script = script(prompt);
+        if (script.failAt() >= 0) {
+            throw new IllegalStateException("Stub LLM injected failure");
+        }
+        return response(String.join("", script.tokens()));
+    }
+
+    @Override
+    public Flux<ChatResponse> stream(Prompt prompt) {
+        return Flux.defer(() -> {
+            Script script = script(prompt);
+            Flux<String> tokens = Flux.fromIterable(script.tokens());
+            if (script.failAt() >= 0) {
+                tokens = tokens.take(script.failAt())
+                        .concatWith(Flux.error(new IllegalStateException("Stub LLM injected failure")));
+            }
+            if (tokensPerSecond > 0) {
+                tokens = tokens.delayElements(Duration.ofNanos((long) (1_000_000_000L / tokensPerSecond)));
+            }
+            return tokens.map(this::response);
+        });
+    }
+
+    /**
+     * 프롬프트로부터 결정적인 응답 스크립트를 만든다.
+     */
+    Script script(Prompt prompt) {
+        Random random = new Random(seed * 31 + prompt.getContents().hashCode());
+        int length = (int) Math.round(meanTokens + random.nextGaussian() * stddevTokens);
+        length = Math.max(1, Math.min(maxTokens, length));
+
+        List<String> tokens = new ArrayList<>(length);
+        int codeStart = length >= 30 ? length / 3 : -1;
+        int codeEnd = length >= 30 ? length * 2 / 3 : -1;
+        for (int i = 0; i < length; i++) {
+            if (i == codeStart) {
+                tokens.add("\n```java\n");
+            } else if (i == codeEnd) {
+                tokens.add("\n```\n");
+            } else {
+                tokens.add(VOCABULARY[random.nextInt(VOCABULARY.length)] + " ");
+            }
+        }
+        int failAt = random.nextDouble() < errorRate ? random.nextInt(length) : -1;
+        return new Script(tokens, failAt);
+    }
+
+    private ChatResponse response(String text) {
+        return new ChatResponse(List.of(new Generation(new AssistantMessage(text))));
+    }
+
+    record Script(List<String> tokens, int failAt) {
+    }
+}
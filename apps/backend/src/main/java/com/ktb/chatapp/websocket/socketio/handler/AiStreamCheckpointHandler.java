@@ -0,0 +1,46 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.message.AiStreamCheckpointRequest;
+import com.ktb.chatapp.dto.message.AiStreamCheckpointResponse;
+import com.ktb.chatapp.websocket.socketio.SocketConnectionTracker;
+import com.ktb.chatapp.websocket.socketio.ai.AiStreamManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * AI 스트리밍 체크포인트 요청 핸들러
+ * 스트리밍 도중 방에 들어온 클라이언트에게 지금까지의 전체 내용을 한 번 보내준다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AiStreamCheckpointHandler {
+
+    private final AiStreamManager streamManager;
+    private final SocketConnectionTracker connectionTracker;
+
+    @OnEvent(AI_STREAM_CHECKPOINT)
+    public void handleCheckpoint(SocketIOClient client, AiStreamCheckpointRequest data) {
+        connectionTracker.touch(client);
+        if (client.get("user") == null || data == null) {
+            return;
+        }
+
+        streamManager.find(data.getMessageId())
+                // 해당 방에 참여 중인 클라이언트에게만 응답
+                .filter(session -> client.getAllRooms().contains(session.getRoomId()))
+                .map(StreamingSession::checkpoint)
+                .ifPresent(checkpoint -> client.sendEvent(AI_MESSAGE_CHECKPOINT, new AiStreamCheckpointResponse(
+                        data.getMessageId(),
+                        checkpoint.seq(),
+                        checkpoint.content(),
+                        checkpoint.codeBlock())));
+    }
+}
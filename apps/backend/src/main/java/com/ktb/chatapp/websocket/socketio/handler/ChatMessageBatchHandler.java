@@ -0,0 +1,105 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.message.ChatMessageBatchRequest;
+import com.ktb.chatapp.dto.message.ChatMessageBatchResponse;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.service.MessageBatchService;
+import com.ktb.chatapp.service.RateLimitCheckResult;
+import com.ktb.chatapp.service.SessionService;
+import com.ktb.chatapp.service.SessionValidationResult;
+import com.ktb.chatapp.websocket.socketio.SocketConnectionTracker;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 일괄 메시지 전송 핸들러
+ * 세션, 요청 크기/방 권한, 전송 한도를 요청당 한 번 확인한 뒤 {@link MessageBatchService}에 넘기고, 항목별 결과를 보낸 클라이언트에게 돌려준다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ChatMessageBatchHandler {
+
+    private final MessageBatchService messageBatchService;
+    private final SessionService sessionService;
+    private final SocketConnectionTracker connectionTracker;
+
+    @OnEvent(CHAT_MESSAGE_BATCH)
+    public void handleChatMessageBatch(SocketIOClient client, ChatMessageBatchRequest data) {
+        connectionTracker.touch(client);
+
+        if (data == null || data.getRoom() == null || data.getRoom().isBlank()) {
+            client.sendEvent(ERROR, Map.of(
+                    "code", "MESSAGE_ERROR",
+                    "message", "채팅방 정보가 없습니다."
+            ));
+            return;
+        }
+
+        var socketUser = (SocketUser) client.get("user");
+        if (socketUser == null) {
+            client.sendEvent(ERROR, Map.of(
+                    "code", "SESSION_EXPIRED",
+                    "message", "세션이 만료되었습니다. 다시 로그인해주세요."
+            ));
+            return;
+        }
+
+        SessionValidationResult validation =
+                sessionService.validateSession(socketUser.id(), socketUser.authSessionId());
+        if (!validation.isValid()) {
+            client.sendEvent(ERROR, Map.of(
+                    "code", "SESSION_EXPIRED",
+                    "message", "세션이 만료되었습니다. 다시 로그인해주세요."
+            ));
+            return;
+        }
+
+        // 거절될 요청이 전송 한도를 쓰지 않도록 크기와 권한을 먼저 확인
+        Room room;
+        try {
+            room = messageBatchService.validate(data.getRoom(), socketUser.id(), data.getMessages());
+        } catch (RuntimeException e) {
+            client.sendEvent(ERROR, Map.of(
+                    "code", "MESSAGE_ERROR",
+                    "message", e.getMessage() != null ? e.getMessage() : "메시지 전송 중 오류가 발생했습니다."
+            ));
+            return;
+        }
+
+        int itemCount = data.getMessages().size();
+        RateLimitCheckResult rateLimitResult = messageBatchService.checkRateLimit(socketUser.id(), itemCount);
+        if (!rateLimitResult.allowed()) {
+            client.sendEvent(ERROR, Map.of(
+                    "code", "RATE_LIMIT_EXCEEDED",
+                    "message", "메시지 전송 횟수 제한을 초과했습니다. 잠시 후 다시 시도해주세요.",
+                    "retryAfter", rateLimitResult.retryAfterSeconds()
+            ));
+            log.warn("Batch rate limit exceeded for user: {}, items: {}, retryAfter: {}s",
+                    socketUser.id(), itemCount, rateLimitResult.retryAfterSeconds());
+            return;
+        }
+
+        try {
+            ChatMessageBatchResponse response =
+                    messageBatchService.ingest(room, socketUser.id(), data.getMessages());
+            client.sendEvent(CHAT_MESSAGE_BATCH_RESULT, response);
+            sessionService.updateLastActivity(socketUser.id());
+        } catch (Exception e) {
+            log.error("Message batch handling error", e);
+            client.sendEvent(ERROR, Map.of(
+                    "code", "MESSAGE_ERROR",
+                    "message", e.getMessage() != null ? e.getMessage() : "메시지 전송 중 오류가 발생했습니다."
+            ));
+        }
+    }
+}
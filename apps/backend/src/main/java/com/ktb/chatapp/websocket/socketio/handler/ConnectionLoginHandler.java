@@ -4,6 +4,7 @@ import com.corundumstudio.socketio.SocketIOClient;
 import com.corundumstudio.socketio.SocketIOServer;
 import com.corundumstudio.socketio.annotation.OnDisconnect;
 import com.ktb.chatapp.websocket.socketio.ConnectedUsers;
+import com.ktb.chatapp.websocket.socketio.RoomListDiffPublisher;
 import com.ktb.chatapp.websocket.socketio.SocketConnectionTracker;
 import com.ktb.chatapp.websocket.socketio.SocketUser;
 import com.ktb.chatapp.websocket.socketio.UserRooms;
@@ -81,7 +82,8 @@ public class ConnectionLoginHandler {
             log.info("Socket.IO user connected: {} ({}) - Total concurrent users: {}",
                     getUserName(client), userId, connectedUsers.size());
 
-            client.joinRooms(Set.of("user:" + userId, "room-list"));
+            // 채팅방 목록 변경은 기본으로 전체 구독 (joinRoomList로 범위 변경 가능)
+            client.joinRooms(Set.of("user:" + userId, RoomListDiffPublisher.ROOM_LIST));
             
         } catch (Exception e) {
             log.error("Error handling Socket.IO connection", e);
@@ -114,7 +116,10 @@ public class ConnectionLoginHandler {
                 log.warn("Socket.IO disconnect: User {} has a different active connection. Skipping cleanup.", userId);
             }
 
-            client.leaveRooms(Set.of("user:" + userId, "room-list"));
+            client.leaveRooms(Set.of(
+                    "user:" + userId,
+                    RoomListDiffPublisher.ROOM_LIST,
+                    RoomListDiffPublisher.FIRST_PAGE_ROOM_LIST));
             client.del("user");
             client.disconnect();
             
@@ -60,7 +60,7 @@ public class MessageLoader {
         List<Message> sortedMessages = messages.reversed();
         
         var messageIds = sortedMessages.stream().map(Message::getId).toList();
-        messageReadStatusService.updateReadStatus(messageIds, userId);
+        messageReadStatusService.updateReadStatus(roomId, messageIds, userId);
         
         // 메시지 응답 생성
         List<MessageResponse> messageResponses = sortedMessages.stream()
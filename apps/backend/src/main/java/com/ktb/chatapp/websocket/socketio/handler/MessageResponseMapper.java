@@ -2,6 +2,7 @@ package com.ktb.chatapp.websocket.socketio.handler;
 
 import com.ktb.chatapp.dto.FileResponse;
 import com.ktb.chatapp.dto.message.MessageResponse;
+import com.ktb.chatapp.model.File;
 import com.ktb.chatapp.model.Message;
 import com.ktb.chatapp.repository.FileRepository;
 import java.util.ArrayList;
@@ -29,11 +30,24 @@ public class MessageResponseMapper {
      * @return MessageResponse DTO
      */
     public MessageResponse mapToMessageResponse(Message message) {
+        File file = Optional.ofNullable(message.getFileId())
+                .flatMap(fileRepository::findById)
+                .orElse(null);
+        return mapToMessageResponse(message, file);
+    }
+
+    /**
+     * 첨부 파일을 이미 조회해 둔 경우(일괄 저장)의 변환. 메시지마다 파일을 다시 조회하지 않는다.
+     *
+     * @param file 메시지의 첨부 파일, 없으면 null
+     */
+    public MessageResponse mapToMessageResponse(Message message, File file) {
         MessageResponse.MessageResponseBuilder builder = MessageResponse.builder()
                 .id(message.getId())
                 .content(message.getContent())
                 .type(message.getType())
                 .timestamp(message.toTimestampMillis())
+                .seq(message.getSeq())
                 .roomId(message.getRoomId())
                 .senderId(message.getSenderId())
                 .reactions(message.getReactions() != null ?
@@ -42,16 +56,9 @@ public class MessageResponseMapper {
                         message.getReaders() : new ArrayList<>());
 
         // 파일 정보 설정
-        Optional.ofNullable(message.getFileId())
-                .flatMap(fileRepository::findById)
-                .map(file -> FileResponse.builder()
-                        .id(file.getId())
-                        .filename(file.getFilename())
-                        .originalname(file.getOriginalname())
-                        .mimetype(file.getMimetype())
-                        .size(file.getSize())
-                        .build())
-                .ifPresent(builder::file);
+        if (file != null) {
+            builder.file(FileResponse.from(file));
+        }
 
         // 메타데이터 설정
         if (message.getMetadata() != null) {
@@ -0,0 +1,100 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.message.MessageDeltaResponse;
+import com.ktb.chatapp.dto.message.MessageSyncResponse;
+import com.ktb.chatapp.dto.message.SyncSinceRequest;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.service.sync.MessageSyncService;
+import com.ktb.chatapp.websocket.socketio.SocketConnectionTracker;
+import com.ktb.chatapp.websocket.socketio.SocketUser;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 증분 동기화 핸들러
+ * 재연결한 클라이언트에게 커서 이후 새 메시지와 리액션/읽음 변경분만 보낸다
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MessageSyncHandler {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final RoomRepository roomRepository;
+    private final MessageSyncService messageSyncService;
+    private final MessageResponseMapper messageResponseMapper;
+    private final SocketConnectionTracker connectionTracker;
+
+    @OnEvent(SYNC_SINCE)
+    public void handleSyncSince(SocketIOClient client, SyncSinceRequest data) {
+        connectionTracker.touch(client);
+        String userId = getUserId(client);
+        if (userId == null) {
+            client.sendEvent(ERROR, Map.of(
+                    "code", "UNAUTHORIZED",
+                    "message", "인증이 필요합니다."
+            ));
+            return;
+        }
+        if (data == null || data.roomId() == null) {
+            client.sendEvent(ERROR, Map.of(
+                    "code", "SYNC_ERROR",
+                    "message", "채팅방 정보가 없습니다."
+            ));
+            return;
+        }
+
+        try {
+            Room room = roomRepository.findById(data.roomId()).orElse(null);
+            if (room == null || !room.getParticipantIds().contains(userId)) {
+                client.sendEvent(ERROR, Map.of(
+                        "code", "SYNC_ERROR",
+                        "message", "채팅방 접근 권한이 없습니다."
+                ));
+                return;
+            }
+
+            MessageSyncService.MessageSync sync =
+                    messageSyncService.syncSince(data.roomId(), data.sinceOrZero(), data.limit(BATCH_SIZE));
+
+            MessageSyncResponse response = MessageSyncResponse.builder()
+                    .roomId(data.roomId())
+                    .messages(sync.created().stream()
+                            .map(messageResponseMapper::mapToMessageResponse)
+                            .toList())
+                    .deltas(sync.updated().stream()
+                            .map(MessageDeltaResponse::from)
+                            .toList())
+                    .cursor(sync.cursor())
+                    .hasMore(sync.hasMore())
+                    .build();
+
+            log.debug("Messages synced - room: {}, since: {}, created: {}, updated: {}, cursor: {}",
+                    data.roomId(), data.sinceOrZero(), sync.created().size(), sync.updated().size(), sync.cursor());
+
+            client.sendEvent(MESSAGES_SYNCED, response);
+
+        } catch (Exception e) {
+            log.error("Error handling syncSince", e);
+            client.sendEvent(ERROR, Map.of(
+                    "code", "SYNC_ERROR",
+                    "message", "메시지 동기화 중 오류가 발생했습니다."
+            ));
+        }
+    }
+
+    private String getUserId(SocketIOClient client) {
+        var user = (SocketUser) client.get("user");
+        return user != null ? user.id() : null;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ktb.chatapp.websocket.socketio.handler;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.annotation.OnEvent;
+import com.ktb.chatapp.dto.rooms.RoomListSubscribeRequest;
+import com.ktb.chatapp.websocket.socketio.RoomListDiffPublisher;
+import com.ktb.chatapp.websocket.socketio.SocketConnectionTracker;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+
+/**
+ * 채팅방 목록 구독 핸들러
+ * 전체 목록 또는 첫 페이지 변경 구독 범위를 관리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "socketio.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RoomListHandler {
+
+    private final SocketConnectionTracker connectionTracker;
+
+    @OnEvent(JOIN_ROOM_LIST)
+    public void handleJoinRoomList(SocketIOClient client, RoomListSubscribeRequest data) {
+        connectionTracker.touch(client);
+        if (client.get("user") == null) {
+            return;
+        }
+
+        boolean firstPageOnly = data != null && data.isFirstPageOnly();
+        if (firstPageOnly) {
+            client.leaveRoom(RoomListDiffPublisher.ROOM_LIST);
+            client.joinRoom(RoomListDiffPublisher.FIRST_PAGE_ROOM_LIST);
+        } else {
+            client.leaveRoom(RoomListDiffPublisher.FIRST_PAGE_ROOM_LIST);
+            client.joinRoom(RoomListDiffPublisher.ROOM_LIST);
+        }
+        log.debug("Room list subscription - socketId: {}, firstPageOnly: {}", client.getSessionId(), firstPageOnly);
+    }
+
+    @OnEvent(LEAVE_ROOM_LIST)
+    public void handleLeaveRoomList(SocketIOClient client) {
+        connectionTracker.touch(client);
+        client.leaveRoom(RoomListDiffPublisher.ROOM_LIST);
+        client.leaveRoom(RoomListDiffPublisher.FIRST_PAGE_ROOM_LIST);
+    }
+}
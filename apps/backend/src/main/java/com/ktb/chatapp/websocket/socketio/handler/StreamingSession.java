@@ -21,8 +21,13 @@ public class StreamingSession {
     private long timestamp;
     @Builder.Default
     private long lastUpdate = System.currentTimeMillis();
+    // 토큰마다 문자열을 새로 만들지 않도록 누적 버퍼 사용
     @Builder.Default
-    private String content = "";
+    private StringBuilder content = new StringBuilder();
+    // 마지막으로 내보낸 프레임 번호와 그때까지 내보낸 내용 길이
+    private int frameSeq;
+    private int flushedOffset;
+    private boolean codeBlock;
 
     public AiType aiTypeEnum() {
         if (aiType == null) return null;
@@ -38,10 +43,43 @@ public class StreamingSession {
         return aiTypeEnum;
     }
 
-    public void appendContent(String contentChunk) {
-        content += contentChunk;
+    public synchronized void appendContent(String contentChunk, boolean codeBlock) {
+        content.append(contentChunk);
+        this.codeBlock = codeBlock;
         lastUpdate = System.currentTimeMillis();
     }
+
+    public synchronized String getContent() {
+        return content.toString();
+    }
+
+    /**
+     * 마지막 프레임 이후 쌓인 내용을 다음 델타 프레임으로 잘라낸다.
+     * 새로 쌓인 내용이 없으면 null.
+     */
+    public synchronized Frame nextFrame() {
+        if (content.length() == flushedOffset) {
+            return null;
+        }
+        int offset = flushedOffset;
+        flushedOffset = content.length();
+        frameSeq++;
+        return new Frame(frameSeq, offset, content.substring(offset), codeBlock);
+    }
+
+    /**
+     * 마지막으로 내보낸 프레임까지의 전체 내용.
+     * 스트리밍 도중 들어온 클라이언트는 이 내용 뒤에 seq 이후 델타를 이어 붙인다.
+     */
+    public synchronized Frame checkpoint() {
+        return new Frame(frameSeq, 0, content.substring(0, flushedOffset), codeBlock);
+    }
+
+    /**
+     * 델타 프레임. offset은 content가 시작되는 누적 내용상의 위치.
+     */
+    public record Frame(int seq, int offset, String content, boolean codeBlock) {
+    }
     
     public long generationTimeMillis() {
         return System.currentTimeMillis() - timestamp;
@@ -0,0 +1,128 @@
+package com.ktb.chatapp.controller;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.service.FileDownload;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileDownloadResponderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FileDownloadResponder responder;
+    private final AtomicInteger aborts = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        responder = new FileDownloadResponder(16, meterRegistry);
+    }
+
+    @Test
+    void respond_partialDownloadCarriesRangeHeadersAndStreamsBody() throws IOException {
+        byte[] body = new byte[100];
+        ResponseEntity<StreamingResponseBody> response = responder.respond(
+                download(body, true), "attachment", "private, no-cache", get());
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        HttpHeaders headers = response.getHeaders();
+        assertEquals("bytes 100-199/1000", headers.getFirst(HttpHeaders.CONTENT_RANGE));
+        assertEquals(100, headers.getContentLength());
+        assertEquals("bytes", headers.getFirst(HttpHeaders.ACCEPT_RANGES));
+        assertEquals("\"etag\"", headers.getETag());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertArrayEquals(body, out.toByteArray());
+        assertEquals(100.0, meterRegistry.get("file.download.bytes").tag("range", "partial").summary().totalAmount());
+        assertEquals(1, meterRegistry.get("file.download.time").tag("outcome", "completed").timer().count());
+        assertEquals(0, aborts.get());
+    }
+
+    @Test
+    void respond_abortsStorageStreamWhenClientDisconnects() {
+        ResponseEntity<StreamingResponseBody> response = responder.respond(
+                download(new byte[1000], false), "attachment", "private, no-cache", get());
+        OutputStream brokenClient = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThrows(IOException.class, () -> response.getBody().writeTo(brokenClient));
+
+        assertEquals(1, aborts.get());
+        assertEquals(1, meterRegistry.get("file.download.time").tag("outcome", "aborted").timer().count());
+    }
+
+    @Test
+    void respond_headRequestReturnsHeadersOnly() {
+        ResponseEntity<StreamingResponseBody> response = responder.respond(
+                download(new byte[1000], false), "attachment", "private, no-cache", new MockHttpServletRequest("HEAD", "/api/files/download/a.mp4"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1000, response.getHeaders().getContentLength());
+        assertNull(response.getBody());
+        assertEquals(1, aborts.get());
+    }
+
+    @Test
+    void respond_handsLocalFileToContainerSendfile() throws IOException {
+        MockHttpServletRequest request = get();
+        request.setAttribute(FileDownloadResponder.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        FileDownload download = FileDownload.builder()
+                .file(File.builder().mimetype("video/mp4").build())
+                .content(new ByteArrayInputStream(new byte[1000]))
+                .rangeStart(100)
+                .rangeEnd(199)
+                .totalLength(1000)
+                .partial(true)
+                .aborter(aborts::incrementAndGet)
+                .localPath(Path.of("/data/uploads/ab/cd/a.mp4"))
+                .build();
+
+        ResponseEntity<StreamingResponseBody> response = responder.respond(download, "inline", "private", request);
+
+        assertEquals(HttpStatus.PARTIAL_CONTENT, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals("/data/uploads/ab/cd/a.mp4", request.getAttribute(FileDownloadResponder.SENDFILE_FILENAME_ATTR));
+        assertEquals(100L, request.getAttribute(FileDownloadResponder.SENDFILE_START_ATTR));
+        assertEquals(200L, request.getAttribute(FileDownloadResponder.SENDFILE_END_ATTR));
+        assertEquals(1, aborts.get());
+    }
+
+    private static MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/api/files/download/a.mp4");
+    }
+
+    private FileDownload download(byte[] body, boolean partial) {
+        return FileDownload.builder()
+                .file(File.builder().mimetype("video/mp4").build())
+                .content(new ByteArrayInputStream(body))
+                .rangeStart(partial ? 100 : 0)
+                .rangeEnd(partial ? 199 : body.length - 1)
+                .totalLength(partial ? 1000 : body.length)
+                .etag("\"etag\"")
+                .partial(partial)
+                .aborter(aborts::incrementAndGet)
+                .build();
+    }
+}
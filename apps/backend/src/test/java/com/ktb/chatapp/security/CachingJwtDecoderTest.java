@@ -0,0 +1,104 @@
+package com.ktb.chatapp.security;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock private JwtDecoder delegate;
+
+    @Test
+    void decode_reusesVerifiedJwtForSameToken() {
+        Jwt jwt = jwt(NOW.plusSeconds(60));
+        when(delegate.decode("token")).thenReturn(jwt);
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, clockAt(NOW));
+
+        assertSame(jwt, decoder.decode("token"));
+        assertSame(jwt, decoder.decode("token"));
+
+        verify(delegate, times(1)).decode("token");
+        assertEquals(1, decoder.getHitCount());
+    }
+
+    @Test
+    void decode_delegatesAgainAfterExpiry() {
+        when(delegate.decode("token"))
+                .thenReturn(jwt(NOW.plusSeconds(60)))
+                .thenThrow(new BadJwtException("expired"));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 10, clockAt(NOW));
+        decoder.decode("token");
+
+        ReflectionTestUtils.setField(decoder, "clock", clockAt(NOW.plusSeconds(61)));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("token"));
+        verify(delegate, times(2)).decode("token");
+        assertEquals(0, decoder.size());
+    }
+
+    @Test
+    void decode_doesNotCacheInvalidTokensOrExceedMaxEntries() {
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("invalid"));
+        when(delegate.decode(startsWith("token-"))).thenAnswer(invocation -> jwt(NOW.plusSeconds(60)));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 2, clockAt(NOW));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+        for (int i = 0; i < 5; i++) {
+            decoder.decode("token-" + i);
+        }
+
+        verify(delegate, times(2)).decode("bad");
+        assertEquals(2, decoder.size());
+    }
+
+    @Test
+    void decode_evictsLeastRecentlyUsedWhenFull() {
+        when(delegate.decode(startsWith("token-"))).thenAnswer(invocation -> jwt(NOW.plusSeconds(60)));
+        CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 2, clockAt(NOW));
+
+        decoder.decode("token-0");
+        decoder.decode("token-1");
+        decoder.decode("token-0");
+        decoder.decode("token-2");
+        decoder.decode("token-0");
+        decoder.decode("token-2");
+        decoder.decode("token-1");
+
+        verify(delegate, times(1)).decode("token-0");
+        verify(delegate, times(1)).decode("token-2");
+        verify(delegate, times(2)).decode("token-1");
+        assertEquals(2, decoder.size());
+    }
+
+    private static Jwt jwt(Instant expiresAt) {
+        return Jwt.withTokenValue("token")
+                .header("alg", "HS256")
+                .subject("user@example.com")
+                .claim("userId", "user-1")
+                .claim("sessionId", "session-1")
+                .issuedAt(expiresAt.minusSeconds(3600))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static Clock clockAt(Instant instant) {
+        return Clock.fixed(instant, ZoneOffset.UTC);
+    }
+}
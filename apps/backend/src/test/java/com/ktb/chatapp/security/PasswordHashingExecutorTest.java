@@ -0,0 +1,78 @@
+package com.ktb.chatapp.security;
+
+import com.ktb.chatapp.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHashingExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordHashingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new PasswordHashingExecutor(1, 1, 5_000, 3, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void execute_returnsResultAndRecordsTimings() {
+        assertEquals("hashed", executor.execute(() -> "hashed"));
+
+        assertEquals(1, meterRegistry.get("auth.password.hash.time").timer().count());
+        assertEquals(1, meterRegistry.get("auth.password.queue.wait").timer().count());
+    }
+
+    @Test
+    void execute_rethrowsAuthenticationFailure() {
+        assertThrows(BadCredentialsException.class, () -> executor.execute(() -> {
+            throw new BadCredentialsException("bad");
+        }));
+    }
+
+    @Test
+    void execute_rejectsWhenQueueIsFull() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> busy = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            running.countDown();
+            release.await();
+            return "first";
+        }));
+        assertTrue(running.await(1, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> "second"));
+        waitForQueuedTask();
+
+        PasswordHashingRejectedException rejected = assertThrows(PasswordHashingRejectedException.class,
+                () -> executor.execute(() -> "third"));
+
+        assertEquals(3, rejected.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+        release.countDown();
+        assertEquals("first", busy.get(1, TimeUnit.SECONDS));
+        assertEquals("second", queued.get(1, TimeUnit.SECONDS));
+    }
+
+    private void waitForQueuedTask() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 1_000;
+        while (meterRegistry.get("auth.password.queue.size").gauge().value() < 1
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FileAccessResolverTest {
+
+    private static final String FILENAME = "1700000000000_abcd.png";
+
+    private FileRepository fileRepository;
+    private MessageRepository messageRepository;
+    private RoomRepository roomRepository;
+    private FileAccessResolver resolver;
+    private File file;
+
+    @BeforeEach
+    void setUp() {
+        fileRepository = mock(FileRepository.class);
+        messageRepository = mock(MessageRepository.class);
+        roomRepository = mock(RoomRepository.class);
+        resolver = new FileAccessResolver(fileRepository, messageRepository, roomRepository);
+        ReflectionTestUtils.setField(resolver, "grantTtlMs", 60_000L);
+        ReflectionTestUtils.setField(resolver, "membershipTtlMs", 60_000L);
+        ReflectionTestUtils.setField(resolver, "maxEntries", 100);
+
+        file = File.builder().id("file-1").filename(FILENAME).build();
+        Message message = new Message();
+        message.setRoomId("room-1");
+        when(fileRepository.findByFilename(FILENAME)).thenReturn(Optional.of(file));
+        when(messageRepository.findByFileId("file-1")).thenReturn(Optional.of(message));
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room("user-1", "user-2")));
+    }
+
+    @Test
+    void authorize_servesRepeatedDownloadsFromCache() {
+        for (int i = 0; i < 5; i++) {
+            assertSame(file, resolver.authorize(FILENAME, i % 2 == 0 ? "user-1" : "user-2"));
+        }
+
+        verify(fileRepository, times(1)).findByFilename(FILENAME);
+        verify(messageRepository, times(1)).findByFileId("file-1");
+        verify(roomRepository, times(1)).findById("room-1");
+    }
+
+    @Test
+    void authorize_reloadsMembershipForUnknownUser() {
+        resolver.authorize(FILENAME, "user-1");
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room("user-1", "user-2", "user-3")));
+
+        assertSame(file, resolver.authorize(FILENAME, "user-3"));
+
+        verify(roomRepository, times(2)).findById("room-1");
+    }
+
+    @Test
+    void authorize_deniesParticipantAfterLeaveEvent() {
+        resolver.authorize(FILENAME, "user-2");
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room("user-1")));
+
+        resolver.onRoomMembershipChanged(new RoomMembershipChangedEvent(this, "room-1", "user-2", false));
+
+        assertThrows(RuntimeException.class, () -> resolver.authorize(FILENAME, "user-2"));
+    }
+
+    @Test
+    void authorize_doesNotCacheFileWithoutMessage() {
+        when(messageRepository.findByFileId("file-1")).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> resolver.authorize(FILENAME, "user-1"));
+        assertThrows(RuntimeException.class, () -> resolver.authorize(FILENAME, "user-1"));
+
+        verify(fileRepository, times(2)).findByFilename(FILENAME);
+    }
+
+    @Test
+    void evict_dropsCachedDecision() {
+        resolver.authorize(FILENAME, "user-1");
+
+        resolver.evict(FILENAME);
+        resolver.authorize(FILENAME, "user-1");
+
+        verify(fileRepository, times(2)).findByFilename(FILENAME);
+    }
+
+    private static Room room(String... participantIds) {
+        return Room.builder()
+                .id("room-1")
+                .participantIds(Set.of(participantIds))
+                .build();
+    }
+}
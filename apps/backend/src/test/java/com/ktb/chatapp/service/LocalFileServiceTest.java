@@ -0,0 +1,228 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.FileBlob;
+import com.ktb.chatapp.repository.FileRepository;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpRange;
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LocalFileServiceTest {
+
+    private static final byte[] CONTENT = "0123456789abcdefghij".getBytes(StandardCharsets.US_ASCII);
+    private static final String CONTENT_SHA256 = sha256(CONTENT);
+
+    @TempDir
+    Path root;
+
+    private FileRepository fileRepository;
+    private FileAccessResolver fileAccessResolver;
+    private FileBlobService fileBlobService;
+    private LocalFileService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fileRepository = mock(FileRepository.class);
+        fileAccessResolver = mock(FileAccessResolver.class);
+        fileBlobService = mock(FileBlobService.class);
+        service = new LocalFileService(fileRepository, fileAccessResolver, fileBlobService, root.toString());
+        service.init();
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void uploadFile_writesNewContentIntoShardedBlob() throws IOException {
+        when(fileBlobService.lookup(any(), anyLong())).thenReturn(Optional.empty());
+        when(fileBlobService.register(any(), any(), anyLong())).thenAnswer(invocation -> new FileBlobService.Registration(
+                FileBlob.builder()
+                        .hash(invocation.getArgument(0))
+                        .path(invocation.getArgument(1))
+                        .refCount(1)
+                        .build(),
+                true));
+
+        FileUploadResult result = service.uploadFile(
+                new MockMultipartFile("file", "notes.pdf", "application/pdf", CONTENT), "user-1");
+
+        File saved = result.getFile();
+        assertEquals(CONTENT_SHA256, saved.getContentHash());
+        assertTrue(saved.getPath().matches("uploads/[0-9a-f]{2}/[0-9a-f]{2}/" + CONTENT_SHA256 + "-[0-9a-f]{8}"));
+        assertArrayEquals(CONTENT, Files.readAllBytes(root.resolve(saved.getPath())));
+        assertNoTempFilesLeft();
+    }
+
+    @Test
+    void uploadFile_reusesExistingBlobForDuplicateContent() throws IOException {
+        when(fileBlobService.lookup(CONTENT_SHA256, CONTENT.length)).thenReturn(Optional.of(FileBlob.builder()
+                .hash(CONTENT_SHA256)
+                .path("uploads/00/00/existing")
+                .refCount(2)
+                .build()));
+
+        FileUploadResult result = service.uploadFile(
+                new MockMultipartFile("file", "copy.pdf", "application/pdf", CONTENT), "user-2");
+
+        assertEquals("uploads/00/00/existing", result.getFile().getPath());
+        verify(fileBlobService, never()).register(any(), any(), anyLong());
+        assertNoTempFilesLeft();
+    }
+
+    @Test
+    void uploadFile_releasesNewBlobWhenMetadataSaveFails() throws IOException {
+        AtomicReference<FileBlob> registered = new AtomicReference<>();
+        when(fileBlobService.lookup(any(), anyLong())).thenReturn(Optional.empty());
+        when(fileBlobService.register(any(), any(), anyLong())).thenAnswer(invocation -> {
+            registered.set(FileBlob.builder()
+                    .hash(invocation.getArgument(0))
+                    .path(invocation.getArgument(1))
+                    .refCount(1)
+                    .build());
+            return new FileBlobService.Registration(registered.get(), true);
+        });
+        when(fileRepository.save(any(File.class))).thenThrow(new IllegalStateException("mongo down"));
+        when(fileBlobService.release(CONTENT_SHA256)).thenAnswer(invocation -> Optional.of(registered.get()));
+
+        assertThrows(RuntimeException.class, () -> service.uploadFile(
+                new MockMultipartFile("file", "notes.pdf", "application/pdf", CONTENT), "user-1"));
+
+        verify(fileBlobService).release(CONTENT_SHA256);
+        assertFalse(Files.exists(root.resolve(registered.get().getPath())));
+        assertNoTempFilesLeft();
+    }
+
+    @Test
+    void deleteFile_removesBlobOnlyWithLastReference() throws IOException {
+        File file = stored("a.txt");
+        file.setContentHash(CONTENT_SHA256);
+        when(fileBlobService.release(CONTENT_SHA256)).thenReturn(Optional.empty());
+
+        service.deleteFile("file-1", "user-1");
+        assertTrue(Files.exists(root.resolve(file.getPath())));
+
+        // previews가 기록되지 않았어도 blob 경로에서 나온 파생본까지 지운다
+        Path thumb = root.resolve(file.getPath() + ".thumb.jpg");
+        Files.write(thumb, CONTENT);
+        when(fileBlobService.release(CONTENT_SHA256)).thenReturn(Optional.of(new FileBlob()));
+        service.deleteFile("file-1", "user-1");
+        assertFalse(Files.exists(root.resolve(file.getPath())));
+        assertFalse(Files.exists(thumb));
+    }
+
+    @Test
+    void openDownload_readsRequestedRangeFromChannel() throws IOException {
+        File file = stored("a.txt");
+
+        FileDownload download = service.openDownload("a.txt", "user-1", HttpRange.createByteRange(5, 9), null);
+
+        assertTrue(download.isPartial());
+        assertEquals(5, download.getContentLength());
+        assertEquals(root.resolve(file.getPath()), download.getLocalPath());
+        try (var content = download.getContent()) {
+            assertEquals("56789", new String(content.readAllBytes(), StandardCharsets.US_ASCII));
+        }
+    }
+
+    @Test
+    void openDownload_servesFullFileWhenIfRangeDoesNotMatch() throws IOException {
+        stored("a.txt");
+
+        FileDownload download = service.openDownload("a.txt", "user-1", HttpRange.createByteRange(5, 9), "\"stale\"");
+
+        assertFalse(download.isPartial());
+        try (var content = download.getContent()) {
+            assertArrayEquals(CONTENT, content.readAllBytes());
+        }
+    }
+
+    @Test
+    void openDownload_honoursIfRangeMatchingCurrentEtag() throws IOException {
+        stored("a.txt");
+        FileDownload probe = service.openDownload("a.txt", "user-1", null, null);
+        probe.abort();
+        String etag = probe.getEtag();
+
+        FileDownload download = service.openDownload("a.txt", "user-1", HttpRange.createByteRange(0, 3), etag);
+
+        assertTrue(download.isPartial());
+        download.abort();
+    }
+
+    @Test
+    void storeFile_returnsPublicPathAndDeleteStoredFileRemovesIt() {
+        String url = service.storeFile(new MockMultipartFile("file", "me.png", "image/png", CONTENT), "profiles");
+
+        assertTrue(url.startsWith("/uploads/profiles/"));
+        Path stored = root.resolve(url.substring(LocalFileService.PUBLIC_PATH_PREFIX.length()));
+        assertTrue(Files.exists(stored));
+
+        service.deleteStoredFile(url);
+
+        assertFalse(Files.exists(stored));
+    }
+
+    @Test
+    void openDownload_rejectsPathOutsideRoot() {
+        when(fileAccessResolver.authorize(eq("evil.txt"), any())).thenReturn(File.builder()
+                .filename("evil.txt")
+                .mimetype("text/plain")
+                .path("../outside.txt")
+                .build());
+
+        assertThrows(RuntimeException.class, () -> service.openDownload("evil.txt", "user-1", null, null));
+    }
+
+    private void assertNoTempFilesLeft() throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            assertTrue(paths.noneMatch(path -> path.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    private File stored(String filename) throws IOException {
+        File file = File.builder()
+                .id("file-1")
+                .filename(filename)
+                .mimetype("text/plain")
+                .size(CONTENT.length)
+                .path(LocalFileService.shardedPath(filename))
+                .user("user-1")
+                .build();
+        Path path = root.resolve(file.getPath());
+        Files.createDirectories(path.getParent());
+        Files.write(path, CONTENT);
+        when(fileAccessResolver.authorize(eq(filename), any())).thenReturn(file);
+        when(fileRepository.findById("file-1")).thenReturn(Optional.of(file));
+        return file;
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return FileBlobService.sha256(new ByteArrayInputStream(content));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.message.ChatMessageBatchResponse;
+import com.ktb.chatapp.dto.message.ChatMessageRequest;
+import com.ktb.chatapp.event.MessagesCreatedEvent;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import com.ktb.chatapp.util.BannedWordChecker;
+import com.ktb.chatapp.websocket.socketio.ai.AiService;
+import com.ktb.chatapp.websocket.socketio.handler.MessageResponseMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MessageBatchServiceTest {
+
+    private MongoTemplate mongoTemplate;
+    private RoomRepository roomRepository;
+    private FileRepository fileRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private MessageBatchService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        roomRepository = mock(RoomRepository.class);
+        fileRepository = mock(FileRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        ObjectProvider<AiService> aiServiceProvider = mock(ObjectProvider.class);
+
+        service = new MessageBatchService(mongoTemplate, roomRepository, fileRepository,
+                new BannedWordChecker(Set.of("badword")), mock(RateLimitService.class),
+                new MessageResponseMapper(fileRepository), eventPublisher, aiServiceProvider,
+                new SimpleMeterRegistry(), 3);
+
+        Room room = new Room();
+        room.setId("room-1");
+        room.getParticipantIds().add("user-1");
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(room));
+
+        // 리스너가 하는 것처럼 id와 seq를 목록 순서대로 붙인다
+        when(mongoTemplate.insert(anyCollection(), eq(Message.class))).thenAnswer(invocation -> {
+            Collection<Message> batch = invocation.getArgument(0);
+            List<Message> saved = new ArrayList<>();
+            long seq = 1;
+            for (Message message : batch) {
+                message.setId("m" + seq);
+                message.setSeq(seq++);
+                saved.add(message);
+            }
+            return saved;
+        });
+    }
+
+    @Test
+    void savesAcceptedItemsInOneInsertAndReportsEachItem() {
+        ChatMessageBatchResponse response = service.ingest("room-1", "user-1", List.of(
+                text("hello"),
+                text("this has badword"),
+                text("world")));
+
+        assertEquals(2, response.getAccepted());
+        assertEquals(1, response.getRejected());
+        List<ChatMessageBatchResponse.ItemResult> results = response.getResults();
+        assertTrue(results.get(0).isAccepted());
+        assertEquals(1L, results.get(0).getSeq());
+        assertFalse(results.get(1).isAccepted());
+        assertEquals("MESSAGE_REJECTED", results.get(1).getCode());
+        assertEquals("m2", results.get(2).getMessageId());
+        verify(mongoTemplate, times(1)).insert(anyCollection(), eq(Message.class));
+
+        ArgumentCaptor<MessagesCreatedEvent> event = ArgumentCaptor.forClass(MessagesCreatedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(List.of("hello", "world"),
+                event.getValue().getMessages().stream().map(m -> m.getContent()).toList());
+    }
+
+    @Test
+    void givesEachMessageADistinctTimestamp() {
+        service.ingest("room-1", "user-1", List.of(text("a"), text("b")));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Message>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(mongoTemplate).insert(saved.capture(), eq(Message.class));
+        List<Message> messages = new ArrayList<>(saved.getValue());
+        assertTrue(messages.get(0).getTimestamp().isBefore(messages.get(1).getTimestamp()));
+    }
+
+    @Test
+    void fileItemsUseOneLookupAndOnlyTheSendersFiles() {
+        File own = File.builder().id("f1").user("user-1").mimetype("image/png").size(10).originalname("a.png").build();
+        File other = File.builder().id("f2").user("user-2").mimetype("image/png").size(10).originalname("b.png").build();
+        when(fileRepository.findAllById(any())).thenReturn(List.of(own, other));
+
+        ChatMessageBatchResponse response = service.ingest("room-1", "user-1", List.of(
+                file("f1"), file("f2")));
+
+        assertTrue(response.getResults().get(0).isAccepted());
+        assertEquals("FILE_ERROR", response.getResults().get(1).getCode());
+        verify(fileRepository, times(1)).findAllById(any());
+        verify(fileRepository, never()).findById(any());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Message>> saved = ArgumentCaptor.forClass(Collection.class);
+        verify(mongoTemplate).insert(saved.capture(), eq(Message.class));
+        Message message = saved.getValue().iterator().next();
+        assertEquals(MessageType.file, message.getType());
+        assertEquals("a.png", message.getMetadata().get("originalName"));
+    }
+
+    @Test
+    void nothingIsWrittenWhenEveryItemIsRejected() {
+        ChatMessageBatchResponse response = service.ingest("room-1", "user-1", List.of(text("   ")));
+
+        assertEquals(0, response.getAccepted());
+        assertEquals("EMPTY_MESSAGE", response.getResults().get(0).getCode());
+        verify(mongoTemplate, never()).insert(anyCollection(), eq(Message.class));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void rejectsNonMembersAndOversizedBatches() {
+        assertThrows(RuntimeException.class,
+                () -> service.ingest("room-1", "intruder", List.of(text("hi"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> service.ingest("room-1", "user-1", List.of(text("1"), text("2"), text("3"), text("4"))));
+        verify(mongoTemplate, never()).insert(anyCollection(), eq(Message.class));
+    }
+
+    private ChatMessageRequest text(String content) {
+        return ChatMessageRequest.builder().type("text").content(content).build();
+    }
+
+    private ChatMessageRequest file(String fileId) {
+        return ChatMessageRequest.builder().type("file").fileData(Map.of("_id", fileId)).build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.PageMetadata;
+import com.ktb.chatapp.dto.PageRequest;
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
+import com.ktb.chatapp.model.Room;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RoomDirectoryCacheTest {
+
+    private RoomDirectoryCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new RoomDirectoryCache();
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+    }
+
+    @Test
+    void get_reusesLoadedPageForSameKey() {
+        RoomDirectoryCache.PageKey key = RoomDirectoryCache.PageKey.from(pageRequest(" Project "));
+
+        RoomDirectoryCache.SharedPage first = cache.get(key, this::load);
+        RoomDirectoryCache.SharedPage second = cache.get(
+            RoomDirectoryCache.PageKey.from(pageRequest("project")), this::load);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void membershipChange_invalidatesCachedPages() {
+        RoomDirectoryCache.PageKey key = RoomDirectoryCache.PageKey.from(pageRequest(null));
+        cache.get(key, this::load);
+
+        cache.onRoomMembershipChanged(new RoomMembershipChangedEvent(this, "room-1", "user-1", true));
+        cache.get(key, this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_doesNotGrowBeyondMaxEntries() {
+        for (int i = 0; i < 5; i++) {
+            cache.get(RoomDirectoryCache.PageKey.from(pageRequest("room" + i)), this::load);
+        }
+
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void cursor_roundTripsAndRejectsDifferentSort() {
+        Room room = Room.builder()
+            .id("65a1b2c3d4e5f60718293a4b")
+            .name("a|b")
+            .createdAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+            .build();
+
+        String byName = RoomDirectoryCursor.encode("name", "asc", room);
+        RoomDirectoryCursor decoded = RoomDirectoryCursor.decode(byName, "name", "asc").orElseThrow();
+        assertEquals("a|b", decoded.value());
+        assertEquals(room.getId(), decoded.id());
+
+        String byCreatedAt = RoomDirectoryCursor.encode("createdAt", "desc", room);
+        assertEquals(room.getCreatedAt(),
+            RoomDirectoryCursor.decode(byCreatedAt, "createdAt", "desc").orElseThrow().value());
+        assertTrue(RoomDirectoryCursor.decode(byCreatedAt, "createdAt", "asc").isEmpty());
+        assertTrue(RoomDirectoryCursor.decode("not-a-cursor", "name", "asc").isEmpty());
+    }
+
+    private RoomDirectoryCache.SharedPage load() {
+        loads.incrementAndGet();
+        return new RoomDirectoryCache.SharedPage(List.of(), PageMetadata.builder().build(), "hash");
+    }
+
+    private PageRequest pageRequest(String search) {
+        PageRequest pageRequest = new PageRequest();
+        pageRequest.setSearch(search);
+        return pageRequest;
+    }
+}
@@ -0,0 +1,164 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.dto.file.DirectUploadRequest;
+import com.ktb.chatapp.dto.file.DirectUploadResponse;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.repository.FileRepository;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3DirectUploadServiceTest {
+
+    private static final String BUCKET = "ktb-chat-files";
+
+    private S3Client s3Client;
+    private S3Presigner s3Presigner;
+    private FileRepository fileRepository;
+    private S3DirectUploadService service;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        fileRepository = mock(FileRepository.class);
+        // docker-compose.dev.yaml의 MinIO와 같은 로컬 S3 호환 엔드포인트로 서명만 한다
+        s3Presigner = S3Presigner.builder()
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("minio", "minio123")))
+                .region(Region.AP_NORTHEAST_2)
+                .endpointOverride(URI.create("http://localhost:9000"))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build())
+                .build();
+        service = new S3DirectUploadService(s3Client, s3Presigner, fileRepository, BUCKET, 300);
+        when(fileRepository.findByFilename(any())).thenReturn(Optional.empty());
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Presigner.close();
+    }
+
+    @Test
+    void createUpload_signsPutWithContentTypeAndUploaderMetadata() {
+        DirectUploadResponse upload = service.createUpload(request("발표 자료.pdf", "application/pdf", 1024), "user-1");
+
+        assertEquals("PUT", upload.getMethod());
+        assertTrue(upload.getUploadUrl().startsWith("http://localhost:9000/" + BUCKET + "/uploads/" + upload.getFilename()));
+        assertTrue(upload.getUploadUrl().contains("X-Amz-Signature="));
+        assertTrue(upload.getFilename().endsWith(".pdf"));
+        assertEquals("application/pdf", upload.getHeaders().get("content-type"));
+        assertEquals("user-1", upload.getHeaders().get("x-amz-meta-uploader"));
+        assertFalse(upload.getHeaders().containsKey("host"));
+    }
+
+    @Test
+    void createUpload_rejectsOversizedFileBeforeSigning() {
+        assertThrows(RuntimeException.class,
+                () -> service.createUpload(request("photo.png", "image/png", 11L * 1024 * 1024), "user-1"));
+    }
+
+    @Test
+    void confirmUpload_createsFileFromObjectMetadata() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(head(
+                "video/mp4", 5_000_000L, "user-1", "%EA%B0%95%EC%9D%98.mp4"));
+
+        File file = service.confirmUpload("1700000000000_abcd.mp4", "user-1");
+
+        assertEquals("uploads/1700000000000_abcd.mp4", file.getPath());
+        assertEquals("강의.mp4", file.getOriginalname());
+        assertEquals("video/mp4", file.getMimetype());
+        assertEquals(5_000_000L, file.getSize());
+        assertEquals("user-1", file.getUser());
+    }
+
+    @Test
+    void confirmUpload_rejectsOtherUploader() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(head(
+                "image/png", 100L, "user-2", "a.png"));
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> service.confirmUpload("1700000000000_abcd.png", "user-1"));
+
+        assertTrue(e.getMessage().contains("권한"));
+        verify(fileRepository, never()).save(any());
+    }
+
+    @Test
+    void confirmUpload_deletesObjectWhenStoredTypeIsNotAllowed() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(head(
+                "text/html", 100L, "user-1", "a.png"));
+
+        assertThrows(RuntimeException.class, () -> service.confirmUpload("1700000000000_abcd.png", "user-1"));
+
+        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
+        verify(fileRepository, never()).save(any());
+    }
+
+    @Test
+    void confirmUpload_reportsMissingObject() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenThrow(NoSuchKeyException.builder().build());
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> service.confirmUpload("1700000000000_abcd.png", "user-1"));
+
+        assertTrue(e.getMessage().contains("찾을 수 없습니다"));
+    }
+
+    @Test
+    void confirmUpload_rejectsAlreadyConfirmedUpload() {
+        when(fileRepository.findByFilename("1700000000000_abcd.png")).thenReturn(Optional.of(new File()));
+
+        assertThrows(IllegalStateException.class, () -> service.confirmUpload("1700000000000_abcd.png", "user-1"));
+    }
+
+    @Test
+    void confirmUpload_mapsConcurrentConfirmToConflict() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(head(
+                "image/png", 100L, "user-1", "a.png"));
+        when(fileRepository.save(any())).thenThrow(new DuplicateKeyException("E11000 duplicate key"));
+
+        assertThrows(IllegalStateException.class, () -> service.confirmUpload("1700000000000_abcd.png", "user-1"));
+    }
+
+    private static DirectUploadRequest request(String filename, String mimetype, long size) {
+        return DirectUploadRequest.builder()
+                .filename(filename)
+                .mimetype(mimetype)
+                .size(size)
+                .build();
+    }
+
+    private static HeadObjectResponse head(String contentType, long size, String uploader, String originalName) {
+        return HeadObjectResponse.builder()
+                .contentType(contentType)
+                .contentLength(size)
+                .metadata(Map.of(
+                        S3DirectUploadService.UPLOADER_METADATA, uploader,
+                        S3DirectUploadService.ORIGINAL_NAME_METADATA, originalName))
+                .build();
+    }
+}
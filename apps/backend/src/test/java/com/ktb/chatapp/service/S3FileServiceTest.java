@@ -0,0 +1,266 @@
+package com.ktb.chatapp.service;
+
+import com.ktb.chatapp.exception.FileRangeNotSatisfiableException;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.FileBlob;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.FileRepository;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.repository.RoomRepository;
+import java.io.ByteArrayInputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.http.HttpRange;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3FileServiceTest {
+
+    private static final String FILENAME = "1700000000000_abcd.mp4";
+    private static final String ETAG = "\"9b2cf535f27731c974343645a3985328\"";
+
+    private S3Client s3Client;
+    private FileRepository fileRepository;
+    private FileBlobService fileBlobService;
+    private S3FileService service;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        fileRepository = mock(FileRepository.class);
+        MessageRepository messageRepository = mock(MessageRepository.class);
+        RoomRepository roomRepository = mock(RoomRepository.class);
+        fileBlobService = mock(FileBlobService.class);
+        service = new S3FileService(s3Client, mock(S3Presigner.class), fileRepository,
+                new FileAccessResolver(fileRepository, messageRepository, roomRepository), fileBlobService);
+        ReflectionTestUtils.setField(service, "bucketName", "ktb-chat-files");
+
+        File file = File.builder()
+                .id("file-1")
+                .filename(FILENAME)
+                .originalname("강의.mp4")
+                .mimetype("video/mp4")
+                .size(1000)
+                .path("uploads/" + FILENAME)
+                .build();
+        Message message = new Message();
+        message.setRoomId("room-1");
+        when(fileRepository.findByFilename(FILENAME)).thenReturn(Optional.of(file));
+        when(messageRepository.findByFileId("file-1")).thenReturn(Optional.of(message));
+        when(roomRepository.findById("room-1")).thenReturn(Optional.of(Room.builder()
+                .id("room-1")
+                .participantIds(Set.of("user-1"))
+                .build()));
+    }
+
+    @Test
+    void openDownload_mapsRangeToRangedGetObject() {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(object(100, "bytes 100-199/1000"));
+
+        FileDownload download = service.openDownload(FILENAME, "user-1", range("bytes=100-199"), null);
+
+        assertEquals("bytes=100-199", capturedRequests().get(0).range());
+        assertTrue(download.isPartial());
+        assertEquals(100, download.getRangeStart());
+        assertEquals(199, download.getRangeEnd());
+        assertEquals(1000, download.getTotalLength());
+        assertEquals(100, download.getContentLength());
+        assertEquals(ETAG, download.getEtag());
+    }
+
+    @Test
+    void openDownload_resolvesSuffixRangeAgainstFileSize() {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(object(200, "bytes 800-999/1000"));
+
+        service.openDownload(FILENAME, "user-1", range("bytes=-200"), null);
+
+        assertEquals("bytes=800-999", capturedRequests().get(0).range());
+    }
+
+    @Test
+    void openDownload_sendsStrongIfRangeAsIfMatch() {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(object(100, "bytes 0-99/1000"));
+
+        service.openDownload(FILENAME, "user-1", range("bytes=0-99"), ETAG);
+
+        assertEquals(ETAG, capturedRequests().get(0).ifMatch());
+    }
+
+    @Test
+    void openDownload_sendsDateIfRangeAsIfUnmodifiedSince() {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(object(100, "bytes 0-99/1000"));
+
+        service.openDownload(FILENAME, "user-1", range("bytes=0-99"), "Wed, 21 Oct 2026 07:28:00 GMT");
+
+        assertEquals(Instant.parse("2026-10-21T07:28:00Z"), capturedRequests().get(0).ifUnmodifiedSince());
+    }
+
+    @Test
+    void openDownload_fallsBackToFullObjectWhenIfRangeDoesNotMatch() {
+        when(s3Client.getObject(any(GetObjectRequest.class)))
+                .thenThrow(S3Exception.builder().statusCode(412).message("PreconditionFailed").build())
+                .thenReturn(object(1000, null));
+
+        FileDownload download = service.openDownload(FILENAME, "user-1", range("bytes=0-99"), ETAG);
+
+        List<GetObjectRequest> requests = capturedRequests(2);
+        assertNull(requests.get(1).range());
+        assertNull(requests.get(1).ifMatch());
+        assertFalse(download.isPartial());
+        assertEquals(1000, download.getContentLength());
+    }
+
+    @Test
+    void openDownload_ignoresRangeForWeakIfRange() {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(object(1000, null));
+
+        service.openDownload(FILENAME, "user-1", range("bytes=0-99"), "W/" + ETAG);
+
+        assertNull(capturedRequests().get(0).range());
+    }
+
+    @Test
+    void openDownload_rejectsRangeBeyondFileSize() {
+        FileRangeNotSatisfiableException e = assertThrows(FileRangeNotSatisfiableException.class,
+                () -> service.openDownload(FILENAME, "user-1", range("bytes=5000-"), null));
+
+        assertEquals(1000, e.getTotalLength());
+    }
+
+    @Test
+    void openDownload_rejectsNonParticipant() {
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> service.openDownload(FILENAME, "user-2", null, null));
+
+        assertTrue(e.getMessage().contains("권한"));
+    }
+
+    @Test
+    void uploadFile_pointsDuplicateContentAtExistingBlobWithoutUploading() {
+        when(fileBlobService.lookup(any(), anyLong())).thenReturn(Optional.of(FileBlob.builder()
+                .hash("h")
+                .path("uploads/existing-blob")
+                .refCount(2)
+                .build()));
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        FileUploadResult result = service.uploadFile(
+                new MockMultipartFile("file", "slides.pdf", "application/pdf", new byte[]{1, 2, 3}), "user-1");
+
+        assertEquals("uploads/existing-blob", result.getFile().getPath());
+        assertEquals("039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81", result.getFile().getContentHash());
+        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+    }
+
+    @Test
+    void uploadFile_releasesBlobReferenceWhenMetadataSaveFails() {
+        when(fileBlobService.lookup(any(), anyLong())).thenReturn(Optional.of(FileBlob.builder()
+                .hash("h")
+                .path("uploads/existing-blob")
+                .refCount(2)
+                .build()));
+        when(fileRepository.save(any(File.class))).thenThrow(new IllegalStateException("mongo down"));
+        when(fileBlobService.release(any())).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () -> service.uploadFile(
+                new MockMultipartFile("file", "slides.pdf", "application/pdf", new byte[]{1, 2, 3}), "user-1"));
+
+        verify(fileBlobService).release("039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81");
+        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    void deleteFile_keepsObjectWhileOtherUploadsReferenceIt() {
+        File shared = File.builder()
+                .id("file-2")
+                .filename("copy.pdf")
+                .path("uploads/existing-blob")
+                .contentHash("h")
+                .user("user-1")
+                .build();
+        when(fileRepository.findById("file-2")).thenReturn(Optional.of(shared));
+        when(fileBlobService.release("h")).thenReturn(Optional.empty());
+
+        service.deleteFile("file-2", "user-1");
+
+        verify(fileRepository).delete(shared);
+        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+    }
+
+    @Test
+    void deleteFile_releasesBlobBeforeDeletingDocumentAndRemovesDerivedPreviews() {
+        File last = File.builder()
+                .id("file-3")
+                .filename("photo.jpg")
+                .path("uploads/blob-1")
+                .contentHash("h")
+                .user("user-1")
+                .build();
+        when(fileRepository.findById("file-3")).thenReturn(Optional.of(last));
+        when(fileBlobService.release("h")).thenReturn(Optional.of(FileBlob.builder().hash("h").path("uploads/blob-1").build()));
+
+        service.deleteFile("file-3", "user-1");
+
+        InOrder order = inOrder(fileBlobService, fileRepository);
+        order.verify(fileBlobService).release("h");
+        order.verify(fileRepository).delete(last);
+        ArgumentCaptor<DeleteObjectRequest> captor = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+        verify(s3Client, times(5)).deleteObject(captor.capture());
+        List<String> keys = captor.getAllValues().stream().map(DeleteObjectRequest::key).toList();
+        assertTrue(keys.containsAll(List.of("uploads/blob-1", "uploads/blob-1.thumb.jpg", "uploads/blob-1.medium.png")));
+    }
+
+    private List<GetObjectRequest> capturedRequests() {
+        return capturedRequests(1);
+    }
+
+    private List<GetObjectRequest> capturedRequests(int count) {
+        ArgumentCaptor<GetObjectRequest> captor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(s3Client, times(count)).getObject(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static HttpRange range(String header) {
+        return HttpRange.parseRanges(header).get(0);
+    }
+
+    private static ResponseInputStream<GetObjectResponse> object(int length, String contentRange) {
+        GetObjectResponse response = GetObjectResponse.builder()
+                .contentLength((long) length)
+                .contentRange(contentRange)
+                .eTag(ETAG)
+                .build();
+        return new ResponseInputStream<>(response, AbortableInputStream.create(new ByteArrayInputStream(new byte[length])));
+    }
+}
@@ -0,0 +1,122 @@
+package com.ktb.chatapp.service.activity;
+
+import com.ktb.chatapp.repository.MessageRepository;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoomActivityCounterTest {
+
+    private MutableClock clock;
+    private RoomActivityCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-01-01T00:00:30Z"));
+        counter = new RoomActivityCounter(mock(MessageRepository.class), true, clock);
+    }
+
+    @Test
+    void record_countsMessagesWithinWindow() {
+        counter.record("room-1");
+        counter.record("room-1");
+        clock.advance(Duration.ofMinutes(3));
+        counter.record("room-1");
+        counter.record("room-2");
+
+        assertEquals(3L, counter.getRecentCount("room-1"));
+        assertEquals(1L, counter.getRecentCount("room-2"));
+        assertEquals(0L, counter.getRecentCount("unknown"));
+    }
+
+    @Test
+    void olderMinutesSlideOutOfWindow() {
+        counter.record("room-1");
+        clock.advance(Duration.ofMinutes(5));
+        counter.record("room-1");
+
+        clock.advance(Duration.ofMinutes(RoomActivityCounter.WINDOW_MINUTES - 5));
+        assertEquals(1L, counter.getRecentCount("room-1"));
+
+        clock.advance(Duration.ofMinutes(5));
+        assertEquals(0L, counter.getRecentCount("room-1"));
+
+        counter.evictIdleRooms();
+        assertTrue(counter.snapshot().isEmpty());
+    }
+
+    @Test
+    void merge_addsRemoteDeltasAndIgnoresStaleMinutes() {
+        long now = clock.millis() / 60_000L;
+        counter.merge("room-1", now - 1, 4);
+        counter.merge("room-1", now - RoomActivityCounter.WINDOW_MINUTES, 100);
+
+        assertEquals(4L, counter.getRecentCount("room-1"));
+        assertEquals(Map.of("room-1", 4L), counter.getRecentCounts(List.of("room-1", "room-2")));
+    }
+
+    @Test
+    void drainPendingDeltas_returnsOnlyLocalIncrementsOnce() {
+        counter.record("room-1");
+        counter.record("room-1");
+        counter.merge("room-2", clock.millis() / 60_000L, 7);
+
+        List<RoomActivityCounter.MinuteDelta> deltas = counter.drainPendingDeltas();
+        assertEquals(1, deltas.size());
+        assertEquals("room-1", deltas.getFirst().roomId());
+        assertEquals(2L, deltas.getFirst().count());
+        assertTrue(counter.drainPendingDeltas().isEmpty());
+    }
+
+    @Test
+    void seedFromDatabase_queriesSinceInMessageTimeZone() {
+        MessageRepository repository = mock(MessageRepository.class);
+        when(repository.countMessagesPerMinuteSince(any())).thenReturn(List.of());
+        new RoomActivityCounter(repository, true, clock).seedFromDatabase();
+
+        LocalDateTime expected = LocalDateTime.ofInstant(clock.instant(), ZoneId.systemDefault())
+                .minusMinutes(RoomActivityCounter.WINDOW_MINUTES);
+        verify(repository).countMessagesPerMinuteSince(expected);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.ktb.chatapp.service.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb.chatapp.model.Message;
+import com.ktb.chatapp.model.MessageType;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MessageExportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private MongoTemplate mongoTemplate;
+    private MessageExportService service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        service = new MessageExportService(mongoTemplate, mock(RoomRepository.class), objectMapper,
+                new SimpleMeterRegistry(), 2, 60_000);
+    }
+
+    @Test
+    void writesOneJsonObjectPerLineForNdjson() throws IOException {
+        when(mongoTemplate.stream(any(Query.class), eq(Message.class))).thenReturn(messages(3).stream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long written = service.write("room-1", null, null, MessageExportService.Format.NDJSON, out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, written);
+        assertEquals(3, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals("m0", first.get("_id").asText());
+        assertEquals("hello 0", first.get("content").asText());
+        assertFalse(first.has("readers"));
+    }
+
+    @Test
+    void writesAJsonArray() throws IOException {
+        when(mongoTemplate.stream(any(Query.class), eq(Message.class))).thenReturn(messages(3).stream());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.write("room-1", null, null, MessageExportService.Format.JSON, out);
+
+        JsonNode array = objectMapper.readTree(out.toByteArray());
+        assertTrue(array.isArray());
+        assertEquals(3, array.size());
+        assertEquals(2L, array.get(2).get("seq").asLong());
+    }
+
+    @Test
+    void emptyRangeIsAnEmptyArray() throws IOException {
+        when(mongoTemplate.stream(any(Query.class), eq(Message.class))).thenReturn(java.util.stream.Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        service.write("room-1", null, null, MessageExportService.Format.JSON, out);
+
+        assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void flushesEveryBatchAndUsesACursor() throws IOException {
+        when(mongoTemplate.stream(any(Query.class), eq(Message.class))).thenReturn(messages(5).stream());
+        int[] flushes = {0};
+        OutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void flush() {
+                flushes[0]++;
+            }
+        };
+
+        service.write("room-1", 1_000L, 2_000L, MessageExportService.Format.NDJSON, out);
+
+        // 건마다가 아니라 2건마다 두 번과 마지막 정리 때만 flush한다
+        assertTrue(flushes[0] >= 3 && flushes[0] < 5, "flushes: " + flushes[0]);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(Message.class));
+        assertEquals(2, query.getValue().getMeta().getCursorBatchSize());
+        Document timestamp = (Document) query.getValue().getQueryObject().get("timestamp");
+        assertTrue(timestamp.containsKey("$gte"));
+        assertTrue(timestamp.containsKey("$lt"));
+    }
+
+    @Test
+    void onlyPastRangesAreClosed() {
+        assertFalse(service.isClosed(null));
+        assertFalse(service.isClosed(System.currentTimeMillis()));
+        assertTrue(service.isClosed(System.currentTimeMillis() - 120_000));
+    }
+
+    @Test
+    void parsesFormat() {
+        assertEquals(MessageExportService.Format.NDJSON, MessageExportService.Format.from(null));
+        assertEquals(MessageExportService.Format.JSON, MessageExportService.Format.from("JSON"));
+        assertThrows(IllegalArgumentException.class, () -> MessageExportService.Format.from("csv"));
+    }
+
+    private List<Message> messages(int count) {
+        LocalDateTime base = LocalDateTime.now().minusHours(1);
+        return IntStream.range(0, count).mapToObj(i -> {
+            Message message = new Message();
+            message.setId("m" + i);
+            message.setRoomId("room-1");
+            message.setSeq((long) i);
+            message.setType(MessageType.text);
+            message.setContent("hello " + i);
+            message.setTimestamp(base.plusSeconds(i));
+            message.getReaders().add(new Message.MessageReader("user-1", base));
+            return message;
+        }).toList();
+    }
+}
@@ -0,0 +1,85 @@
+package com.ktb.chatapp.service.health;
+
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class HealthSamplerTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private MongoTemplate mongoTemplate;
+    private StringRedisTemplate redisTemplate;
+    private HealthSampler sampler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        ObjectProvider<StringRedisTemplate> redisProvider = mock(ObjectProvider.class);
+        when(redisProvider.getIfAvailable()).thenReturn(redisTemplate);
+
+        sampler = new HealthSampler(
+                mongoTemplate,
+                mock(RoomRepository.class),
+                redisProvider,
+                mock(ObjectProvider.class),
+                mock(ObjectProvider.class),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(sampler, "windowSize", 10);
+        ReflectionTestUtils.setField(sampler, "probeTimeoutMs", 200L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        sampler.shutdown();
+    }
+
+    @Test
+    void sample_marksHungProbeDownAfterTimeout() {
+        when(mongoTemplate.executeCommand(any(Document.class))).thenAnswer(invocation -> {
+            release.await();
+            return new Document("ok", 1);
+        });
+
+        long start = System.nanoTime();
+        HealthSnapshot snapshot = sampler.getSnapshot();
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertFalse(snapshot.components().get(HealthSampler.MONGO).up());
+        assertTrue(snapshot.components().get(HealthSampler.MONGO).error().startsWith("TimeoutException"));
+        assertTrue(snapshot.components().get(HealthSampler.REDIS).up());
+        assertTrue(elapsedMs < 2000, "sample should be bounded by the probe timeout, took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void sample_reportsProbeFailureCause() {
+        when(mongoTemplate.executeCommand(any(Document.class))).thenThrow(new IllegalStateException("down"));
+        when(redisTemplate.execute(any(RedisCallback.class), anyBoolean()))
+                .thenReturn("PONG");
+
+        HealthSnapshot snapshot = sampler.getSnapshot();
+
+        assertFalse(snapshot.components().get(HealthSampler.MONGO).up());
+        assertTrue(snapshot.components().get(HealthSampler.MONGO).error().startsWith("IllegalStateException"));
+        assertTrue(snapshot.components().get(HealthSampler.REDIS).up());
+    }
+}
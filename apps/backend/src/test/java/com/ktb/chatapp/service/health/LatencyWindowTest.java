@@ -0,0 +1,38 @@
+package com.ktb.chatapp.service.health;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyWindowTest {
+
+    @Test
+    void percentile_returnsMinusOneWhenEmpty() {
+        assertEquals(-1L, new LatencyWindow(10).percentile(50));
+    }
+
+    @Test
+    void percentile_usesNearestRank() {
+        LatencyWindow window = new LatencyWindow(100);
+        for (int i = 1; i <= 100; i++) {
+            window.record(i);
+        }
+
+        assertEquals(50L, window.percentile(50));
+        assertEquals(95L, window.percentile(95));
+        assertEquals(99L, window.percentile(99));
+        assertEquals(100L, window.percentile(100));
+    }
+
+    @Test
+    void record_keepsOnlyMostRecentSamples() {
+        LatencyWindow window = new LatencyWindow(3);
+        window.record(1000);
+        window.record(1);
+        window.record(2);
+        window.record(3);
+
+        assertEquals(3, window.size());
+        assertEquals(3L, window.percentile(100));
+    }
+}
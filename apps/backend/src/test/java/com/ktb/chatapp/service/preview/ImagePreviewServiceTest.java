@@ -0,0 +1,221 @@
+package com.ktb.chatapp.service.preview;
+
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.service.FileAccessResolver;
+import com.ktb.chatapp.service.FileService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import javax.imageio.ImageIO;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.mock.web.MockMultipartFile;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImagePreviewServiceTest {
+
+    private FileService fileService;
+    private MongoTemplate mongoTemplate;
+    private FileAccessResolver fileAccessResolver;
+    private SimpleMeterRegistry meterRegistry;
+    private ImagePreviewService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fileService = mock(FileService.class);
+        mongoTemplate = mock(MongoTemplate.class);
+        fileAccessResolver = mock(FileAccessResolver.class);
+        meterRegistry = new SimpleMeterRegistry();
+        service = new ImagePreviewService(fileService, mongoTemplate, fileAccessResolver, meterRegistry,
+                true, 1, 4, 320, 1280, 512, 50_000_000L, 5_000L, 1, 2);
+        when(fileService.writeStored(anyString(), any(), anyString(), anyBoolean()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void generate_writesThumbAndMediumNextToOriginalAndRecordsThem() throws IOException {
+        File file = image("photo.jpg", "image/jpeg");
+        when(fileService.openStored(file.getPath())).thenReturn(new ByteArrayInputStream(jpeg(2000, 1000)));
+
+        service.generate(file);
+
+        verify(fileService).writeStored(eq("uploads/photo.jpg.thumb.jpg"), any(), eq("image/jpeg"), eq(false));
+        verify(fileService).writeStored(eq("uploads/photo.jpg.medium.jpg"), any(), eq("image/jpeg"), eq(false));
+        Update update = capturedUpdate();
+        List<?> previews = (List<?>) update.getUpdateObject().get("$set", Document.class).get("previews");
+        assertEquals(2, previews.size());
+        verify(fileAccessResolver).evict("photo.jpg");
+    }
+
+    @Test
+    void generate_skipsMediumForImagesSmallerThanThumb() throws IOException {
+        File file = image("icon.png", "image/png");
+        when(fileService.openStored(file.getPath())).thenReturn(new ByteArrayInputStream(png(100, 50)));
+
+        service.generate(file);
+
+        verify(fileService).writeStored(eq("uploads/icon.png.thumb.jpg"), any(), eq("image/jpeg"), eq(false));
+        verify(fileService, never()).writeStored(eq("uploads/icon.png.medium.jpg"), any(), anyString(), anyBoolean());
+        List<?> previews = (List<?>) capturedUpdate().getUpdateObject().get("$set", Document.class).get("previews");
+        assertEquals(1, previews.size());
+    }
+
+    @Test
+    void generate_leavesFileUntouchedWhenImageCannotBeDecoded() throws IOException {
+        File file = image("broken.png", "image/png");
+        when(fileService.openStored(file.getPath())).thenReturn(new ByteArrayInputStream(new byte[]{1, 2, 3}));
+
+        service.generate(file);
+
+        verify(fileService, never()).writeStored(anyString(), any(), anyString(), anyBoolean());
+        verify(mongoTemplate, never()).updateFirst(any(Query.class), any(Update.class), eq(File.class));
+    }
+
+    @Test
+    void renderer_downscalesWithinBounds() throws IOException {
+        List<ImageRenderer.Rendition> renditions = ImageRenderer.render(
+                new ByteArrayInputStream(jpeg(4000, 3000)), List.of(320), 50_000_000L).orElseThrow();
+
+        ImageRenderer.Rendition thumb = renditions.get(0);
+        assertEquals(320, thumb.width());
+        assertEquals(240, thumb.height());
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumb.content()));
+        assertEquals(320, decoded.getWidth());
+    }
+
+    @Test
+    void renderer_appliesExifOrientationBeforeScaling() throws IOException {
+        // 왼쪽 절반 빨강, 오른쪽 절반 파랑인 가로 이미지 + Orientation 6 (시계 방향 90도)
+        BufferedImage source = new BufferedImage(200, 100, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = source.createGraphics();
+        graphics.setColor(Color.RED);
+        graphics.fillRect(0, 0, 100, 100);
+        graphics.setColor(Color.BLUE);
+        graphics.fillRect(100, 0, 100, 100);
+        graphics.dispose();
+
+        ImageRenderer.Rendition rendition = ImageRenderer.render(
+                new ByteArrayInputStream(withExifOrientation(encode(source, "jpg"), 6)),
+                List.of(100), 50_000_000L).orElseThrow().get(0);
+
+        assertEquals(50, rendition.width());
+        assertEquals(100, rendition.height());
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(rendition.content()));
+        assertTrue(new Color(decoded.getRGB(25, 20)).getRed() > 200);
+        assertTrue(new Color(decoded.getRGB(25, 80)).getBlue() > 200);
+    }
+
+    @Test
+    void renderer_refusesImagesAbovePixelLimit() throws IOException {
+        assertTrue(ImageRenderer.render(new ByteArrayInputStream(png(2000, 2000)), List.of(320), 1_000_000L).isEmpty());
+    }
+
+    @Test
+    void storeNormalizedProfileImage_writesPublicDownscaledCopy() throws IOException {
+        MockMultipartFile upload = new MockMultipartFile("profileImage", "me.png", "image/png", png(1024, 1024));
+
+        Optional<String> url = service.storeNormalizedProfileImage(upload, "profiles");
+
+        assertTrue(url.isPresent());
+        assertTrue(url.get().startsWith("profiles/"));
+        ArgumentCaptor<byte[]> content = ArgumentCaptor.forClass(byte[].class);
+        verify(fileService).writeStored(eq(url.get()), content.capture(), eq("image/jpeg"), eq(true));
+        assertEquals(512, ImageIO.read(new ByteArrayInputStream(content.getValue())).getWidth());
+    }
+
+    @Test
+    void storeNormalizedProfileImage_keepsGifOriginal() throws IOException {
+        MockMultipartFile upload = new MockMultipartFile("profileImage", "me.gif", "image/gif", new byte[]{1});
+
+        assertTrue(service.storeNormalizedProfileImage(upload, "profiles").isEmpty());
+    }
+
+    @Test
+    void storeNormalizedProfileImage_countsFallbackForUndecodableImage() {
+        MockMultipartFile upload = new MockMultipartFile("profileImage", "me.png", "image/png", new byte[]{1, 2, 3});
+
+        assertTrue(service.storeNormalizedProfileImage(upload, "profiles").isEmpty());
+        assertEquals(1.0, meterRegistry.get("file.preview.profile.fallback").tag("reason", "unsupported").counter().count());
+        assertEquals(0.0, meterRegistry.get("file.preview.rejected").counter().count());
+    }
+
+    private Update capturedUpdate() {
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(any(Query.class), update.capture(), eq(File.class));
+        return update.getValue();
+    }
+
+    private static File image(String filename, String mimetype) {
+        return File.builder()
+                .id("file-1")
+                .filename(filename)
+                .mimetype(mimetype)
+                .path("uploads/" + filename)
+                .build();
+    }
+
+    /**
+     * JFIF APP0 뒤에 Orientation 태그 하나만 있는 Exif APP1 세그먼트를 끼워 넣는다.
+     */
+    private static byte[] withExifOrientation(byte[] jpeg, int orientation) {
+        byte[] exif = {
+                'E', 'x', 'i', 'f', 0, 0,
+                'M', 'M', 0, 42, 0, 0, 0, 8,
+                0, 1,
+                0x01, 0x12, 0, 3, 0, 0, 0, 1, 0, (byte) orientation, 0, 0,
+                0, 0, 0, 0
+        };
+        int app0End = 4 + (((jpeg[4] & 0xFF) << 8) | (jpeg[5] & 0xFF));
+        int segmentLength = exif.length + 2;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(jpeg, 0, app0End);
+        out.write(0xFF);
+        out.write(0xE1);
+        out.write(segmentLength >> 8);
+        out.write(segmentLength & 0xFF);
+        out.write(exif, 0, exif.length);
+        out.write(jpeg, app0End, jpeg.length - app0End);
+        return out.toByteArray();
+    }
+
+    private static byte[] jpeg(int width, int height) throws IOException {
+        return encode(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "jpg");
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        return encode(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png");
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, format, bytes);
+        return bytes.toByteArray();
+    }
+}
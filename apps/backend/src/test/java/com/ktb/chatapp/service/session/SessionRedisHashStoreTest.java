@@ -0,0 +1,102 @@
+package com.ktb.chatapp.service.session;
+
+import com.ktb.chatapp.model.Session;
+import com.ktb.chatapp.service.SessionMetadata;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionRedisHashStoreTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+    @Mock private HashOperations<String, Object, Object> hashOperations;
+
+    private SessionRedisHashStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new SessionRedisHashStore(redisTemplate);
+    }
+
+    @Test
+    void findByUserId_readsFullSessionFromHash() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("session:h:user-1")).thenReturn(Map.of(
+                "sessionId", "session-1",
+                "createdAt", "1",
+                "lastActivity", "1700000000000",
+                "ipAddress", "127.0.0.1"));
+
+        Session session = store.findByUserId("user-1").orElseThrow();
+
+        assertEquals("session-1", session.getSessionId());
+        assertEquals(1700000000000L, session.getLastActivity());
+        assertEquals("127.0.0.1", session.getMetadata().ipAddress());
+    }
+
+    @Test
+    void findByUserId_returnsEmptyWhenHashMissing() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(anyString())).thenReturn(Map.of());
+
+        assertTrue(store.findByUserId("user-1").isEmpty());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void validateAndTouch_returnsStoredActivityFromScript() {
+        Instant expiresAt = Instant.ofEpochMilli(1700000900000L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("session:h:user-1")),
+                eq("session-1"), eq("1700000000500"), eq("1800000"), eq("1700000900000"), any()))
+                .thenReturn(List.of("session-1", "1700000000000"));
+
+        Optional<SessionActivity> activity =
+                store.validateAndTouch("user-1", "session-1", 1700000000500L, 1800000L, expiresAt);
+
+        assertEquals(new SessionActivity("session-1", 1700000000000L), activity.orElseThrow());
+        verify(hashOperations, never()).entries(anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void validateAndTouch_returnsEmptyWhenHashMissing() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any()))
+                .thenReturn(null);
+
+        assertTrue(store.validateAndTouch("user-1", "session-1", 1L, 1L, Instant.now()).isEmpty());
+    }
+
+    @Test
+    void fields_roundTripSession() {
+        Session session = Session.builder()
+                .userId("user-1")
+                .sessionId("session-1")
+                .createdAt(1L)
+                .lastActivity(2L)
+                .expiresAt(Instant.ofEpochMilli(3L))
+                .metadata(new SessionMetadata("agent", "127.0.0.1", null))
+                .build();
+
+        Map<Object, Object> fields = new HashMap<>(SessionRedisHashStore.toFields(session));
+        Session restored = SessionRedisHashStore.toSession("user-1", fields);
+
+        assertEquals(session, restored);
+        assertNull(restored.getMetadata().deviceInfo());
+    }
+}
@@ -0,0 +1,59 @@
+package com.ktb.chatapp.service.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionRedisStoreTest {
+
+    @Mock private StringRedisTemplate redisTemplate;
+
+    private SessionRedisStore store;
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        store = new SessionRedisStore(redisTemplate, objectMapper);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void validateAndTouch_patchesJsonInOneScriptWithoutReadingValue() {
+        Instant expiresAt = Instant.parse("2026-10-19T03:30:00Z");
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("session:user-1")),
+                eq("session-1"), eq("1700000000500"), eq("1800000"), eq("\"2026-10-19T03:30:00Z\""), any()))
+                .thenReturn(List.of("session-1", "1700000000000"));
+
+        Optional<SessionActivity> activity =
+                store.validateAndTouch("user-1", "session-1", 1700000000500L, 1800000L, expiresAt);
+
+        assertEquals(new SessionActivity("session-1", 1700000000000L), activity.orElseThrow());
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void validateAndTouch_returnsEmptyWhenKeyMissing() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any(), any()))
+                .thenReturn(null);
+
+        assertTrue(store.validateAndTouch("user-1", "session-1", 1L, 1L, Instant.now()).isEmpty());
+    }
+}
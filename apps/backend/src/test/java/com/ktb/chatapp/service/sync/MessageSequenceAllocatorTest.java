@@ -0,0 +1,102 @@
+package com.ktb.chatapp.service.sync;
+
+import com.ktb.chatapp.model.RoomSequence;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MessageSequenceAllocatorTest {
+
+    private static final int BLOCK_SIZE = 4;
+
+    private MongoTemplate mongoTemplate;
+    private final ConcurrentHashMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(RoomSequence.class))).thenAnswer(invocation -> {
+            Query query = invocation.getArgument(0);
+            String roomId = query.getQueryObject().getString("_id");
+            long value = counters.computeIfAbsent(roomId, id -> new AtomicLong()).addAndGet(BLOCK_SIZE);
+            return new RoomSequence(roomId, value);
+        });
+    }
+
+    @Test
+    void servesNumbersFromOneBlockUntilExhausted() {
+        MessageSequenceAllocator allocator = allocator(60_000);
+
+        List<Long> values = List.of(allocator.next("room"), allocator.next("room"),
+                allocator.next("room"), allocator.next("room"), allocator.next("room"));
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), values);
+        verify(mongoTemplate, times(2)).findAndModify(any(Query.class), any(Update.class),
+                any(FindAndModifyOptions.class), eq(RoomSequence.class));
+    }
+
+    @Test
+    void roomsHaveIndependentCounters() {
+        MessageSequenceAllocator allocator = allocator(60_000);
+
+        assertEquals(1L, allocator.next("a"));
+        assertEquals(1L, allocator.next("b"));
+        assertEquals(2L, allocator.next("a"));
+    }
+
+    @Test
+    void expiredBlockIsAbandoned() throws InterruptedException {
+        MessageSequenceAllocator allocator = allocator(20);
+
+        assertEquals(1L, allocator.next("room"));
+        Thread.sleep(40);
+
+        // 남은 2..4는 버리고 다음 블록에서 시작한다
+        assertEquals(5L, allocator.next("room"));
+    }
+
+    @Test
+    void concurrentCallersNeverShareANumber() throws Exception {
+        MessageSequenceAllocator allocator = allocator(60_000);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Long>> futures = new java.util.ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                futures.add(executor.submit(() -> allocator.next("room")));
+            }
+            Set<Long> seen = new HashSet<>();
+            for (Future<Long> future : futures) {
+                assertTrue(seen.add(future.get()));
+            }
+            assertEquals(400, seen.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private MessageSequenceAllocator allocator(long leaseMs) {
+        return new MessageSequenceAllocator(mongoTemplate, new SimpleMeterRegistry(), BLOCK_SIZE, leaseMs);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ktb.chatapp.service.sync;
+
+import com.ktb.chatapp.model.Message;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MessageSyncServiceTest {
+
+    private MongoTemplate mongoTemplate;
+    private MessageSyncService service;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        MessageSequenceAllocator allocator =
+                new MessageSequenceAllocator(mongoTemplate, new SimpleMeterRegistry(), 32, 1_000);
+        service = new MessageSyncService(mongoTemplate, allocator, 5_000, 200);
+    }
+
+    @Test
+    void splitsNewMessagesFromChangesToOlderOnes() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        when(mongoTemplate.find(any(Query.class), eq(Message.class))).thenReturn(List.of(
+                message("m1", 3, 11, old),
+                message("m3", 13, 12, old),
+                message("m2", 12, 14, old)));
+
+        MessageSyncService.MessageSync sync = service.syncSince("room", 10, 50);
+
+        assertEquals(List.of("m2", "m3"), sync.created().stream().map(Message::getId).toList());
+        assertEquals(List.of("m1"), sync.updated().stream().map(Message::getId).toList());
+        assertEquals(14, sync.cursor());
+        assertFalse(sync.hasMore());
+    }
+
+    @Test
+    void cursorStopsBeforeUnsettledChanges() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        LocalDateTime recent = LocalDateTime.now();
+        when(mongoTemplate.find(any(Query.class), eq(Message.class))).thenReturn(List.of(
+                message("m1", 11, 11, old),
+                message("m2", 12, 12, recent)));
+
+        MessageSyncService.MessageSync sync = service.syncSince("room", 10, 50);
+
+        // 최근 변경도 내려주지만 커서는 그 앞에서 멈춘다
+        assertEquals(2, sync.created().size());
+        assertEquals(11, sync.cursor());
+    }
+
+    @Test
+    void cursorDoesNotMoveWhenEverythingIsRecent() {
+        when(mongoTemplate.find(any(Query.class), eq(Message.class))).thenReturn(List.of(
+                message("m1", 11, 11, LocalDateTime.now())));
+
+        assertEquals(10, service.syncSince("room", 10, 50).cursor());
+    }
+
+    @Test
+    void reportsMoreWhenBatchIsFull() {
+        LocalDateTime old = LocalDateTime.now().minusMinutes(1);
+        when(mongoTemplate.find(any(Query.class), eq(Message.class))).thenReturn(List.of(
+                message("m1", 1, 1, old),
+                message("m2", 2, 2, old),
+                message("m3", 3, 3, old)));
+
+        MessageSyncService.MessageSync sync = service.syncSince("room", 0, 2);
+
+        assertTrue(sync.hasMore());
+        assertEquals(2, sync.created().size());
+        assertEquals(2, sync.cursor());
+    }
+
+    private Message message(String id, long seq, long changeSeq, LocalDateTime changedAt) {
+        Message message = new Message();
+        message.setId(id);
+        message.setRoomId("room");
+        message.setSeq(seq);
+        message.setChangeSeq(changeSeq);
+        message.setChangedAt(changedAt);
+        return message;
+    }
+}
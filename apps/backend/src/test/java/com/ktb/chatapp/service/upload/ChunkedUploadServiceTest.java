@@ -0,0 +1,170 @@
+package com.ktb.chatapp.service.upload;
+
+import com.ktb.chatapp.dto.file.ChunkedUploadRequest;
+import com.ktb.chatapp.model.File;
+import com.ktb.chatapp.model.UploadSession;
+import com.ktb.chatapp.repository.FileRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChunkedUploadServiceTest {
+
+    private static final long CHUNK_SIZE = 4;
+    private static final byte[] CONTENT = "0123456789".getBytes();
+
+    @TempDir
+    Path root;
+
+    private MongoTemplate mongoTemplate;
+    private FileRepository fileRepository;
+    private ChunkedUploadService service;
+    private UploadSession session;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        fileRepository = mock(FileRepository.class);
+        service = new ChunkedUploadService(mongoTemplate, fileRepository,
+                new LocalChunkedUploadStorage(root.toString()), new SimpleMeterRegistry(), CHUNK_SIZE, 60_000, 5, 600_000);
+
+        when(mongoTemplate.insert(any(UploadSession.class))).thenAnswer(invocation -> {
+            session = invocation.getArgument(0);
+            return session;
+        });
+        when(mongoTemplate.findById(any(), eq(UploadSession.class))).thenAnswer(invocation -> session);
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(UploadSession.class))).thenAnswer(invocation -> apply(invocation.getArgument(1)));
+        when(fileRepository.save(any(File.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void create_rejectsDisallowedTypeBeforeReceivingChunks() {
+        ChunkedUploadRequest request = new ChunkedUploadRequest("run.exe", "application/x-msdownload", 10);
+
+        assertThrows(RuntimeException.class, () -> service.create(request, "user-1"));
+        verify(mongoTemplate, never()).insert(any(UploadSession.class));
+    }
+
+    @Test
+    void writePart_rejectsMisalignedOffsetAndWrongLength() {
+        service.create(pdf(), "user-1");
+
+        assertThrows(IllegalArgumentException.class, () -> put(2, new byte[4]));
+        assertThrows(IllegalArgumentException.class, () -> put(4, new byte[3]));
+        assertThrows(IllegalArgumentException.class, () -> put(12, new byte[4]));
+        assertTrue(session.getParts().isEmpty());
+    }
+
+    @Test
+    void complete_assemblesChunksUploadedOutOfOrder() throws IOException {
+        service.create(pdf(), "user-1");
+        assertEquals(3, session.getPartCount());
+
+        put(8, Arrays.copyOfRange(CONTENT, 8, 10));
+        put(0, Arrays.copyOfRange(CONTENT, 0, 4));
+        put(4, Arrays.copyOfRange(CONTENT, 4, 8));
+        assertEquals(List.of(0L, 4L, 8L), session.receivedOffsets());
+
+        File file = service.complete(session.getId(), "user-1");
+
+        assertEquals(10, file.getSize());
+        assertEquals("report.pdf", file.getOriginalname());
+        assertArrayEquals(CONTENT, Files.readAllBytes(root.resolve(file.getPath())));
+        assertFalse(Files.exists(root.resolve(".chunks").resolve(session.getId())));
+    }
+
+    @Test
+    void complete_reportsMissingChunksAndKeepsSessionOpen() throws IOException {
+        service.create(pdf(), "user-1");
+        put(0, Arrays.copyOfRange(CONTENT, 0, 4));
+
+        assertThrows(IllegalArgumentException.class, () -> service.complete(session.getId(), "user-1"));
+
+        verify(mongoTemplate).updateFirst(any(Query.class), any(Update.class), eq(UploadSession.class));
+        verify(fileRepository, never()).save(any(File.class));
+    }
+
+    @Test
+    void complete_extendsExpiryWhileAssembling() throws IOException {
+        service.create(pdf(), "user-1");
+        put(0, Arrays.copyOfRange(CONTENT, 0, 4));
+        put(4, Arrays.copyOfRange(CONTENT, 4, 8));
+        put(8, Arrays.copyOfRange(CONTENT, 8, 10));
+        session.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+
+        service.complete(session.getId(), "user-1");
+
+        assertEquals(UploadSession.Status.COMPLETING, session.getStatus());
+        assertTrue(session.getExpiresAt().isAfter(LocalDateTime.now().plusMinutes(5)));
+    }
+
+    @Test
+    void parts_areNotAccessibleToOtherUsers() {
+        service.create(pdf(), "user-1");
+
+        RuntimeException e = assertThrows(RuntimeException.class, () -> service.status(session.getId(), "user-2"));
+        assertTrue(e.getMessage().contains("권한"));
+    }
+
+    @Test
+    void cleanupExpired_discardsReceivedChunks() throws IOException {
+        service.create(pdf(), "user-1");
+        put(0, Arrays.copyOfRange(CONTENT, 0, 4));
+        session.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+        when(mongoTemplate.find(any(Query.class), eq(UploadSession.class))).thenReturn(List.of(session));
+        when(mongoTemplate.findAndRemove(any(Query.class), eq(UploadSession.class))).thenReturn(session);
+
+        service.cleanupExpired();
+
+        assertFalse(Files.exists(root.resolve(".chunks").resolve(session.getId())));
+    }
+
+    private void put(long offset, byte[] chunk) throws IOException {
+        service.writePart(session.getId(), offset, new ByteArrayInputStream(chunk), chunk.length, "user-1");
+    }
+
+    private UploadSession apply(Update update) {
+        Document set = update.getUpdateObject().get("$set", Document.class);
+        for (Map.Entry<String, Object> entry : set.entrySet()) {
+            if (entry.getKey().startsWith("parts.")) {
+                session.getParts().put(entry.getKey().substring("parts.".length()), (String) entry.getValue());
+            } else if (entry.getKey().equals("status")) {
+                session.setStatus((UploadSession.Status) entry.getValue());
+            } else if (entry.getKey().equals("expiresAt")) {
+                session.setExpiresAt((LocalDateTime) entry.getValue());
+            }
+        }
+        return session;
+    }
+
+    private static ChunkedUploadRequest pdf() {
+        return new ChunkedUploadRequest("report.pdf", "application/pdf", CONTENT.length);
+    }
+}
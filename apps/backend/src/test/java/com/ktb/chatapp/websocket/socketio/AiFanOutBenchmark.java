@@ -0,0 +1,125 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.message.MessageContent;
+import com.ktb.chatapp.event.AiMessageCompleteEvent;
+import com.ktb.chatapp.repository.MessageRepository;
+import com.ktb.chatapp.websocket.socketio.ai.AiResponseCache;
+import com.ktb.chatapp.websocket.socketio.ai.AiService;
+import com.ktb.chatapp.websocket.socketio.ai.AiStreamManager;
+import com.ktb.chatapp.websocket.socketio.ai.StubChatModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.ai.chat.client.ChatClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * AI 청크 팬아웃 처리량 벤치마크.
+ * 로컬 LLM 대역 → AiStreamHandler → 이벤트 버스 → SlowConsumerGuard 브로드캐스트 경로를
+ * 방 크기별로 돌려 초당 청크/전달 수를 출력한다. 소켓 쓰기는 호출 수만 센다.
+ *
+ * 실행: ./mvnw test -Dtest=AiFanOutBenchmark -Dbenchmark=true
+ */
+@DisplayName("AI 청크 팬아웃 벤치마크")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class AiFanOutBenchmark {
+
+    private static final int[] ROOM_SIZES = {1, 10, 100, 500};
+    private static final int STREAMS = 10;
+    private static final int TOKENS = 300;
+
+    @Test
+    void chunkFanOutThroughputPerRoomSize() throws InterruptedException {
+        run(10); // 워밍업
+
+        List<String> rows = new ArrayList<>();
+        for (int roomSize : ROOM_SIZES) {
+            Result result = run(roomSize);
+            rows.add(String.format("%9d | %8d | %12d | %11.0f | %14.0f | %7d",
+                    roomSize, result.chunks(), result.deliveries(),
+                    result.chunks() / result.seconds(), result.deliveries() / result.seconds(),
+                    result.dropped()));
+        }
+
+        System.out.printf("%nAI chunk fan-out (%d streams x %d tokens, frame interval 0ms)%n", STREAMS, TOKENS);
+        System.out.println("room size |   events |   deliveries |  events/sec | deliveries/sec | dropped");
+        rows.forEach(System.out::println);
+    }
+
+    private Result run(int roomSize) throws InterruptedException {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        LongAdder deliveries = new LongAdder();
+
+        List<SocketIOClient> clients = new ArrayList<>(roomSize);
+        for (int i = 0; i < roomSize; i++) {
+            SocketIOClient client = mock(SocketIOClient.class, withSettings().stubOnly());
+            when(client.getSessionId()).thenReturn(UUID.randomUUID());
+            when(client.isWritable()).thenReturn(true);
+            doAnswer(invocation -> {
+                deliveries.increment();
+                return null;
+            }).when(client).sendEvent(anyString(), any());
+            clients.add(client);
+        }
+        SocketIOServer socketIOServer = mock(SocketIOServer.class, withSettings().stubOnly());
+        BroadcastOperations roomOperations = mock(BroadcastOperations.class, withSettings().stubOnly());
+        when(roomOperations.getClients()).thenReturn(clients);
+        when(socketIOServer.getRoomOperations(anyString())).thenReturn(roomOperations);
+
+        SocketEventBus eventBus = new SocketEventBus("async", 4, 8192, 64, meterRegistry);
+        SlowConsumerGuard guard = new SlowConsumerGuard(
+                socketIOServer, meterRegistry, "drop-ephemeral,coalesce,disconnect", 256, 1 << 20);
+        new SocketIOEventListener(guard, eventBus).subscribe();
+
+        CountDownLatch completed = new CountDownLatch(STREAMS);
+        eventBus.subscribe(SocketEventBus.PERSISTENCE_TOPIC, AiMessageCompleteEvent.class, event -> completed.countDown());
+
+        StubChatModel model = new StubChatModel(0, TOKENS, 0, TOKENS, 0.0, 42);
+        AiService aiService = new AiService(
+                ChatClient.builder(model),
+                eventBus,
+                mock(MessageRepository.class),
+                new AiStreamManager(eventBus, meterRegistry, STREAMS, STREAMS, 0, 0, 20),
+                new AiResponseCache(false, 0, 0, 0, meterRegistry));
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < STREAMS; i++) {
+            aiService.handleAIMentions("bench-room", "bench-user", MessageContent.from("@wayneAI question " + i));
+        }
+        assertThat(completed.await(60, TimeUnit.SECONDS)).isTrue();
+        // 마지막 묶음 처리가 끝날 때까지 대기
+        long delivered;
+        do {
+            delivered = deliveries.sum();
+            Thread.sleep(20);
+        } while (eventBus.depth(SocketEventBus.SOCKET_TOPIC) > 0 || delivered != deliveries.sum());
+        double seconds = (System.nanoTime() - startedAt - 20_000_000L) / 1_000_000_000.0;
+        eventBus.shutdown();
+
+        long chunks = (long) meterRegistry.get("socketio.event_bus.dispatched")
+                .tag("topic", SocketEventBus.SOCKET_TOPIC).counter().count();
+        long dropped = (long) meterRegistry.get("socketio.event_bus.dropped")
+                .tag("topic", SocketEventBus.SOCKET_TOPIC).counter().count();
+        return new Result(chunks, deliveries.sum(), dropped, seconds);
+    }
+
+    private record Result(long chunks, long deliveries, long dropped, double seconds) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConnectionAdmissionGovernorTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void tryAdmit_defersWhenBucketEmptyAndRefillsOverTime() {
+        ConnectionAdmissionGovernor governor = governor(10, 2, 100);
+
+        admitAndRelease(governor);
+        admitAndRelease(governor);
+        ConnectionAdmissionGovernor.Admission deferred = governor.tryAdmit();
+
+        assertEquals(ConnectionAdmissionGovernor.Outcome.DEFERRED, deferred.outcome());
+        assertTrue(deferred.retryAfterMs() >= 100 && deferred.retryAfterMs() <= 200);
+        assertEquals(0, governor.getInFlight());
+
+        nanos.addAndGet(100_000_000L); // 0.1초 -> 토큰 1개 충전
+        assertEquals(ConnectionAdmissionGovernor.Outcome.ADMITTED, governor.tryAdmit().outcome());
+        assertEquals(1.0, count("deferred"));
+        assertEquals(3.0, count("admitted"));
+    }
+
+    @Test
+    void tryAdmit_rejectsWhenHandshakesInFlightAtLimit() {
+        ConnectionAdmissionGovernor governor = governor(100, 100, 100);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(governor.tryAdmit().admitted());
+        }
+
+        ConnectionAdmissionGovernor.Admission rejected = governor.tryAdmit();
+
+        assertEquals(ConnectionAdmissionGovernor.Outcome.REJECTED, rejected.outcome());
+        assertTrue(rejected.retryAfterMs() >= 100);
+        assertEquals(1.0, count("rejected"));
+
+        governor.release();
+        assertTrue(governor.tryAdmit().admitted());
+    }
+
+    private ConnectionAdmissionGovernor governor(double rate, int burst, long minRetryMs) {
+        return new ConnectionAdmissionGovernor(rate, burst, 4, minRetryMs, 10_000, meterRegistry, nanos::get);
+    }
+
+    private void admitAndRelease(ConnectionAdmissionGovernor governor) {
+        assertTrue(governor.tryAdmit().admitted());
+        governor.release();
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("socketio.connect.admission").tag("outcome", outcome).counter().count();
+    }
+}
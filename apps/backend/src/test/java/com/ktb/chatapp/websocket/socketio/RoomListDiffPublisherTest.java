@@ -0,0 +1,107 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.BroadcastOperations;
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import com.ktb.chatapp.dto.rooms.RoomListDiffResponse;
+import com.ktb.chatapp.dto.rooms.RoomResponse;
+import com.ktb.chatapp.event.RoomCreatedEvent;
+import com.ktb.chatapp.event.RoomMembershipChangedEvent;
+import com.ktb.chatapp.model.Room;
+import com.ktb.chatapp.repository.RoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.ROOM_LIST_DIFF;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomListDiffPublisherTest {
+
+    @Mock private SocketIOServer socketIOServer;
+    @Mock private RoomRepository roomRepository;
+    @Mock private BroadcastOperations allOperations;
+    @Mock private BroadcastOperations firstPageOperations;
+
+    private RoomListDiffPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new RoomListDiffPublisher(socketIOServer, roomRepository, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(publisher, "firstPageSize", 10);
+    }
+
+    @Test
+    void flush_coalescesEventsIntoSingleDiff() {
+        Room created = room("room-1", 1);
+        Room joined = room("room-2", 3);
+        when(roomRepository.findAllById(any())).thenReturn(List.of(created, joined));
+        when(socketIOServer.getRoomOperations(RoomListDiffPublisher.ROOM_LIST)).thenReturn(allOperations);
+        when(socketIOServer.getRoomOperations(RoomListDiffPublisher.FIRST_PAGE_ROOM_LIST)).thenReturn(firstPageOperations);
+        when(allOperations.getClients()).thenReturn(List.of(mock(SocketIOClient.class)));
+        when(firstPageOperations.getClients()).thenReturn(List.of());
+
+        publisher.onRoomCreated(new RoomCreatedEvent(this, RoomResponse.builder().id("room-1").build()));
+        publisher.onRoomMembershipChanged(new RoomMembershipChangedEvent(this, "room-1", "user-1", true));
+        publisher.onRoomMembershipChanged(new RoomMembershipChangedEvent(this, "room-2", "user-1", true));
+        publisher.onRoomMembershipChanged(new RoomMembershipChangedEvent(this, "room-2", "user-2", true));
+        publisher.flush();
+
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(allOperations, times(1)).sendEvent(eq(ROOM_LIST_DIFF), captor.capture());
+        RoomListDiffResponse diff = (RoomListDiffResponse) captor.getValue();
+        assertEquals(1L, diff.getSeq());
+        assertEquals(1, diff.getCreated().size());
+        assertEquals("room-1", diff.getCreated().getFirst().getId());
+        assertEquals(1, diff.getCountChanged().size());
+        assertEquals(3, diff.getCountChanged().getFirst().getParticipantsCount());
+        assertTrue(diff.getUpdated().isEmpty());
+
+        // 이미 보낸 변경은 다시 보내지 않음
+        publisher.flush();
+        verify(allOperations, times(1)).sendEvent(anyString(), any());
+    }
+
+    @Test
+    void buildDiff_limitsToFirstPageRooms() {
+        Map<String, Room> rooms = Map.of("room-1", room("room-1", 1), "room-2", room("room-2", 2));
+        Map<String, Integer> batch = Map.of(
+                "room-1", RoomListDiffPublisher.UPDATED,
+                "room-2", RoomListDiffPublisher.COUNT_CHANGED);
+
+        RoomListDiffResponse diff = RoomListDiffPublisher.buildDiff(5L, batch, rooms, Set.of("room-2"));
+
+        assertEquals(5L, diff.getSeq());
+        assertTrue(diff.getUpdated().isEmpty());
+        assertEquals(List.of("room-2"), diff.getCountChanged().stream()
+                .map(RoomListDiffResponse.CountChange::getId)
+                .toList());
+    }
+
+    private Room room(String id, int participants) {
+        Room room = Room.builder()
+                .id(id)
+                .name("방 " + id)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .build();
+        for (int i = 0; i < participants; i++) {
+            room.addParticipant("user-" + i);
+        }
+        return room;
+    }
+}
@@ -0,0 +1,123 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.corundumstudio.socketio.SocketIOClient;
+import com.corundumstudio.socketio.SocketIOServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static com.ktb.chatapp.websocket.socketio.SocketIOEvents.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SlowConsumerGuardTest {
+
+    @Mock private SocketIOServer socketIOServer;
+    @Mock private SocketIOClient client;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SlowConsumerGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new SlowConsumerGuard(socketIOServer, meterRegistry, "drop-ephemeral,coalesce,disconnect", 2, 1 << 20);
+        lenient().when(client.getSessionId()).thenReturn(UUID.randomUUID());
+    }
+
+    @Test
+    void send_writesDirectlyWhenChannelWritable() {
+        when(client.isWritable()).thenReturn(true);
+
+        guard.send(client, "room-1", MESSAGE, "hello");
+
+        verify(client).sendEvent(MESSAGE, "hello");
+        assertEquals(0, guard.backpressuredClientCount());
+    }
+
+    @Test
+    void send_dropsEphemeralAndCoalescesWhileBackpressured() {
+        when(client.isWritable()).thenReturn(false);
+
+        guard.send(client, "room-1", AI_MESSAGE_CHUNK, "chunk");
+        guard.send(client, "room-1", PARTICIPANTS_UPDATE, List.of("a"));
+        guard.send(client, "room-1", PARTICIPANTS_UPDATE, List.of("a", "b"));
+        guard.send(client, "room-1", MESSAGE, "hello");
+        verify(client, never()).sendEvent(anyString(), any());
+
+        when(client.isChannelOpen()).thenReturn(true);
+        when(client.isWritable()).thenReturn(true);
+        guard.flush();
+
+        InOrder inOrder = inOrder(client);
+        // 병합된 이벤트는 처음 대기열에 들어간 자리에서 최신 데이터로 나간다
+        inOrder.verify(client).sendEvent(PARTICIPANTS_UPDATE, List.of("a", "b"));
+        inOrder.verify(client).sendEvent(MESSAGE, "hello");
+        verify(client, never()).sendEvent(eq(AI_MESSAGE_CHUNK), any());
+        assertEquals(1.0, meterRegistry.get("socketio.outbound.dropped").tag("event", AI_MESSAGE_CHUNK).counter().count());
+        assertEquals(1.0, meterRegistry.get("socketio.outbound.coalesced").counter().count());
+        assertEquals(0, guard.backpressuredClientCount());
+    }
+
+    @Test
+    void start_flushesOnDedicatedScheduler() {
+        ReflectionTestUtils.setField(guard, "flushIntervalMs", 10L);
+        when(client.isWritable()).thenReturn(false);
+        guard.send(client, "room-1", MESSAGE, "hello");
+
+        when(client.isChannelOpen()).thenReturn(true);
+        when(client.isWritable()).thenReturn(true);
+        guard.start();
+        try {
+            verify(client, timeout(1000)).sendEvent(MESSAGE, "hello");
+        } finally {
+            guard.shutdown();
+        }
+    }
+
+    @Test
+    void send_reusesDroppedCounterPerEvent() {
+        when(client.isWritable()).thenReturn(false);
+
+        guard.send(client, "room-1", AI_MESSAGE_CHUNK, "chunk-1");
+        guard.send(client, "room-1", AI_MESSAGE_CHUNK, "chunk-2");
+
+        assertEquals(1, meterRegistry.find("socketio.outbound.dropped").counters().size());
+        assertEquals(2.0, meterRegistry.get("socketio.outbound.dropped").tag("event", AI_MESSAGE_CHUNK).counter().count());
+    }
+
+    @Test
+    void send_disconnectsWhenQueueBudgetExceeded() {
+        when(client.isWritable()).thenReturn(false);
+
+        guard.send(client, "room-1", MESSAGE, "1");
+        guard.send(client, "room-1", MESSAGE, "2");
+        guard.send(client, "room-1", MESSAGE, "3");
+
+        verify(client).sendEvent(eq(SESSION_ENDED), eq(Map.of(
+                "reason", "slow_consumer",
+                "message", "네트워크가 느려 연결이 종료되었습니다. 다시 연결해주세요.")));
+        verify(client).disconnect();
+        assertEquals(1.0, meterRegistry.get("socketio.outbound.slow_consumer.disconnects").counter().count());
+        assertEquals(0, guard.backpressuredClientCount());
+    }
+
+    @Test
+    void parsePolicies_acceptsKebabCase() {
+        assertEquals(EnumSet.of(SlowConsumerGuard.Policy.DROP_EPHEMERAL, SlowConsumerGuard.Policy.DISCONNECT),
+                SlowConsumerGuard.parsePolicies(" drop-ephemeral , disconnect "));
+    }
+}
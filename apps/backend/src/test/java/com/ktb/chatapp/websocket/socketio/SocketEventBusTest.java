@@ -0,0 +1,152 @@
+package com.ktb.chatapp.websocket.socketio;
+
+import com.ktb.chatapp.event.AiMessageChunkEvent;
+import com.ktb.chatapp.event.AiMessageStartEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("SocketEventBus 테스트")
+class SocketEventBusTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SocketEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (bus != null) {
+            bus.shutdown();
+        }
+    }
+
+    private AiMessageChunkEvent chunk(String roomId, int seq) {
+        return new AiMessageChunkEvent(this, roomId, "m-" + roomId, seq, 0, "d", false, null);
+    }
+
+    @Test
+    @DisplayName("direct 모드는 발행 스레드에서 토픽별 구독자에게 즉시 전달한다")
+    void directModeDispatchesInline() {
+        bus = SocketEventBus.direct(meterRegistry);
+        List<Object> socket = new ArrayList<>();
+        List<Object> persistence = new ArrayList<>();
+        bus.subscribe(SocketEventBus.SOCKET_TOPIC, AiMessageChunkEvent.class, socket::add);
+        bus.subscribe(SocketEventBus.PERSISTENCE_TOPIC, AiMessageStartEvent.class, persistence::add);
+
+        AiMessageChunkEvent event = chunk("room-1", 1);
+        bus.publish(event);
+        bus.publish("unrelated");
+
+        assertThat(socket).containsExactly(event);
+        assertThat(persistence).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비동기 모드에서 같은 방의 이벤트는 발행 순서대로 처리된다")
+    void preservesOrderPerRoom() throws InterruptedException {
+        bus = new SocketEventBus(false, 4, 1024, 16, meterRegistry);
+        List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch done = new CountDownLatch(300);
+        bus.subscribe(SocketEventBus.SOCKET_TOPIC, AiMessageChunkEvent.class, event -> {
+            handled.add(event.getRoomId() + ":" + event.getSeq());
+            done.countDown();
+        });
+
+        for (int seq = 1; seq <= 100; seq++) {
+            bus.publish(chunk("room-a", seq));
+            bus.publish(chunk("room-b", seq));
+            bus.publish(chunk("room-c", seq));
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        for (String room : List.of("room-a", "room-b", "room-c")) {
+            List<Integer> seqs = handled.stream()
+                    .filter(entry -> entry.startsWith(room + ":"))
+                    .map(entry -> Integer.parseInt(entry.substring(room.length() + 1)))
+                    .toList();
+            assertThat(seqs).isSorted().hasSize(100);
+        }
+        // 워커는 묶음 처리가 끝난 뒤 카운터를 올리므로 마지막 묶음의 반영을 기다린다
+        await().atMost(5, TimeUnit.SECONDS).until(() -> dispatched() == 300.0);
+    }
+
+    private double dispatched() {
+        return meterRegistry.get("socketio.event_bus.dispatched").tag("topic", "socket").counter().count();
+    }
+
+    @Test
+    @DisplayName("레인이 가득 차면 청크는 버리고 그 외 이벤트는 순서를 지켜 워커에서 처리한다")
+    void dropsChunksAndSpillsOthersInOrderWhenFull() throws InterruptedException {
+        bus = new SocketEventBus(false, 1, 1, 1, meterRegistry);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(4);
+        List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        List<String> handledOn = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribe(SocketEventBus.SOCKET_TOPIC, Object.class, event -> {
+            if (event instanceof AiMessageChunkEvent chunk && chunk.getSeq() == 1) {
+                blocked.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            handled.add(event instanceof AiMessageChunkEvent chunk ? "chunk-" + chunk.getSeq() : event.getClass().getSimpleName());
+            handledOn.add(Thread.currentThread().getName());
+            done.countDown();
+        });
+
+        bus.publish(chunk("room-1", 1));
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        bus.publish(chunk("room-1", 2)); // 대기열 1칸 채움
+        bus.publish(chunk("room-1", 3)); // 버려짐
+        bus.publish(new AiMessageStartEvent(this, "room-1", "m", "wayneAI", 0L)); // 넘침 대기열
+        bus.publish(chunk("room-1", 4)); // 넘침 대기열이 남아 있으므로 버려짐
+        bus.publish(new AiMessageStartEvent(this, "room-1", "m2", "wayneAI", 0L)); // 넘침 대기열 뒤에 붙음
+
+        assertThat(handled).isEmpty();
+        release.countDown();
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handled).containsExactly("chunk-1", "chunk-2", "AiMessageStartEvent", "AiMessageStartEvent");
+        assertThat(handledOn).allMatch(thread -> thread.startsWith("event-bus-socket-"));
+        assertThat(meterRegistry.get("socketio.event_bus.dropped").counter().count()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("socketio.event_bus.overflow").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("넘침 대기열만 남아도 워커가 깨어나 처리한다")
+    void wakesWorkerForSpilledEvents() throws InterruptedException {
+        bus = new SocketEventBus(false, 1, 1, 1, meterRegistry);
+        CountDownLatch delivered = new CountDownLatch(50);
+        List<String> handled = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribe(SocketEventBus.SOCKET_TOPIC, AiMessageStartEvent.class, event -> {
+            handled.add(event.getMessageId());
+            delivered.countDown();
+        });
+
+        for (int i = 0; i < 50; i++) {
+            bus.publish(new AiMessageStartEvent(this, "room-1", "m" + i, "wayneAI", 0L));
+        }
+
+        assertThat(delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(handled).containsExactlyElementsOf(
+                IntStream.range(0, 50).mapToObj(i -> "m" + i).toList());
+    }
+}
@@ -0,0 +1,123 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.model.AiType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AiResponseCache 테스트")
+class AiResponseCacheTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private AiResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new AiResponseCache(true, 60, 2, 0, meterRegistry, now::get);
+    }
+
+    private Flux<ChunkData> upstream(String... chunks) {
+        return Flux.defer(() -> {
+            upstreamCalls.incrementAndGet();
+            return Flux.fromArray(chunks).map(ChunkData::from);
+        });
+    }
+
+    private List<String> collect(Flux<ChunkData> flux) {
+        return flux.map(ChunkData::currentChunk).collectList().block();
+    }
+
+    @Test
+    @DisplayName("질문 정규화: 앞뒤 공백, 연속 공백, 대소문자 차이는 같은 키")
+    void normalizesQuery() {
+        assertThat(AiResponseCache.key(AiType.WAYNE_AI, "  What   is\tJava? "))
+                .isEqualTo(AiResponseCache.key(AiType.WAYNE_AI, "what is java?"));
+        assertThat(AiResponseCache.key(AiType.WAYNE_AI, "java"))
+                .isNotEqualTo(AiResponseCache.key(AiType.CONSULTING_AI, "java"));
+    }
+
+    @Test
+    @DisplayName("완료된 응답은 업스트림 호출 없이 재생되고 TTL이 지나면 다시 호출한다")
+    void replaysCompletedResponseUntilExpired() {
+        assertThat(collect(cache.stream(AiType.WAYNE_AI, "q", () -> upstream("a", "b")))).containsExactly("a", "b");
+        assertThat(collect(cache.stream(AiType.WAYNE_AI, "Q ", () -> upstream("x")))).containsExactly("a", "b");
+        assertThat(upstreamCalls).hasValue(1);
+
+        now.addAndGet(60_000);
+        assertThat(collect(cache.stream(AiType.WAYNE_AI, "q", () -> upstream("x")))).containsExactly("x");
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(meterRegistry.get("ai.upstream.calls.saved").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("진행 중인 동일 요청은 하나의 업스트림을 공유하고 늦게 합류해도 처음부터 받는다")
+    void sharesInFlightUpstream() {
+        Sinks.Many<ChunkData> sink = Sinks.many().unicast().onBackpressureBuffer();
+        Flux<ChunkData> first = cache.stream(AiType.WAYNE_AI, "q", () -> {
+            upstreamCalls.incrementAndGet();
+            return sink.asFlux();
+        });
+        List<String> firstReceived = new ArrayList<>();
+        first.map(ChunkData::currentChunk).subscribe(firstReceived::add);
+        sink.tryEmitNext(ChunkData.from("a"));
+
+        Flux<ChunkData> second = cache.stream(AiType.WAYNE_AI, "q", () -> upstream("x"));
+        List<String> secondReceived = new ArrayList<>();
+        second.map(ChunkData::currentChunk).subscribe(secondReceived::add);
+        sink.tryEmitNext(ChunkData.from("b"));
+        sink.tryEmitComplete();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(firstReceived).containsExactly("a", "b");
+        assertThat(secondReceived).containsExactly("a", "b");
+        assertThat(meterRegistry.get("ai.cache.requests").tag("result", "shared").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("오류로 끝난 응답은 캐시하지 않고 최대 개수를 넘으면 오래된 항목부터 제거한다")
+    void skipsFailedResponsesAndBoundsSize() {
+        Flux<ChunkData> failing = Flux.concat(upstream("a"), Flux.error(new IllegalStateException("boom")));
+        cache.stream(AiType.WAYNE_AI, "fail", () -> failing).onErrorResume(e -> Flux.empty()).blockLast();
+        assertThat(cache.size()).isZero();
+
+        collect(cache.stream(AiType.WAYNE_AI, "q1", () -> upstream("1")));
+        collect(cache.stream(AiType.WAYNE_AI, "q2", () -> upstream("2")));
+        collect(cache.stream(AiType.WAYNE_AI, "q3", () -> upstream("3")));
+
+        assertThat(cache.size()).isEqualTo(2);
+        upstreamCalls.set(0);
+        collect(cache.stream(AiType.WAYNE_AI, "q1", () -> upstream("1")));
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("findReusable은 캐시 적중/진행 중 요청만 돌려주고 업스트림을 열지 않는다")
+    void findReusableDoesNotStartUpstream() {
+        assertThat(cache.findReusable(AiType.WAYNE_AI, "q")).isEmpty();
+
+        Sinks.Many<ChunkData> sink = Sinks.many().unicast().onBackpressureBuffer();
+        cache.stream(AiType.WAYNE_AI, "q", () -> {
+            upstreamCalls.incrementAndGet();
+            return sink.asFlux();
+        }).subscribe();
+        assertThat(cache.findReusable(AiType.WAYNE_AI, "q")).isPresent();
+
+        sink.tryEmitNext(ChunkData.from("a"));
+        sink.tryEmitComplete();
+        assertThat(collect(cache.findReusable(AiType.WAYNE_AI, "Q").orElseThrow())).containsExactly("a");
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(meterRegistry.get("ai.upstream.calls.saved").counter().count()).isEqualTo(2.0);
+    }
+}
@@ -0,0 +1,94 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.event.AiMessageChunkEvent;
+import com.ktb.chatapp.event.AiMessageCompleteEvent;
+import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AiStreamHandler 델타 프레임 테스트")
+class AiStreamHandlerTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private final ApplicationEventPublisher publisher = events::add;
+
+    private StreamingSession session() {
+        return StreamingSession.builder()
+                .messageId("wayneAI-1")
+                .roomId("room-1")
+                .userId("user-1")
+                .aiType("wayneAI")
+                .query("hi")
+                .timestamp(System.currentTimeMillis())
+                .build();
+    }
+
+    private List<AiMessageChunkEvent> chunkEvents() {
+        return events.stream()
+                .filter(AiMessageChunkEvent.class::isInstance)
+                .map(AiMessageChunkEvent.class::cast)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("프레임 주기 안의 토큰은 하나의 델타로 묶이고 완료 전에 남은 내용을 내보낸다")
+    void coalescesTokensIntoFrames() {
+        AiStreamHandler handler = new AiStreamHandler(session(), publisher, 60_000, 0);
+
+        handler.onNext(new ChunkData("Hel", false));
+        handler.onNext(new ChunkData("lo", false));
+        handler.onNext(new ChunkData(" world", false));
+        handler.onComplete();
+
+        List<AiMessageChunkEvent> chunks = chunkEvents();
+        assertThat(chunks).hasSize(2);
+        assertThat(chunks.get(0).getSeq()).isEqualTo(1);
+        assertThat(chunks.get(0).getOffset()).isZero();
+        assertThat(chunks.get(0).getDelta()).isEqualTo("Hel");
+        assertThat(chunks.get(1).getSeq()).isEqualTo(2);
+        assertThat(chunks.get(1).getOffset()).isEqualTo(3);
+        assertThat(chunks.get(1).getDelta()).isEqualTo("lo world");
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk.getCheckpoint()).isNull());
+
+        Object last = events.getLast();
+        assertThat(last).isInstanceOf(AiMessageCompleteEvent.class);
+        assertThat(((AiMessageCompleteEvent) last).getContent()).isEqualTo("Hello world");
+    }
+
+    @Test
+    @DisplayName("checkpointEvery 프레임마다 전체 내용을 함께 싣는다")
+    void attachesPeriodicCheckpoints() {
+        AiStreamHandler handler = new AiStreamHandler(session(), publisher, 0, 2);
+
+        handler.onNext(new ChunkData("a", false));
+        handler.onNext(new ChunkData("b", false));
+        handler.onNext(new ChunkData("```c", true));
+        handler.onNext(new ChunkData("d", true));
+
+        List<AiMessageChunkEvent> chunks = chunkEvents();
+        assertThat(chunks).extracting(AiMessageChunkEvent::getDelta).containsExactly("a", "b", "```c", "d");
+        assertThat(chunks).extracting(AiMessageChunkEvent::getCheckpoint)
+                .containsExactly(null, "ab", null, "ab```cd");
+        assertThat(chunks.get(3).isCodeBlock()).isTrue();
+    }
+
+    @Test
+    @DisplayName("체크포인트는 마지막으로 내보낸 프레임까지만 포함한다")
+    void checkpointExcludesUnflushedContent() {
+        StreamingSession session = session();
+        AiStreamHandler handler = new AiStreamHandler(session, publisher, 60_000, 0);
+
+        handler.onNext(new ChunkData("first", false));
+        handler.onNext(new ChunkData(" pending", false));
+
+        StreamingSession.Frame checkpoint = session.checkpoint();
+        assertThat(checkpoint.seq()).isEqualTo(1);
+        assertThat(checkpoint.content()).isEqualTo("first");
+        assertThat(session.getContent()).isEqualTo("first pending");
+    }
+}
@@ -0,0 +1,150 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import com.ktb.chatapp.dto.ActiveStreamResponse;
+import com.ktb.chatapp.event.AiMessageErrorEvent;
+import com.ktb.chatapp.websocket.socketio.SocketEventBus;
+import com.ktb.chatapp.websocket.socketio.handler.StreamingSession;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AiStreamManager 테스트")
+class AiStreamManagerTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private final Map<String, Sinks.Many<ChunkData>> upstreams = new HashMap<>();
+    private SimpleMeterRegistry meterRegistry;
+    private AiStreamManager manager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // 전체 3개, 방별 2개, 대기열 2개
+        SocketEventBus eventBus = SocketEventBus.direct(meterRegistry);
+        eventBus.subscribe(SocketEventBus.SOCKET_TOPIC, Object.class, events::add);
+        manager = new AiStreamManager(eventBus, meterRegistry, 3, 2, 2, 0, 0);
+    }
+
+    private boolean submit(String messageId, String roomId, String userId) {
+        StreamingSession session = StreamingSession.builder()
+                .messageId(messageId)
+                .roomId(roomId)
+                .userId(userId)
+                .aiType("wayneAI")
+                .query("q")
+                .timestamp(1_700_000_000_000L)
+                .build();
+        // 구독되는 시점(슬롯 획득 시점)에 업스트림이 열린 것으로 기록
+        Flux<ChunkData> stream = Flux.defer(() -> {
+            Sinks.Many<ChunkData> sink = Sinks.many().unicast().onBackpressureBuffer();
+            upstreams.put(messageId, sink);
+            return sink.asFlux();
+        });
+        return manager.submit(session, stream);
+    }
+
+    @Test
+    @DisplayName("방별 한도를 넘는 요청은 대기하고 다른 방 요청은 먼저 시작된다")
+    void perRoomLimitQueuesWithoutBlockingOtherRooms() {
+        assertThat(submit("a1", "room-a", "u1")).isTrue();
+        assertThat(submit("a2", "room-a", "u1")).isTrue();
+        assertThat(submit("a3", "room-a", "u1")).isTrue();
+        assertThat(submit("b1", "room-b", "u2")).isTrue();
+
+        assertThat(upstreams).containsOnlyKeys("a1", "a2", "b1");
+        assertThat(manager.runningCount()).isEqualTo(3);
+        assertThat(manager.queuedCount()).isEqualTo(1);
+
+        upstreams.get("a1").tryEmitComplete();
+
+        assertThat(upstreams).containsKey("a3");
+        assertThat(manager.runningCount()).isEqualTo(3);
+        assertThat(manager.queuedCount()).isZero();
+        assertThat(meterRegistry.get("ai.stream.slots.utilization").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기열까지 가득 차면 거절한다")
+    void rejectsWhenQueueIsFull() {
+        submit("a1", "room-a", "u1");
+        submit("a2", "room-a", "u1");
+        submit("a3", "room-a", "u1");
+        submit("a4", "room-a", "u1");
+
+        assertThat(submit("a5", "room-a", "u1")).isFalse();
+        assertThat(meterRegistry.get("ai.stream.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("요청한 사용자가 나가면 진행 중/대기 중 스트림을 취소하고 슬롯을 반납한다")
+    void cancelReleasesSlotsOfLeavingUser() {
+        submit("a1", "room-a", "u1");
+        submit("a2", "room-a", "u2");
+        submit("a3", "room-a", "u1");
+        submit("a4", "room-a", "u2");
+
+        manager.cancel("room-a", "u1");
+
+        assertThat(events).filteredOn(AiMessageErrorEvent.class::isInstance)
+                .extracting(event -> ((AiMessageErrorEvent) event).getMessageId())
+                .containsExactlyInAnyOrder("a1", "a3");
+        // a1 슬롯이 반납되어 u2의 대기 요청이 시작됨
+        assertThat(upstreams).containsOnlyKeys("a1", "a2", "a4");
+        assertThat(manager.runningCount()).isEqualTo(2);
+        assertThat(manager.find("a1")).isEmpty();
+        assertThat(manager.find("a3")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("입장 시 방의 진행 중 스트림과 현재 내용을 돌려준다")
+    void snapshotReturnsStreamsOfRoom() {
+        submit("a1", "room-a", "u1");
+        submit("b1", "room-b", "u2");
+        upstreams.get("a1").tryEmitNext(new ChunkData("Hello", false));
+
+        List<ActiveStreamResponse> snapshot = manager.snapshot("room-a");
+
+        assertThat(snapshot).hasSize(1);
+        ActiveStreamResponse stream = snapshot.getFirst();
+        assertThat(stream.getId()).isEqualTo("a1");
+        assertThat(stream.getContent()).isEqualTo("Hello");
+        assertThat(stream.getTimestamp()).isEqualTo("2023-11-14T22:13:20Z");
+        assertThat(stream.isStreaming()).isTrue();
+    }
+
+    @Test
+    @DisplayName("attach한 스트림은 슬롯을 쓰지 않지만 조회와 취소 대상이 된다")
+    void attachedStreamDoesNotTakeSlot() {
+        submit("a1", "room-a", "u1");
+        submit("a2", "room-a", "u1");
+        StreamingSession session = StreamingSession.builder()
+                .messageId("c1")
+                .roomId("room-a")
+                .userId("u2")
+                .aiType("wayneAI")
+                .query("q")
+                .timestamp(1_700_000_000_000L)
+                .build();
+        Sinks.Many<ChunkData> cached = Sinks.many().unicast().onBackpressureBuffer();
+
+        manager.attach(session, cached.asFlux());
+
+        assertThat(manager.runningCount()).isEqualTo(2);
+        assertThat(manager.queuedCount()).isZero();
+        assertThat(manager.find("c1")).isPresent();
+
+        manager.cancel("room-a", "u2");
+
+        assertThat(manager.find("c1")).isEmpty();
+        assertThat(manager.runningCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ktb.chatapp.websocket.socketio.ai;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.model.ChatResponse;
+import org.springframework.ai.chat.prompt.Prompt;
+import reactor.test.StepVerifier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("StubChatModel 테스트")
+class StubChatModelTest {
+
+    private List<String> tokens(StubChatModel model, String query) {
+        return model.stream(new Prompt(query))
+                .map(response -> response.getResult().getOutput().getText())
+                .collectList()
+                .block();
+    }
+
+    @Test
+    @DisplayName("같은 프롬프트와 seed는 항상 같은 토큰열을 만든다")
+    void deterministicPerPrompt() {
+        StubChatModel model = new StubChatModel(0, 50, 10, 100, 0.0, 7);
+
+        List<String> first = tokens(model, "자바의 특징은?");
+        List<String> second = tokens(new StubChatModel(0, 50, 10, 100, 0.0, 7), "자바의 특징은?");
+        List<String> other = tokens(model, "다른 질문");
+
+        assertThat(first).isEqualTo(second).isNotEqualTo(other);
+        assertThat(first).hasSizeBetween(1, 100).contains("\n```java\n", "\n```\n");
+        assertThat(model.call(new Prompt("자바의 특징은?")).getResult().getOutput().getText())
+                .isEqualTo(String.join("", first));
+    }
+
+    @Test
+    @DisplayName("응답 길이는 최대 토큰 수를 넘지 않는다")
+    void clampsLengthToMaxTokens() {
+        StubChatModel model = new StubChatModel(0, 500, 0, 40, 0.0, 1);
+
+        assertThat(tokens(model, "q")).hasSize(40);
+    }
+
+    @Test
+    @DisplayName("errorRate가 1이면 응답 도중 오류를 낸다")
+    void injectsFailures() {
+        StubChatModel model = new StubChatModel(0, 20, 0, 20, 1.0, 1);
+
+        StepVerifier.create(model.stream(new Prompt("q")))
+                .thenConsumeWhile(response -> true)
+                .expectErrorMessage("Stub LLM injected failure")
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("초당 토큰 수에 맞춰 토큰 사이에 지연을 둔다")
+    void paceTokensAtConfiguredRate() {
+        StubChatModel model = new StubChatModel(100, 10, 0, 10, 0.0, 1);
+
+        long startedAt = System.nanoTime();
+        List<ChatResponse> responses = model.stream(new Prompt("q")).collectList().block();
+        long elapsedMs = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+
+        assertThat(responses).hasSize(10);
+        assertThat(elapsedMs).isGreaterThanOrEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("ChatClient를 통해 AiService와 같은 방식으로 스트리밍할 수 있다")
+    void worksBehindChatClient() {
+        StubChatModel model = new StubChatModel(0, 30, 0, 30, 0.0, 3);
+
+        List<String> content = ChatClient.builder(model).build()
+                .prompt()
+                .system("system")
+                .user("question")
+                .stream()
+                .content()
+                .collectList()
+                .block();
+
+        assertThat(content).hasSize(30);
+    }
+}
@@ -77,7 +77,7 @@ class MessageLoaderIntegrationTest {
         userRepository.save(testUser);
 
         // MessageReadStatusService mock 설정
-        doNothing().when(messageReadStatusService).updateReadStatus(anyList(), anyString());
+        doNothing().when(messageReadStatusService).updateReadStatus(anyString(), anyList(), anyString());
     }
 
     @AfterEach
@@ -105,6 +105,7 @@ export const useChatRoom = () => {
 
         if (socketRef.current && reason !== "RECONNECT") {
           socketRef.current.off("message");
+          socketRef.current.off("messageBatch");
           socketRef.current.off("previousMessages");
           socketRef.current.off("previousMessagesLoaded");
           socketRef.current.off("participantsUpdate");
@@ -265,6 +266,26 @@ export const useChatRoom = () => {
       });
     });
 
+    // 일괄 전송된 메시지 이벤트 (chatMessageBatch / REST batch)
+    socketRef.current.on("messageBatch", (batch) => {
+      if (!batch || !mountedRef.current || messageProcessingRef.current) return;
+
+      const incoming = (batch.messages || []).filter(
+        (message) => message?._id && !processedMessageIds.current.has(message._id)
+      );
+      if (incoming.length === 0) {
+        return;
+      }
+
+      incoming.forEach((message) => processedMessageIds.current.add(message._id));
+
+      setMessages((prev) => {
+        const existingIds = new Set(prev.map((msg) => msg._id));
+        const newMessages = incoming.filter((message) => !existingIds.has(message._id));
+        return newMessages.length === 0 ? prev : [...prev, ...newMessages];
+      });
+    });
+
     // 이전 메시지 이벤트 (previousMessages와 previousMessagesLoaded 둘 다 처리)
     const handlePreviousMessages = (response) => {
       if (!mountedRef.current || messageProcessingRef.current) return;
@@ -512,6 +512,23 @@ function ChatRoomsComponent() {
               return updatedRooms;
             });
           },
+          roomListDiff: (diff) => {
+            setRooms((prev) => {
+              const changed = new Map(
+                [...(diff.updated || []), ...(diff.countChanged || [])].map((room) => [room._id, room])
+              );
+              const existingIds = new Set(prev.map((room) => room._id));
+              const created = (diff.created || []).filter((room) => !existingIds.has(room._id));
+              const updatedRooms = [
+                ...created,
+                ...prev.map((room) =>
+                  changed.has(room._id) ? { ...room, ...changed.get(room._id) } : room
+                )
+              ];
+              previousRoomsRef.current = updatedRooms;
+              return updatedRooms;
+            });
+          },
           roomDeleted: (roomId) => {
             setRooms((prev) => {
               const updatedRooms = prev.filter((room) => room._id !== roomId);
@@ -642,7 +659,7 @@ function ChatRoomsComponent() {
               <Table.Cell>
                 <HStack gap="$050" alignItems="center">
                   <GroupIcon />
-                  <Text typography="body2">{room.participants?.length || 0}</Text>
+                  <Text typography="body2">{room.participantsCount ?? room.participants?.length ?? 0}</Text>
                 </HStack>
               </Table.Cell>
               <Table.Cell>
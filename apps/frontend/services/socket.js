@@ -88,6 +88,14 @@ class SocketService {
         reject(error);
         return;
       }
+      // 서버 과부하로 연결이 미뤄진 경우 안내받은 시점에 다시 연결
+      if (error.message === "Server busy" && error.data?.retryAfterMs) {
+        this.reconnectAttempts++;
+        if (this.reconnectAttempts < this.maxReconnectAttempts) {
+          setTimeout(() => this.socket?.connect(), error.data.retryAfterMs);
+          return;
+        }
+      }
       if (error.message === "websocket error") {
         this.reconnectAttempts++;
       }
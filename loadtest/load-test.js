@@ -59,6 +59,11 @@ const argv = yargs(hideBin(process.argv))
     type: 'number',
     default: 1000
   })
+  .option('ai-ratio', {
+    description: 'Fraction of messages that mention @wayneAI (0-1, use with the stub-llm backend profile)',
+    type: 'number',
+    default: 0
+  })
   .help()
   .alias('help', 'h')
   .argv;
@@ -79,8 +84,16 @@ class LoadTester {
       errorsMessage: 0,
       latencies: [],
       connectionTimes: [],
+      aiRequested: 0,
+      aiStarted: 0,
+      aiChunks: 0,
+      aiCompleted: 0,
+      aiErrors: 0,
+      aiFirstChunkTimes: [],
       startTime: Date.now()
     };
+    // messageId -> aiMessageStart 수신 시각 (첫 청크 지연 측정용)
+    this.aiStreamStarts = new Map();
     this.sockets = [];
     this.metricsInterval = null;
     this.logBuffer = [];
@@ -246,6 +259,29 @@ class LoadTester {
           this.metrics.readAcksReceived++;
         });
 
+        socket.on('aiMessageStart', (data) => {
+          this.metrics.aiStarted++;
+          this.aiStreamStarts.set(`${userId}:${data.messageId}`, Date.now());
+        });
+
+        socket.on('aiMessageChunk', (data) => {
+          this.metrics.aiChunks++;
+          const key = `${userId}:${data.messageId}`;
+          const startedAt = this.aiStreamStarts.get(key);
+          if (startedAt !== undefined) {
+            this.metrics.aiFirstChunkTimes.push(Date.now() - startedAt);
+            this.aiStreamStarts.delete(key);
+          }
+        });
+
+        socket.on('aiMessageComplete', () => {
+          this.metrics.aiCompleted++;
+        });
+
+        socket.on('aiMessageError', () => {
+          this.metrics.aiErrors++;
+        });
+
         socket.on('error', (error) => {
           this.metrics.errorsMessage++;
           this.log('error', `User ${userId} received error:`, error);
@@ -282,13 +318,20 @@ class LoadTester {
       await this.sleep(delay);
 
       const startTime = Date.now();
+      const mentionAi = Math.random() < this.config.aiRatio;
+      const content = mentionAi
+        ? `@wayneAI load test question ${i + 1} from user ${userId}`
+        : `Load test message ${i + 1}/${messageCount} from user ${userId} at ${new Date().toISOString()}`;
 
       try {
         socket.emit('chatMessage', {
           room: roomId,
           type: 'text',
-          content: `Load test message ${i + 1}/${messageCount} from user ${userId} at ${new Date().toISOString()}`
+          content
         });
+        if (mentionAi) {
+          this.metrics.aiRequested++;
+        }
 
         this.metrics.messagesSent++;
         this.metrics.latencies.push(Date.now() - startTime);
@@ -324,6 +367,10 @@ class LoadTester {
       ? this.getPercentile(this.metrics.latencies, 99).toFixed(2)
       : 0;
 
+    const avgFirstChunk = this.metrics.aiFirstChunkTimes.length > 0
+      ? (this.metrics.aiFirstChunkTimes.reduce((a, b) => a + b, 0) / this.metrics.aiFirstChunkTimes.length).toFixed(2)
+      : 0;
+
     const table = new Table({
       head: [chalk.cyan('Metric'), chalk.cyan('Value')],
       colWidths: [30, 20]
@@ -347,6 +394,14 @@ class LoadTester {
       ['P99 Message Latency', `${p99Latency}ms`],
       ['Avg Connection Time', `${avgConnectionTime}ms`],
       ['---', '---'],
+      [chalk.magenta('AI Requests Sent'), this.metrics.aiRequested],
+      [chalk.magenta('AI Streams Started'), this.metrics.aiStarted],
+      [chalk.magenta('AI Chunks Received'), this.metrics.aiChunks],
+      ['AI Chunks/sec', (this.metrics.aiChunks / elapsed).toFixed(2)],
+      ['Avg AI First Chunk', `${avgFirstChunk}ms`],
+      [chalk.magenta('AI Completed'), this.metrics.aiCompleted],
+      [chalk.red('AI Errors'), this.metrics.aiErrors],
+      ['---', '---'],
       [chalk.red('Auth Errors'), this.metrics.errorsAuth],
       [chalk.red('Connection Errors'), this.metrics.errorsConnection],
       [chalk.red('Message Errors'), this.metrics.errorsMessage],
@@ -407,6 +462,7 @@ class LoadTester {
     console.log(chalk.gray(`  API URL:         ${this.config.apiUrl}`));
     console.log(chalk.gray(`  Socket.IO URL:   ${this.config.socketUrl}`));
     console.log(chalk.gray(`  Room ID:         ${this.config.roomId || 'auto-create'}`));
+    console.log(chalk.gray(`  AI mention ratio: ${this.config.aiRatio}`));
     console.log('');
 
     // Create or get test room
@@ -472,7 +528,8 @@ const tester = new LoadTester({
   duration: argv.duration,
   messages: argv.messages,
   batchSize: argv.batchSize,
-  batchDelay: argv.batchDelay
+  batchDelay: argv.batchDelay,
+  aiRatio: argv.aiRatio
 });
 
 tester.run().catch(error => {